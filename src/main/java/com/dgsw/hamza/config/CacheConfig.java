@@ -11,7 +11,6 @@ import org.springframework.context.annotation.Configuration;
 public class CacheConfig {
     
     public static final String HOSPITALS_CACHE = "hospitals";
-    public static final String TREATMENTS_CACHE = "treatments";
     public static final String DIAGNOSIS_QUESTIONS_CACHE = "diagnosis_questions";
     public static final String USER_PROFILE_CACHE = "user_profile";
     public static final String RECOMMENDATIONS_CACHE = "recommendations";
@@ -21,7 +20,6 @@ public class CacheConfig {
         ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
         cacheManager.setCacheNames(java.util.Arrays.asList(
             HOSPITALS_CACHE,
-            TREATMENTS_CACHE,
             DIAGNOSIS_QUESTIONS_CACHE,
             USER_PROFILE_CACHE,
             RECOMMENDATIONS_CACHE
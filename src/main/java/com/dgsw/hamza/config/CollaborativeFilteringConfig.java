@@ -0,0 +1,31 @@
+package com.dgsw.hamza.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "recommendation.collaborative")
+@Getter
+@Setter
+public class CollaborativeFilteringConfig {
+
+    // 협업 필터링 사용 여부
+    private boolean enabled = true;
+
+    // 심각도 기반 점수 대비 협업 필터링 점수 비중 (0~1)
+    private double weight = 0.3;
+
+    // 치료법별로 남길 최대 유사 치료법 수
+    private int neighbours = 20;
+
+    // 유사도로 인정할 최소 동시 완료 사용자 수
+    private int minSupport = 3;
+
+    // 사용자당 반영할 최대 완료 치료법 수
+    private int maxBasket = 200;
+
+    // 유사도 행렬 재생성 주기 (cron)
+    private String rebuildCron = "0 30 3 * * *";
+}
@@ -0,0 +1,48 @@
+package com.dgsw.hamza.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limiting.diagnosis")
+@Getter
+@Setter
+public class DiagnosisScoringConfig {
+
+    // PHQ-9 심각도별 총점 상한 (normal, mild, moderate, severe / 그 이상은 매우 심각)
+    private Map<String, Integer> phq9 = new LinkedHashMap<>();
+
+    // 재진단 권장 간격 (일)
+    private int retestInterval = 7;
+
+    // 설문 도구별 채점표 정의 (키는 설문 코드, "PHQ-9" 을 정의하면 phq9 구간보다 우선)
+    private Map<String, Instrument> instruments = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Instrument {
+
+        // 문항 수
+        private int items;
+
+        // 문항별 응답 최대 점수
+        private int maxItemScore = 3;
+
+        // 심각도별 총점 상한 (normal, mild, moderate, severe, very-severe)
+        private Map<String, Integer> thresholds = new LinkedHashMap<>();
+
+        // 문항 번호(1부터)별 가중치 (없으면 1)
+        private Map<Integer, Integer> weights = new HashMap<>();
+
+        // 역채점 문항 번호(1부터)
+        private List<Integer> reverseScored = new ArrayList<>();
+    }
+}
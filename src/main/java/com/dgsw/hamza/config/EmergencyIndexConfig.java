@@ -0,0 +1,25 @@
+package com.dgsw.hamza.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "emergency-index")
+@Getter
+@Setter
+public class EmergencyIndexConfig {
+
+    // DB 장애 시 응답에 사용할 로컬 스냅샷 파일 경로
+    private String snapshotFile = "data/emergency-index.json";
+
+    // 스냅샷 파일 저장 주기 (ms)
+    private long flushInterval = 60000;
+
+    // 조회 지연 목표 (p99, ms)
+    private double latencySloMs = 5.0;
+
+    // 지연 목표 점검 주기 (ms)
+    private long sloCheckInterval = 60000;
+}
@@ -0,0 +1,28 @@
+package com.dgsw.hamza.config;
+
+import com.dgsw.hamza.service.EmergencyHospitalIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EmergencyIndexHealthIndicator implements HealthIndicator {
+
+    private final EmergencyHospitalIndex emergencyHospitalIndex;
+    private final EmergencyIndexConfig indexConfig;
+
+    @Override
+    public Health health() {
+        // 비어 있는 인덱스는 장애가 아니라 데이터가 아직 없는 상태이므로 UNKNOWN (애플리케이션 전체 상태를 내리지 않음)
+        int size = emergencyHospitalIndex.size();
+        return (size > 0 ? Health.up() : Health.unknown())
+                .withDetail("size", size)
+                .withDetail("source", emergencyHospitalIndex.source().name())
+                .withDetail("latencyP99Ms", emergencyHospitalIndex.latencyP99Millis())
+                .withDetail("latencySloMs", indexConfig.getLatencySloMs())
+                .withDetail("sloBreached", emergencyHospitalIndex.isSloBreached())
+                .build();
+    }
+}
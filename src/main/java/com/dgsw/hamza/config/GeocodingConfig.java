@@ -0,0 +1,27 @@
+package com.dgsw.hamza.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "geocoding")
+@Getter
+@Setter
+public class GeocodingConfig {
+
+    // 클래스패스 기준 주소 데이터셋 경로
+    private String datasetPath = "geo/kr-address-index.tsv";
+
+    // 지오코딩 결과 캐시 파일 경로
+    private String cacheFile = "data/geocode-cache.tsv";
+
+    private int cacheMaxEntries = 10000;
+
+    // 캐시 파일 저장 주기 (ms)
+    private long cacheFlushInterval = 60000;
+
+    // 로컬 인덱스가 시/군/구 이하로만 매칭되면 외부 지오코딩 사용
+    private boolean remoteEnabled = true;
+}
@@ -0,0 +1,54 @@
+package com.dgsw.hamza.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "hospital-ranking")
+@Getter
+@Setter
+public class HospitalRankingConfig {
+
+    public static final String DEFAULT_PROFILE = "MODERATE";
+    public static final String REGIONAL_PROFILE = "REGIONAL";
+
+    // 프로필(심각도)별 점수 구성요소 가중치
+    private Map<String, Map<String, Double>> weights = defaultWeights();
+
+    // 지역별로 미리 계산해 둘 순위 수
+    private int regionalTopN = 10;
+
+    /**
+     * 프로필 가중치 조회 (알 수 없는 프로필이면 MODERATE)
+     */
+    public Map<String, Double> weightsFor(String profile) {
+        Map<String, Double> profileWeights = profile != null ? weights.get(profile.toUpperCase()) : null;
+        return profileWeights != null ? profileWeights : weights.get(DEFAULT_PROFILE);
+    }
+
+    private static Map<String, Map<String, Double>> defaultWeights() {
+        Map<String, Map<String, Double>> defaults = new HashMap<>();
+        // 심각할수록 가까운 응급 대응 병원 우선, 경미할수록 평점 우선
+        defaults.put("VERY_SEVERE", weights(0.45, 0.15, 0.10, 0.30));
+        defaults.put("SEVERE", weights(0.45, 0.20, 0.10, 0.25));
+        defaults.put("MODERATE", weights(0.35, 0.40, 0.15, 0.10));
+        defaults.put("MILD", weights(0.25, 0.55, 0.20, 0.0));
+        defaults.put("NORMAL", weights(0.25, 0.55, 0.20, 0.0));
+        defaults.put(REGIONAL_PROFILE, weights(0.0, 0.80, 0.20, 0.0));
+        return defaults;
+    }
+
+    private static Map<String, Double> weights(double distance, double rating, double facility, double emergency) {
+        Map<String, Double> weights = new HashMap<>();
+        weights.put("distance", distance);
+        weights.put("rating", rating);
+        weights.put("facility", facility);
+        weights.put("emergency", emergency);
+        return weights;
+    }
+}
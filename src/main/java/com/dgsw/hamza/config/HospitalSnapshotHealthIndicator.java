@@ -0,0 +1,23 @@
+package com.dgsw.hamza.config;
+
+import com.dgsw.hamza.service.HospitalSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class HospitalSnapshotHealthIndicator implements HealthIndicator {
+
+    private final HospitalSnapshotService hospitalSnapshotService;
+
+    @Override
+    public Health health() {
+        // 첫 구성 전에는 밀도, 클러스터, 통계, 지역 순위가 모두 비어 있으므로 DOWN (재시도 중)
+        return (hospitalSnapshotService.isReady() ? Health.up() : Health.down())
+                .withDetail("size", hospitalSnapshotService.current().size())
+                .withDetail("failures", hospitalSnapshotService.failures())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.dgsw.hamza.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "media")
+@Getter
+@Setter
+public class MediaConfig {
+
+    // 콘텐츠 fileUrl / thumbnailUrl 기준 디렉터리 (이 디렉터리 밖의 파일은 제공하지 않음)
+    private String rootDirectory = "media";
+
+    // 미리 생성한 썸네일 변형 저장 디렉터리
+    private String thumbnailDirectory = "data/thumbnails";
+
+    // 미리 생성할 썸네일 너비 (px)
+    private List<Integer> thumbnailWidths = List.of(160, 320, 640);
+
+    // 미디어 응답 캐시 유지 시간 (이후 ETag / Last-Modified 로 재검증)
+    private Duration maxAge = Duration.ofDays(1);
+}
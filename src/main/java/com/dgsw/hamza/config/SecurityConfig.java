@@ -87,6 +87,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/check-email", "/api/auth/check-nickname").permitAll()
                 .requestMatchers("/api/public/**").permitAll()
                 
+                // 관리자/상담사 전용 경로 (먼저 일치한 규칙이 적용되므로 /api/** 허용보다 앞에 둠)
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers("/api/therapist/**").hasAnyRole("THERAPIST", "ADMIN")
+                
                 // 개발 환경에서 모든 API 접근 허용 (CORS 테스트용)
                 .requestMatchers("/api/diagnosis/questions").permitAll()
                 .requestMatchers("/api/**").permitAll()
@@ -107,12 +111,6 @@ public class SecurityConfig {
                 // 에러 페이지 접근 허용
                 .requestMatchers("/error").permitAll()
                 
-                // 관리자 전용 경로
-                .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                
-                // 상담사 전용 경로
-                .requestMatchers("/api/therapist/**").hasAnyRole("THERAPIST", "ADMIN")
-                
                 // 나머지 모든 요청은 인증 필요
                 .anyRequest().authenticated()
             );
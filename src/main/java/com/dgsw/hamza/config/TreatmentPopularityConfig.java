@@ -0,0 +1,29 @@
+package com.dgsw.hamza.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "recommendation.popularity")
+@Getter
+@Setter
+public class TreatmentPopularityConfig {
+
+    // 인기도 반감기 (이 기간이 지나면 과거 이벤트 비중이 절반)
+    private Duration halfLife = Duration.ofDays(7);
+
+    // 이벤트별 가중치
+    private double recommendedWeight = 1.0;
+    private double startedWeight = 3.0;
+    private double completedWeight = 5.0;
+
+    // 인기도 스냅샷 파일 (재시작 시 복원)
+    private String snapshotFile = "data/treatment-popularity.tsv";
+
+    // 스냅샷 저장 주기 (밀리초)
+    private long flushInterval = 300000;
+}
@@ -0,0 +1,36 @@
+package com.dgsw.hamza.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limiting.treatment")
+@Getter
+@Setter
+public class TreatmentSessionConfig {
+
+    // 치료 세션 1회 길이 (초, 소요시간이 없는 치료법에 적용)
+    private int sessionDuration = 600;
+
+    // 하루 최대 치료 세션 수 (하루 계획에 담을 최대 치료법 수)
+    private int maxSessionsPerDay = 5;
+
+    // 하루 계획으로 요청할 수 있는 최대 시간 (분, 계획표 크기)
+    private int maxPlanMinutes = 240;
+
+    /**
+     * 세션 1회 길이 (분)
+     */
+    public int sessionMinutes() {
+        return Math.max(1, sessionDuration / 60);
+    }
+
+    /**
+     * 기본 하루 치료 시간 (분, 세션 길이 x 하루 최대 세션 수)
+     */
+    public int dailyMinutes() {
+        return Math.min(sessionMinutes() * maxSessionsPerDay, maxPlanMinutes);
+    }
+}
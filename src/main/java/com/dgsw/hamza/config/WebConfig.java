@@ -1,10 +1,22 @@
 package com.dgsw.hamza.config;
 
+import com.dgsw.hamza.filter.CatalogETagInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     // CORS 설정은 SecurityConfig에서 통합 관리
     // 중복 설정 방지를 위해 여기서는 제거
-}
\ No newline at end of file
+
+    private final CatalogETagInterceptor catalogETagInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 카탈로그 조회 API 조건부 GET (304)
+        registry.addInterceptor(catalogETagInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,62 @@
+package com.dgsw.hamza.controller;
+
+import com.dgsw.hamza.dto.AdminDto;
+import com.dgsw.hamza.enums.RollupGranularity;
+import com.dgsw.hamza.service.DiagnosisRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin", description = "관리자 통계 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+    private final DiagnosisRollupService diagnosisRollupService;
+
+    @Operation(summary = "진단 심각도 분포 추이", description = "전체 사용자의 일/주/월 구간별 심각도 분포를 집계 테이블에서 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "추이 조회 성공",
+                    content = @Content(schema = @Schema(implementation = AdminDto.SeverityTrendResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/diagnosis/severity-trend")
+    public ResponseEntity<AdminDto.SeverityTrendResponse> getSeverityTrend(
+            @Parameter(description = "집계 단위 (DAY, WEEK, MONTH)") @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @Parameter(description = "시작일", example = "2025-01-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일", example = "2025-01-31") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return ResponseEntity.ok(diagnosisRollupService.trend(granularity, from, to));
+    }
+
+    @Operation(summary = "진단 집계 재구성", description = "전체 진단을 다시 읽어 구간별 집계를 재구성합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재구성 완료"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping("/diagnosis/rollups/rebuild")
+    public ResponseEntity<AdminDto.RollupRebuildResponse> rebuildRollups() {
+        log.info("진단 집계 재구성 요청");
+        return ResponseEntity.ok(diagnosisRollupService.rebuild());
+    }
+}
@@ -7,6 +7,7 @@ import com.dgsw.hamza.entity.User;
 import com.dgsw.hamza.security.UserPrincipal;
 import com.dgsw.hamza.repository.UserRepository;
 import com.dgsw.hamza.service.DiagnosisService;
+import com.dgsw.hamza.service.QuestionnaireService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +18,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +33,7 @@ import java.util.List;
 public class DiagnosisController {
 
     private final DiagnosisService diagnosisService;
+    private final QuestionnaireService questionnaireService;
     private final UserRepository userRepository;
 
     @Operation(summary = "PHQ-9 설문 문항 조회", description = "진단에 사용될 PHQ-9 설문 문항들을 조회합니다")
@@ -39,10 +42,54 @@ public class DiagnosisController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/questions")
-    public ResponseEntity<List<DiagnosisDto.QuestionResponse>> getQuestions() {
-        log.info("PHQ-9 설문 문항 조회 요청");
-        List<DiagnosisDto.QuestionResponse> questions = diagnosisService.getQuestions();
-        return ResponseEntity.ok(questions);
+    public ResponseEntity<byte[]> getQuestions(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("PHQ-9 설문 문항 조회 요청");
+        return questionnaireService.phq9Questions().respond(ifNoneMatch);
+    }
+
+    @Operation(summary = "설문 도구 목록 조회", description = "현재 버전의 설문 도구(PHQ-9, GAD-7 등) 정의를 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "설문 정의 조회 성공",
+                    content = @Content(schema = @Schema(implementation = DiagnosisDto.QuestionnaireResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/questionnaires")
+    public ResponseEntity<byte[]> getQuestionnaires(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return questionnaireService.currentList().respond(ifNoneMatch);
+    }
+
+    @Operation(summary = "설문 도구 조회", description = "특정 설문 도구의 현재 버전 정의를 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "설문 정의 조회 성공",
+                    content = @Content(schema = @Schema(implementation = DiagnosisDto.QuestionnaireResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 설문 도구"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/questionnaires/{code}")
+    public ResponseEntity<byte[]> getQuestionnaire(
+            @Parameter(description = "설문 도구 코드", example = "PHQ-9") @PathVariable String code,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return questionnaireService.current(code).respond(ifNoneMatch);
+    }
+
+    @Operation(summary = "설문 도구 버전 조회", description = "특정 버전의 설문 정의를 조회합니다. 버전별 정의는 바뀌지 않으므로 장기 캐시됩니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "설문 정의 조회 성공",
+                    content = @Content(schema = @Schema(implementation = DiagnosisDto.QuestionnaireResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 설문 도구 또는 버전"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/questionnaires/{code}/versions/{version}")
+    public ResponseEntity<byte[]> getQuestionnaireVersion(
+            @Parameter(description = "설문 도구 코드", example = "PHQ-9") @PathVariable String code,
+            @Parameter(description = "정의 버전", example = "1") @PathVariable int version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return questionnaireService.version(code, version).respond(ifNoneMatch);
     }
 
     @Operation(summary = "진단 설문 제출", description = "PHQ-9 설문 답변을 제출하고 진단 결과를 받습니다")
@@ -67,6 +114,27 @@ public class DiagnosisController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "오프라인 진단 일괄 제출",
+            description = "오프라인에서 작성한 진단을 한 번에 제출합니다. 같은 클라이언트 제출 ID 로 재전송하면 중복 저장하지 않고 기존 결과를 돌려줍니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 제출 처리 완료 (항목별 결과 포함)",
+                    content = @Content(schema = @Schema(implementation = DiagnosisDto.DiagnosisBatchSubmitResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping("/submit/batch")
+    public ResponseEntity<DiagnosisDto.DiagnosisBatchSubmitResponse> submitDiagnosisBatch(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody DiagnosisDto.DiagnosisBatchSubmitRequest request) {
+
+        User user = userRepository.findById(userPrincipal.getId())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        DiagnosisDto.DiagnosisBatchSubmitResponse response = diagnosisService.submitDiagnosisBatch(user, request);
+
+        return ResponseEntity.ok(response);
+    }
+
 
     @Operation(summary = "진단 히스토리 조회", description = "사용자의 과거 진단 기록을 페이지네이션으로 조회합니다")
     @ApiResponses(value = {
@@ -108,11 +176,7 @@ public class DiagnosisController {
         
         User user = userRepository.findById(userPrincipal.getId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        // 간단한 재진단 필요 여부 확인
-        DiagnosisDto.RedoCheckResponse response = DiagnosisDto.RedoCheckResponse.builder()
-                .isRedoRequired(false)
-                .message("재진단이 필요하지 않습니다.")
-                .build();
+        DiagnosisDto.RedoCheckResponse response = diagnosisService.checkRedoRequired(user);
         
         return ResponseEntity.ok(response);
     }
@@ -1,6 +1,9 @@
 package com.dgsw.hamza.controller;
 
 import com.dgsw.hamza.dto.HospitalDto;
+import com.dgsw.hamza.enums.Catalog;
+import com.dgsw.hamza.filter.CatalogETag;
+import com.dgsw.hamza.service.GuideService;
 import com.dgsw.hamza.service.HospitalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +29,7 @@ import java.util.List;
 public class HospitalController {
 
     private final HospitalService hospitalService;
+    private final GuideService guideService;
 
     @Operation(summary = "위치 기반 병원 검색", description = "사용자 위치를 기반으로 주변 병원을 검색합니다")
     @ApiResponses(value = {
@@ -60,6 +64,30 @@ public class HospitalController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "병원 상세 정보 조회 (GET)", description = "특정 병원의 상세 정보를 조회합니다. If-None-Match 로 조건부 조회를 지원합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "병원 상세 정보 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "404", description = "병원을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @CatalogETag(value = Catalog.HOSPITALS, timeDependent = true)
+    @GetMapping("/{hospitalId:\\d+}")
+    public ResponseEntity<HospitalDto.HospitalDetailResponse> getHospital(
+            @Parameter(description = "병원 ID") @PathVariable Long hospitalId,
+            @Parameter(description = "사용자 위도") @RequestParam(required = false) Double userLatitude,
+            @Parameter(description = "사용자 경도") @RequestParam(required = false) Double userLongitude) {
+
+        log.info("병원 상세 정보 조회 - 병원 ID: {}", hospitalId);
+
+        HospitalDto.HospitalDetailRequest request = HospitalDto.HospitalDetailRequest.builder()
+                .hospitalId(hospitalId)
+                .userLatitude(userLatitude)
+                .userLongitude(userLongitude)
+                .build();
+        return ResponseEntity.ok(hospitalService.getHospitalDetail(request));
+    }
+
     @Operation(summary = "키워드 기반 병원 검색", description = "병원 이름, 주소, 부서를 기반으로 병원을 검색합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "병원 검색 성공"),
@@ -168,7 +196,7 @@ public class HospitalController {
     @Operation(summary = "지역별 병원 조회", description = "특정 지역의 병원들을 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "지역별 병원 조회 성공"),
-            @ApiResponse(responseCode = "400", description = "지역명이 필요합니다"),
+            @ApiResponse(responseCode = "400", description = "지역명이 없거나 시/도를 특정할 수 없습니다"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/region/{region}")
@@ -203,10 +231,10 @@ public class HospitalController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/statistics")
-    public ResponseEntity<Object> getHospitalStatistics() {
+    public ResponseEntity<HospitalDto.HospitalStatistics> getHospitalStatistics() {
         log.info("병원 통계 조회 요청");
 
-        Object statistics = hospitalService.getHospitalStatistics();
+        HospitalDto.HospitalStatistics statistics = hospitalService.getHospitalStatistics();
         return ResponseEntity.ok(statistics);
     }
 
@@ -252,18 +280,11 @@ public class HospitalController {
             @ApiResponse(responseCode = "200", description = "검색 팁 조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.GUIDES)
     @GetMapping("/search-tips")
-    public ResponseEntity<List<String>> getSearchTips() {
+    public ResponseEntity<byte[]> getSearchTips() {
         log.info("병원 검색 팁 조회");
 
-        List<String> tips = List.of(
-                "위치 정보를 허용하면 더 정확한 거리 계산이 가능합니다",
-                "응급상황이 아닌 경우 평점이 높은 병원을 선택해보세요",
-                "진료과를 정확히 선택하면 더 적합한 병원을 찾을 수 있습니다",
-                "운영시간을 확인하여 방문 가능한 시간대를 확인하세요",
-                "주차장이나 휠체어 접근성 등 편의시설을 고려해보세요"
-        );
-
-        return ResponseEntity.ok(tips);
+        return guideService.response(GuideService.Guide.SEARCH_TIPS);
     }
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package com.dgsw.hamza.controller;
 
 import com.dgsw.hamza.dto.HospitalDto;
+import com.dgsw.hamza.enums.Catalog;
+import com.dgsw.hamza.filter.CatalogETag;
+import com.dgsw.hamza.service.GuideService;
+import com.dgsw.hamza.service.HospitalDensityService;
 import com.dgsw.hamza.service.LocationService;
+import com.dgsw.hamza.service.MarkerClusterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -22,6 +27,9 @@ import java.util.List;
 public class LocationController {
 
     private final LocationService locationService;
+    private final HospitalDensityService hospitalDensityService;
+    private final MarkerClusterService markerClusterService;
+    private final GuideService guideService;
 
     @Operation(summary = "최적화된 병원 추천", description = "사용자 위치와 심각도를 기반으로 최적의 병원을 추천합니다")
     @ApiResponses(value = {
@@ -70,7 +78,7 @@ public class LocationController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/analysis/density")
-    public ResponseEntity<Object> analyzeHospitalDensity(
+    public ResponseEntity<HospitalDto.DensityAnalysis> analyzeHospitalDensity(
             @Parameter(description = "중심점 위도") @RequestParam Double centerLat,
             @Parameter(description = "중심점 경도") @RequestParam Double centerLon,
             @Parameter(description = "분석 반경 (km)") @RequestParam(defaultValue = "10.0") Double radiusKm) {
@@ -78,11 +86,54 @@ public class LocationController {
         log.info("지역별 병원 밀도 분석 요청 - 중심좌표: ({}, {}), 반경: {}km", 
                 centerLat, centerLon, radiusKm);
 
-        Object analysis = locationService.analyzeHospitalDensity(centerLat, centerLon, radiusKm);
+        HospitalDto.DensityAnalysis analysis = locationService.analyzeHospitalDensity(centerLat, centerLon, radiusKm);
 
         return ResponseEntity.ok(analysis);
     }
 
+    @Operation(summary = "병원 밀도 히트맵", description = "지도 영역의 격자별 병원 밀도를 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "히트맵 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 영역"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/analysis/heatmap")
+    public ResponseEntity<HospitalDto.HeatmapResponse> getDensityHeatmap(
+            @Parameter(description = "남쪽 위도") @RequestParam Double south,
+            @Parameter(description = "서쪽 경도") @RequestParam Double west,
+            @Parameter(description = "북쪽 위도") @RequestParam Double north,
+            @Parameter(description = "동쪽 경도") @RequestParam Double east,
+            @Parameter(description = "격자 레벨 (0: 약 22km, 1: 약 5.5km, 2: 약 1.1km), 생략 시 자동 선택")
+            @RequestParam(required = false) Integer level) {
+
+        log.info("병원 밀도 히트맵 요청 - 영역: ({}, {}) ~ ({}, {}), 레벨: {}", south, west, north, east, level);
+
+        HospitalDto.HeatmapResponse heatmap = hospitalDensityService.heatmap(south, west, north, east, level);
+
+        return ResponseEntity.ok(heatmap);
+    }
+
+    @Operation(summary = "지도 마커 클러스터", description = "지도 영역과 줌 레벨에 맞게 묶인 병원 마커를 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "마커 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 영역 또는 줌 레벨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/markers")
+    public ResponseEntity<HospitalDto.MarkerClusterResponse> getMarkerClusters(
+            @Parameter(description = "남쪽 위도") @RequestParam Double south,
+            @Parameter(description = "서쪽 경도") @RequestParam Double west,
+            @Parameter(description = "북쪽 위도") @RequestParam Double north,
+            @Parameter(description = "동쪽 경도") @RequestParam Double east,
+            @Parameter(description = "지도 줌 레벨 (0~17)") @RequestParam Integer zoom) {
+
+        log.info("지도 마커 클러스터 요청 - 영역: ({}, {}) ~ ({}, {}), 줌: {}", south, west, north, east, zoom);
+
+        HospitalDto.MarkerClusterResponse markers = markerClusterService.markers(south, west, north, east, zoom);
+
+        return ResponseEntity.ok(markers);
+    }
+
     @Operation(summary = "최적 경로 계산", description = "여러 병원을 방문하는 최적 경로를 계산합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "경로 계산 성공"),
@@ -90,7 +141,7 @@ public class LocationController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @PostMapping("/route/optimal")
-    public ResponseEntity<List<HospitalDto.HospitalInfo>> calculateOptimalRoute(
+    public ResponseEntity<HospitalDto.RouteResponse> calculateOptimalRoute(
             @Parameter(description = "시작점 위도") @RequestParam Double startLat,
             @Parameter(description = "시작점 경도") @RequestParam Double startLon,
             @Parameter(description = "방문할 병원 ID 목록") @RequestBody List<Long> hospitalIds) {
@@ -102,7 +153,7 @@ public class LocationController {
             return ResponseEntity.badRequest().build();
         }
 
-        List<HospitalDto.HospitalInfo> route = locationService.calculateOptimalRoute(
+        HospitalDto.RouteResponse route = locationService.calculateOptimalRoute(
                 startLat, startLon, hospitalIds);
 
         return ResponseEntity.ok(route);
@@ -134,36 +185,11 @@ public class LocationController {
             @ApiResponse(responseCode = "200", description = "도움말 조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.GUIDES)
     @GetMapping("/help")
-    public ResponseEntity<Object> getLocationServiceHelp() {
+    public ResponseEntity<byte[]> getLocationServiceHelp() {
         log.info("위치 서비스 도움말 요청");
 
-        Object help = new Object() {
-            public final String title = "위치 기반 병원 추천 서비스";
-            public final List<String> features = List.of(
-                    "사용자 위치 기반 가까운 병원 검색",
-                    "심각도에 따른 맞춤형 병원 추천",
-                    "응급상황 대응 병원 즉시 검색",
-                    "지역별 병원 밀도 분석",
-                    "여러 병원 방문 최적 경로 계산",
-                    "접근성 점수 기반 병원 순위"
-            );
-            public final List<String> tips = List.of(
-                    "정확한 위치 정보 제공 시 더 정확한 추천 가능",
-                    "심각도를 정확히 입력하면 적절한 병원 추천",
-                    "응급상황에서는 '/emergency' 엔드포인트 사용",
-                    "평점과 거리를 종합적으로 고려한 추천",
-                    "편의시설 정보도 함께 제공"
-            );
-            public final Object severityLevels = new Object() {
-                public final String NORMAL = "정상 - 예방 및 건강관리";
-                public final String MILD = "경미 - 가벼운 증상";
-                public final String MODERATE = "중등도 - 적극적 치료 필요";
-                public final String SEVERE = "심각 - 즉시 전문 치료";
-                public final String VERY_SEVERE = "매우 심각 - 응급 처치 필요";
-            };
-        };
-
-        return ResponseEntity.ok(help);
+        return guideService.response(GuideService.Guide.LOCATION_HELP);
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.dgsw.hamza.controller;
+
+import com.dgsw.hamza.service.MediaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/media")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Media", description = "치료 콘텐츠 미디어 API")
+public class MediaController {
+
+    private final MediaService mediaService;
+
+    @Operation(summary = "치료 콘텐츠 미디어 스트리밍",
+            description = "오디오/비디오 파일을 전송합니다. Range 요청(206)과 ETag/Last-Modified 조건부 요청(304)을 지원합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "전체 파일 전송"),
+            @ApiResponse(responseCode = "206", description = "요청 구간 전송"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "404", description = "미디어 콘텐츠를 찾을 수 없음"),
+            @ApiResponse(responseCode = "416", description = "요청 구간이 파일 범위를 벗어남")
+    })
+    @GetMapping("/contents/{contentId}")
+    public void streamContent(
+            @Parameter(description = "콘텐츠 ID") @PathVariable Long contentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        log.debug("미디어 요청 - 콘텐츠: {}, Range: {}", contentId, request.getHeader("Range"));
+        mediaService.serve(mediaService.media(contentId), request, response);
+    }
+
+    @Operation(summary = "치료 콘텐츠 썸네일 조회",
+            description = "요청 너비 이상인 가장 작은 미리 생성된 썸네일을 전송합니다. 너비를 생략하면 원본을 전송합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "썸네일 전송"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "400", description = "잘못된 너비"),
+            @ApiResponse(responseCode = "404", description = "썸네일을 찾을 수 없음")
+    })
+    @GetMapping("/contents/{contentId}/thumbnail")
+    public void getThumbnail(
+            @Parameter(description = "콘텐츠 ID") @PathVariable Long contentId,
+            @Parameter(description = "원하는 너비 (px)") @RequestParam(required = false) Integer width,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        mediaService.serve(mediaService.thumbnail(contentId, width), request, response);
+    }
+}
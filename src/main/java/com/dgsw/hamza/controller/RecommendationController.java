@@ -145,6 +145,29 @@ public class RecommendationController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "하루 치료 계획 조회", description = "하루 치료 시간 안에서 점수 합이 가장 높은 치료 조합을 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "치료 계획 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 치료 시간"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "404", description = "진단을 찾을 수 없음"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/diagnosis/{diagnosisId}/plan")
+    public ResponseEntity<RecommendationDto.RecommendationCombinationResponse> getTreatmentPlan(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Parameter(description = "진단 ID") @PathVariable Long diagnosisId,
+            @Parameter(description = "하루 치료 시간 (분, 미입력 시 기본값)") @RequestParam(required = false) Integer minutes) {
+
+        log.info("사용자 {} 진단 {} 하루 치료 계획 조회 ({}분)", userPrincipal.getId(), diagnosisId, minutes);
+
+        User user = userRepository.findById(userPrincipal.getId())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        return ResponseEntity.ok(recommendationService.getTreatmentPlan(user, diagnosisId, minutes));
+    }
+
     @Operation(summary = "추천 상태 목록", description = "사용 가능한 추천 상태 목록을 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "추천 상태 목록 조회 성공"),
@@ -1,7 +1,9 @@
 package com.dgsw.hamza.controller;
 
 import com.dgsw.hamza.dto.TreatmentDto;
+import com.dgsw.hamza.enums.Catalog;
 import com.dgsw.hamza.enums.TreatmentType;
+import com.dgsw.hamza.filter.CatalogETag;
 import com.dgsw.hamza.service.TreatmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +33,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "200", description = "치료법 목록 조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping
     public ResponseEntity<List<TreatmentDto.TreatmentInfo>> getActiveTreatments() {
         log.info("활성화된 치료법 목록 조회 요청");
@@ -44,6 +47,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping("/search")
     public ResponseEntity<TreatmentDto.TreatmentListResponse> getTreatmentList(
             @Parameter(description = "치료법 유형") @RequestParam(required = false) TreatmentType type,
@@ -74,6 +78,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "404", description = "치료법을 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping("/{treatmentId}")
     public ResponseEntity<TreatmentDto.TreatmentInfo> getTreatmentDetail(
             @Parameter(description = "치료법 ID") @PathVariable Long treatmentId) {
@@ -89,6 +94,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "400", description = "잘못된 치료법 유형"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping("/type/{type}")
     public ResponseEntity<List<TreatmentDto.TreatmentInfo>> getTreatmentsByType(
             @Parameter(description = "치료법 유형") @PathVariable TreatmentType type) {
@@ -104,6 +110,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "400", description = "검색 키워드가 필요합니다"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping("/search/keyword")
     public ResponseEntity<List<TreatmentDto.TreatmentInfo>> searchTreatments(
             @Parameter(description = "검색 키워드") @RequestParam String keyword) {
@@ -136,6 +143,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "404", description = "치료법을 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping("/{treatmentId}/contents")
     public ResponseEntity<List<TreatmentDto.TreatmentContentInfo>> getTreatmentContents(
             @Parameter(description = "치료법 ID") @PathVariable Long treatmentId) {
@@ -165,6 +173,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "400", description = "잘못된 시간 값"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping("/duration/{maxDuration}")
     public ResponseEntity<List<TreatmentDto.TreatmentInfo>> getTreatmentsByDuration(
             @Parameter(description = "최대 소요시간 (분)") @PathVariable Integer maxDuration) {
@@ -185,6 +194,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "400", description = "잘못된 난이도 값"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping("/difficulty/{level}")
     public ResponseEntity<List<TreatmentDto.TreatmentInfo>> getTreatmentsByDifficulty(
             @Parameter(description = "난이도 레벨 (BEGINNER, INTERMEDIATE, ADVANCED)") @PathVariable String level) {
@@ -204,6 +214,7 @@ public class TreatmentController {
             @ApiResponse(responseCode = "200", description = "치료법 유형 목록 조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
+    @CatalogETag(Catalog.TREATMENTS)
     @GetMapping("/types")
     public ResponseEntity<List<TreatmentTypeInfo>> getTreatmentTypes() {
         log.info("치료법 유형 목록 조회 요청");
@@ -0,0 +1,68 @@
+package com.dgsw.hamza.dto;
+
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.RollupGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "관리자 통계 DTO")
+public class AdminDto {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "기간별 심각도 분포 추이 응답")
+    public static class SeverityTrendResponse {
+
+        @Schema(description = "집계 단위", example = "WEEK")
+        private RollupGranularity granularity;
+
+        @Schema(description = "첫 구간 시작일")
+        private LocalDate from;
+
+        @Schema(description = "마지막 구간 시작일")
+        private LocalDate to;
+
+        @Schema(description = "구간별 집계 (진단이 없는 구간은 0)")
+        private List<SeverityBucket> buckets;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "구간별 심각도 분포")
+    public static class SeverityBucket {
+
+        @Schema(description = "구간 시작일")
+        private LocalDate bucketStart;
+
+        @Schema(description = "구간 전체 진단 수")
+        private Long total;
+
+        @Schema(description = "심각도별 진단 수")
+        private Map<DiagnosisSeverity, Long> counts;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "집계 재구성 결과")
+    public static class RollupRebuildResponse {
+
+        @Schema(description = "읽은 진단 수")
+        private Long diagnoses;
+
+        @Schema(description = "저장한 집계 행 수")
+        private Integer rows;
+    }
+}
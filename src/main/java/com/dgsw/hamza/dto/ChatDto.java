@@ -10,6 +10,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -314,4 +315,26 @@ public class ChatDto {
         @Schema(description = "추천된 치료법 목록")
         private List<String> recommendedTreatments;
     }
-}
\ No newline at end of file
+
+    /**
+     * 감정 분석 보고서
+     * @param emotionTrend 일자별 평균 감정 점수 (최근 날짜부터)
+     */
+    @Schema(description = "감정 분석 보고서")
+    public record EmotionReport(
+            String message,
+            LocalDateTime generatedAt,
+            List<EmotionTrendPoint> emotionTrend,
+            Double averageScore,
+            EmotionStats emotionStats
+    ) {
+    }
+
+    @Schema(description = "일자별 평균 감정 점수")
+    public record EmotionTrendPoint(LocalDate date, Double averageScore) {
+    }
+
+    @Schema(description = "감정 분포 (메시지 수)")
+    public record EmotionStats(long positiveCount, long negativeCount, long neutralCount) {
+    }
+}
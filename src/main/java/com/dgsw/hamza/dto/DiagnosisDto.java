@@ -2,9 +2,13 @@ package com.dgsw.hamza.dto;
 
 import com.dgsw.hamza.enums.DiagnosisSeverity;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,11 +28,15 @@ public class DiagnosisDto {
     public static class DiagnosisSubmitRequest {
         
         @NotNull(message = "답변 목록은 필수입니다")
-        @Schema(description = "PHQ-9 설문 답변 목록")
+        @Schema(description = "설문 답변 목록")
         private List<DiagnosisAnswerRequest> answers;
         
         @Schema(description = "추가 메모", example = "최근 스트레스가 많았습니다")
         private String notes;
+
+        @Size(max = 16, message = "설문 코드는 16자 이하여야 합니다")
+        @Schema(description = "설문 도구 코드 (없으면 PHQ-9)", example = "PHQ-9")
+        private String questionnaireCode;
     }
 
     @Data
@@ -58,6 +66,9 @@ public class DiagnosisDto {
         
         @Schema(description = "진단 ID", example = "1")
         private Long diagnosisId;
+
+        @Schema(description = "설문 도구 코드", example = "PHQ-9")
+        private String questionnaireCode;
         
         @Schema(description = "총 점수", example = "12")
         private Integer totalScore;
@@ -185,6 +196,46 @@ public class DiagnosisDto {
         private Boolean isActive;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "설문 도구 정의 응답")
+    public static class QuestionnaireResponse {
+
+        @Schema(description = "설문 도구 코드", example = "PHQ-9")
+        private String code;
+
+        @Schema(description = "정의 버전", example = "1")
+        private Integer version;
+
+        @Schema(description = "설문 제목")
+        private String title;
+
+        @Schema(description = "설문 안내")
+        private String description;
+
+        @Schema(description = "답변 선택지")
+        private List<AnswerOptionResponse> answerOptions;
+
+        @Schema(description = "문항 목록")
+        private List<QuestionResponse> questions;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "설문 답변 선택지")
+    public static class AnswerOptionResponse {
+
+        @Schema(description = "선택지 문구", example = "며칠 동안")
+        private String label;
+
+        @Schema(description = "선택 시 점수", example = "1")
+        private Integer score;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -224,4 +275,94 @@ public class DiagnosisDto {
         @Schema(description = "전체 대비 비율")
         private Double percentage;
     }
-}
\ No newline at end of file
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "오프라인 진단 일괄 제출 요청")
+    public static class DiagnosisBatchSubmitRequest {
+
+        @NotEmpty(message = "제출 목록은 필수입니다")
+        @Size(max = 50, message = "한 번에 최대 50건까지 제출할 수 있습니다")
+        @Valid
+        @Schema(description = "오프라인에서 작성한 진단 목록")
+        private List<DiagnosisBatchItem> submissions;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "오프라인 진단 항목")
+    public static class DiagnosisBatchItem {
+
+        @NotBlank(message = "클라이언트 제출 ID는 필수입니다")
+        @Size(max = 64, message = "클라이언트 제출 ID는 64자 이하여야 합니다")
+        @Schema(description = "중복 제출 방지용 클라이언트 제출 ID (재전송 시 동일 값)", example = "3f2b8c1e-offline-001")
+        private String clientSubmissionId;
+
+        @NotNull(message = "답변 목록은 필수입니다")
+        @Schema(description = "설문 답변 목록")
+        private List<DiagnosisAnswerRequest> answers;
+
+        @Schema(description = "추가 메모")
+        private String notes;
+
+        @Schema(description = "기기에서 설문을 완료한 시각 (없거나 미래면 서버 수신 시각)")
+        private LocalDateTime completedAt;
+
+        @Size(max = 16, message = "설문 코드는 16자 이하여야 합니다")
+        @Schema(description = "설문 도구 코드 (없으면 PHQ-9)", example = "PHQ-9")
+        private String questionnaireCode;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "오프라인 진단 일괄 제출 응답")
+    public static class DiagnosisBatchSubmitResponse {
+
+        @Schema(description = "새로 저장된 건수", example = "3")
+        private Integer acceptedCount;
+
+        @Schema(description = "이미 저장되어 건너뛴 건수", example = "1")
+        private Integer duplicateCount;
+
+        @Schema(description = "유효성 검증에 실패한 건수", example = "0")
+        private Integer rejectedCount;
+
+        @Schema(description = "요청 순서대로의 항목별 결과")
+        private List<DiagnosisBatchResult> results;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "오프라인 진단 항목 결과")
+    public static class DiagnosisBatchResult {
+
+        @Schema(description = "클라이언트 제출 ID")
+        private String clientSubmissionId;
+
+        @Schema(description = "처리 결과", example = "ACCEPTED", allowableValues = {"ACCEPTED", "DUPLICATE", "REJECTED"})
+        private String status;
+
+        @Schema(description = "진단 ID (ACCEPTED, DUPLICATE)")
+        private Long diagnosisId;
+
+        @Schema(description = "총점")
+        private Integer totalScore;
+
+        @Schema(description = "심각도")
+        private DiagnosisSeverity severity;
+
+        @Schema(description = "진단 일시")
+        private LocalDateTime diagnosisDate;
+
+        @Schema(description = "거부 사유 (REJECTED)")
+        private String error;
+    }
+}
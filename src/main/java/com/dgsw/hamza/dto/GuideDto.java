@@ -0,0 +1,86 @@
+package com.dgsw.hamza.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "안내 문서 DTO (배포 시에만 바뀌는 정적 응답)")
+public class GuideDto {
+
+    @Schema(description = "위기 상황 대응 가이드")
+    public record CrisisGuide(
+            String title,
+            EmergencyContacts emergencyContacts,
+            CrisisLevels crisisLevels,
+            List<String> immediateActions,
+            List<String> supportResources
+    ) {
+    }
+
+    @Schema(description = "긴급 연락처")
+    public record EmergencyContacts(
+            String lifeline,
+            String youthHotline,
+            String mentalHealthCrisis,
+            String emergency,
+            String police
+    ) {
+    }
+
+    @Schema(description = "위기 수준별 대응")
+    public record CrisisLevels(
+            @JsonProperty("CRITICAL") String critical,
+            @JsonProperty("HIGH") String high,
+            @JsonProperty("MEDIUM") String medium,
+            @JsonProperty("LOW") String low,
+            @JsonProperty("NONE") String none
+    ) {
+    }
+
+    @Schema(description = "챗봇 사용 가이드")
+    public record ChatHelp(
+            String title,
+            List<String> features,
+            List<String> usageTips,
+            List<String> limitations,
+            SampleQuestions sampleQuestions
+    ) {
+    }
+
+    @Schema(description = "챗봇 예시 질문")
+    public record SampleQuestions(
+            List<String> general,
+            List<String> crisis
+    ) {
+    }
+
+    @Schema(description = "개인정보 보호 정책")
+    public record PrivacyPolicy(
+            String title,
+            List<String> dataProtection,
+            List<String> dataRetention,
+            List<String> userRights,
+            String contact
+    ) {
+    }
+
+    @Schema(description = "위치 서비스 도움말")
+    public record LocationHelp(
+            String title,
+            List<String> features,
+            List<String> tips,
+            SeverityLevels severityLevels
+    ) {
+    }
+
+    @Schema(description = "심각도별 안내")
+    public record SeverityLevels(
+            @JsonProperty("NORMAL") String normal,
+            @JsonProperty("MILD") String mild,
+            @JsonProperty("MODERATE") String moderate,
+            @JsonProperty("SEVERE") String severe,
+            @JsonProperty("VERY_SEVERE") String verySevere
+    ) {
+    }
+}
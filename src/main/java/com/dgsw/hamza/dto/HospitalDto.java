@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 public class HospitalDto {
 
@@ -40,6 +41,8 @@ public class HospitalDto {
         private Boolean isOpen; // 현재 운영 중인지
         private String googlePlaceId; // 구글 플레이스 ID
         private Integer userRatingsTotal; // 총 리뷰 수
+        private Double score; // 추천 점수
+        private Map<String, Double> scoreBreakdown; // 점수 구성요소별 가중 점수
     }
 
     @Data
@@ -208,10 +211,104 @@ public class HospitalDto {
         private Double latitude;
         private Double longitude;
         private String formattedAddress;
+        private String precision; // ROAD, DONG, SIGUNGU, SIDO, REMOTE
         private String status;
         private String message;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RouteResponse {
+        private Double startLatitude;
+        private Double startLongitude;
+        private List<RouteStop> stops;
+        private Double totalDistance; // km
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RouteStop {
+        private Integer order;
+        private HospitalInfo hospital;
+        private Double legDistance; // 이전 지점에서의 거리 (km)
+        private Double cumulativeDistance; // 시작점부터 누적 거리 (km)
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DensityAnalysis {
+        private Integer totalHospitals;
+        private Integer emergencyHospitals;
+        private Double densityPerKm2;
+        private Double areaKm2;
+        private Map<String, Long> departmentDist;
+        private Double averageRating;
+        private Integer gridLevel;
+        private Double cellSizeDegrees;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HospitalStatistics {
+        private Long totalHospitals;
+        private Double averageRating;
+        // 기존 응답 형식 유지: [이름, 개수] 배열 목록
+        private List<Object[]> departmentDistribution;
+        private List<Object[]> ratingDistribution;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HeatmapResponse {
+        private Integer gridLevel;
+        private Double cellSizeDegrees;
+        private List<HeatmapCell> cells;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HeatmapCell {
+        private Double latitude; // 셀 중심
+        private Double longitude;
+        private Integer count;
+        private Integer emergencyCount;
+        private Double averageRating;
+        private Map<String, Integer> departments;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MarkerClusterResponse {
+        private Integer zoom;
+        private Integer totalHospitals; // 영역 내 병원 수 (클러스터 count 합)
+        private List<MapMarker> markers;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MapMarker {
+        private Double latitude; // 클러스터 중심
+        private Double longitude;
+        private Integer count; // 1 이면 단일 병원
+        private Long representativeId; // 클러스터 대표 병원 ID (평점 최고)
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
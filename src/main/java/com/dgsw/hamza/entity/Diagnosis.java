@@ -1,19 +1,26 @@
 package com.dgsw.hamza.entity;
 
 import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.util.DiagnosisCalculator;
+import com.dgsw.hamza.util.ScoringModel;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "diagnoses")
+@Table(name = "diagnoses", indexes = {
+        @Index(name = "idx_diagnoses_user_date", columnList = "user_id, diagnosis_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_diagnoses_user_client_submission", columnNames = {"user_id", "client_submission_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,10 +28,18 @@ import java.util.List;
 @Builder
 public class Diagnosis extends BaseEntity {
 
+    public static final String PHQ9 = "PHQ-9";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 채점한 설문 도구 코드 (기존 행은 PHQ-9 로 채워짐)
+    @Column(name = "questionnaire_code", nullable = false, length = 16)
+    @ColumnDefault("'PHQ-9'")
+    @Builder.Default
+    private String questionnaireCode = PHQ9;
+
     @Column(name = "total_score", nullable = false)
     private Integer totalScore;
 
@@ -38,6 +53,10 @@ public class Diagnosis extends BaseEntity {
     @Column(name = "notes")
     private String notes;
 
+    // 오프라인 일괄 제출 시 클라이언트가 붙이는 중복 제출 방지 키
+    @Column(name = "client_submission_id", length = 64)
+    private String clientSubmissionId;
+
     @Column(name = "is_completed")
     @Builder.Default
     private Boolean isCompleted = false;
@@ -52,8 +71,8 @@ public class Diagnosis extends BaseEntity {
     private List<Recommendation> recommendations = new ArrayList<>();
 
     // Convenience methods
-    public void calculateSeverity() {
-        this.severity = DiagnosisSeverity.fromScore(this.totalScore);
+    public void calculateSeverity(ScoringModel model) {
+        this.severity = DiagnosisCalculator.calculateSeverityLevel(this.totalScore, model);
     }
 
     public boolean isCompleted() {
@@ -65,6 +84,11 @@ public class Diagnosis extends BaseEntity {
         this.diagnosisDate = LocalDateTime.now();
     }
 
+    // 진단 집계와 구간 집계는 PHQ-9 점수만 반영
+    public boolean isPhq9() {
+        return PHQ9.equals(questionnaireCode);
+    }
+
     public boolean requiresImmediateAttention() {
         return severity == DiagnosisSeverity.SEVERE || severity == DiagnosisSeverity.VERY_SEVERE;
     }
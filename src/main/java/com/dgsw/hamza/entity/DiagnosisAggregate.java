@@ -0,0 +1,146 @@
+package com.dgsw.hamza.entity;
+
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 사용자별 진단 누적 집계 (사용자당 한 행)
+ * 진단 제출과 같은 트랜잭션에서 갱신하므로 통계, 점수 비교, 재진단 확인은 이 행 하나만 읽습니다.
+ */
+@Entity
+@Table(name = "diagnosis_aggregates")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagnosisAggregate extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "diagnosis_count", nullable = false)
+    private int diagnosisCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column(name = "min_score")
+    private Integer minScore;
+
+    @Column(name = "max_score")
+    private Integer maxScore;
+
+    @Column(name = "last_score")
+    private Integer lastScore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_severity")
+    private DiagnosisSeverity lastSeverity;
+
+    @Column(name = "last_diagnosis_date")
+    private LocalDateTime lastDiagnosisDate;
+
+    // 심각도별 진단 수
+    @Column(name = "normal_count", nullable = false)
+    private int normalCount;
+
+    @Column(name = "mild_count", nullable = false)
+    private int mildCount;
+
+    @Column(name = "moderate_count", nullable = false)
+    private int moderateCount;
+
+    @Column(name = "severe_count", nullable = false)
+    private int severeCount;
+
+    @Column(name = "very_severe_count", nullable = false)
+    private int verySevereCount;
+
+    public DiagnosisAggregate(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * 진단 한 건 반영 (진단일이 마지막 진단보다 이르면 최근 진단 정보는 유지)
+     */
+    public void record(int score, DiagnosisSeverity severity, LocalDateTime diagnosisDate) {
+        diagnosisCount++;
+        scoreSum += score;
+        minScore = minScore == null ? score : Math.min(minScore, score);
+        maxScore = maxScore == null ? score : Math.max(maxScore, score);
+        addSeverity(severity, 1);
+        if (lastDiagnosisDate == null || !diagnosisDate.isBefore(lastDiagnosisDate)) {
+            lastScore = score;
+            lastSeverity = severity;
+            lastDiagnosisDate = diagnosisDate;
+        }
+    }
+
+    /**
+     * 기존 진단 기록으로 초기화 (집계 행이 없던 사용자)
+     */
+    public void restore(int count, long sum, Integer min, Integer max, Diagnosis latest,
+                        Map<DiagnosisSeverity, Integer> severityCounts) {
+        this.diagnosisCount = count;
+        this.scoreSum = sum;
+        this.minScore = min;
+        this.maxScore = max;
+        severityCounts.forEach(this::addSeverity);
+        if (latest != null) {
+            this.lastScore = latest.getTotalScore();
+            this.lastSeverity = latest.getSeverity();
+            this.lastDiagnosisDate = latest.getDiagnosisDate();
+        }
+    }
+
+    public boolean isEmpty() {
+        return diagnosisCount == 0;
+    }
+
+    /**
+     * 평균 점수
+     * @return 진단이 없으면 null
+     */
+    public Double averageScore() {
+        return diagnosisCount == 0 ? null : (double) scoreSum / diagnosisCount;
+    }
+
+    public int severityCount(DiagnosisSeverity severity) {
+        return switch (severity) {
+            case NORMAL -> normalCount;
+            case MILD -> mildCount;
+            case MODERATE -> moderateCount;
+            case SEVERE -> severeCount;
+            case VERY_SEVERE -> verySevereCount;
+        };
+    }
+
+    /**
+     * 가장 빈번한 심각도 (같으면 더 심각한 쪽)
+     * @return 진단이 없으면 null
+     */
+    public DiagnosisSeverity mostFrequentSeverity() {
+        DiagnosisSeverity result = null;
+        for (DiagnosisSeverity severity : DiagnosisSeverity.values()) {
+            int count = severityCount(severity);
+            if (count > 0 && (result == null || count >= severityCount(result))) {
+                result = severity;
+            }
+        }
+        return result;
+    }
+
+    private void addSeverity(DiagnosisSeverity severity, int delta) {
+        switch (severity) {
+            case NORMAL -> normalCount += delta;
+            case MILD -> mildCount += delta;
+            case MODERATE -> moderateCount += delta;
+            case SEVERE -> severeCount += delta;
+            case VERY_SEVERE -> verySevereCount += delta;
+        }
+    }
+}
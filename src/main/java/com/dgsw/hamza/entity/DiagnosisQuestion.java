@@ -1,5 +1,6 @@
 package com.dgsw.hamza.entity;
 
+import com.dgsw.hamza.event.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "diagnosis_questions")
+@EntityListeners(CatalogEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,6 +38,10 @@ public class DiagnosisQuestion extends BaseEntity {
     private String description;
 
     // Relationships
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "questionnaire_id")
+    private Questionnaire questionnaire;
+
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private List<DiagnosisAnswer> answers = new ArrayList<>();
@@ -0,0 +1,49 @@
+package com.dgsw.hamza.entity;
+
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 전체 사용자 진단 수 집계 (시간 구간 x 심각도당 한 행)
+ * 진단 제출 시 증가시키고, 비어 있으면 기존 진단을 스트리밍으로 읽어 채웁니다.
+ */
+@Entity
+@Table(name = "diagnosis_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_diagnosis_rollups_bucket", columnNames = {"granularity", "bucket_start", "severity"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagnosisRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DiagnosisSeverity severity;
+
+    @Column(name = "diagnosis_count", nullable = false)
+    private long diagnosisCount;
+
+    public DiagnosisRollup(RollupGranularity granularity, LocalDate bucketStart,
+                           DiagnosisSeverity severity, long diagnosisCount) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.severity = severity;
+        this.diagnosisCount = diagnosisCount;
+    }
+}
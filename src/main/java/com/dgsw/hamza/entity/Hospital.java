@@ -1,5 +1,7 @@
 package com.dgsw.hamza.entity;
 
+import com.dgsw.hamza.event.HospitalEntityListener;
+import com.dgsw.hamza.util.KoreanAddressParser;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +13,10 @@ import java.math.BigDecimal;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "hospitals")
+@Table(name = "hospitals", indexes = {
+        @Index(name = "idx_hospitals_region", columnList = "sido, sigungu, dong")
+})
+@EntityListeners(HospitalEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,6 +30,16 @@ public class Hospital extends BaseEntity {
     @Column(nullable = false)
     private String address;
 
+    // 주소에서 분해한 행정구역 (저장 시 자동 설정)
+    @Column(name = "sido", length = 20)
+    private String sido;
+
+    @Column(name = "sigungu", length = 30)
+    private String sigungu;
+
+    @Column(name = "dong", length = 30)
+    private String dong;
+
     @Column(name = "phone")
     private String phone;
 
@@ -80,6 +95,15 @@ public class Hospital extends BaseEntity {
     @Builder.Default
     private Boolean wheelchairAccessible = false;
 
+    /**
+     * 행정구역 컬럼 설정 (HospitalEntityListener 가 저장 전에 주소 인덱스로 보완한 값을 넘김)
+     */
+    public void assignRegion(KoreanAddressParser.AddressComponents components) {
+        this.sido = components.sido;
+        this.sigungu = components.sigungu;
+        this.dong = components.dong;
+    }
+
     // Convenience methods
     public boolean isActive() {
         return Boolean.TRUE.equals(isActive);
@@ -0,0 +1,82 @@
+package com.dgsw.hamza.entity;
+
+import com.dgsw.hamza.event.CatalogEntityListener;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 설문 도구 정의 (PHQ-9, GAD-7 등)
+ * 문항이나 선택지가 바뀌면 기존 행을 고치지 않고 version 을 올린 새 행을 추가합니다.
+ */
+@Entity
+@Table(name = "questionnaires",
+        uniqueConstraints = @UniqueConstraint(name = "uk_questionnaires_code_version", columnNames = {"code", "version"}))
+@EntityListeners(CatalogEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Questionnaire extends BaseEntity {
+
+    @Column(nullable = false, length = 20)
+    private String code;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(name = "is_active")
+    @Builder.Default
+    private Boolean isActive = true;
+
+    @ElementCollection
+    @CollectionTable(name = "questionnaire_options", joinColumns = @JoinColumn(name = "questionnaire_id"))
+    @OrderColumn(name = "option_order")
+    @Builder.Default
+    private List<AnswerOption> answerOptions = new ArrayList<>();
+
+    // Relationships
+    @OneToMany(mappedBy = "questionnaire", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OrderBy("questionOrder ASC")
+    @Builder.Default
+    private List<DiagnosisQuestion> questions = new ArrayList<>();
+
+    // Convenience methods
+    public boolean isActive() {
+        return Boolean.TRUE.equals(isActive);
+    }
+
+    public void addQuestion(DiagnosisQuestion question) {
+        question.setQuestionnaire(this);
+        questions.add(question);
+    }
+
+    /**
+     * 답변 선택지
+     */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AnswerOption {
+
+        @Column(name = "label", nullable = false)
+        private String label;
+
+        @Column(name = "score", nullable = false)
+        private Integer score;
+    }
+}
@@ -11,7 +11,12 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "recommendations")
+@Table(name = "recommendations", indexes = {
+        @Index(name = "idx_recommendations_user_status_date", columnList = "user_id, status, recommended_date"),
+        @Index(name = "idx_recommendations_user_date", columnList = "user_id, recommended_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recommendations_diagnosis_treatment", columnNames = {"diagnosis_id", "treatment_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,6 +48,9 @@ public class Recommendation extends BaseEntity {
     @Builder.Default
     private Integer priority = 5; // 1 (highest) to 10 (lowest)
 
+    @Column(name = "recommendation_score")
+    private Double score;
+
     @Column(name = "reason", length = 1000)
     private String reason;
 
@@ -82,6 +90,15 @@ public class Recommendation extends BaseEntity {
         return status == RecommendationStatus.PAUSED;
     }
 
+    /**
+     * 실행된 추천 (시작 이후 상태)
+     */
+    public boolean isExecuted() {
+        return status == RecommendationStatus.ACTIVE
+                || status == RecommendationStatus.PAUSED
+                || status == RecommendationStatus.COMPLETED;
+    }
+
     public boolean isHighPriority() {
         return priority != null && priority <= 3;
     }
@@ -0,0 +1,97 @@
+package com.dgsw.hamza.entity;
+
+import com.dgsw.hamza.enums.RecommendationStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 사용자별 추천 상태 집계 (사용자당 한 행)
+ * 추천 저장과 상태 변경 트랜잭션에서 함께 갱신하므로 추천 통계는 이 행 하나만 읽습니다.
+ */
+@Entity
+@Table(name = "recommendation_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecommendationCounter extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    @Column(name = "active_count", nullable = false)
+    private int activeCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private int cancelledCount;
+
+    @Column(name = "paused_count", nullable = false)
+    private int pausedCount;
+
+    public RecommendationCounter(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * 새 추천 반영
+     */
+    public void add(RecommendationStatus status, int count) {
+        addStatus(status, count);
+    }
+
+    /**
+     * 상태 변경 반영
+     */
+    public void move(RecommendationStatus from, RecommendationStatus to) {
+        if (from != to) {
+            addStatus(from, -1);
+            addStatus(to, 1);
+        }
+    }
+
+    /**
+     * 기존 추천 기록으로 초기화 (집계 행이 없던 사용자)
+     */
+    public void restore(Map<RecommendationStatus, Integer> statusCounts) {
+        statusCounts.forEach(this::addStatus);
+    }
+
+    public int count(RecommendationStatus status) {
+        return switch (status) {
+            case PENDING -> pendingCount;
+            case ACTIVE -> activeCount;
+            case COMPLETED -> completedCount;
+            case CANCELLED -> cancelledCount;
+            case PAUSED -> pausedCount;
+        };
+    }
+
+    public int total() {
+        return pendingCount + activeCount + completedCount + cancelledCount + pausedCount;
+    }
+
+    /**
+     * 실행된 추천 수 (진행 중, 일시중지, 완료)
+     */
+    public int executed() {
+        return activeCount + pausedCount + completedCount;
+    }
+
+    private void addStatus(RecommendationStatus status, int delta) {
+        switch (status) {
+            case PENDING -> pendingCount += delta;
+            case ACTIVE -> activeCount += delta;
+            case COMPLETED -> completedCount += delta;
+            case CANCELLED -> cancelledCount += delta;
+            case PAUSED -> pausedCount += delta;
+        }
+    }
+}
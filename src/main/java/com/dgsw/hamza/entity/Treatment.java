@@ -1,5 +1,6 @@
 package com.dgsw.hamza.entity;
 
+import com.dgsw.hamza.event.CatalogEntityListener;
 import com.dgsw.hamza.enums.TreatmentType;
 import com.dgsw.hamza.enums.DifficultyLevel;
 import jakarta.persistence.*;
@@ -14,6 +15,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "treatments")
+@EntityListeners(CatalogEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.dgsw.hamza.entity;
 
+import com.dgsw.hamza.event.CatalogEntityListener;
 import com.dgsw.hamza.enums.ContentType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "treatment_contents")
+@EntityListeners(CatalogEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
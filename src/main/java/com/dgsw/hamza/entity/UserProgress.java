@@ -1,6 +1,8 @@
 package com.dgsw.hamza.entity;
 
+import com.dgsw.hamza.event.UserProgressEntityListener;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,6 +14,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user_progress")
+@EntityListeners(UserProgressEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -70,6 +73,12 @@ public class UserProgress extends BaseEntity {
     @Builder.Default
     private Integer totalTimeSpent = 0; // in minutes
 
+    // 마지막으로 읽거나 저장한 시점의 완료 여부 (완료 전환 감지용, 저장하지 않음)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean storedCompleted;
+
     // Convenience methods
     public boolean isCompleted() {
         return Boolean.TRUE.equals(isCompleted);
@@ -105,6 +114,20 @@ public class UserProgress extends BaseEntity {
         }
     }
 
+    /**
+     * 마지막으로 읽거나 저장한 뒤 완료로 바뀌었는지 여부
+     */
+    public boolean isNewlyCompleted() {
+        return isCompleted() && !storedCompleted;
+    }
+
+    /**
+     * 현재 완료 여부를 저장된 상태로 기록 (로드/저장 직후 호출)
+     */
+    public void markStored() {
+        this.storedCompleted = isCompleted();
+    }
+
     public void completeProgress() {
         this.isCompleted = true;
         this.completedDate = LocalDateTime.now();
@@ -0,0 +1,21 @@
+package com.dgsw.hamza.enums;
+
+/**
+ * 버전으로 캐시 유효성을 관리하는 조회용 카탈로그
+ */
+public enum Catalog {
+    HOSPITALS("hospitals"),
+    TREATMENTS("treatments"),
+    DIAGNOSIS_QUESTIONS("questions"),
+    GUIDES("guides"); // 배포 시에만 바뀌는 안내 문서
+
+    private final String tag;
+
+    Catalog(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,9 @@
+package com.dgsw.hamza.event;
+
+import com.dgsw.hamza.enums.Catalog;
+
+/**
+ * 카탈로그 데이터(치료법, 진단 문항 등) 변경 이벤트
+ */
+public record CatalogChangedEvent(Catalog catalog) {
+}
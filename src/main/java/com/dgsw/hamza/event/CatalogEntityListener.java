@@ -0,0 +1,43 @@
+package com.dgsw.hamza.event;
+
+import com.dgsw.hamza.entity.DiagnosisQuestion;
+import com.dgsw.hamza.entity.Questionnaire;
+import com.dgsw.hamza.entity.Treatment;
+import com.dgsw.hamza.entity.TreatmentContent;
+import com.dgsw.hamza.enums.Catalog;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 엔티티 변경을 CatalogChangedEvent 로 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        Catalog catalog = catalogOf(entity);
+        if (catalog != null) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(catalog));
+        }
+    }
+
+    private static Catalog catalogOf(Object entity) {
+        if (entity instanceof Treatment || entity instanceof TreatmentContent) {
+            return Catalog.TREATMENTS;
+        }
+        if (entity instanceof DiagnosisQuestion || entity instanceof Questionnaire) {
+            return Catalog.DIAGNOSIS_QUESTIONS;
+        }
+        return null;
+    }
+}
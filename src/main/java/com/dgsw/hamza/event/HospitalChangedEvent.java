@@ -0,0 +1,20 @@
+package com.dgsw.hamza.event;
+
+import com.dgsw.hamza.entity.Hospital;
+
+/**
+ * 병원 생성/수정/삭제 이벤트
+ * 커밋 이후 소비되므로 hospital 은 분리(detached)된 상태입니다.
+ */
+public record HospitalChangedEvent(ChangeType type, Hospital hospital) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public Long hospitalId() {
+        return hospital.getId();
+    }
+}
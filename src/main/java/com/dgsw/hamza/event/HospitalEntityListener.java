@@ -0,0 +1,46 @@
+package com.dgsw.hamza.event;
+
+import com.dgsw.hamza.entity.Hospital;
+import com.dgsw.hamza.service.GeocodingService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hospital 엔티티 변경을 애플리케이션 이벤트로 발행
+ * 구독자는 @TransactionalEventListener 로 커밋 이후에 반영합니다.
+ * 저장 전에는 주소를 행정구역으로 분해해 채웁니다 (시/도가 생략된 주소는 주소 인덱스로 보완).
+ */
+@Component
+@RequiredArgsConstructor
+public class HospitalEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final GeocodingService geocodingService;
+
+    @PrePersist
+    @PreUpdate
+    public void assignRegion(Hospital hospital) {
+        hospital.assignRegion(geocodingService.resolveRegion(hospital.getAddress()));
+    }
+
+    @PostPersist
+    public void onCreated(Hospital hospital) {
+        eventPublisher.publishEvent(new HospitalChangedEvent(HospitalChangedEvent.ChangeType.CREATED, hospital));
+    }
+
+    @PostUpdate
+    public void onUpdated(Hospital hospital) {
+        eventPublisher.publishEvent(new HospitalChangedEvent(HospitalChangedEvent.ChangeType.UPDATED, hospital));
+    }
+
+    @PostRemove
+    public void onDeleted(Hospital hospital) {
+        eventPublisher.publishEvent(new HospitalChangedEvent(HospitalChangedEvent.ChangeType.DELETED, hospital));
+    }
+}
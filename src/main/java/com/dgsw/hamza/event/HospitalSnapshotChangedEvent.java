@@ -0,0 +1,15 @@
+package com.dgsw.hamza.event;
+
+import com.dgsw.hamza.service.HospitalSnapshotService;
+
+/**
+ * 병원 스냅샷 교체 이벤트
+ * HospitalSnapshotService 가 스냅샷을 바꿀 때마다 같은 순서로 발행하므로, 파생 인덱스는 DB 를 다시 읽지 않고
+ * 전체 재구성(change 가 null)이나 병원 한 건 변경만 반영하면 됩니다.
+ */
+public record HospitalSnapshotChangedEvent(HospitalSnapshotService.Snapshot snapshot, HospitalChangedEvent change) {
+
+    public boolean isRebuild() {
+        return change == null;
+    }
+}
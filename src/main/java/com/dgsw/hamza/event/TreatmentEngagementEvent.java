@@ -0,0 +1,19 @@
+package com.dgsw.hamza.event;
+
+import java.util.List;
+
+/**
+ * 치료법 참여 이벤트 (추천됨, 시작, 완료) - 치료법 인기도 집계용
+ */
+public record TreatmentEngagementEvent(List<Long> treatmentIds, Engagement engagement) {
+
+    public TreatmentEngagementEvent(Long treatmentId, Engagement engagement) {
+        this(List.of(treatmentId), engagement);
+    }
+
+    public enum Engagement {
+        RECOMMENDED,
+        STARTED,
+        COMPLETED
+    }
+}
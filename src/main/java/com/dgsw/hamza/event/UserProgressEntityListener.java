@@ -0,0 +1,61 @@
+package com.dgsw.hamza.event;
+
+import com.dgsw.hamza.entity.UserProgress;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 치료 진행 변경을 UserTreatmentChangedEvent 로 발행
+ * 새 진행 기록은 치료 시작, 완료 여부가 false 에서 true 로 바뀐 기록은 치료 완료 참여 이벤트도 발행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProgressEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoaded(UserProgress progress) {
+        progress.markStored();
+    }
+
+    @PostPersist
+    public void onCreated(UserProgress progress) {
+        onChanged(progress);
+        publishEngagement(progress, TreatmentEngagementEvent.Engagement.STARTED);
+        onCompletionChanged(progress);
+    }
+
+    @PostUpdate
+    public void onUpdated(UserProgress progress) {
+        onChanged(progress);
+        onCompletionChanged(progress);
+    }
+
+    @PostRemove
+    public void onChanged(UserProgress progress) {
+        if (progress.getUser() != null) {
+            eventPublisher.publishEvent(new UserTreatmentChangedEvent(progress.getUser().getId(),
+                    UserTreatmentChangedEvent.Cause.PROGRESS_CHANGED));
+        }
+    }
+
+    // 완료로 바뀐 경우 한 번만 발행하고 현재 상태를 저장된 상태로 기록
+    private void onCompletionChanged(UserProgress progress) {
+        if (progress.isNewlyCompleted()) {
+            publishEngagement(progress, TreatmentEngagementEvent.Engagement.COMPLETED);
+        }
+        progress.markStored();
+    }
+
+    private void publishEngagement(UserProgress progress, TreatmentEngagementEvent.Engagement engagement) {
+        if (progress.getTreatment() != null) {
+            eventPublisher.publishEvent(new TreatmentEngagementEvent(progress.getTreatment().getId(), engagement));
+        }
+    }
+}
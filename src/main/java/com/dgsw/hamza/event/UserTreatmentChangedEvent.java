@@ -0,0 +1,13 @@
+package com.dgsw.hamza.event;
+
+/**
+ * 사용자의 추천 결과에 영향을 주는 변경 이벤트 (새 진단, 치료 진행, 추천 상태)
+ */
+public record UserTreatmentChangedEvent(Long userId, Cause cause) {
+
+    public enum Cause {
+        DIAGNOSIS_SUBMITTED,
+        PROGRESS_CHANGED,
+        RECOMMENDATION_UPDATED
+    }
+}
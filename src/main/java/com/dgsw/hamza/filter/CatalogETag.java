@@ -0,0 +1,24 @@
+package com.dgsw.hamza.filter;
+
+import com.dgsw.hamza.enums.Catalog;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 카탈로그 버전 기반 조건부 GET 대상 핸들러 표시
+ * If-None-Match 가 현재 ETag 와 같으면 핸들러를 실행하지 않고 304 를 응답합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CatalogETag {
+
+    Catalog value();
+
+    /**
+     * 응답에 현재 시각 기준 값(운영 여부 등)이 포함되면 true, ETag 가 분 단위로도 바뀝니다.
+     */
+    boolean timeDependent() default false;
+}
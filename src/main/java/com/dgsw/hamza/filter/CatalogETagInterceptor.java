@@ -0,0 +1,51 @@
+package com.dgsw.hamza.filter;
+
+import com.dgsw.hamza.service.CatalogVersionService;
+import com.dgsw.hamza.util.CatalogVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * @CatalogETag 핸들러의 조건부 GET 처리
+ * ETag 는 카탈로그 버전만으로 계산하므로, 일치하면 DB 조회나 직렬화 없이 바로 304 를 응답합니다.
+ * 계산한 ETag 는 요청 속성에 담아 CatalogETagResponseAdvice 가 200 응답 헤더에 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogETagInterceptor implements HandlerInterceptor {
+
+    static final String ETAG_ATTRIBUTE = CatalogETagInterceptor.class.getName() + ".etag";
+    static final String CACHE_CONTROL = "no-cache"; // 매 요청 재검증
+
+    private final CatalogVersionService catalogVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        CatalogETag annotation = handlerMethod.getMethodAnnotation(CatalogETag.class);
+        if (annotation == null) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        String etag = catalogVersionService.etag(annotation.value(), annotation.timeDependent());
+        if (CatalogVersions.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.dgsw.hamza.filter;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * @CatalogETag 핸들러의 성공 응답에 ETag 와 Cache-Control 헤더 추가
+ * 오류 응답에는 ETag 를 붙이지 않아 클라이언트가 실패 응답을 캐시하지 않도록 합니다.
+ */
+@ControllerAdvice
+public class CatalogETagResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CatalogETag.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        Object etag = servletRequest.getServletRequest().getAttribute(CatalogETagInterceptor.ETAG_ATTRIBUTE);
+        int status = servletResponse.getServletResponse().getStatus();
+        if (etag != null && status >= 200 && status < 300) {
+            response.getHeaders().setETag((String) etag);
+            response.getHeaders().setCacheControl(CatalogETagInterceptor.CACHE_CONTROL);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,51 @@
+package com.dgsw.hamza.repository;
+
+import com.dgsw.hamza.entity.Diagnosis;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 진단 일괄 저장용 JDBC 저장소
+ * IDENTITY 키 전략에서는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 오프라인 일괄 제출은 JDBC 배치로 저장합니다.
+ * (MySQL 은 rewriteBatchedStatements 설정 시 다중 VALUES 한 문장으로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiagnosisJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO diagnoses (user_id, total_score, severity, diagnosis_date, notes, " +
+            "client_submission_id, is_completed, created_at, updated_at, questionnaire_code) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 완료된 진단 일괄 저장 (감사 필드는 직접 채움, 생성 ID 는 반환하지 않음)
+     */
+    public void batchInsert(List<Diagnosis> diagnoses) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, diagnoses, diagnoses.size(), (ps, diagnosis) -> {
+            ps.setLong(1, diagnosis.getUser().getId());
+            ps.setInt(2, diagnosis.getTotalScore());
+            ps.setString(3, diagnosis.getSeverity().name());
+            ps.setTimestamp(4, Timestamp.valueOf(diagnosis.getDiagnosisDate()));
+            if (diagnosis.getNotes() != null) {
+                ps.setString(5, diagnosis.getNotes());
+            } else {
+                ps.setNull(5, Types.VARCHAR);
+            }
+            ps.setString(6, diagnosis.getClientSubmissionId());
+            ps.setBoolean(7, true);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+            ps.setString(10, diagnosis.getQuestionnaireCode());
+        });
+    }
+}
@@ -3,24 +3,29 @@ package com.dgsw.hamza.repository;
 import com.dgsw.hamza.entity.Diagnosis;
 import com.dgsw.hamza.entity.User;
 import com.dgsw.hamza.enums.DiagnosisSeverity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DiagnosisRepository extends JpaRepository<Diagnosis, Long> {
 
     /**
-     * 사용자의 가장 최근 진단 조회
+     * 사용자의 가장 최근 PHQ-9 진단 조회
      */
-    @Query("SELECT d FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true ORDER BY d.diagnosisDate DESC LIMIT 1")
+    @Query("SELECT d FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true AND d.questionnaireCode = 'PHQ-9' " +
+           "ORDER BY d.diagnosisDate DESC LIMIT 1")
     Optional<Diagnosis> findLatestByUser(@Param("user") User user);
 
     /**
@@ -59,18 +64,28 @@ public interface DiagnosisRepository extends JpaRepository<Diagnosis, Long> {
                                             @Param("severities") List<DiagnosisSeverity> severities);
 
     /**
-     * 사용자의 평균 점수 조회
+     * 사용자의 PHQ-9 평균 점수 조회
      */
-    @Query("SELECT AVG(d.totalScore) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true")
+    @Query("SELECT AVG(d.totalScore) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true " +
+           "AND d.questionnaireCode = 'PHQ-9'")
     Double findAverageScoreByUser(@Param("user") User user);
 
     /**
-     * 사용자의 최고/최저 점수 조회
+     * 사용자의 PHQ-9 점수 합계 조회 (집계 재구성용, 진단이 없으면 null)
      */
-    @Query("SELECT MAX(d.totalScore) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true")
+    @Query("SELECT SUM(d.totalScore) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true " +
+           "AND d.questionnaireCode = 'PHQ-9'")
+    Long findScoreSumByUser(@Param("user") User user);
+
+    /**
+     * 사용자의 PHQ-9 최고/최저 점수 조회
+     */
+    @Query("SELECT MAX(d.totalScore) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true " +
+           "AND d.questionnaireCode = 'PHQ-9'")
     Optional<Integer> findMaxScoreByUser(@Param("user") User user);
 
-    @Query("SELECT MIN(d.totalScore) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true")
+    @Query("SELECT MIN(d.totalScore) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true " +
+           "AND d.questionnaireCode = 'PHQ-9'")
     Optional<Integer> findMinScoreByUser(@Param("user") User user);
 
     /**
@@ -81,17 +96,17 @@ public interface DiagnosisRepository extends JpaRepository<Diagnosis, Long> {
     List<Diagnosis> findRecentDiagnoses(@Param("user") User user, @Param("since") LocalDateTime since);
 
     /**
-     * 최근 N일 내 진단 개수
+     * 최근 N일 내 PHQ-9 진단 개수
      */
     @Query("SELECT COUNT(d) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true " +
-           "AND d.diagnosisDate >= :since")
+           "AND d.questionnaireCode = 'PHQ-9' AND d.diagnosisDate >= :since")
     Long countRecentDiagnoses(@Param("user") User user, @Param("since") LocalDateTime since);
 
     /**
-     * 심각도별 진단 개수 조회
+     * 심각도별 PHQ-9 진단 개수 조회
      */
     @Query("SELECT d.severity, COUNT(d) FROM Diagnosis d WHERE d.user = :user AND d.isCompleted = true " +
-           "GROUP BY d.severity ORDER BY COUNT(d) DESC")
+           "AND d.questionnaireCode = 'PHQ-9' GROUP BY d.severity ORDER BY COUNT(d) DESC")
     List<Object[]> findSeverityDistribution(@Param("user") User user);
 
     /**
@@ -163,7 +178,19 @@ public interface DiagnosisRepository extends JpaRepository<Diagnosis, Long> {
            "GROUP BY HOUR(d.diagnosisDate) ORDER BY COUNT(d) DESC")
     List<Object[]> findDiagnosisPattern(@Param("user") User user);
 
+    /**
+     * 전체 완료 PHQ-9 진단의 심각도/진단일 스트리밍 (집계 채우기용, MySQL 행 단위 스트리밍)
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("SELECT d.severity, d.diagnosisDate FROM Diagnosis d WHERE d.isCompleted = true AND d.questionnaireCode = 'PHQ-9'")
+    Stream<Object[]> streamSeverityAndDate();
+
     List<Diagnosis> findByUser(User user);
+
+    /**
+     * 클라이언트 제출 ID로 진단 조회 (오프라인 일괄 제출 중복 확인)
+     */
+    List<Diagnosis> findByUserAndClientSubmissionIdIn(User user, Collection<String> clientSubmissionIds);
     
     /**
      * 사용자의 진단 히스토리 (페이징) - createdAt 기준
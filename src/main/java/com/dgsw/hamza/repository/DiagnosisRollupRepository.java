@@ -0,0 +1,37 @@
+package com.dgsw.hamza.repository;
+
+import com.dgsw.hamza.entity.DiagnosisRollup;
+import com.dgsw.hamza.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DiagnosisRollupRepository extends JpaRepository<DiagnosisRollup, Long> {
+
+    /**
+     * 구간 범위 조회 (유니크 키 (granularity, bucket_start, severity) 범위 스캔)
+     */
+    @Query("SELECT r FROM DiagnosisRollup r WHERE r.granularity = :granularity " +
+           "AND r.bucketStart BETWEEN :from AND :to ORDER BY r.bucketStart")
+    List<DiagnosisRollup> findRange(@Param("granularity") RollupGranularity granularity,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to);
+
+    /**
+     * 구간 집계 증가 (없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO diagnosis_rollups (granularity, bucket_start, severity, diagnosis_count) " +
+                   "VALUES (:granularity, :bucketStart, :severity, :delta) " +
+                   "ON DUPLICATE KEY UPDATE diagnosis_count = diagnosis_count + :delta", nativeQuery = true)
+    void increment(@Param("granularity") String granularity,
+                   @Param("bucketStart") LocalDate bucketStart,
+                   @Param("severity") String severity,
+                   @Param("delta") long delta);
+}
@@ -4,9 +4,11 @@ import com.dgsw.hamza.entity.Hospital;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -181,11 +183,31 @@ public interface HospitalRepository extends JpaRepository<Hospital, Long> {
     List<Hospital> findTopRatedHospitals(@Param("limit") Integer limit);
 
     /**
-     * 특정 지역의 병원 조회 (주소 기반)
+     * 행정구역 계층 기반 병원 조회 (idx_hospitals_region 사용)
+     * sigungu, dong 이 null 이면 상위 구역 전체를 조회합니다.
      */
-    @Query("SELECT h FROM Hospital h WHERE h.isActive = true AND " +
-           "LOWER(h.address) LIKE LOWER(CONCAT('%', :region, '%')) ORDER BY h.name")
-    List<Hospital> findByRegion(@Param("region") String region);
+    @Query("SELECT h FROM Hospital h WHERE h.isActive = true AND h.sido = :sido " +
+           "AND (:sigungu IS NULL OR h.sigungu = :sigungu) " +
+           "AND (:dong IS NULL OR h.dong = :dong) ORDER BY h.name")
+    List<Hospital> findByRegionHierarchy(@Param("sido") String sido,
+                                         @Param("sigungu") String sigungu,
+                                         @Param("dong") String dong);
+
+    /**
+     * 행정구역이 아직 분해되지 않은 병원 조회 (컬럼 추가 이전 데이터)
+     */
+    List<Hospital> findBySidoIsNull();
+
+    /**
+     * 행정구역 일괄 갱신 (벌크 UPDATE 라 엔티티 리스너가 호출되지 않아 병원별 변경 이벤트가 발행되지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Hospital h SET h.sido = :sido, h.sigungu = :sigungu, h.dong = :dong WHERE h.id IN :ids")
+    int updateRegion(@Param("ids") List<Long> ids,
+                     @Param("sido") String sido,
+                     @Param("sigungu") String sigungu,
+                     @Param("dong") String dong);
 
     /**
      * 전문 치료 분야별 병원 조회
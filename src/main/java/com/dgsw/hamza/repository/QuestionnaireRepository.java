@@ -0,0 +1,18 @@
+package com.dgsw.hamza.repository;
+
+import com.dgsw.hamza.entity.Questionnaire;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface QuestionnaireRepository extends JpaRepository<Questionnaire, Long> {
+
+    /**
+     * 전체 설문 도구와 문항 조회 (모든 버전)
+     */
+    @Query("SELECT DISTINCT q FROM Questionnaire q LEFT JOIN FETCH q.questions ORDER BY q.code, q.version")
+    List<Questionnaire> findAllWithQuestions();
+}
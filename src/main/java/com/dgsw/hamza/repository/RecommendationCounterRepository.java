@@ -0,0 +1,36 @@
+package com.dgsw.hamza.repository;
+
+import com.dgsw.hamza.entity.RecommendationCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RecommendationCounterRepository extends JpaRepository<RecommendationCounter, Long> {
+
+    Optional<RecommendationCounter> findByUserId(Long userId);
+
+    /**
+     * 갱신용 조회 (동시 변경 시 누적값 유실 방지를 위해 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM RecommendationCounter c WHERE c.userId = :userId")
+    Optional<RecommendationCounter> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 빈 집계 행 생성 (이미 있으면 무시)
+     * 동시 첫 요청은 유니크 키(user_id)에서 먼저 생성한 트랜잭션이 끝날 때까지 대기하므로 중복 키 오류가 나지 않습니다.
+     * @return 생성했으면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO recommendation_counters (user_id, pending_count, active_count, completed_count, " +
+                   "cancelled_count, paused_count, created_at, updated_at) " +
+                   "VALUES (:userId, 0, 0, 0, 0, 0, NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+}
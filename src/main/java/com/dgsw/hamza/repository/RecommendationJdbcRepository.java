@@ -0,0 +1,95 @@
+package com.dgsw.hamza.repository;
+
+import com.dgsw.hamza.entity.Recommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추천 일괄 저장과 치료 완료 기록 조회용 JDBC 저장소
+ * 진단 한 건의 추천 목록을 한 번의 JDBC 배치로 저장합니다. (IDENTITY 키라 Hibernate 배치 불가)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO recommendations (user_id, diagnosis_id, treatment_id, recommended_date, status, " +
+            "priority, recommendation_score, reason, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 완료된 추천과 완료된 치료 진행 기록 (사용자, 치료법 쌍)
+    private static final String COMPLETIONS_SQL =
+            "SELECT user_id, treatment_id FROM recommendations WHERE status = 'COMPLETED' " +
+            "UNION SELECT user_id, treatment_id FROM user_progress WHERE is_completed = true AND treatment_id IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 완료 기록 처리기
+     */
+    @FunctionalInterface
+    public interface CompletionHandler {
+        void accept(long userId, long treatmentId);
+    }
+
+    /**
+     * 추천 일괄 저장 (감사 필드는 직접 채움, 생성 ID 는 반환하지 않음)
+     */
+    public void batchInsert(List<Recommendation> recommendations) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, recommendations, recommendations.size(), (ps, recommendation) -> {
+            ps.setLong(1, recommendation.getUser().getId());
+            ps.setLong(2, recommendation.getDiagnosis().getId());
+            ps.setLong(3, recommendation.getTreatment().getId());
+            ps.setTimestamp(4, Timestamp.valueOf(recommendation.getRecommendedDate()));
+            ps.setString(5, recommendation.getStatus().name());
+            ps.setInt(6, recommendation.getPriority());
+            if (recommendation.getScore() != null) {
+                ps.setDouble(7, recommendation.getScore());
+            } else {
+                ps.setNull(7, Types.DOUBLE);
+            }
+            if (recommendation.getReason() != null) {
+                ps.setString(8, recommendation.getReason());
+            } else {
+                ps.setNull(8, Types.VARCHAR);
+            }
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    /**
+     * 전체 완료 기록을 사용자 ID 순으로 스트리밍 (MySQL 행 단위 전송이라 메모리에 쌓지 않음)
+     */
+    public void forEachCompletion(CompletionHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(COMPLETIONS_SQL + " ORDER BY user_id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    /**
+     * 사용자가 완료한 치료법 ID
+     */
+    public long[] findCompletedTreatmentIds(long userId) {
+        return jdbcTemplate.queryForList(
+                        "SELECT treatment_id FROM recommendations WHERE user_id = ? AND status = 'COMPLETED' " +
+                        "UNION SELECT treatment_id FROM user_progress WHERE user_id = ? AND is_completed = true " +
+                        "AND treatment_id IS NOT NULL",
+                        Long.class, userId, userId)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
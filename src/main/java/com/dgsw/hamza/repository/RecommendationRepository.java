@@ -0,0 +1,71 @@
+package com.dgsw.hamza.repository;
+
+import com.dgsw.hamza.entity.Diagnosis;
+import com.dgsw.hamza.entity.Recommendation;
+import com.dgsw.hamza.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecommendationRepository extends JpaRepository<Recommendation, Long> {
+
+    Optional<Recommendation> findByIdAndUser(Long id, User user);
+
+    /**
+     * 진단별 추천 (치료법 포함, 우선순위와 점수 순)
+     */
+    @Query("SELECT r FROM Recommendation r JOIN FETCH r.treatment WHERE r.diagnosis = :diagnosis " +
+           "ORDER BY r.priority ASC, r.score DESC")
+    List<Recommendation> findByDiagnosisWithTreatment(@Param("diagnosis") Diagnosis diagnosis);
+
+    /**
+     * 진단에 이미 추천된 치료법 ID
+     */
+    @Query("SELECT r.treatment.id FROM Recommendation r WHERE r.diagnosis = :diagnosis")
+    List<Long> findTreatmentIdsByDiagnosis(@Param("diagnosis") Diagnosis diagnosis);
+
+    /**
+     * 진단별 추천 히스토리 (진단 ID, 심각도, 추천 수, 추천 일시, 실행 수, 완료 수, 첫 추천 ID)
+     * (user_id, recommended_date) 인덱스 범위에서 진단별로 묶어 최신순 페이지만 읽습니다.
+     */
+    @Query("SELECT d.id, d.severity, COUNT(r), MAX(r.recommendedDate), " +
+           "SUM(CASE WHEN r.status IN (com.dgsw.hamza.enums.RecommendationStatus.ACTIVE, " +
+           "com.dgsw.hamza.enums.RecommendationStatus.PAUSED, " +
+           "com.dgsw.hamza.enums.RecommendationStatus.COMPLETED) THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.status = com.dgsw.hamza.enums.RecommendationStatus.COMPLETED THEN 1 ELSE 0 END), " +
+           "MIN(r.id) " +
+           "FROM Recommendation r JOIN r.diagnosis d WHERE r.user = :user " +
+           "GROUP BY d.id, d.severity ORDER BY MAX(r.recommendedDate) DESC")
+    List<Object[]> findHistoryByUser(@Param("user") User user, Pageable pageable);
+
+    /**
+     * 상태별 추천 수 (상태 집계 재구성용, (user_id, status, recommended_date) 인덱스)
+     */
+    @Query("SELECT r.status, COUNT(r) FROM Recommendation r WHERE r.user = :user GROUP BY r.status")
+    List<Object[]> countByStatus(@Param("user") User user);
+
+    /**
+     * 치료법 유형별 추천 통계 (유형, 추천 수, 평균 점수, 실행 수, 완료 수)
+     */
+    @Query("SELECT t.type, COUNT(r), AVG(r.score), " +
+           "SUM(CASE WHEN r.status IN (com.dgsw.hamza.enums.RecommendationStatus.ACTIVE, " +
+           "com.dgsw.hamza.enums.RecommendationStatus.PAUSED, " +
+           "com.dgsw.hamza.enums.RecommendationStatus.COMPLETED) THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.status = com.dgsw.hamza.enums.RecommendationStatus.COMPLETED THEN 1 ELSE 0 END) " +
+           "FROM Recommendation r JOIN r.treatment t WHERE r.user = :user GROUP BY t.type ORDER BY COUNT(r) DESC")
+    List<Object[]> findTypeStatsByUser(@Param("user") User user);
+
+    /**
+     * 치료법 x 상태별 추천 수 (인기도 스냅샷이 없을 때 초기값 계산용)
+     */
+    @Query("SELECT r.treatment.id, r.status, COUNT(r) FROM Recommendation r " +
+           "WHERE r.recommendedDate >= :since GROUP BY r.treatment.id, r.status")
+    List<Object[]> countByTreatmentAndStatusSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,18 @@
+package com.dgsw.hamza.repository;
+
+import com.dgsw.hamza.entity.TreatmentContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TreatmentContentRepository extends JpaRepository<TreatmentContent, Long> {
+
+    /**
+     * 활성화된 콘텐츠 조회
+     */
+    @Query("SELECT c FROM TreatmentContent c WHERE c.isActive = true")
+    List<TreatmentContent> findActiveContents();
+}
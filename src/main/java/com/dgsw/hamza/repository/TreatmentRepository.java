@@ -21,6 +21,12 @@ public interface TreatmentRepository extends JpaRepository<Treatment, Long> {
     @Query("SELECT t FROM Treatment t WHERE t.isActive = true ORDER BY t.name")
     List<Treatment> findActiveTreatments();
 
+    /**
+     * 활성화된 치료법 ID 조회
+     */
+    @Query("SELECT t.id FROM Treatment t WHERE t.isActive = true")
+    List<Long> findActiveTreatmentIds();
+
     /**
      * 치료법 유형별 조회
      */
@@ -155,16 +161,6 @@ public interface TreatmentRepository extends JpaRepository<Treatment, Long> {
            ") ORDER BY t.name")
     List<Treatment> findNotRecommendedTreatments(@Param("userId") Long userId);
 
-    /**
-     * 인기 있는 치료법 조회 (추천 받은 횟수 기준)
-     */
-    @Query("SELECT t, COUNT(r) as recommendationCount " +
-           "FROM Treatment t LEFT JOIN Recommendation r ON r.treatment = t " +
-           "WHERE t.isActive = true " +
-           "GROUP BY t " +
-           "ORDER BY recommendationCount DESC")
-    List<Object[]> findPopularTreatments();
-
     /**
      * 특정 치료법의 추천 통계
      */
@@ -0,0 +1,49 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.enums.Catalog;
+import com.dgsw.hamza.event.CatalogChangedEvent;
+import com.dgsw.hamza.event.HospitalChangedEvent;
+import com.dgsw.hamza.util.CatalogVersions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카탈로그 버전 관리 서비스
+ * 병원/치료법/진단 문항이 커밋될 때마다 해당 카탈로그 버전을 올리고, 조건부 GET 용 ETag 를 제공합니다.
+ */
+@Service
+@Slf4j
+public class CatalogVersionService {
+
+    // 운영 여부 등 시간에 따라 바뀌는 응답의 ETag 구간 (밀리초)
+    private static final long TIME_BUCKET_MILLIS = 60_000L;
+
+    private final CatalogVersions versions = new CatalogVersions(System.currentTimeMillis());
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHospitalChanged(HospitalChangedEvent event) {
+        versions.bump(Catalog.HOSPITALS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        long version = versions.bump(event.catalog());
+        log.debug("카탈로그 버전 증가 - {}: {}", event.catalog(), version);
+    }
+
+    /**
+     * 현재 버전 (캐시된 파생 데이터의 재생성 여부 판단용)
+     */
+    public long version(Catalog catalog) {
+        return versions.version(catalog);
+    }
+
+    /**
+     * 현재 버전의 ETag
+     * @param timeDependent 분 단위로 바뀌는 값(운영 여부 등)을 포함하는 응답이면 true
+     */
+    public String etag(Catalog catalog, boolean timeDependent) {
+        return versions.etag(catalog, timeDependent ? System.currentTimeMillis() / TIME_BUCKET_MILLIS : -1);
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -421,20 +422,40 @@ public class ChatService {
      * 감정 분석 보고서 생성
      */
     @Transactional(readOnly = true)
-    public Object generateEmotionReport(User user, int days) {
+    public ChatDto.EmotionReport generateEmotionReport(User user, int days) {
         log.info("사용자 {} 감정 분석 보고서 생성 - {}일", user.getId(), days);
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        var trend = messageRepository.findEmotionScoreTrend(user, since);
+        List<ChatDto.EmotionTrendPoint> trend = messageRepository.findEmotionScoreTrend(user, since).stream()
+                .map(row -> new ChatDto.EmotionTrendPoint(toLocalDate(row[0]), toDouble(row[1])))
+                .toList();
         Double avg = messageRepository.findAverageEmotionScoreByUser(user);
-        Object stats = messageRepository.findEmotionStatsByUser(user);
-
-        return new Object() {
-            public final String message = "감정 분석 보고서";
-            public final LocalDateTime generatedAt = LocalDateTime.now();
-            public final Object emotionTrend = trend;
-            public final Double averageScore = avg;
-            public final Object emotionStats = stats;
-        };
+        Object[] stats = messageRepository.findEmotionStatsByUser(user);
+        if (stats.length == 1 && stats[0] instanceof Object[] row) {
+            // 단일 행 다중 컬럼 조회는 행 배열로 한 번 감싸져 반환될 수 있음
+            stats = row;
+        }
+        ChatDto.EmotionStats emotionStats = new ChatDto.EmotionStats(
+                toLong(stats[0]), toLong(stats[1]), toLong(stats[2]));
+
+        return new ChatDto.EmotionReport("감정 분석 보고서", LocalDateTime.now(), trend, avg, emotionStats);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return value != null ? LocalDate.parse(value.toString()) : null;
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
     }
 
     // Private helper methods
@@ -0,0 +1,88 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.entity.DiagnosisAggregate;
+import com.dgsw.hamza.entity.User;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.repository.DiagnosisAggregateRepository;
+import com.dgsw.hamza.repository.DiagnosisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 진단 집계 서비스
+ * 집계 행이 없는 기존 사용자는 진단 기록으로 한 번 재구성한 뒤부터 증분 갱신합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DiagnosisAggregateService {
+
+    private final DiagnosisAggregateRepository diagnosisAggregateRepository;
+    private final DiagnosisRepository diagnosisRepository;
+
+    /**
+     * 갱신용 집계 조회 (행 잠금, 없으면 진단 기록으로 생성)
+     * 새 진단을 저장하기 전에 호출해야 재구성 시 중복 집계되지 않습니다.
+     * 행이 없으면 빈 행을 먼저 만들어 잠근 뒤 채우므로, 동시 첫 제출도 같은 행 잠금으로 직렬화됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public DiagnosisAggregate lockForUpdate(User user) {
+        Optional<DiagnosisAggregate> existing = diagnosisAggregateRepository.findByUserIdForUpdate(user.getId());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        boolean created = diagnosisAggregateRepository.insertIfAbsent(user.getId()) > 0;
+        DiagnosisAggregate aggregate = diagnosisAggregateRepository.findByUserIdForUpdate(user.getId())
+                .orElseThrow(() -> new IllegalStateException("진단 집계 행을 생성하지 못했습니다."));
+        if (created) {
+            // 다른 트랜잭션이 먼저 만들었다면 이미 채워진 행을 잠근 것이므로 재구성하지 않음
+            restore(user, aggregate);
+        }
+        return aggregate;
+    }
+
+    /**
+     * 조회용 집계 (없으면 저장하지 않고 진단 기록으로 계산)
+     */
+    @Transactional(readOnly = true)
+    public DiagnosisAggregate find(User user) {
+        return diagnosisAggregateRepository.findByUserId(user.getId())
+                .orElseGet(() -> rebuild(user));
+    }
+
+    private DiagnosisAggregate rebuild(User user) {
+        return restore(user, new DiagnosisAggregate(user.getId()));
+    }
+
+    // 진단 기록으로 집계 채움 (빈 집계에만 호출)
+    private DiagnosisAggregate restore(User user, DiagnosisAggregate aggregate) {
+        Map<DiagnosisSeverity, Integer> severityCounts = new EnumMap<>(DiagnosisSeverity.class);
+        List<Object[]> distribution = diagnosisRepository.findSeverityDistribution(user);
+        int count = 0;
+        for (Object[] row : distribution) {
+            int severityCount = ((Number) row[1]).intValue();
+            severityCounts.put((DiagnosisSeverity) row[0], severityCount);
+            count += severityCount;
+        }
+        if (count == 0) {
+            return aggregate;
+        }
+
+        Long sum = diagnosisRepository.findScoreSumByUser(user);
+        aggregate.restore(count, sum != null ? sum : 0L,
+                diagnosisRepository.findMinScoreByUser(user).orElse(null),
+                diagnosisRepository.findMaxScoreByUser(user).orElse(null),
+                diagnosisRepository.findLatestByUser(user).orElse(null),
+                severityCounts);
+        log.info("사용자 {} 진단 집계 재구성 - {}건", user.getId(), count);
+        return aggregate;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dgsw.hamza.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진단 집계 채우기 작업
+ * 집계 테이블이 비어 있으면 기동 후 백그라운드에서 기존 진단으로 한 번 채웁니다.
+ * 재구성은 기존 집계와의 차이만 반영하므로 그 사이 제출된 진단의 증가분과 겹쳐도 누락/중복되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DiagnosisRollupBackfill {
+
+    private final DiagnosisRollupService diagnosisRollupService;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (diagnosisRollupService.isEmpty()) {
+                diagnosisRollupService.rebuild();
+            }
+        } catch (Exception e) {
+            log.error("진단 집계 채우기 실패", e);
+        }
+    }
+}
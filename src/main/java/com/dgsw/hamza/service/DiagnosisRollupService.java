@@ -0,0 +1,154 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.AdminDto;
+import com.dgsw.hamza.entity.Diagnosis;
+import com.dgsw.hamza.entity.DiagnosisRollup;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.RollupGranularity;
+import com.dgsw.hamza.repository.DiagnosisRepository;
+import com.dgsw.hamza.repository.DiagnosisRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 전체 사용자 진단 심각도 집계 서비스
+ * 일/주/월 구간별 심각도 건수를 진단 제출 시 증가시켜 두고, 관리자 추이 조회는 집계 행만 범위로 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DiagnosisRollupService {
+
+    // 한 번에 조회할 수 있는 최대 구간 수
+    static final int MAX_BUCKETS = 400;
+
+    private final DiagnosisRollupRepository diagnosisRollupRepository;
+    private final DiagnosisRepository diagnosisRepository;
+
+    /**
+     * 저장된 진단을 구간 집계에 반영 (같은 구간은 한 번에 증가)
+     */
+    @Transactional
+    public void record(List<Diagnosis> diagnoses) {
+        Map<BucketKey, Long> deltas = new HashMap<>();
+        for (Diagnosis diagnosis : diagnoses) {
+            accumulate(deltas, diagnosis.getSeverity(), diagnosis.getDiagnosisDate());
+        }
+        deltas.forEach((key, delta) -> diagnosisRollupRepository.increment(
+                key.granularity().name(), key.bucketStart(), key.severity().name(), delta));
+    }
+
+    /**
+     * 기간별 심각도 분포 추이 (집계 행 범위 조회)
+     */
+    @Transactional(readOnly = true)
+    public AdminDto.SeverityTrendResponse trend(RollupGranularity granularity, LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        LocalDate first = granularity.bucketStart(from);
+        LocalDate last = granularity.bucketStart(to);
+
+        // 진단이 없는 구간도 0 으로 채워 연속된 추이로 응답
+        Map<LocalDate, Map<DiagnosisSeverity, Long>> buckets = new TreeMap<>();
+        for (LocalDate bucket = first; !bucket.isAfter(last); bucket = granularity.next(bucket)) {
+            if (buckets.size() >= MAX_BUCKETS) {
+                throw new IllegalArgumentException("조회 기간이 너무 깁니다. 최대 " + MAX_BUCKETS + "개 구간까지 조회할 수 있습니다.");
+            }
+            Map<DiagnosisSeverity, Long> counts = new EnumMap<>(DiagnosisSeverity.class);
+            for (DiagnosisSeverity severity : DiagnosisSeverity.values()) {
+                counts.put(severity, 0L);
+            }
+            buckets.put(bucket, counts);
+        }
+        for (DiagnosisRollup rollup : diagnosisRollupRepository.findRange(granularity, first, last)) {
+            buckets.get(rollup.getBucketStart()).put(rollup.getSeverity(), rollup.getDiagnosisCount());
+        }
+
+        List<AdminDto.SeverityBucket> result = new ArrayList<>(buckets.size());
+        buckets.forEach((bucketStart, counts) -> result.add(AdminDto.SeverityBucket.builder()
+                .bucketStart(bucketStart)
+                .total(counts.values().stream().mapToLong(Long::longValue).sum())
+                .counts(counts)
+                .build()));
+
+        return AdminDto.SeverityTrendResponse.builder()
+                .granularity(granularity)
+                .from(first)
+                .to(last)
+                .buckets(result)
+                .build();
+    }
+
+    public boolean isEmpty() {
+        return diagnosisRollupRepository.count() == 0;
+    }
+
+    /**
+     * 전체 진단을 스트리밍으로 읽어 집계 재구성 (메모리에는 구간 집계만 유지)
+     * 같은 스냅샷에서 읽은 기존 집계와의 차이만 증가분으로 반영하므로, 재구성 중 다른 트랜잭션이 커밋한 증가분을
+     * 덮어쓰지 않습니다. 진단 저장과 집계 증가가 같은 트랜잭션이라 스냅샷의 진단과 집계는 같은 시점을 가리킵니다.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public AdminDto.RollupRebuildResponse rebuild() {
+        // 첫 일관 읽기에서 스냅샷이 정해지므로 기존 집계를 진단보다 먼저 읽음
+        Map<BucketKey, Long> stored = new HashMap<>();
+        for (DiagnosisRollup rollup : diagnosisRollupRepository.findAll()) {
+            stored.put(new BucketKey(rollup.getGranularity(), rollup.getBucketStart(), rollup.getSeverity()),
+                    rollup.getDiagnosisCount());
+        }
+
+        Map<BucketKey, Long> counts = new HashMap<>();
+        long diagnoses = 0;
+        try (Stream<Object[]> rows = diagnosisRepository.streamSeverityAndDate()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                accumulate(counts, (DiagnosisSeverity) row[0], (LocalDateTime) row[1]);
+                diagnoses++;
+            }
+        }
+
+        Map<BucketKey, Long> deltas = new HashMap<>(counts);
+        stored.forEach((key, count) -> deltas.merge(key, -count, Long::sum));
+        int corrected = 0;
+        for (Map.Entry<BucketKey, Long> entry : deltas.entrySet()) {
+            if (entry.getValue() != 0) {
+                BucketKey key = entry.getKey();
+                diagnosisRollupRepository.increment(
+                        key.granularity().name(), key.bucketStart(), key.severity().name(), entry.getValue());
+                corrected++;
+            }
+        }
+
+        log.info("진단 집계 재구성 완료 - 진단 {}건, 집계 {}행 (보정 {}행)", diagnoses, counts.size(), corrected);
+        return AdminDto.RollupRebuildResponse.builder()
+                .diagnoses(diagnoses)
+                .rows(counts.size())
+                .build();
+    }
+
+    private static void accumulate(Map<BucketKey, Long> counts, DiagnosisSeverity severity, LocalDateTime diagnosisDate) {
+        if (severity == null || diagnosisDate == null) {
+            return;
+        }
+        LocalDate date = diagnosisDate.toLocalDate();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            counts.merge(new BucketKey(granularity, granularity.bucketStart(date), severity), 1L, Long::sum);
+        }
+    }
+
+    private record BucketKey(RollupGranularity granularity, LocalDate bucketStart, DiagnosisSeverity severity) {
+    }
+}
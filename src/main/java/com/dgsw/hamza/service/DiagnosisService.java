@@ -1,24 +1,34 @@
 package com.dgsw.hamza.service;
 
-import com.dgsw.hamza.config.CacheConfig;
 import com.dgsw.hamza.dto.DiagnosisDto;
 import com.dgsw.hamza.dto.PageRequest;
 import com.dgsw.hamza.dto.PageResponse;
 import com.dgsw.hamza.entity.Diagnosis;
+import com.dgsw.hamza.entity.DiagnosisAggregate;
 import com.dgsw.hamza.entity.User;
 import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.event.UserTreatmentChangedEvent;
+import com.dgsw.hamza.repository.DiagnosisJdbcRepository;
 import com.dgsw.hamza.repository.DiagnosisRepository;
 import com.dgsw.hamza.repository.UserRepository;
+import com.dgsw.hamza.util.DiagnosisCalculator;
+import com.dgsw.hamza.util.ScoringModel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -27,48 +37,30 @@ import java.util.List;
 public class DiagnosisService {
 
     private final DiagnosisRepository diagnosisRepository;
+    private final DiagnosisJdbcRepository diagnosisJdbcRepository;
     private final UserRepository userRepository;
+    private final QuestionnaireService questionnaireService;
+    private final DiagnosisAggregateService diagnosisAggregateService;
+    private final ScoringService scoringService;
+    private final DiagnosisRollupService diagnosisRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int RECENT_DIAGNOSIS_DAYS = 30;
+
+    // 이전 5문항 설문의 문항 ID → 문항 위치 (해당 앱 버전의 제출 호환용)
+    private static final Map<Long, Integer> LEGACY_ITEM_INDEXES = Map.of(1L, 0, 2L, 1, 3L, 2, 4L, 3, 5L, 4);
+
+    private static final String BATCH_ACCEPTED = "ACCEPTED";
+    private static final String BATCH_DUPLICATE = "DUPLICATE";
+    private static final String BATCH_REJECTED = "REJECTED";
 
     /**
-     * PHQ-9 설문 문항 조회 (하드코딩)
+     * PHQ-9 설문 문항 조회 (현재 버전 정의 스냅샷)
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = CacheConfig.DIAGNOSIS_QUESTIONS_CACHE, key = "'phq9_questions'")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<DiagnosisDto.QuestionResponse> getQuestions() {
-        log.info("PHQ-9 설문 문항 조회");
-        
-        return Arrays.asList(
-            DiagnosisDto.QuestionResponse.builder()
-                .questionId(1L)
-                .questionText("지난 2주 동안 일 또는 다른 활동을 하는 데 흥미나 즐거움을 느끼지 못했다")
-                .questionOrder(1)
-                .isActive(true)
-                .build(),
-            DiagnosisDto.QuestionResponse.builder()
-                .questionId(2L)
-                .questionText("지난 2주 동안 기분이 가라앉거나 우울하거나 절망적으로 느꼈다")
-                .questionOrder(2)
-                .isActive(true)
-                .build(),
-            DiagnosisDto.QuestionResponse.builder()
-                .questionId(3L)
-                .questionText("지난 2주 동안 잠들기가 어렵거나 자주 깨거나 반대로 너무 많이 잠을 잤다")
-                .questionOrder(3)
-                .isActive(true)
-                .build(),
-            DiagnosisDto.QuestionResponse.builder()
-                .questionId(4L)
-                .questionText("지난 2주 동안 피곤하다고 느끼거나 에너지가 거의 없었다")
-                .questionOrder(4)
-                .isActive(true)
-                .build(),
-            DiagnosisDto.QuestionResponse.builder()
-                .questionId(5L)
-                .questionText("지난 2주 동안 자신에 대해 나쁘게 생각하거나 자신이 실패자라고 느꼈다")
-                .questionOrder(5)
-                .isActive(true)
-                .build()
-        );
+        DiagnosisDto.QuestionnaireResponse definition = questionnaireService.definition(QuestionnaireService.PHQ9);
+        return definition != null ? definition.getQuestions() : List.of();
     }
 
     /**
@@ -77,37 +69,53 @@ public class DiagnosisService {
     public DiagnosisDto.DiagnosisResponse submitDiagnosis(User user, DiagnosisDto.DiagnosisSubmitRequest request) {
         log.info("사용자 {} 진단 설문 제출", user.getId());
 
-        // 1. 답변 유효성 검증
-        validateAnswers(request.getAnswers());
+        // 1. 답변 유효성 검증 (설문 도구별 채점표)
+        Scoring scoring = scoring(request.getQuestionnaireCode(), request.getAnswers());
+        ScoringModel model = scoring.model();
+        String error = answerError(request.getAnswers(), scoring);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
 
         // 2. 진단 엔티티 생성
         Diagnosis diagnosis = new Diagnosis();
         diagnosis.setUser(user);
+        diagnosis.setQuestionnaireCode(model.code);
         diagnosis.setNotes(request.getNotes());
 
-        // 3. 점수 계산
-        int totalScore = request.getAnswers().stream()
-                .mapToInt(DiagnosisDto.DiagnosisAnswerRequest::getScore)
-                .sum();
-        
-        DiagnosisSeverity severity = calculateSeverity(totalScore);
+        // 3. 점수 계산 (채점표 배열 조회)
+        int totalScore = totalScore(request.getAnswers(), scoring);
+        DiagnosisSeverity severity = model.severity(totalScore);
+
+        // 4. 진단 완료 처리 (PHQ-9 는 집계 행을 먼저 잠가 동시 제출 시 이전 점수 비교가 어긋나지 않도록 함)
+        DiagnosisAggregate aggregate = diagnosis.isPhq9() ? diagnosisAggregateService.lockForUpdate(user) : null;
+        Integer previousScore = aggregate != null ? aggregate.getLastScore() : null;
 
-        // 4. 진단 완료 처리
         diagnosis.setTotalScore(totalScore);
         diagnosis.setSeverity(severity);
+        diagnosis.complete();
 
         diagnosisRepository.save(diagnosis);
+        if (aggregate != null) {
+            aggregate.record(totalScore, severity, diagnosis.getDiagnosisDate());
+            diagnosisRollupService.record(List.of(diagnosis));
+        }
+        eventPublisher.publishEvent(new UserTreatmentChangedEvent(user.getId(),
+                UserTreatmentChangedEvent.Cause.DIAGNOSIS_SUBMITTED));
 
         // 5. 응답 생성
         return DiagnosisDto.DiagnosisResponse.builder()
                 .diagnosisId(diagnosis.getId())
+                .questionnaireCode(model.code)
                 .totalScore(totalScore)
                 .severity(severity)
                 .severityDescription(getSeverityDescription(severity))
                 .recommendation(getRecommendation(severity))
                 .severityColor(getSeverityColor(severity))
-                .diagnosisDate(LocalDateTime.now())
-                .scoreComparison("새로운 진단입니다.")
+                .diagnosisDate(diagnosis.getDiagnosisDate())
+                .scoreComparison(previousScore != null
+                        ? DiagnosisCalculator.analyzeScoreChange(previousScore, totalScore)
+                        : "새로운 진단입니다.")
                 .requiresImmediateAttention(severity == DiagnosisSeverity.VERY_SEVERE)
                 .recommendedRediagnosisDays(getRecommendedRediagnosisDays(severity))
                 .notes(diagnosis.getNotes())
@@ -115,17 +123,137 @@ public class DiagnosisService {
     }
 
     /**
-     * 진단 히스토리 조회 (간단 버전)
+     * 오프라인 진단 일괄 제출
+     * 한 번에 검증하고 JDBC 배치로 저장하며, 집계 행은 배치당 한 번만 갱신합니다.
+     * 이미 저장된 클라이언트 제출 ID 는 DUPLICATE, 검증 실패 항목은 REJECTED 로 응답하고 나머지는 저장합니다.
+     * 항목마다 설문 도구를 지정할 수 있으며 PHQ-9 결과만 집계에 반영합니다.
+     */
+    public DiagnosisDto.DiagnosisBatchSubmitResponse submitDiagnosisBatch(User user,
+                                                                          DiagnosisDto.DiagnosisBatchSubmitRequest request) {
+        List<DiagnosisDto.DiagnosisBatchItem> items = request.getSubmissions();
+        log.info("사용자 {} 오프라인 진단 일괄 제출 - {}건", user.getId(), items.size());
+
+        // 집계 행 잠금으로 같은 사용자의 동시 배치를 직렬화 (중복 확인과 저장 사이 경합 방지)
+        DiagnosisAggregate aggregate = diagnosisAggregateService.lockForUpdate(user);
+
+        Set<String> keys = new HashSet<>();
+        for (DiagnosisDto.DiagnosisBatchItem item : items) {
+            keys.add(item.getClientSubmissionId());
+        }
+        Map<String, Diagnosis> stored = new HashMap<>();
+        for (Diagnosis diagnosis : diagnosisRepository.findByUserAndClientSubmissionIdIn(user, keys)) {
+            stored.put(diagnosis.getClientSubmissionId(), diagnosis);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Diagnosis> accepted = new HashMap<>();
+        List<Diagnosis> inserts = new ArrayList<>();
+        List<Diagnosis> phq9Inserts = new ArrayList<>();
+        List<DiagnosisDto.DiagnosisBatchResult> results = new ArrayList<>(items.size());
+        int duplicates = 0;
+        int rejected = 0;
+
+        for (DiagnosisDto.DiagnosisBatchItem item : items) {
+            String key = item.getClientSubmissionId();
+            Diagnosis existing = stored.containsKey(key) ? stored.get(key) : accepted.get(key);
+            if (existing != null) {
+                duplicates++;
+                results.add(batchResult(key, BATCH_DUPLICATE, existing));
+                continue;
+            }
+
+            Scoring scoring;
+            try {
+                scoring = scoring(item.getQuestionnaireCode(), item.getAnswers());
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                results.add(DiagnosisDto.DiagnosisBatchResult.builder()
+                        .clientSubmissionId(key)
+                        .status(BATCH_REJECTED)
+                        .error(e.getMessage())
+                        .build());
+                continue;
+            }
+            ScoringModel model = scoring.model();
+            String error = answerError(item.getAnswers(), scoring);
+            if (error != null) {
+                rejected++;
+                results.add(DiagnosisDto.DiagnosisBatchResult.builder()
+                        .clientSubmissionId(key)
+                        .status(BATCH_REJECTED)
+                        .error(error)
+                        .build());
+                continue;
+            }
+
+            int totalScore = totalScore(item.getAnswers(), scoring);
+            DiagnosisSeverity severity = model.severity(totalScore);
+            LocalDateTime completedAt = item.getCompletedAt();
+            Diagnosis diagnosis = Diagnosis.builder()
+                    .user(user)
+                    .questionnaireCode(model.code)
+                    .totalScore(totalScore)
+                    .severity(severity)
+                    .diagnosisDate(completedAt != null && !completedAt.isAfter(now) ? completedAt : now)
+                    .notes(item.getNotes())
+                    .clientSubmissionId(key)
+                    .isCompleted(true)
+                    .build();
+
+            inserts.add(diagnosis);
+            accepted.put(key, diagnosis);
+            if (diagnosis.isPhq9()) {
+                phq9Inserts.add(diagnosis);
+                aggregate.record(totalScore, severity, diagnosis.getDiagnosisDate());
+            }
+            results.add(batchResult(key, BATCH_ACCEPTED, diagnosis));
+        }
+
+        if (!inserts.isEmpty()) {
+            diagnosisJdbcRepository.batchInsert(inserts);
+            if (!phq9Inserts.isEmpty()) {
+                diagnosisRollupService.record(phq9Inserts);
+            }
+            eventPublisher.publishEvent(new UserTreatmentChangedEvent(user.getId(),
+                    UserTreatmentChangedEvent.Cause.DIAGNOSIS_SUBMITTED));
+            // JDBC 배치는 생성 ID 를 돌려주지 않으므로 클라이언트 제출 ID 로 한 번에 조회
+            Map<String, Long> insertedIds = new HashMap<>();
+            for (Diagnosis diagnosis : diagnosisRepository.findByUserAndClientSubmissionIdIn(user, accepted.keySet())) {
+                insertedIds.put(diagnosis.getClientSubmissionId(), diagnosis.getId());
+            }
+            for (DiagnosisDto.DiagnosisBatchResult result : results) {
+                if (result.getDiagnosisId() == null && accepted.containsKey(result.getClientSubmissionId())) {
+                    result.setDiagnosisId(insertedIds.get(result.getClientSubmissionId()));
+                }
+            }
+        }
+
+        log.info("사용자 {} 오프라인 진단 일괄 제출 완료 - 저장 {}건, 중복 {}건, 거부 {}건",
+                user.getId(), inserts.size(), duplicates, rejected);
+
+        return DiagnosisDto.DiagnosisBatchSubmitResponse.builder()
+                .acceptedCount(inserts.size())
+                .duplicateCount(duplicates)
+                .rejectedCount(rejected)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 진단 히스토리 요약 조회 (집계 행 기반)
      */
     @Transactional(readOnly = true)
     public DiagnosisDto.DiagnosisHistoryResponse getDiagnosisHistory(User user, Integer limit) {
         log.info("사용자 {} 진단 히스토리 조회", user.getId());
 
-        List<Diagnosis> diagnoses = diagnosisRepository.findByUser(user);
-        
+        DiagnosisAggregate aggregate = diagnosisAggregateService.find(user);
+
         return DiagnosisDto.DiagnosisHistoryResponse.builder()
                 .diagnoses(List.of())
-                .totalCount(diagnoses.size())
+                .totalCount(aggregate.getDiagnosisCount())
+                .averageScore(aggregate.averageScore())
+                .maxScore(aggregate.getMaxScore())
+                .minScore(aggregate.getMinScore())
                 .build();
     }
 
@@ -159,20 +287,74 @@ public class DiagnosisService {
     }
 
     /**
-     * 진단 통계 조회 (간단 버전)
+     * 진단 통계 조회 (집계 행 + 최근 기간 개수)
      */
     @Transactional(readOnly = true)
     public DiagnosisDto.DiagnosisStatsResponse getDiagnosisStats(User user) {
         log.info("사용자 {} 진단 통계 조회", user.getId());
 
-        Long totalDiagnoses = diagnosisRepository.countByUser(user);
-        
+        DiagnosisAggregate aggregate = diagnosisAggregateService.find(user);
+        if (aggregate.isEmpty()) {
+            return DiagnosisDto.DiagnosisStatsResponse.builder()
+                    .totalDiagnoses(0)
+                    .averageScore(0.0)
+                    .recentDiagnoses(0)
+                    .severityDistribution(List.of())
+                    .build();
+        }
+
+        int total = aggregate.getDiagnosisCount();
+        List<DiagnosisDto.SeverityDistribution> distribution = new ArrayList<>();
+        for (DiagnosisSeverity severity : DiagnosisSeverity.values()) {
+            int count = aggregate.severityCount(severity);
+            if (count > 0) {
+                distribution.add(DiagnosisDto.SeverityDistribution.builder()
+                        .severity(severity)
+                        .count(count)
+                        .percentage(count * 100.0 / total)
+                        .build());
+            }
+        }
+
+        // 최근 진단 수만 기간 조건이 있어 (user_id, diagnosis_date) 인덱스 범위 개수로 조회
+        Long recent = diagnosisRepository.countRecentDiagnoses(
+                user, LocalDateTime.now().minusDays(RECENT_DIAGNOSIS_DAYS));
+
         return DiagnosisDto.DiagnosisStatsResponse.builder()
-                .totalDiagnoses(totalDiagnoses.intValue())
-                .averageScore(0.0)
-                .recentDiagnoses(0)
-                .mostFrequentSeverity(DiagnosisSeverity.NORMAL)
-                .severityDistribution(List.of())
+                .totalDiagnoses(total)
+                .averageScore(aggregate.averageScore())
+                .recentDiagnoses(recent != null ? recent.intValue() : 0)
+                .mostFrequentSeverity(aggregate.mostFrequentSeverity())
+                .severityDistribution(distribution)
+                .build();
+    }
+
+    /**
+     * 재진단 필요 여부 확인 (집계 행의 마지막 진단 기준)
+     */
+    @Transactional(readOnly = true)
+    public DiagnosisDto.RedoCheckResponse checkRedoRequired(User user) {
+        DiagnosisAggregate aggregate = diagnosisAggregateService.find(user);
+        if (aggregate.isEmpty() || aggregate.getLastDiagnosisDate() == null) {
+            return DiagnosisDto.RedoCheckResponse.builder()
+                    .isRedoRequired(true)
+                    .message("진단 기록이 없습니다. 첫 진단을 진행해주세요.")
+                    .build();
+        }
+
+        DiagnosisSeverity lastSeverity = aggregate.getLastSeverity();
+        int daysSince = (int) ChronoUnit.DAYS.between(aggregate.getLastDiagnosisDate(), LocalDateTime.now());
+        int recommendedDays = DiagnosisCalculator.getRecommendedRediagnosisDays(lastSeverity);
+        boolean redoRequired = DiagnosisCalculator.isRedoRequired(lastSeverity, daysSince);
+
+        return DiagnosisDto.RedoCheckResponse.builder()
+                .isRedoRequired(redoRequired)
+                .daysSinceLastDiagnosis(daysSince)
+                .lastSeverity(lastSeverity)
+                .recommendedDays(recommendedDays)
+                .message(redoRequired
+                        ? String.format("마지막 진단 후 %d일이 지났습니다. 재진단을 권장합니다.", daysSince)
+                        : "재진단이 필요하지 않습니다.")
                 .build();
     }
 
@@ -197,28 +379,92 @@ public class DiagnosisService {
 
     // Private helper methods
 
-    private void validateAnswers(List<DiagnosisDto.DiagnosisAnswerRequest> answers) {
+    /**
+     * 답변 검증
+     * @return 유효하면 null, 아니면 거부 사유
+     */
+    private String answerError(List<DiagnosisDto.DiagnosisAnswerRequest> answers, Scoring scoring) {
         if (answers == null || answers.isEmpty()) {
-            throw new IllegalArgumentException("답변이 없습니다.");
+            return "답변이 없습니다.";
         }
 
+        boolean[] answered = new boolean[scoring.itemCount()];
         for (DiagnosisDto.DiagnosisAnswerRequest answer : answers) {
-            if (answer.getScore() < 0 || answer.getScore() > 3) {
-                throw new IllegalArgumentException("유효하지 않은 답변 점수입니다: " + answer.getScore());
+            if (answer.getScore() == null || !scoring.model().isValidAnswerScore(answer.getScore())) {
+                return "유효하지 않은 답변 점수입니다: " + answer.getScore();
             }
 
-            if (answer.getQuestionId() < 1 || answer.getQuestionId() > 5) {
-                throw new IllegalArgumentException("유효하지 않은 문항 번호입니다: " + answer.getQuestionId());
+            Integer item = scoring.itemIndexes().get(answer.getQuestionId());
+            if (item == null || item < 0 || item >= scoring.itemCount()) {
+                return "유효하지 않은 문항 번호입니다: " + answer.getQuestionId();
+            }
+            if (answered[item]) {
+                return "같은 문항에 중복 답변했습니다: " + answer.getQuestionId();
+            }
+            answered[item] = true;
+        }
+
+        // 부분 답변은 총점이 낮게 나와 심각도를 과소평가하므로 모든 문항 답변을 요구
+        if (answers.size() != scoring.itemCount()) {
+            return "모든 문항에 답변해야 합니다: " + answers.size() + "/" + scoring.itemCount();
+        }
+        return null;
+    }
+
+    /**
+     * 제출 채점 기준 선택
+     * 설문 코드가 없으면 PHQ-9 이며, 그중 이전 5문항 설문(문항 ID 1~5)에 한 번씩 답한 제출은 기존 방식으로 채점합니다.
+     */
+    private Scoring scoring(String code, List<DiagnosisDto.DiagnosisAnswerRequest> answers) {
+        if (code == null || code.isBlank()) {
+            if (isLegacyAnswerSet(answers)) {
+                return new Scoring(scoringService.phq9(), LEGACY_ITEM_INDEXES, LEGACY_ITEM_INDEXES.size(), true);
             }
+            code = QuestionnaireService.PHQ9;
         }
+        ScoringModel model = scoringService.model(code.trim());
+        return new Scoring(model, questionnaireService.itemIndexes(model.code), model.itemCount, false);
     }
 
-    private DiagnosisSeverity calculateSeverity(int totalScore) {
-        if (totalScore <= 4) return DiagnosisSeverity.NORMAL;
-        if (totalScore <= 9) return DiagnosisSeverity.MILD;
-        if (totalScore <= 14) return DiagnosisSeverity.MODERATE;
-        if (totalScore <= 19) return DiagnosisSeverity.SEVERE;
-        return DiagnosisSeverity.VERY_SEVERE;
+    private static boolean isLegacyAnswerSet(List<DiagnosisDto.DiagnosisAnswerRequest> answers) {
+        if (answers == null || answers.size() != LEGACY_ITEM_INDEXES.size()) {
+            return false;
+        }
+        Set<Long> questionIds = new HashSet<>();
+        for (DiagnosisDto.DiagnosisAnswerRequest answer : answers) {
+            questionIds.add(answer.getQuestionId());
+        }
+        return questionIds.equals(LEGACY_ITEM_INDEXES.keySet());
+    }
+
+    private DiagnosisDto.DiagnosisBatchResult batchResult(String key, String status, Diagnosis diagnosis) {
+        return DiagnosisDto.DiagnosisBatchResult.builder()
+                .clientSubmissionId(key)
+                .status(status)
+                .diagnosisId(diagnosis.getId())
+                .totalScore(diagnosis.getTotalScore())
+                .severity(diagnosis.getSeverity())
+                .diagnosisDate(diagnosis.getDiagnosisDate())
+                .build();
+    }
+
+    /**
+     * 검증된 답변의 총점 (문항별 가중치/역채점 반영, 이전 5문항 설문은 답변 점수 합)
+     */
+    private int totalScore(List<DiagnosisDto.DiagnosisAnswerRequest> answers, Scoring scoring) {
+        int total = 0;
+        for (DiagnosisDto.DiagnosisAnswerRequest answer : answers) {
+            total += scoring.legacy()
+                    ? answer.getScore()
+                    : scoring.model().itemScore(scoring.itemIndexes().get(answer.getQuestionId()), answer.getScore());
+        }
+        return total;
+    }
+
+    /**
+     * 제출 채점 기준 (채점표, 문항 ID → 문항 위치, 답해야 할 문항 수, 이전 5문항 설문 여부)
+     */
+    private record Scoring(ScoringModel model, Map<Long, Integer> itemIndexes, int itemCount, boolean legacy) {
     }
 
     private String getSeverityDescription(DiagnosisSeverity severity) {
@@ -0,0 +1,323 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.EmergencyIndexConfig;
+import com.dgsw.hamza.dto.HospitalDto;
+import com.dgsw.hamza.entity.Hospital;
+import com.dgsw.hamza.event.HospitalChangedEvent;
+import com.dgsw.hamza.event.HospitalSnapshotChangedEvent;
+import com.dgsw.hamza.util.CoordinateBuffer;
+import com.dgsw.hamza.util.HaversineKernel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응급 병원 전용 상주 인덱스
+ * 병원 스냅샷에서 응급 병원만 골라 불변 스냅샷으로 유지하고 로컬 파일로도 저장해 두므로, MySQL 장애 중에도 응답할 수 있습니다.
+ * 조회 지연은 Micrometer 타이머로 기록하고, 인덱스 크기와 p99 목표 초과 여부를 게이지로 노출합니다.
+ */
+@Service
+@Slf4j
+public class EmergencyHospitalIndex {
+
+    public static final String LATENCY_METRIC = "hospital.emergency.lookup";
+    public static final String SIZE_METRIC = "hospital.emergency.index.size";
+    public static final String SLO_BREACHED_METRIC = "hospital.emergency.lookup.slo.breached";
+
+    private final EmergencyIndexConfig indexConfig;
+    private final ObjectMapper objectMapper;
+    private final Timer lookupTimer;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), Source.EMPTY);
+    private volatile boolean dirty;
+    private volatile boolean sloBreached;
+
+    public EmergencyHospitalIndex(EmergencyIndexConfig indexConfig,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.indexConfig = indexConfig;
+        this.objectMapper = objectMapper;
+        this.lookupTimer = Timer.builder(LATENCY_METRIC)
+                .description("응급 병원 인덱스 조회 지연")
+                .publishPercentiles(0.99)
+                .serviceLevelObjectives(Duration.ofNanos((long) (indexConfig.getLatencySloMs() * 1_000_000)))
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this, EmergencyHospitalIndex::size)
+                .description("응급 병원 인덱스 병원 수")
+                .register(meterRegistry);
+        Gauge.builder(SLO_BREACHED_METRIC, this, index -> index.sloBreached ? 1.0 : 0.0)
+                .description("응급 병원 조회 지연 p99 목표 초과 여부 (1 이면 초과)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB 조회 전에 로컬 스냅샷 파일로 먼저 채워 둠 (기동 시 DB 장애 대비)
+     */
+    @PostConstruct
+    void loadSnapshotFile() {
+        Path file = snapshotFile();
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            HospitalDto.HospitalInfo[] entries = objectMapper.readValue(file.toFile(), HospitalDto.HospitalInfo[].class);
+            List<Hospital> hospitals = Arrays.stream(entries)
+                    .map(EmergencyHospitalIndex::toHospital)
+                    .filter(EmergencyHospitalIndex::isIndexable)
+                    .toList();
+            snapshot = new Snapshot(hospitals, Source.FILE);
+            log.info("응급 병원 인덱스 파일 복원 - {}건", hospitals.size());
+        } catch (IOException e) {
+            log.warn("응급 병원 인덱스 파일을 읽을 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 병원 스냅샷에서 응급 병원만 골라 반영 (DB 장애로 스냅샷이 구성되지 않으면 로컬 스냅샷 파일로 계속 응답)
+     */
+    @EventListener
+    public synchronized void onSnapshotChanged(HospitalSnapshotChangedEvent event) {
+        if (event.isRebuild()) {
+            snapshot = new Snapshot(event.snapshot().hospitals().stream()
+                    .filter(EmergencyHospitalIndex::isIndexable)
+                    .toList(), Source.DATABASE);
+            dirty = true;
+            flushSnapshotFile();
+            log.info("응급 병원 인덱스 구성 완료 - {}건", snapshot.size());
+            return;
+        }
+
+        HospitalChangedEvent change = event.change();
+        Long hospitalId = change.hospitalId();
+        boolean include = change.type() != HospitalChangedEvent.ChangeType.DELETED && isIndexable(change.hospital());
+
+        List<Hospital> hospitals = new ArrayList<>(snapshot.hospitals.size() + 1);
+        for (Hospital hospital : snapshot.hospitals) {
+            if (!Objects.equals(hospital.getId(), hospitalId)) {
+                hospitals.add(hospital);
+            }
+        }
+        if (!include && hospitals.size() == snapshot.hospitals.size()) {
+            return; // 응급 병원과 무관한 변경
+        }
+        if (include) {
+            hospitals.add(change.hospital());
+        }
+        snapshot = new Snapshot(hospitals, snapshot.source);
+        dirty = true;
+    }
+
+    /**
+     * 반경 내 응급 병원 조회 (가까운 순)
+     * @param limit 최대 개수, 0 이하이면 전체
+     */
+    public List<HospitalSnapshotService.Candidate> findNearest(double latitude, double longitude,
+                                                              double radiusKm, int limit) {
+        long start = System.nanoTime();
+        try {
+            Snapshot current = snapshot;
+            double[] distances = HaversineKernel.distances(latitude, longitude, current.coordinates);
+
+            List<HospitalSnapshotService.Candidate> candidates = new ArrayList<>();
+            for (int i = 0; i < distances.length; i++) {
+                if (distances[i] <= radiusKm) {
+                    candidates.add(new HospitalSnapshotService.Candidate(current.hospitals.get(i), distances[i]));
+                }
+            }
+            candidates.sort(Comparator.comparingDouble(HospitalSnapshotService.Candidate::distance));
+            return limit > 0 && candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+        } finally {
+            lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 조회 지연 p99 가 목표를 넘었는지 주기적으로 점검
+     */
+    @Scheduled(fixedDelayString = "${emergency-index.slo-check-interval:60000}")
+    public void checkLatencySlo() {
+        double p99 = latencyP99Millis();
+        boolean breached = p99 > indexConfig.getLatencySloMs();
+        if (breached) {
+            log.warn("응급 병원 조회 지연 SLO 초과 - p99: {}ms (목표 {}ms)",
+                    String.format("%.3f", p99), indexConfig.getLatencySloMs());
+        } else if (sloBreached) {
+            log.info("응급 병원 조회 지연 SLO 회복 - p99: {}ms", String.format("%.3f", p99));
+        }
+        sloBreached = breached;
+    }
+
+    /**
+     * 최근 조회 지연 p99 (ms), 기록이 없으면 0
+     */
+    public double latencyP99Millis() {
+        for (ValueAtPercentile value : lookupTimer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.99) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0.0;
+    }
+
+    public boolean isSloBreached() {
+        return sloBreached;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    public Source source() {
+        return snapshot.source;
+    }
+
+    /**
+     * 변경된 인덱스를 주기적으로 파일에 저장
+     */
+    @Scheduled(fixedDelayString = "${emergency-index.flush-interval:60000}")
+    public void flushSnapshotFile() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        List<HospitalDto.HospitalInfo> entries = snapshot.hospitals.stream()
+                .map(EmergencyHospitalIndex::toEntry)
+                .toList();
+
+        Path file = snapshotFile();
+        Path temp = null;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), entries);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("응급 병원 인덱스 파일 저장 실패: {}", e.getMessage());
+            try {
+                if (temp != null) {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException ignored) {
+                // 임시 파일 정리 실패는 무시
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushSnapshotFile();
+    }
+
+    private Path snapshotFile() {
+        return Paths.get(indexConfig.getSnapshotFile());
+    }
+
+    private static boolean isIndexable(Hospital hospital) {
+        return hospital.isActive() && hospital.isEmergency()
+                && hospital.getLatitude() != null && hospital.getLongitude() != null;
+    }
+
+    private static HospitalDto.HospitalInfo toEntry(Hospital hospital) {
+        return HospitalDto.HospitalInfo.builder()
+                .id(hospital.getId())
+                .name(hospital.getName())
+                .address(hospital.getAddress())
+                .phone(hospital.getPhone())
+                .website(hospital.getWebsite())
+                .description(hospital.getDescription())
+                .latitude(hospital.getLatitude())
+                .longitude(hospital.getLongitude())
+                .department(hospital.getDepartment())
+                .rating(hospital.getRating())
+                .operatingHours(hospital.getOperatingHours())
+                .openTime(hospital.getOpenTime())
+                .closeTime(hospital.getCloseTime())
+                .lunchStart(hospital.getLunchStart())
+                .lunchEnd(hospital.getLunchEnd())
+                .isEmergency(hospital.getIsEmergency())
+                .isActive(hospital.getIsActive())
+                .parkingAvailable(hospital.getParkingAvailable())
+                .wheelchairAccessible(hospital.getWheelchairAccessible())
+                .specializedTreatments(hospital.getSpecializedTreatments())
+                .build();
+    }
+
+    private static Hospital toHospital(HospitalDto.HospitalInfo entry) {
+        Hospital hospital = Hospital.builder()
+                .name(entry.getName())
+                .address(entry.getAddress())
+                .phone(entry.getPhone())
+                .website(entry.getWebsite())
+                .description(entry.getDescription())
+                .latitude(entry.getLatitude())
+                .longitude(entry.getLongitude())
+                .department(entry.getDepartment())
+                .rating(entry.getRating())
+                .operatingHours(entry.getOperatingHours())
+                .openTime(entry.getOpenTime())
+                .closeTime(entry.getCloseTime())
+                .lunchStart(entry.getLunchStart())
+                .lunchEnd(entry.getLunchEnd())
+                .isEmergency(entry.getIsEmergency())
+                .isActive(entry.getIsActive())
+                .parkingAvailable(entry.getParkingAvailable())
+                .wheelchairAccessible(entry.getWheelchairAccessible())
+                .specializedTreatments(entry.getSpecializedTreatments())
+                .build();
+        hospital.setId(entry.getId());
+        return hospital;
+    }
+
+    /**
+     * 인덱스 데이터 출처
+     */
+    public enum Source {
+        EMPTY, FILE, DATABASE
+    }
+
+    private static final class Snapshot {
+        final List<Hospital> hospitals;
+        final CoordinateBuffer coordinates;
+        final Source source;
+
+        Snapshot(List<Hospital> hospitals, Source source) {
+            this.hospitals = Collections.unmodifiableList(hospitals);
+            this.source = source;
+            double[] latitudes = new double[hospitals.size()];
+            double[] longitudes = new double[hospitals.size()];
+            for (int i = 0; i < hospitals.size(); i++) {
+                latitudes[i] = hospitals.get(i).getLatitude().doubleValue();
+                longitudes[i] = hospitals.get(i).getLongitude().doubleValue();
+            }
+            this.coordinates = new CoordinateBuffer(latitudes, longitudes);
+        }
+
+        int size() {
+            return hospitals.size();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.GeocodingConfig;
+import com.dgsw.hamza.util.AddressIndex;
+import com.dgsw.hamza.util.GeocodeCache;
+import com.dgsw.hamza.util.GeocodeResult;
+import com.dgsw.hamza.util.KoreanAddressParser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주소 -> 좌표 변환 서비스
+ * 조회 순서: 결과 캐시 -> 로컬 주소 인덱스 -> (인덱스 결과가 동 단위보다 거칠 때) 외부 지오코딩
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeocodingService {
+
+    private final GeocodingConfig geocodingConfig;
+    private final List<RemoteGeocodingProvider> remoteProviders;
+
+    private AddressIndex addressIndex;
+    private GeocodeCache cache;
+
+    @PostConstruct
+    void init() {
+        try (InputStream inputStream = new ClassPathResource(geocodingConfig.getDatasetPath()).getInputStream()) {
+            addressIndex = AddressIndex.load(inputStream);
+            log.info("주소 인덱스 로드 완료 - {}건", addressIndex.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("주소 데이터셋을 불러올 수 없습니다: " + geocodingConfig.getDatasetPath(), e);
+        }
+
+        cache = new GeocodeCache(geocodingConfig.getCacheMaxEntries());
+        try {
+            int restored = cache.load(cacheFile());
+            log.info("지오코딩 캐시 복원 - {}건", restored);
+        } catch (IOException e) {
+            log.warn("지오코딩 캐시 파일을 읽을 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주소를 좌표로 변환
+     * @return 변환 결과, 찾을 수 없으면 빈 값
+     */
+    public Optional<GeocodeResult> geocode(String address, String language, String region) {
+        if (address == null || address.trim().isEmpty()) {
+            throw new IllegalArgumentException("주소가 필요합니다.");
+        }
+
+        GeocodeResult cached = cache.get(address);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        GeocodeResult local = addressIndex.lookup(address);
+        GeocodeResult result = local;
+
+        if (local == null || local.precision().isCoarserThan(GeocodeResult.Precision.DONG)) {
+            GeocodeResult remote = geocodeRemote(address, language, region);
+            if (remote != null) {
+                result = remote;
+            }
+        }
+
+        if (result == null) {
+            return Optional.empty();
+        }
+        cache.put(address, result);
+        return Optional.of(result);
+    }
+
+    /**
+     * 지역명이나 주소를 행정구역 계층으로 분해 (시/도가 생략된 경우 주소 인덱스로 보완)
+     */
+    public KoreanAddressParser.AddressComponents resolveRegion(String region) {
+        if (region == null || region.trim().isEmpty()) {
+            return KoreanAddressParser.AddressComponents.EMPTY;
+        }
+        return addressIndex.resolveRegion(KoreanAddressParser.parse(region));
+    }
+
+    private GeocodeResult geocodeRemote(String address, String language, String region) {
+        if (!geocodingConfig.isRemoteEnabled()) {
+            return null;
+        }
+        for (RemoteGeocodingProvider provider : remoteProviders) {
+            if (!provider.isAvailable()) {
+                continue;
+            }
+            Optional<GeocodeResult> result = provider.geocode(address, language, region);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 변경된 캐시를 주기적으로 파일에 저장
+     */
+    @Scheduled(fixedDelayString = "${geocoding.cache-flush-interval:60000}")
+    public void flushCache() {
+        if (cache == null || !cache.isDirty()) {
+            return;
+        }
+        try {
+            cache.save(cacheFile());
+        } catch (IOException e) {
+            log.warn("지오코딩 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushCache();
+    }
+
+    private Path cacheFile() {
+        return Paths.get(geocodingConfig.getCacheFile());
+    }
+}
@@ -0,0 +1,77 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.GoogleMapsConfig;
+import com.dgsw.hamza.util.GeocodeResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Google Geocoding API 기반 외부 지오코딩
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GoogleGeocodingProvider implements RemoteGeocodingProvider {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    private final GoogleMapsConfig googleMapsConfig;
+    private final WebClient webClient;
+
+    @Override
+    public boolean isAvailable() {
+        return googleMapsConfig.isConfigured() && googleMapsConfig.getGeocodingApiUrl() != null;
+    }
+
+    @Override
+    public Optional<GeocodeResult> geocode(String address, String language, String region) {
+        String uri = UriComponentsBuilder.fromHttpUrl(googleMapsConfig.getGeocodingApiUrl())
+                .queryParam("address", address)
+                .queryParam("language", language != null ? language : GoogleMapsConfig.Constants.LANGUAGE)
+                .queryParam("region", region != null ? region : GoogleMapsConfig.Constants.REGION)
+                .queryParam("key", googleMapsConfig.getApiKey())
+                .encode()
+                .toUriString();
+
+        try {
+            String response = webClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block(TIMEOUT);
+            if (response == null) {
+                return Optional.empty();
+            }
+
+            JSONObject body = new JSONObject(response);
+            if (!"OK".equals(body.optString("status"))) {
+                log.warn("Google 지오코딩 실패 - 상태: {}", body.optString("status"));
+                return Optional.empty();
+            }
+
+            JSONArray results = body.getJSONArray("results");
+            if (results.isEmpty()) {
+                return Optional.empty();
+            }
+            JSONObject first = results.getJSONObject(0);
+            JSONObject location = first.getJSONObject("geometry").getJSONObject("location");
+
+            return Optional.of(new GeocodeResult(
+                    location.getDouble("lat"),
+                    location.getDouble("lng"),
+                    first.optString("formatted_address", address),
+                    GeocodeResult.Precision.REMOTE));
+        } catch (Exception e) {
+            log.warn("Google 지오코딩 호출 중 오류 발생: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.GuideDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정적 안내 문서 서비스
+ * 안내 문서는 배포 시에만 바뀌므로 기동 시 한 번 JSON 바이트로 직렬화해 두고,
+ * 요청마다 같은 응답 객체(같은 바이트 배열)를 그대로 반환합니다.
+ */
+@Service
+@Slf4j
+public class GuideService {
+
+    public static final GuideDto.CrisisGuide CRISIS_GUIDE = new GuideDto.CrisisGuide(
+            "위기 상황 대응 가이드",
+            new GuideDto.EmergencyContacts(
+                    "생명의전화: 1588-9191 (24시간)",
+                    "청소년전화: 1388",
+                    "정신건강위기상담: 1577-0199",
+                    "응급실: 119",
+                    "경찰신고: 112"
+            ),
+            new GuideDto.CrisisLevels(
+                    "즉각 조치 필요 - 119 신고 또는 응급실 방문",
+                    "높은 위험 - 즉시 전문가 상담",
+                    "중간 위험 - 전문가 상담 권장",
+                    "낮은 위험 - 자기 관리 및 관찰",
+                    "정상 상태 - 건강 관리 지속"
+            ),
+            List.of(
+                    "안전한 곳으로 이동하기",
+                    "믿을 만한 사람에게 연락하기",
+                    "전문가 도움 요청하기",
+                    "혼자 있지 않기",
+                    "위험한 물건 제거하기"
+            ),
+            List.of(
+                    "정신건강복지센터",
+                    "자살예방센터",
+                    "병원 응급실",
+                    "온라인 상담 서비스",
+                    "지역 상담센터"
+            )
+    );
+
+    public static final GuideDto.ChatHelp CHAT_HELP = new GuideDto.ChatHelp(
+            "AI 챗봇 사용 가이드",
+            List.of(
+                    "24시간 언제든지 대화 가능",
+                    "위기 상황 자동 감지 및 대응",
+                    "감정 분석 및 피드백",
+                    "개인화된 치료법 추천",
+                    "전문가 연결 서비스"
+            ),
+            List.of(
+                    "솔직하고 자연스럽게 대화하세요",
+                    "감정이나 상황을 구체적으로 표현하세요",
+                    "위기 상황에서는 즉시 도움을 요청하세요",
+                    "정기적인 대화로 감정 상태를 관리하세요",
+                    "필요시 전문가 상담을 받으세요"
+            ),
+            List.of(
+                    "전문 의료진을 대체할 수 없습니다",
+                    "응급상황에서는 119에 신고하세요",
+                    "약물 처방이나 진단은 할 수 없습니다",
+                    "개인정보는 안전하게 보호됩니다"
+            ),
+            new GuideDto.SampleQuestions(
+                    List.of(
+                            "안녕하세요",
+                            "오늘 기분이 좋지 않아요",
+                            "스트레스를 받고 있어요",
+                            "잠을 잘 못 자겠어요"
+                    ),
+                    List.of(
+                            "도움이 필요해요",
+                            "상담받고 싶어요",
+                            "병원을 찾아주세요",
+                            "응급상황이에요"
+                    )
+            )
+    );
+
+    public static final GuideDto.PrivacyPolicy PRIVACY_POLICY = new GuideDto.PrivacyPolicy(
+            "개인정보 보호 정책",
+            List.of(
+                    "모든 대화 내용은 암호화되어 저장됩니다",
+                    "개인정보는 치료 목적으로만 사용됩니다",
+                    "사용자 동의 없이 제3자에게 제공되지 않습니다",
+                    "위기 상황에서만 응급 서비스와 공유됩니다"
+            ),
+            List.of(
+                    "대화 기록은 치료 연속성을 위해 보관됩니다",
+                    "사용자 요청 시 언제든 삭제 가능합니다",
+                    "법적 요구사항에 따라 일정 기간 보관됩니다",
+                    "비활성 계정은 자동으로 삭제됩니다"
+            ),
+            List.of(
+                    "개인정보 열람 및 수정 권리",
+                    "개인정보 삭제 요청 권리",
+                    "개인정보 처리 중단 요청 권리",
+                    "개인정보 이용 내역 통지 요구 권리"
+            ),
+            "개인정보 관련 문의: privacy@hamza.com"
+    );
+
+    public static final GuideDto.LocationHelp LOCATION_HELP = new GuideDto.LocationHelp(
+            "위치 기반 병원 추천 서비스",
+            List.of(
+                    "사용자 위치 기반 가까운 병원 검색",
+                    "심각도에 따른 맞춤형 병원 추천",
+                    "응급상황 대응 병원 즉시 검색",
+                    "지역별 병원 밀도 분석",
+                    "여러 병원 방문 최적 경로 계산",
+                    "접근성 점수 기반 병원 순위"
+            ),
+            List.of(
+                    "정확한 위치 정보 제공 시 더 정확한 추천 가능",
+                    "심각도를 정확히 입력하면 적절한 병원 추천",
+                    "응급상황에서는 '/emergency' 엔드포인트 사용",
+                    "평점과 거리를 종합적으로 고려한 추천",
+                    "편의시설 정보도 함께 제공"
+            ),
+            new GuideDto.SeverityLevels(
+                    "정상 - 예방 및 건강관리",
+                    "경미 - 가벼운 증상",
+                    "중등도 - 적극적 치료 필요",
+                    "심각 - 즉시 전문 치료",
+                    "매우 심각 - 응급 처치 필요"
+            )
+    );
+
+    public static final List<String> SEARCH_TIPS = List.of(
+            "위치 정보를 허용하면 더 정확한 거리 계산이 가능합니다",
+            "응급상황이 아닌 경우 평점이 높은 병원을 선택해보세요",
+            "진료과를 정확히 선택하면 더 적합한 병원을 찾을 수 있습니다",
+            "운영시간을 확인하여 방문 가능한 시간대를 확인하세요",
+            "주차장이나 휠체어 접근성 등 편의시설을 고려해보세요"
+    );
+
+    /**
+     * 정적 안내 문서 종류
+     */
+    public enum Guide {
+        CRISIS_GUIDE(GuideService.CRISIS_GUIDE),
+        CHAT_HELP(GuideService.CHAT_HELP),
+        PRIVACY_POLICY(GuideService.PRIVACY_POLICY),
+        LOCATION_HELP(GuideService.LOCATION_HELP),
+        SEARCH_TIPS(GuideService.SEARCH_TIPS);
+
+        private final Object payload;
+
+        Guide(Object payload) {
+            this.payload = payload;
+        }
+
+        public Object getPayload() {
+            return payload;
+        }
+    }
+
+    // Guide.ordinal() 순서의 직렬화된 본문과 응답
+    private final byte[][] bodies;
+    private final List<ResponseEntity<byte[]>> responses;
+
+    public GuideService(ObjectMapper objectMapper) {
+        Guide[] guides = Guide.values();
+        this.bodies = new byte[guides.length][];
+        List<ResponseEntity<byte[]>> entities = new ArrayList<>(guides.length);
+        for (Guide guide : guides) {
+            try {
+                bodies[guide.ordinal()] = objectMapper.writeValueAsBytes(guide.getPayload());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("안내 문서 직렬화 실패: " + guide, e);
+            }
+            // ResponseEntity 헤더는 읽기 전용이라 요청 간 공유해도 안전
+            entities.add(ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(bodies[guide.ordinal()]));
+        }
+        this.responses = List.copyOf(entities);
+        log.info("정적 안내 문서 직렬화 완료 - {}건", guides.length);
+    }
+
+    /**
+     * 직렬화된 안내 문서 본문 (호출마다 같은 배열, 수정 금지)
+     */
+    public byte[] body(Guide guide) {
+        return bodies[guide.ordinal()];
+    }
+
+    /**
+     * 안내 문서 200 응답 (JSON, 호출마다 같은 객체)
+     */
+    public ResponseEntity<byte[]> response(Guide guide) {
+        return responses.get(guide.ordinal());
+    }
+}
@@ -0,0 +1,104 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.HospitalDto;
+import com.dgsw.hamza.entity.Hospital;
+import com.dgsw.hamza.event.HospitalChangedEvent;
+import com.dgsw.hamza.event.HospitalSnapshotChangedEvent;
+import com.dgsw.hamza.util.DensityGrid;
+import com.dgsw.hamza.util.LocationCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 병원 밀도 격자 관리 서비스
+ * 병원 스냅샷이 처음 구성될 때 격자를 채우고 이후 스냅샷 변경 이벤트로 증분 갱신하며, 밀도 분석과 히트맵은 격자에서 바로 계산합니다.
+ */
+@Service
+@Slf4j
+public class HospitalDensityService {
+
+    private final DensityGrid densityGrid = new DensityGrid();
+
+    @EventListener
+    public void onSnapshotChanged(HospitalSnapshotChangedEvent event) {
+        if (event.isRebuild()) {
+            densityGrid.clear();
+            event.snapshot().hospitals().forEach(this::upsert);
+            log.info("병원 밀도 격자 구성 완료 - {}건", densityGrid.size());
+        } else if (event.change().type() == HospitalChangedEvent.ChangeType.DELETED) {
+            densityGrid.remove(event.change().hospitalId());
+        } else {
+            upsert(event.change().hospital());
+        }
+    }
+
+    private void upsert(Hospital hospital) {
+        if (!hospital.isActive() || hospital.getLatitude() == null || hospital.getLongitude() == null) {
+            densityGrid.remove(hospital.getId());
+            return;
+        }
+        densityGrid.upsert(
+                hospital.getId(),
+                hospital.getLatitude().doubleValue(),
+                hospital.getLongitude().doubleValue(),
+                hospital.getDepartment(),
+                hospital.isEmergency(),
+                hospital.getRating() != null ? hospital.getRating().doubleValue() : null);
+    }
+
+    /**
+     * 반경 내 병원 밀도 분석
+     */
+    public HospitalDto.DensityAnalysis analyze(double centerLat, double centerLon, double radiusKm) {
+        LocationCalculator.BoundingBox box = LocationCalculator.calculateBoundingBox(centerLat, centerLon, radiusKm);
+        int level = DensityGrid.chooseLevel(box.south, box.west, box.north, box.east);
+        DensityGrid.Summary summary = densityGrid.summarize(box.south, box.west, box.north, box.east, level);
+
+        double areaKm2 = Math.PI * radiusKm * radiusKm;
+        return HospitalDto.DensityAnalysis.builder()
+                .totalHospitals(summary.count)
+                .emergencyHospitals(summary.emergencyCount)
+                .densityPerKm2(summary.count / areaKm2)
+                .areaKm2(areaKm2)
+                .departmentDist(summary.departments)
+                .averageRating(summary.averageRating())
+                .gridLevel(summary.level)
+                .cellSizeDegrees(summary.cellSize)
+                .build();
+    }
+
+    /**
+     * 히트맵 타일 조회
+     * @param level 격자 레벨, null 이면 영역 크기에 맞춰 선택
+     */
+    public HospitalDto.HeatmapResponse heatmap(double south, double west, double north, double east, Integer level) {
+        if (south > north || west > east) {
+            throw new IllegalArgumentException("유효하지 않은 영역입니다.");
+        }
+        int gridLevel = level != null ? level : DensityGrid.chooseLevel(south, west, north, east);
+        if (gridLevel < 0 || gridLevel >= DensityGrid.CELL_SIZES.length) {
+            throw new IllegalArgumentException("격자 레벨은 0~" + (DensityGrid.CELL_SIZES.length - 1) + " 사이여야 합니다.");
+        }
+
+        List<HospitalDto.HeatmapCell> cells = densityGrid.cells(south, west, north, east, gridLevel).stream()
+                .map(cell -> HospitalDto.HeatmapCell.builder()
+                        .latitude(cell.latitude)
+                        .longitude(cell.longitude)
+                        .count(cell.count)
+                        .emergencyCount(cell.emergencyCount)
+                        .averageRating(cell.averageRating)
+                        .departments(cell.departments)
+                        .build())
+                .collect(Collectors.toList());
+
+        return HospitalDto.HeatmapResponse.builder()
+                .gridLevel(gridLevel)
+                .cellSizeDegrees(DensityGrid.CELL_SIZES[gridLevel])
+                .cells(cells)
+                .build();
+    }
+}
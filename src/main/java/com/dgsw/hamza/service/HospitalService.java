@@ -4,6 +4,8 @@ import com.dgsw.hamza.config.CacheConfig;
 import com.dgsw.hamza.dto.HospitalDto;
 import com.dgsw.hamza.entity.Hospital;
 import com.dgsw.hamza.repository.HospitalRepository;
+import com.dgsw.hamza.util.HospitalStatistics;
+import com.dgsw.hamza.util.KoreanAddressParser;
 import com.dgsw.hamza.util.LocationCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,10 +14,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +29,10 @@ import java.util.stream.Collectors;
 public class HospitalService {
 
     private final HospitalRepository hospitalRepository;
+    private final GeocodingService geocodingService;
+    private final HospitalSnapshotService hospitalSnapshotService;
+    private final HospitalStatisticsService hospitalStatisticsService;
+    private final EmergencyHospitalIndex emergencyHospitalIndex;
 
     /**
      * 위치 기반 병원 검색
@@ -42,42 +50,21 @@ public class HospitalService {
         // 반경을 km로 변환
         double radiusKm = request.getRadius() != null ? request.getRadius() / 1000.0 : 10.0;
         
-        List<Object[]> nearbyData;
-        
-        // 부서별 필터링
-        if (request.getKeyword() != null && !request.getKeyword().isEmpty()) {
-            nearbyData = hospitalRepository.findNearbyHospitalsByDepartment(
-                    BigDecimal.valueOf(request.getLatitude()),
-                    BigDecimal.valueOf(request.getLongitude()),
-                    radiusKm,
-                    request.getKeyword()
-            );
-        } else {
-            nearbyData = hospitalRepository.findNearbyHospitals(
-                    BigDecimal.valueOf(request.getLatitude()),
-                    BigDecimal.valueOf(request.getLongitude()),
-                    radiusKm
-            );
-        }
+        // 부서 / 응급실 필터링 (스냅샷에서 거리 일괄 계산)
+        String department = request.getKeyword() != null && !request.getKeyword().isEmpty()
+                ? request.getKeyword() : null;
+        boolean emergencyOnly = Boolean.TRUE.equals(request.getEmergencyOnly());
 
-        // 응급실 필터링
-        if (Boolean.TRUE.equals(request.getEmergencyOnly())) {
-            nearbyData = hospitalRepository.findNearbyEmergencyHospitals(
-                    BigDecimal.valueOf(request.getLatitude()),
-                    BigDecimal.valueOf(request.getLongitude()),
-                    radiusKm
-            );
-        }
+        List<HospitalSnapshotService.Candidate> nearbyData = hospitalSnapshotService.findWithin(
+                request.getLatitude(), request.getLongitude(), radiusKm,
+                hospital -> emergencyOnly
+                        ? hospital.isEmergency()
+                        : department == null || department.equals(hospital.getDepartment()));
 
         // 결과 변환
         List<HospitalDto.HospitalInfo> hospitals = nearbyData.stream()
                 .limit(request.getMaxResults() != null ? request.getMaxResults() : 20)
-                .map(data -> {
-                    Hospital hospital = (Hospital) data[0];
-                    Double distance = (Double) data[1];
-                    
-                    return convertToHospitalInfo(hospital, distance);
-                })
+                .map(candidate -> convertToHospitalInfo(candidate.hospital(), candidate.distance()))
                 .collect(Collectors.toList());
 
         // 현재 운영 중인 병원만 필터링
@@ -203,8 +190,9 @@ public class HospitalService {
 
     /**
      * 위치 기반 응급실 병원 검색
+     * 응급 병원 상주 인덱스만 사용하므로 DB 장애 중에도 응답합니다.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<HospitalDto.HospitalInfo> searchNearbyEmergencyHospitals(
             Double latitude, Double longitude, Double radiusKm) {
         
@@ -215,18 +203,8 @@ public class HospitalService {
             throw new IllegalArgumentException("유효하지 않은 위치 정보입니다.");
         }
 
-        List<Object[]> nearbyData = hospitalRepository.findNearbyEmergencyHospitals(
-                BigDecimal.valueOf(latitude),
-                BigDecimal.valueOf(longitude),
-                radiusKm
-        );
-
-        return nearbyData.stream()
-                .map(data -> {
-                    Hospital hospital = (Hospital) data[0];
-                    Double distance = (Double) data[1];
-                    return convertToHospitalInfo(hospital, distance);
-                })
+        return emergencyHospitalIndex.findNearest(latitude, longitude, radiusKm, 0).stream()
+                .map(candidate -> convertToHospitalInfo(candidate.hospital(), candidate.distance()))
                 .collect(Collectors.toList());
     }
 
@@ -286,7 +264,13 @@ public class HospitalService {
     public List<HospitalDto.HospitalInfo> getHospitalsByRegion(String region) {
         log.info("지역별 병원 조회 - 지역: {}", region);
 
-        List<Hospital> hospitals = hospitalRepository.findByRegion(region);
+        // 시/도까지 특정되어야 인덱스로 조회 ("중구"처럼 여러 시/도에 있는 이름은 주소 부분 일치로 섞이지 않도록 거부)
+        KoreanAddressParser.AddressComponents components = geocodingService.resolveRegion(region);
+        if (components.sido == null) {
+            throw new IllegalArgumentException("지역을 특정할 수 없습니다. 시/도를 포함해 입력해 주세요: " + region);
+        }
+        List<Hospital> hospitals = hospitalRepository.findByRegionHierarchy(
+                components.sido, components.sigungu, components.dong);
 
         return hospitals.stream()
                 .map(hospital -> convertToHospitalInfo(hospital, null))
@@ -311,20 +295,18 @@ public class HospitalService {
      * 병원 통계 조회
      */
     @Transactional(readOnly = true)
-    public Object getHospitalStatistics() {
+    public HospitalDto.HospitalStatistics getHospitalStatistics() {
         log.info("병원 통계 조회");
 
-        Long totalHospitals = hospitalRepository.countActiveHospitals();
-        Double averageRating = hospitalRepository.findAverageRating();
-        List<Object[]> departmentStats = hospitalRepository.findDepartmentDistribution();
-        List<Object[]> ratingStats = hospitalRepository.findRatingDistribution();
-
-        return new Object() {
-            public final Long totalHospitals = HospitalService.this.getTotalHospitals();
-            public final Double averageRating = HospitalService.this.getAverageRating();
-            public final List<Object[]> departmentDistribution = departmentStats;
-            public final List<Object[]> ratingDistribution = ratingStats;
-        };
+        // 이벤트로 유지되는 통계 스냅샷에서 바로 구성
+        HospitalStatistics.Snapshot snapshot = hospitalStatisticsService.current();
+
+        return HospitalDto.HospitalStatistics.builder()
+                .totalHospitals(snapshot.totalHospitals)
+                .averageRating(snapshot.averageRating())
+                .departmentDistribution(toPairs(snapshot.departments))
+                .ratingDistribution(toPairs(snapshot.ratingGroups))
+                .build();
     }
 
     /**
@@ -333,15 +315,19 @@ public class HospitalService {
     public HospitalDto.GeocodeResponse geocodeAddress(HospitalDto.GeocodeRequest request) {
         log.info("주소 기반 좌표 변환 - 주소: {}", request.getAddress());
 
-        // 실제 구현에서는 Google Maps API나 다른 지오코딩 서비스 사용
-        // 여기서는 샘플 구현
-        return HospitalDto.GeocodeResponse.builder()
-                .latitude(37.5665)
-                .longitude(126.9780)
-                .formattedAddress("서울특별시 중구 을지로 1가")
-                .status("OK")
-                .message("주소 변환이 완료되었습니다.")
-                .build();
+        return geocodingService.geocode(request.getAddress(), request.getLanguage(), request.getRegion())
+                .map(result -> HospitalDto.GeocodeResponse.builder()
+                        .latitude(result.latitude())
+                        .longitude(result.longitude())
+                        .formattedAddress(result.formattedAddress())
+                        .precision(result.precision().name())
+                        .status("OK")
+                        .message("주소 변환이 완료되었습니다.")
+                        .build())
+                .orElseGet(() -> HospitalDto.GeocodeResponse.builder()
+                        .status("ZERO_RESULTS")
+                        .message("주소를 찾을 수 없습니다.")
+                        .build());
     }
 
     // Private helper methods
@@ -462,11 +448,9 @@ public class HospitalService {
         );
     }
 
-    private Long getTotalHospitals() {
-        return hospitalRepository.countActiveHospitals();
-    }
-
-    private Double getAverageRating() {
-        return hospitalRepository.findAverageRating();
+    private static List<Object[]> toPairs(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,233 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.entity.Hospital;
+import com.dgsw.hamza.event.HospitalChangedEvent;
+import com.dgsw.hamza.event.HospitalSnapshotChangedEvent;
+import com.dgsw.hamza.repository.HospitalRepository;
+import com.dgsw.hamza.service.scoring.HospitalFeatures;
+import com.dgsw.hamza.util.CoordinateBuffer;
+import com.dgsw.hamza.util.HaversineKernel;
+import com.dgsw.hamza.util.KoreanAddressParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * 활성 병원 인메모리 스냅샷 관리 서비스
+ * 거리 기반 후보 선정은 DB 삼각함수 쿼리 대신 스냅샷의 좌표 버퍼로 한 번에 계산합니다.
+ * 스냅샷은 불변이며, 병원 변경 이벤트가 오면 새 스냅샷으로 교체됩니다 (copy-on-write).
+ * 교체할 때마다 HospitalSnapshotChangedEvent 를 발행하므로 밀도 격자, 통계, 순위 등 파생 인덱스는 이 스냅샷에서 만들어집니다.
+ * 기동 시 DB 구성이 실패하면 성공할 때까지 백오프로 재시도하고, 그동안 헬스 체크는 DOWN 입니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HospitalSnapshotService {
+
+    // 첫 구성 실패 시 재시도 간격 (실패할 때마다 두 배, 최대 5분)
+    private static final long INITIAL_RETRY_DELAY_MS = 5_000L;
+    private static final long MAX_RETRY_DELAY_MS = 300_000L;
+    private static final long RETRY_CHECK_INTERVAL_MS = 1_000L;
+
+    private final HospitalRepository hospitalRepository;
+    private final GeocodingService geocodingService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+    private volatile boolean ready;
+
+    private int failures;
+    // 기동 이벤트 전에는 재시도하지 않음
+    private long nextAttemptMillis = Long.MAX_VALUE;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Hospital> active;
+        try {
+            assignMissingRegions();
+            active = hospitalRepository.findActiveHospitals();
+        } catch (DataAccessException | TransactionException e) {
+            // 기동은 계속하고 지수 백오프로 재시도 (그동안 응급 병원 인덱스는 로컬 스냅샷 파일로 응답)
+            failures++;
+            long delay = Math.min(INITIAL_RETRY_DELAY_MS << Math.min(failures - 1, 16), MAX_RETRY_DELAY_MS);
+            nextAttemptMillis = System.currentTimeMillis() + delay;
+            log.error("병원 스냅샷을 DB에서 구성하지 못했습니다 ({}회째, {}초 후 재시도): {}",
+                    failures, delay / 1000, e.getMessage());
+            return;
+        }
+        snapshot = new Snapshot(active);
+        ready = true;
+        failures = 0;
+        log.info("병원 스냅샷 구성 완료 - {}건, SIMD: {}", snapshot.size(), HaversineKernel.isVectorized());
+        eventPublisher.publishEvent(new HospitalSnapshotChangedEvent(snapshot, null));
+    }
+
+    /**
+     * 첫 구성이 실패했으면 백오프 시각이 지난 뒤 다시 구성
+     */
+    @Scheduled(fixedDelay = RETRY_CHECK_INTERVAL_MS)
+    public synchronized void retryRebuild() {
+        if (!ready && System.currentTimeMillis() >= nextAttemptMillis) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 에서 스냅샷을 한 번이라도 구성했는지 (그 전에는 파생 인덱스가 비어 있음)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 연속 구성 실패 횟수
+     */
+    public synchronized int failures() {
+        return failures;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onHospitalChanged(HospitalChangedEvent event) {
+        Long hospitalId = event.hospitalId();
+        List<Hospital> active = new ArrayList<>(snapshot.active.size() + 1);
+        for (Hospital hospital : snapshot.active) {
+            if (!Objects.equals(hospital.getId(), hospitalId)) {
+                active.add(hospital);
+            }
+        }
+        if (event.type() != HospitalChangedEvent.ChangeType.DELETED && event.hospital().isActive()) {
+            active.add(event.hospital());
+        }
+        snapshot = new Snapshot(active);
+        // 잠금 안에서 발행해 파생 인덱스가 스냅샷 교체 순서대로 반영되도록 함
+        eventPublisher.publishEvent(new HospitalSnapshotChangedEvent(snapshot, event));
+    }
+
+    // 행정구역 컬럼이 비어 있는 병원을 주소로 채움 (지역 순위가 스냅샷에서 지역 키를 읽으므로 적재 전에 수행)
+    // 같은 행정구역끼리 묶어 벌크 UPDATE 로 갱신하므로 병원별 변경 이벤트 없이 이후 스냅샷 한 번만 발행됨
+    private void assignMissingRegions() {
+        List<Hospital> unassigned = hospitalRepository.findBySidoIsNull();
+        if (unassigned.isEmpty()) {
+            return;
+        }
+        Map<Region, List<Long>> groups = new HashMap<>();
+        for (Hospital hospital : unassigned) {
+            KoreanAddressParser.AddressComponents components = geocodingService.resolveRegion(hospital.getAddress());
+            groups.computeIfAbsent(new Region(components.sido, components.sigungu, components.dong),
+                    key -> new ArrayList<>()).add(hospital.getId());
+        }
+        groups.forEach((region, ids) -> hospitalRepository.updateRegion(ids, region.sido(), region.sigungu(), region.dong()));
+        log.info("병원 행정구역 채우기 완료 - {}건 ({}개 구역)", unassigned.size(), groups.size());
+    }
+
+    private record Region(String sido, String sigungu, String dong) {
+    }
+
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * 반경 내 병원 조회 (가까운 순)
+     * @param filter 추가 조건, 없으면 null
+     */
+    public List<Candidate> findWithin(double latitude, double longitude, double radiusKm, Predicate<Hospital> filter) {
+        Snapshot current = snapshot;
+        double[] distances = current.distancesFrom(latitude, longitude);
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < distances.length; i++) {
+            if (distances[i] <= radiusKm && (filter == null || filter.test(current.hospital(i)))) {
+                candidates.add(new Candidate(current.hospital(i), distances[i]));
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::distance));
+        return candidates;
+    }
+
+    private static boolean isIndexable(Hospital hospital) {
+        return hospital.isActive() && hospital.getLatitude() != null && hospital.getLongitude() != null;
+    }
+
+    /**
+     * 거리 계산이 끝난 후보 병원
+     */
+    public record Candidate(Hospital hospital, double distance) {
+    }
+
+    /**
+     * 불변 병원 스냅샷 (좌표가 있는 병원 목록과 같은 순서의 좌표 버퍼, 좌표가 없는 병원까지 포함한 활성 병원 목록)
+     */
+    public static final class Snapshot {
+        private final List<Hospital> active;
+        private final List<Hospital> hospitals;
+        private final CoordinateBuffer coordinates;
+        private final HospitalFeatures features;
+
+        Snapshot(List<Hospital> active) {
+            this.active = Collections.unmodifiableList(active);
+            List<Hospital> hospitals = active.stream()
+                    .filter(HospitalSnapshotService::isIndexable)
+                    .toList();
+            this.hospitals = hospitals;
+            double[] latitudes = new double[hospitals.size()];
+            double[] longitudes = new double[hospitals.size()];
+            for (int i = 0; i < hospitals.size(); i++) {
+                latitudes[i] = hospitals.get(i).getLatitude().doubleValue();
+                longitudes[i] = hospitals.get(i).getLongitude().doubleValue();
+            }
+            this.coordinates = new CoordinateBuffer(latitudes, longitudes);
+            this.features = HospitalFeatures.of(hospitals);
+        }
+
+        public int size() {
+            return hospitals.size();
+        }
+
+        public Hospital hospital(int index) {
+            return hospitals.get(index);
+        }
+
+        public List<Hospital> hospitals() {
+            return hospitals;
+        }
+
+        /**
+         * 좌표가 없는 병원까지 포함한 활성 병원 목록 (통계, 순위처럼 거리 계산이 필요 없는 인덱스용)
+         */
+        public List<Hospital> activeHospitals() {
+            return active;
+        }
+
+        public CoordinateBuffer coordinates() {
+            return coordinates;
+        }
+
+        public HospitalFeatures features() {
+            return features;
+        }
+
+        /**
+         * 기준점에서 모든 병원까지의 거리 (km), 인덱스는 hospital(index) 와 동일
+         */
+        public double[] distancesFrom(double latitude, double longitude) {
+            return HaversineKernel.distances(latitude, longitude, coordinates);
+        }
+    }
+}
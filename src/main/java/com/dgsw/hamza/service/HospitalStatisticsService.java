@@ -0,0 +1,48 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.entity.Hospital;
+import com.dgsw.hamza.event.HospitalChangedEvent;
+import com.dgsw.hamza.event.HospitalSnapshotChangedEvent;
+import com.dgsw.hamza.util.HospitalStatistics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 병원 통계 관리 서비스
+ * 병원 스냅샷이 처음 구성될 때 한 번 집계한 뒤 스냅샷 변경 이벤트로 증분 갱신하며, 통계 조회는 DB를 거치지 않습니다.
+ */
+@Service
+@Slf4j
+public class HospitalStatisticsService {
+
+    private final HospitalStatistics statistics = new HospitalStatistics();
+
+    @EventListener
+    public void onSnapshotChanged(HospitalSnapshotChangedEvent event) {
+        if (event.isRebuild()) {
+            statistics.clear();
+            event.snapshot().activeHospitals().forEach(this::upsert);
+            log.info("병원 통계 구성 완료 - {}건", statistics.snapshot().totalHospitals);
+        } else if (event.change().type() == HospitalChangedEvent.ChangeType.DELETED) {
+            statistics.remove(event.change().hospitalId());
+        } else {
+            upsert(event.change().hospital());
+        }
+    }
+
+    private void upsert(Hospital hospital) {
+        if (!hospital.isActive()) {
+            statistics.remove(hospital.getId());
+            return;
+        }
+        statistics.upsert(
+                hospital.getId(),
+                hospital.getDepartment(),
+                hospital.getRating() != null ? hospital.getRating().doubleValue() : null);
+    }
+
+    public HospitalStatistics.Snapshot current() {
+        return statistics.snapshot();
+    }
+}
@@ -3,13 +3,18 @@ package com.dgsw.hamza.service;
 import com.dgsw.hamza.dto.HospitalDto;
 import com.dgsw.hamza.entity.Hospital;
 import com.dgsw.hamza.repository.HospitalRepository;
+import com.dgsw.hamza.service.scoring.HospitalFeatures;
+import com.dgsw.hamza.service.scoring.HospitalRankingPipeline;
+import com.dgsw.hamza.service.scoring.ScoringContext;
 import com.dgsw.hamza.util.LocationCalculator;
+import com.dgsw.hamza.util.RouteOptimizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +25,11 @@ import java.util.stream.Collectors;
 public class LocationService {
 
     private final HospitalRepository hospitalRepository;
+    private final HospitalDensityService hospitalDensityService;
+    private final HospitalSnapshotService hospitalSnapshotService;
+    private final HospitalRankingPipeline rankingPipeline;
+    private final RegionalRankingService regionalRankingService;
+    private final EmergencyHospitalIndex emergencyHospitalIndex;
 
     /**
      * 사용자 위치 기반 최적화된 병원 추천
@@ -34,142 +44,101 @@ public class LocationService {
         // 심각도에 따른 검색 반경 결정
         double searchRadius = determineSearchRadius(severity);
         
-        // 심각도에 따른 병원 우선순위 결정
-        List<Object[]> nearbyHospitals = hospitalRepository.findNearbyHospitals(
-                BigDecimal.valueOf(userLatitude),
-                BigDecimal.valueOf(userLongitude),
-                searchRadius
-        );
+        // 스냅샷 전체에 대해 거리를 일괄 계산한 뒤, 반경 내 후보 중 상위 10개만 선택
+        HospitalSnapshotService.Snapshot snapshot = hospitalSnapshotService.current();
+        double[] distances = snapshot.distancesFrom(userLatitude, userLongitude);
+        ScoringContext context = new ScoringContext(snapshot.features(), distances, searchRadius);
 
-        return nearbyHospitals.stream()
-                .map(data -> {
-                    Hospital hospital = (Hospital) data[0];
-                    Double distance = (Double) data[1];
-                    
-                    // 심각도에 따른 우선순위 점수 계산
-                    double priorityScore = calculatePriorityScore(hospital, distance, severity);
-                    
-                    HospitalDto.HospitalInfo hospitalInfo = convertToHospitalInfo(hospital, distance);
-                    
-                    return hospitalInfo;
-                })
-                .sorted((h1, h2) -> {
-                    // 우선순위 점수 기반 정렬 (높은 점수 우선)
-                    double score1 = calculateDisplayScore(h1, severity);
-                    double score2 = calculateDisplayScore(h2, severity);
-                    return Double.compare(score2, score1);
-                })
-                .limit(10)
+        List<HospitalRankingPipeline.Ranked> ranked = rankingPipeline.rank(
+                context, i -> distances[i] <= searchRadius, severity, 10);
+
+        return ranked.stream()
+                .map(result -> toRankedInfo(snapshot, result, distances[result.index()]))
                 .collect(Collectors.toList());
     }
 
     /**
      * 응급상황 대응 병원 추천
+     * 응급 병원 상주 인덱스만 사용하므로 DB 장애 중에도 응답합니다.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<HospitalDto.HospitalInfo> recommendEmergencyHospitals(
             Double userLatitude, Double userLongitude) {
         
         log.info("응급상황 대응 병원 추천 - 위도: {}, 경도: {}", userLatitude, userLongitude);
 
-        // 응급상황에서는 더 넓은 반경으로 검색
-        List<Object[]> emergencyHospitals = hospitalRepository.findNearbyEmergencyHospitals(
-                BigDecimal.valueOf(userLatitude),
-                BigDecimal.valueOf(userLongitude),
-                20.0 // 20km 반경
-        );
+        // 응급상황에서는 더 넓은 반경으로 검색, 거리 우선 상위 5개
+        List<HospitalSnapshotService.Candidate> emergencyHospitals = emergencyHospitalIndex.findNearest(
+                userLatitude, userLongitude, 20.0, 5); // 20km 반경
 
         return emergencyHospitals.stream()
-                .map(data -> {
-                    Hospital hospital = (Hospital) data[0];
-                    Double distance = (Double) data[1];
-                    return convertToHospitalInfo(hospital, distance);
-                })
-                .sorted((h1, h2) -> {
-                    // 응급상황에서는 거리 우선 정렬
-                    if (h1.getDistance() == null && h2.getDistance() == null) return 0;
-                    if (h1.getDistance() == null) return 1;
-                    if (h2.getDistance() == null) return -1;
-                    return Double.compare(h1.getDistance(), h2.getDistance());
-                })
-                .limit(5)
+                .map(candidate -> convertToHospitalInfo(candidate.hospital(), candidate.distance()))
                 .collect(Collectors.toList());
     }
 
     /**
      * 지역별 병원 밀도 분석
      */
-    @Transactional(readOnly = true)
-    public Object analyzeHospitalDensity(Double centerLat, Double centerLon, Double radiusKm) {
+    public HospitalDto.DensityAnalysis analyzeHospitalDensity(Double centerLat, Double centerLon, Double radiusKm) {
         log.info("지역별 병원 밀도 분석 - 중심좌표: ({}, {}), 반경: {}km", 
                 centerLat, centerLon, radiusKm);
 
-        // 경계 박스 계산
-        LocationCalculator.BoundingBox boundingBox = LocationCalculator.calculateBoundingBox(
-                centerLat, centerLon, radiusKm);
-
-        // 경계 내 병원 조회
-        List<Hospital> hospitalsInArea = hospitalRepository.findHospitalsInBounds(
-                BigDecimal.valueOf(boundingBox.south),
-                BigDecimal.valueOf(boundingBox.north),
-                BigDecimal.valueOf(boundingBox.west),
-                BigDecimal.valueOf(boundingBox.east)
-        );
-
-        // 밀도 계산
-        double areaKm2 = Math.PI * radiusKm * radiusKm;
-        double density = hospitalsInArea.size() / areaKm2;
-
-        // 부서별 분포 계산
-        var departmentDistribution = hospitalsInArea.stream()
-                .collect(Collectors.groupingBy(
-                        Hospital::getDepartment,
-                        Collectors.counting()
-                ));
+        if (!LocationCalculator.isValidCoordinate(centerLat, centerLon) || radiusKm == null || radiusKm <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 위치 정보입니다.");
+        }
 
-        return new Object() {
-            public final int totalHospitals = hospitalsInArea.size();
-            public final double densityPerKm2 = density;
-            public final double areaKm2 = LocationService.this.calculateAreaKm2(radiusKm);
-            public final Object departmentDist = departmentDistribution; // 이름 변경
-            public final double averageRating = hospitalsInArea.stream()
-                    .filter(h -> h.getRating() != null)
-                    .mapToDouble(h -> h.getRating().doubleValue())
-                    .average()
-                    .orElse(0.0);
-        };
+        // 밀도 격자에서 바로 합산 (병원 엔티티 조회 없음)
+        return hospitalDensityService.analyze(centerLat, centerLon, radiusKm);
     }
 
     /**
      * 최적 경로 계산 (여러 병원 방문)
      */
-    public List<HospitalDto.HospitalInfo> calculateOptimalRoute(
+    @Transactional(readOnly = true)
+    public HospitalDto.RouteResponse calculateOptimalRoute(
             Double startLat, Double startLon, List<Long> hospitalIds) {
         
         log.info("최적 경로 계산 - 시작점: ({}, {}), 병원 수: {}", 
                 startLat, startLon, hospitalIds.size());
 
+        if (!LocationCalculator.isValidCoordinate(startLat, startLon)) {
+            throw new IllegalArgumentException("유효하지 않은 위치 정보입니다.");
+        }
+
         // 병원 정보 조회
         List<Hospital> hospitals = hospitalRepository.findAllById(hospitalIds);
-        
-        // 각 병원까지의 거리 계산
-        List<HospitalWithDistance> hospitalDistances = hospitals.stream()
-                .map(hospital -> {
-                    double distance = LocationCalculator.calculateDistance(
-                            startLat, startLon,
-                            hospital.getLatitude().doubleValue(),
-                            hospital.getLongitude().doubleValue()
-                    );
-                    return new HospitalWithDistance(hospital, distance);
-                })
-                .collect(Collectors.toList());
 
-        // 최적 경로 계산 (가장 가까운 순서로 정렬)
-        hospitalDistances.sort((h1, h2) -> Double.compare(h1.distance, h2.distance));
+        double[] latitudes = new double[hospitals.size()];
+        double[] longitudes = new double[hospitals.size()];
+        for (int i = 0; i < hospitals.size(); i++) {
+            latitudes[i] = hospitals.get(i).getLatitude().doubleValue();
+            longitudes[i] = hospitals.get(i).getLongitude().doubleValue();
+        }
 
-        return hospitalDistances.stream()
-                .map(hwd -> convertToHospitalInfo(hwd.hospital, hwd.distance))
-                .collect(Collectors.toList());
+        // 방문 순서 최적화 (최근접 이웃 + 2-opt / Or-opt)
+        RouteOptimizer.Route route = RouteOptimizer.optimize(startLat, startLon, latitudes, longitudes);
+
+        List<HospitalDto.RouteStop> stops = new ArrayList<>(route.order.length);
+        double cumulative = 0;
+        for (int i = 0; i < route.order.length; i++) {
+            double leg = route.legDistances[i];
+            cumulative += leg;
+            double directDistance = LocationCalculator.calculateDistance(
+                    startLat, startLon, latitudes[route.order[i]], longitudes[route.order[i]]);
+            stops.add(HospitalDto.RouteStop.builder()
+                    .order(i + 1)
+                    .hospital(convertToHospitalInfo(hospitals.get(route.order[i]), directDistance))
+                    .legDistance(leg)
+                    .cumulativeDistance(cumulative)
+                    .build());
+        }
+
+        return HospitalDto.RouteResponse.builder()
+                .startLatitude(startLat)
+                .startLongitude(startLon)
+                .stops(stops)
+                .totalDistance(route.totalDistance)
+                .build();
     }
 
     /**
@@ -186,7 +155,7 @@ public class LocationService {
         double distanceScore = Math.max(0, 100 - (distance * 10)); // 거리 점수
         double ratingScore = hospital.getRating() != null ? 
                 hospital.getRating().doubleValue() * 20 : 50; // 평점 점수
-        double facilityScore = calculateFacilityScore(hospital); // 편의시설 점수
+        double facilityScore = HospitalFeatures.facilityScore(hospital); // 편의시설 점수
 
         return (distanceScore * 0.4) + (ratingScore * 0.4) + (facilityScore * 0.2);
     }
@@ -198,21 +167,14 @@ public class LocationService {
     public List<HospitalDto.HospitalInfo> getRegionalHospitalRanking(String region) {
         log.info("지역별 병원 추천 순위 - 지역: {}", region);
 
-        List<Hospital> regionalHospitals = hospitalRepository.findByRegion(region);
-
-        return regionalHospitals.stream()
-                .map(hospital -> {
-                    double score = calculateRegionalScore(hospital);
-                    return convertToHospitalInfo(hospital, null);
-                })
-                .sorted((h1, h2) -> {
-                    // 평점 기준 정렬
-                    if (h1.getRating() == null && h2.getRating() == null) return 0;
-                    if (h1.getRating() == null) return 1;
-                    if (h2.getRating() == null) return -1;
-                    return h2.getRating().compareTo(h1.getRating());
+        // 지역별로 미리 계산된 상위 순위를 그대로 사용
+        return regionalRankingService.getRanking(region).stream()
+                .map(ranked -> {
+                    HospitalDto.HospitalInfo info = convertToHospitalInfo(ranked.hospital(), null);
+                    info.setScore(ranked.score());
+                    info.setScoreBreakdown(ranked.breakdown());
+                    return info;
                 })
-                .limit(10)
                 .collect(Collectors.toList());
     }
 
@@ -233,74 +195,12 @@ public class LocationService {
         }
     }
 
-    private double calculatePriorityScore(Hospital hospital, Double distance, String severity) {
-        double baseScore = 50.0;
-        
-        // 평점 점수 (0-30점)
-        if (hospital.getRating() != null) {
-            baseScore += hospital.getRating().doubleValue() * 6;
-        }
-        
-        // 거리 점수 (0-20점)
-        if (distance != null) {
-            baseScore += Math.max(0, 20 - (distance * 2));
-        }
-        
-        // 심각도별 보너스
-        if ("VERY_SEVERE".equals(severity) || "SEVERE".equals(severity)) {
-            if (Boolean.TRUE.equals(hospital.getIsEmergency())) {
-                baseScore += 20; // 응급실 보너스
-            }
-        }
-        
-        // 편의시설 점수 (0-10점)
-        baseScore += calculateFacilityScore(hospital);
-        
-        return baseScore;
-    }
-
-    private double calculateDisplayScore(HospitalDto.HospitalInfo hospital, String severity) {
-        double score = 0.0;
-        
-        if (hospital.getRating() != null) {
-            score += hospital.getRating().doubleValue() * 20;
-        }
-        
-        if (hospital.getDistance() != null) {
-            score += Math.max(0, 20 - (hospital.getDistance() * 2));
-        }
-        
-        return score;
-    }
-
-    private double calculateFacilityScore(Hospital hospital) {
-        double score = 0.0;
-        
-        if (Boolean.TRUE.equals(hospital.getParkingAvailable())) {
-            score += 3.0;
-        }
-        
-        if (Boolean.TRUE.equals(hospital.getWheelchairAccessible())) {
-            score += 3.0;
-        }
-        
-        if (Boolean.TRUE.equals(hospital.getIsEmergency())) {
-            score += 4.0;
-        }
-        
-        return score;
-    }
-
-    private double calculateRegionalScore(Hospital hospital) {
-        double score = 0.0;
-        
-        if (hospital.getRating() != null) {
-            score += hospital.getRating().doubleValue() * 20;
-        }
-        
-        score += calculateFacilityScore(hospital);
-        
-        return score;
+    private HospitalDto.HospitalInfo toRankedInfo(HospitalSnapshotService.Snapshot snapshot,
+                                                  HospitalRankingPipeline.Ranked ranked, Double distance) {
+        HospitalDto.HospitalInfo info = convertToHospitalInfo(snapshot.hospital(ranked.index()), distance);
+        info.setScore(ranked.score());
+        info.setScoreBreakdown(ranked.breakdown());
+        return info;
     }
 
     private HospitalDto.HospitalInfo convertToHospitalInfo(Hospital hospital, Double distance) {
@@ -329,19 +229,4 @@ public class LocationService {
                 .isOpen(hospital.isCurrentlyOpen())
                 .build();
     }
-
-    private double calculateAreaKm2(Double radiusKm) {
-        return Math.PI * radiusKm * radiusKm;
-    }
-
-    // Inner class for hospital with distance
-    private static class HospitalWithDistance {
-        final Hospital hospital;
-        final double distance;
-
-        HospitalWithDistance(Hospital hospital, double distance) {
-            this.hospital = hospital;
-            this.distance = distance;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.HospitalDto;
+import com.dgsw.hamza.event.HospitalSnapshotChangedEvent;
+import com.dgsw.hamza.util.MarkerClusterIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 지도 마커 클러스터 서비스
+ * 병원 스냅샷이 바뀔 때마다 별도 스레드에서 모든 줌 레벨의 클러스터를 계산해 교체하므로, 조회는 계산을 기다리지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MarkerClusterService {
+
+    private final HospitalSnapshotService hospitalSnapshotService;
+
+    private volatile MarkerClusterIndex index =
+            new MarkerClusterIndex(new long[0], new double[0], new double[0], new double[0]);
+
+    @Async
+    @EventListener
+    public synchronized void onSnapshotChanged(HospitalSnapshotChangedEvent event) {
+        // 그 사이 더 새 스냅샷이 나왔다면 그 이벤트가 다시 계산하므로 건너뜀
+        if (event.snapshot() == hospitalSnapshotService.current()) {
+            index = build(event.snapshot());
+        }
+    }
+
+    /**
+     * 지도 영역과 줌 레벨에 맞는 클러스터 마커 조회
+     */
+    public HospitalDto.MarkerClusterResponse markers(double south, double west, double north, double east, int zoom) {
+        if (south > north || west > east) {
+            throw new IllegalArgumentException("유효하지 않은 영역입니다.");
+        }
+        if (zoom < MarkerClusterIndex.MIN_ZOOM || zoom > MarkerClusterIndex.MAX_ZOOM + 1) {
+            throw new IllegalArgumentException(
+                    "줌 레벨은 " + MarkerClusterIndex.MIN_ZOOM + "~" + (MarkerClusterIndex.MAX_ZOOM + 1) + " 사이여야 합니다.");
+        }
+
+        List<HospitalDto.MapMarker> markers = index.query(south, west, north, east, zoom).stream()
+                .map(marker -> HospitalDto.MapMarker.builder()
+                        .latitude(marker.latitude)
+                        .longitude(marker.longitude)
+                        .count(marker.count)
+                        .representativeId(marker.representativeId)
+                        .build())
+                .collect(Collectors.toList());
+
+        return HospitalDto.MarkerClusterResponse.builder()
+                .zoom(zoom)
+                .totalHospitals(markers.stream().mapToInt(HospitalDto.MapMarker::getCount).sum())
+                .markers(markers)
+                .build();
+    }
+
+    private MarkerClusterIndex build(HospitalSnapshotService.Snapshot snapshot) {
+        long start = System.nanoTime();
+        int size = snapshot.size();
+        long[] ids = new long[size];
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = snapshot.hospital(i).getId();
+            latitudes[i] = snapshot.coordinates().latitude(i);
+            longitudes[i] = snapshot.coordinates().longitude(i);
+            weights[i] = snapshot.features().rating(i); // 평점이 높은 병원을 대표로 사용
+        }
+        MarkerClusterIndex built = new MarkerClusterIndex(ids, latitudes, longitudes, weights);
+        log.info("지도 마커 클러스터 구성 완료 - {}건, {}ms", size, (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+}
@@ -0,0 +1,399 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.MediaConfig;
+import com.dgsw.hamza.entity.TreatmentContent;
+import com.dgsw.hamza.event.CatalogChangedEvent;
+import com.dgsw.hamza.repository.TreatmentContentRepository;
+import com.dgsw.hamza.util.ByteRange;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 치료 콘텐츠 미디어 제공 서비스
+ * 오디오/비디오 파일을 Range(206), 조건부 요청(304/412)과 함께 전송합니다.
+ * 본문은 Tomcat sendfile 로 커널에서 소켓으로 바로 보내고, sendfile 을 쓸 수 없으면 FileChannel.transferTo 로
+ * 고정 크기 버퍼만 거쳐 보내므로 파일 크기나 동시 청취자 수와 무관하게 힙 사용량이 일정합니다.
+ * 콘텐츠 파일 색인과 썸네일 너비별 변형은 기동 시와 치료법 카탈로그 변경 시 미리 만들어 두고 요청 시에는 파일만 고릅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MediaService {
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String THUMBNAIL_FORMAT = "jpg";
+
+    private final TreatmentContentRepository treatmentContentRepository;
+    private final MediaConfig config;
+
+    private final Object refreshLock = new Object();
+
+    // 콘텐츠 ID -> 파일 경로 (기동 시와 치료법 카탈로그 변경 시 별도 스레드에서 교체)
+    private volatile MediaIndex index = new MediaIndex(Map.of(), Map.of());
+
+    /**
+     * 콘텐츠의 오디오/비디오 파일
+     */
+    public MediaFile media(Long contentId) {
+        Path path = index.media().get(contentId);
+        MediaFile file = path != null ? stat(path, root()) : null;
+        if (file == null) {
+            throw new EntityNotFoundException("미디어 콘텐츠를 찾을 수 없습니다.");
+        }
+        return file;
+    }
+
+    /**
+     * 콘텐츠 썸네일 (요청 너비 이상인 가장 작은 변형, 최신 변형이 없으면 원본)
+     * @param width 요청 너비 (null 이면 원본)
+     */
+    public MediaFile thumbnail(Long contentId, Integer width) {
+        if (width != null && width <= 0) {
+            throw new IllegalArgumentException("썸네일 너비는 1 이상이어야 합니다.");
+        }
+        Path source = index.thumbnails().get(contentId);
+        MediaFile original = source != null ? stat(source, root()) : null;
+        if (original == null) {
+            throw new EntityNotFoundException("썸네일을 찾을 수 없습니다.");
+        }
+        if (width == null) {
+            return original;
+        }
+        MediaFile variant = stat(variantPath(contentId, variantWidth(width)), thumbnailDirectory());
+        return variant != null && variant.lastModified() >= original.lastModified() ? variant : original;
+    }
+
+    /**
+     * 파일 전송 (GET/HEAD)
+     * 캐시 헤더와 강한 ETag, Last-Modified 를 붙이고 조건부 요청과 단일 구간 Range 요청을 처리합니다.
+     */
+    public void serve(MediaFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(config.getMaxAge()).cachePublic().getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (!preconditionsMatch(request, file)) {
+            response.setStatus(HttpServletResponse.SC_PRECONDITION_FAILED);
+            return;
+        }
+        if (new ServletWebRequest(request, response).checkNotModified(file.etag(), file.lastModified())) {
+            return;
+        }
+
+        ByteRange range = range(request, file);
+        long start = 0;
+        long length = file.size();
+        if (range != null) {
+            if (!range.isSatisfiable()) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, ByteRange.unsatisfiedRange(file.size()));
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(file.size()));
+            start = range.start();
+            length = range.length();
+        }
+        response.setContentType(file.mediaType().toString());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 핸들러가 끝난 뒤 커넥터가 파일을 소켓으로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long end = start + length;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, out);
+                if (sent <= 0) {
+                    break; // 전송 중 파일이 줄어든 경우
+                }
+                position += sent;
+            }
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true,
+            condition = "#event.catalog() == T(com.dgsw.hamza.enums.Catalog).TREATMENTS")
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 콘텐츠 ID -> 파일 경로 색인을 새로 만들어 교체한 뒤 썸네일 변형 생성 (원본보다 새로운 변형이 이미 있으면 건너뜀)
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            MediaIndex current = buildIndex();
+            index = current;
+
+            int generated = 0;
+            for (Map.Entry<Long, Path> entry : current.thumbnails().entrySet()) {
+                if (!Files.isRegularFile(entry.getValue())) {
+                    continue;
+                }
+                try {
+                    generated += generateVariants(entry.getKey(), entry.getValue());
+                } catch (IOException e) {
+                    log.warn("썸네일 생성 실패 - 콘텐츠 {}: {}", entry.getKey(), e.getMessage());
+                }
+            }
+            if (generated > 0) {
+                log.info("썸네일 변형 생성 - {}개", generated);
+            }
+        }
+    }
+
+    private MediaIndex buildIndex() {
+        Map<Long, Path> media = new HashMap<>();
+        Map<Long, Path> thumbnails = new HashMap<>();
+        for (TreatmentContent content : treatmentContentRepository.findActiveContents()) {
+            Path file = resolve(content.getFileUrl());
+            if (file != null && (content.isAudioContent() || content.isVideoContent())) {
+                media.put(content.getId(), file);
+            }
+            Path thumbnail = resolve(content.getThumbnailUrl());
+            if (thumbnail != null) {
+                thumbnails.put(content.getId(), thumbnail);
+            }
+        }
+        log.info("미디어 색인 교체 - 미디어 {}건, 썸네일 {}건", media.size(), thumbnails.size());
+        return new MediaIndex(Map.copyOf(media), Map.copyOf(thumbnails));
+    }
+
+    // If-Match (강한 비교), 없으면 If-Unmodified-Since 검사 (RFC 9110 13.2.2 순서, GET/HEAD 에서도 412 를 보장하도록 직접 처리)
+    private static boolean preconditionsMatch(HttpServletRequest request, MediaFile file) {
+        Enumeration<String> ifMatch = request.getHeaders(HttpHeaders.IF_MATCH);
+        if (ifMatch != null && ifMatch.hasMoreElements()) {
+            while (ifMatch.hasMoreElements()) {
+                for (String tag : ifMatch.nextElement().split(",")) {
+                    String value = tag.trim();
+                    if (value.equals("*") || value.equals(file.etag())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        long ifUnmodifiedSince;
+        try {
+            ifUnmodifiedSince = request.getDateHeader(HttpHeaders.IF_UNMODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return true; // 형식이 잘못된 날짜는 무시
+        }
+        return ifUnmodifiedSince < 0
+                || TimeUnit.MILLISECONDS.toSeconds(file.lastModified()) <= TimeUnit.MILLISECONDS.toSeconds(ifUnmodifiedSince);
+    }
+
+    // If-Range 가 현재 파일과 다르면 Range 를 무시하고 전체 응답
+    private static ByteRange range(HttpServletRequest request, MediaFile file) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || !"GET".equals(request.getMethod())) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRangeMatches(ifRange.trim(), file)) {
+            return null;
+        }
+        return ByteRange.parse(header, file.size());
+    }
+
+    // If-Range 는 강한 비교만 허용 (약한 ETag 는 불일치)
+    private static boolean ifRangeMatches(String ifRange, MediaFile file) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(file.etag());
+        }
+        try {
+            long seconds = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return seconds == TimeUnit.MILLISECONDS.toSeconds(file.lastModified());
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    // 기준 디렉터리 아래의 로컬 파일 경로 (외부 URL 이거나 기준 디렉터리를 벗어나면 null)
+    private Path resolve(String url) {
+        if (url == null || url.isBlank() || url.contains("://")) {
+            return null;
+        }
+        Path root = root();
+        Path path = root.resolve(url.replaceFirst("^/+", "")).normalize();
+        return path.startsWith(root) ? path : null;
+    }
+
+    private Path root() {
+        return Paths.get(config.getRootDirectory()).toAbsolutePath().normalize();
+    }
+
+    // 파일 정보 (없거나 심볼릭 링크로 base 디렉터리를 벗어나면 null)
+    private static MediaFile stat(Path path, Path base) {
+        try {
+            Path real = path.toRealPath();
+            if (!real.startsWith(base.toRealPath())) {
+                return null;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(real, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+            // 크기 + 마이크로초 단위 수정 시각 (파일 내용이 바뀌면 달라지는 강한 검증자)
+            String etag = "\"" + Long.toString(size, 36) + "-"
+                    + Long.toString(attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS), 36) + "\"";
+            MediaType mediaType = MediaTypeFactory.getMediaType(real.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM);
+            return new MediaFile(real, size, modified, etag, mediaType);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private int generateVariants(Long contentId, Path source) throws IOException {
+        FileTime sourceModified = Files.getLastModifiedTime(source);
+        BufferedImage image = null;
+        int generated = 0;
+        for (int width : config.getThumbnailWidths()) {
+            Path target = variantPath(contentId, width);
+            if (Files.exists(target) && Files.getLastModifiedTime(target).compareTo(sourceModified) >= 0) {
+                continue;
+            }
+            if (image == null) {
+                image = ImageIO.read(source.toFile());
+                if (image == null) {
+                    throw new IOException("지원하지 않는 이미지 형식입니다");
+                }
+            }
+            write(scale(image, width), target);
+            generated++;
+        }
+        return generated;
+    }
+
+    private static void write(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            if (!ImageIO.write(image, THUMBNAIL_FORMAT, temp.toFile())) {
+                throw new IOException("썸네일 인코더를 찾을 수 없습니다");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    // 너비에 맞춰 비율 유지 축소 (원본보다 크게 늘리지 않음, 큰 배율은 절반씩 나눠 줄여 계단 현상 완화)
+    private static BufferedImage scale(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(currentWidth / 2, targetWidth);
+            currentHeight = Math.max(currentHeight / 2, targetHeight);
+            // JPEG 은 투명도가 없으므로 흰 배경에 그림
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    // 요청 너비 이상인 가장 작은 변형 너비 (없으면 가장 큰 변형)
+    private int variantWidth(int width) {
+        int best = -1;
+        int largest = -1;
+        for (int candidate : config.getThumbnailWidths()) {
+            largest = Math.max(largest, candidate);
+            if (candidate >= width && (best < 0 || candidate < best)) {
+                best = candidate;
+            }
+        }
+        return best >= 0 ? best : largest;
+    }
+
+    private Path variantPath(Long contentId, int width) {
+        return thumbnailDirectory().resolve(contentId + "-" + width + "." + THUMBNAIL_FORMAT);
+    }
+
+    private Path thumbnailDirectory() {
+        return Paths.get(config.getThumbnailDirectory()).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 전송할 파일 정보
+     * @param path 실제 경로 (심볼릭 링크 해석)
+     * @param lastModified 수정 시각 (epoch ms)
+     * @param etag 강한 ETag (따옴표 포함)
+     */
+    public record MediaFile(Path path, long size, long lastModified, String etag, MediaType mediaType) {
+    }
+
+    private record MediaIndex(Map<Long, Path> media, Map<Long, Path> thumbnails) {
+    }
+}
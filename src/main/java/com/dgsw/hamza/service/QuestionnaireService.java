@@ -0,0 +1,333 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.DiagnosisDto;
+import com.dgsw.hamza.entity.DiagnosisQuestion;
+import com.dgsw.hamza.entity.Questionnaire;
+import com.dgsw.hamza.event.CatalogChangedEvent;
+import com.dgsw.hamza.repository.QuestionnaireRepository;
+import com.dgsw.hamza.util.CatalogVersions;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * 설문 도구 정의 서비스
+ * DB 에 버전별로 저장된 설문 정의를 기동 시와 변경 커밋 시에만 읽어 불변 스냅샷으로 만듭니다.
+ * 스냅샷은 직렬화된 JSON 과 응답 객체(ETag, Cache-Control 포함)를 미리 갖고 있어
+ * 조회 요청은 DB 접근이나 직렬화 없이 같은 응답을 그대로 반환합니다.
+ */
+@Service
+@Slf4j
+public class QuestionnaireService {
+
+    public static final String PHQ9 = "PHQ-9";
+
+    // 최초 기동 시 DB 가 비어 있으면 등록하는 기본 정의
+    static final String SEED_RESOURCE = "diagnosis/questionnaires.json";
+
+    // 현재 버전 응답: 버전이 바뀌면 ETag 로 재검증
+    static final String CURRENT_CACHE_CONTROL = "public, max-age=3600";
+    // 버전이 지정된 응답: 내용이 바뀌지 않으므로 장기 캐시
+    static final String VERSIONED_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final QuestionnaireRepository questionnaireRepository;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot;
+
+    public QuestionnaireService(QuestionnaireRepository questionnaireRepository, ObjectMapper objectMapper) {
+        this.questionnaireRepository = questionnaireRepository;
+        this.objectMapper = objectMapper;
+        this.snapshot = build(List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (questionnaireRepository.count() == 0) {
+            List<Questionnaire> seeds = loadSeeds();
+            questionnaireRepository.saveAll(seeds);
+            log.info("기본 설문 정의 등록 - {}건", seeds.size());
+        }
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true,
+            condition = "#event.catalog() == T(com.dgsw.hamza.enums.Catalog).DIAGNOSIS_QUESTIONS")
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        reload();
+    }
+
+    private void reload() {
+        List<Definition> definitions = new ArrayList<>();
+        for (Questionnaire questionnaire : questionnaireRepository.findAllWithQuestions()) {
+            definitions.add(new Definition(questionnaire.isActive(), toResponse(questionnaire)));
+        }
+        snapshot = build(definitions);
+        log.info("설문 정의 스냅샷 구성 완료 - {}종, {}개 버전", snapshot.current.size(), definitions.size());
+    }
+
+    /**
+     * 현재 버전 설문 정의 목록 응답
+     */
+    public CachedBody currentList() {
+        return snapshot.list;
+    }
+
+    /**
+     * 설문 도구의 현재 버전 응답
+     * @param code 설문 도구 코드 (대소문자 무시)
+     */
+    public CachedBody current(String code) {
+        CachedBody body = snapshot.currentBodies.get(code.toUpperCase(Locale.ROOT));
+        if (body == null) {
+            throw new IllegalArgumentException("설문 정의를 찾을 수 없습니다: " + code);
+        }
+        return body;
+    }
+
+    /**
+     * 설문 도구의 특정 버전 응답 (장기 캐시)
+     */
+    public CachedBody version(String code, int version) {
+        Map<Integer, CachedBody> versions = snapshot.versionBodies.get(code.toUpperCase(Locale.ROOT));
+        CachedBody body = versions != null ? versions.get(version) : null;
+        if (body == null) {
+            throw new IllegalArgumentException("설문 정의를 찾을 수 없습니다: " + code + " v" + version);
+        }
+        return body;
+    }
+
+    /**
+     * 기존 /questions 형식의 PHQ-9 문항 응답
+     */
+    public CachedBody phq9Questions() {
+        return snapshot.phq9Questions;
+    }
+
+    /**
+     * 현재 버전 설문 정의
+     * @return 없으면 null
+     */
+    public DiagnosisDto.QuestionnaireResponse definition(String code) {
+        return snapshot.current.get(code.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 현재 버전 문항 ID 집합
+     * @return 정의가 없으면 빈 집합
+     */
+    public Set<Long> questionIds(String code) {
+        return itemIndexes(code).keySet();
+    }
+
+    /**
+     * 현재 버전 문항 ID → 문항 위치(0부터, 채점표 문항 번호 - 1)
+     * @return 정의가 없으면 빈 맵
+     */
+    public Map<Long, Integer> itemIndexes(String code) {
+        return snapshot.itemIndexes.getOrDefault(code.toUpperCase(Locale.ROOT), Map.of());
+    }
+
+    private Snapshot build(List<Definition> definitions) {
+        // 코드별 활성 정의 중 가장 높은 버전이 현재 버전
+        Map<String, DiagnosisDto.QuestionnaireResponse> current = new TreeMap<>();
+        Map<String, Map<Integer, CachedBody>> versionBodies = new HashMap<>();
+        for (Definition entry : definitions) {
+            DiagnosisDto.QuestionnaireResponse definition = entry.response();
+            String code = definition.getCode();
+            versionBodies.computeIfAbsent(code, k -> new HashMap<>())
+                    .put(definition.getVersion(), render(code + "-v" + definition.getVersion(), definition, VERSIONED_CACHE_CONTROL));
+            if (entry.active()) {
+                current.merge(code, definition, (a, b) -> a.getVersion() >= b.getVersion() ? a : b);
+            }
+        }
+
+        Map<String, CachedBody> currentBodies = new HashMap<>();
+        Map<String, Map<Long, Integer>> itemIndexes = new HashMap<>();
+        for (DiagnosisDto.QuestionnaireResponse definition : current.values()) {
+            currentBodies.put(definition.getCode(), render(definition.getCode() + "-v" + definition.getVersion(),
+                    definition, CURRENT_CACHE_CONTROL));
+            Map<Long, Integer> indexes = new HashMap<>();
+            List<DiagnosisDto.QuestionResponse> questions = definition.getQuestions();
+            for (int i = 0; i < questions.size(); i++) {
+                indexes.put(questions.get(i).getQuestionId(), i);
+            }
+            itemIndexes.put(definition.getCode(), Collections.unmodifiableMap(indexes));
+        }
+
+        DiagnosisDto.QuestionnaireResponse phq9 = current.get(PHQ9);
+        return new Snapshot(
+                Collections.unmodifiableMap(new LinkedHashMap<>(current)),
+                currentBodies,
+                versionBodies,
+                itemIndexes,
+                render("questionnaires", List.copyOf(current.values()), CURRENT_CACHE_CONTROL),
+                render("phq-9-questions", phq9 != null ? phq9.getQuestions() : List.of(), CURRENT_CACHE_CONTROL));
+    }
+
+    private CachedBody render(String name, Object payload, String cacheControl) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(payload);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            String etag = "\"" + name.toLowerCase(Locale.ROOT) + "-" + Long.toHexString(crc.getValue()) + "\"";
+            return new CachedBody(body, etag, cacheControl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("설문 정의 직렬화 실패: " + name, e);
+        }
+    }
+
+    private static DiagnosisDto.QuestionnaireResponse toResponse(Questionnaire questionnaire) {
+        List<DiagnosisDto.QuestionResponse> questions = new ArrayList<>();
+        for (DiagnosisQuestion question : questionnaire.getQuestions()) {
+            if (question.isActive()) {
+                questions.add(DiagnosisDto.QuestionResponse.builder()
+                        .questionId(question.getId())
+                        .questionText(question.getQuestionText())
+                        .questionOrder(question.getQuestionOrder())
+                        .isActive(true)
+                        .build());
+            }
+        }
+        List<DiagnosisDto.AnswerOptionResponse> options = new ArrayList<>();
+        for (Questionnaire.AnswerOption option : questionnaire.getAnswerOptions()) {
+            options.add(new DiagnosisDto.AnswerOptionResponse(option.getLabel(), option.getScore()));
+        }
+        return DiagnosisDto.QuestionnaireResponse.builder()
+                .code(questionnaire.getCode().toUpperCase(Locale.ROOT))
+                .version(questionnaire.getVersion())
+                .title(questionnaire.getTitle())
+                .description(questionnaire.getDescription())
+                .answerOptions(List.copyOf(options))
+                .questions(List.copyOf(questions))
+                .build();
+    }
+
+    private List<Questionnaire> loadSeeds() {
+        try (InputStream in = new ClassPathResource(SEED_RESOURCE).getInputStream()) {
+            List<Questionnaire> questionnaires = new ArrayList<>();
+            for (Seed seed : objectMapper.readValue(in, Seed[].class)) {
+                Questionnaire questionnaire = Questionnaire.builder()
+                        .code(seed.code())
+                        .version(seed.version())
+                        .title(seed.title())
+                        .description(seed.description())
+                        .build();
+                seed.answerOptions().forEach(option -> questionnaire.getAnswerOptions()
+                        .add(new Questionnaire.AnswerOption(option.label(), option.score())));
+                for (int i = 0; i < seed.questions().size(); i++) {
+                    questionnaire.addQuestion(DiagnosisQuestion.builder()
+                            .questionText(seed.questions().get(i))
+                            .questionOrder(i + 1)
+                            .category(seed.code())
+                            .build());
+                }
+                questionnaires.add(questionnaire);
+            }
+            return questionnaires;
+        } catch (IOException e) {
+            throw new IllegalStateException("기본 설문 정의를 불러올 수 없습니다: " + SEED_RESOURCE, e);
+        }
+    }
+
+    private record Definition(boolean active, DiagnosisDto.QuestionnaireResponse response) {
+    }
+
+    private record Seed(String code, Integer version, String title, String description,
+                        List<SeedOption> answerOptions, List<String> questions) {
+    }
+
+    private record SeedOption(String label, Integer score) {
+    }
+
+    /**
+     * 미리 만들어 둔 JSON 응답 (본문, ETag, 200/304 응답 객체)
+     */
+    public static final class CachedBody {
+        private final byte[] body;
+        private final String etag;
+        private final ResponseEntity<byte[]> ok;
+        private final ResponseEntity<byte[]> notModified;
+
+        CachedBody(byte[] body, String etag, String cacheControl) {
+            this.body = body;
+            this.etag = etag;
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setETag(etag);
+            headers.setCacheControl(cacheControl);
+            this.notModified = new ResponseEntity<>(HttpHeaders.readOnlyHttpHeaders(headers), HttpStatus.NOT_MODIFIED);
+
+            HttpHeaders okHeaders = new HttpHeaders();
+            okHeaders.putAll(headers);
+            okHeaders.setContentType(MediaType.APPLICATION_JSON);
+            this.ok = new ResponseEntity<>(body, HttpHeaders.readOnlyHttpHeaders(okHeaders), HttpStatus.OK);
+        }
+
+        public byte[] body() {
+            return body;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        /**
+         * If-None-Match 가 일치하면 304, 아니면 200 응답 (요청마다 같은 객체)
+         */
+        public ResponseEntity<byte[]> respond(String ifNoneMatch) {
+            if (ifNoneMatch != null && (etag.equals(ifNoneMatch) || CatalogVersions.matches(ifNoneMatch, etag))) {
+                return notModified;
+            }
+            return ok;
+        }
+    }
+
+    private static final class Snapshot {
+        final Map<String, DiagnosisDto.QuestionnaireResponse> current;
+        final Map<String, CachedBody> currentBodies;
+        final Map<String, Map<Integer, CachedBody>> versionBodies;
+        final Map<String, Map<Long, Integer>> itemIndexes;
+        final CachedBody list;
+        final CachedBody phq9Questions;
+
+        Snapshot(Map<String, DiagnosisDto.QuestionnaireResponse> current,
+                 Map<String, CachedBody> currentBodies,
+                 Map<String, Map<Integer, CachedBody>> versionBodies,
+                 Map<String, Map<Long, Integer>> itemIndexes,
+                 CachedBody list,
+                 CachedBody phq9Questions) {
+            this.current = current;
+            this.currentBodies = currentBodies;
+            this.versionBodies = versionBodies;
+            this.itemIndexes = itemIndexes;
+            this.list = list;
+            this.phq9Questions = phq9Questions;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.RecommendationDto;
+import com.dgsw.hamza.dto.TreatmentDto;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.RecommendationPriority;
+import com.dgsw.hamza.enums.TreatmentType;
+import com.dgsw.hamza.event.UserTreatmentChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 치료 추천 결과 캐시 (키: 사용자 ID, 최근 사용 순으로 최대 MAX_USERS 명, 항목은 ENTRY_TTL 후 만료)
+ * 사용자 항목 안에서 (진단 ID, 요청 조건)별 응답을 불변 스냅샷으로 보관하고, 조회할 때마다 새 DTO 로 만들어 반환합니다.
+ * 새 진단, 치료 진행, 추천 상태가 바뀌면 해당 사용자 항목을 지우고 사용자 세대를 올려 진행 중이던 계산 결과도 저장되지 않게 하며,
+ * 치료법 카탈로그 스냅샷이나 유사도 행렬이 바뀌면 항목의 버전이 맞지 않아 다음 조회 때 버려집니다.
+ */
+@Component
+@Slf4j
+public class RecommendationCache {
+
+    static final String METRIC = "recommendation.cache.requests";
+
+    // 캐시에 둘 최대 사용자 수 (넘으면 가장 오래 조회되지 않은 사용자부터 제거)
+    static final int MAX_USERS = 10_000;
+
+    // 사용자당 보관할 최대 응답 수 (요청 조건 조합이 많아도 메모리 상한 유지)
+    static final int MAX_ENTRIES_PER_USER = 32;
+
+    // 사용자 항목 유지 시간 (변경 이벤트를 놓쳐도 이 시간 이후에는 다시 계산)
+    static final Duration ENTRY_TTL = Duration.ofMinutes(30);
+
+    // 사용자 세대 슬롯 수 (사용자 ID 로 나눠 쓰므로 사용자가 늘어도 메모리 고정, 충돌 시 저장을 한 번 더 건너뛸 뿐)
+    private static final int GENERATION_SLOTS = 4096;
+
+    private final TreatmentCatalogService treatmentCatalogService;
+    private final TreatmentSimilarityService treatmentSimilarityService;
+    private final LinkedHashMap<Long, UserEntries> users = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserEntries> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public RecommendationCache(TreatmentCatalogService treatmentCatalogService,
+                               TreatmentSimilarityService treatmentSimilarityService,
+                               MeterRegistry meterRegistry) {
+        this.treatmentCatalogService = treatmentCatalogService;
+        this.treatmentSimilarityService = treatmentSimilarityService;
+        this.hits = Counter.builder(METRIC).tag("result", "hit")
+                .description("치료 추천 캐시 조회").register(meterRegistry);
+        this.misses = Counter.builder(METRIC).tag("result", "miss")
+                .description("치료 추천 캐시 조회").register(meterRegistry);
+        this.evictions = Counter.builder("recommendation.cache.evictions")
+                .description("치료 추천 캐시 사용자 항목 삭제").register(meterRegistry);
+    }
+
+    /**
+     * 추천 계산에 쓰이는 데이터 버전 (치료법 카탈로그 스냅샷, 유사도 행렬, 사용자 세대)
+     */
+    public record Version(long catalog, long similarity, long generation) {
+    }
+
+    /**
+     * 사용자 기준 현재 데이터 버전 (추천 계산 전에 읽어 put 에 전달)
+     * 카탈로그 버전은 순위 계산이 실제로 읽는 TreatmentCatalogService 스냅샷의 버전입니다.
+     */
+    public Version version(Long userId) {
+        return new Version(treatmentCatalogService.current().version, treatmentSimilarityService.version(),
+                generations.get(slot(userId)));
+    }
+
+    /**
+     * 캐시된 추천 응답 (호출마다 새 DTO, 추천 일시는 조회 시각)
+     * @return 없거나 만료됐거나 카탈로그/유사도 행렬이 바뀌었으면 null
+     */
+    public RecommendationDto.RecommendationResponse get(Long userId, RecommendationDto.RecommendationRequest request) {
+        Version current = version(userId);
+        CachedResponse cached = null;
+        synchronized (users) {
+            UserEntries entries = users.get(userId);
+            if (entries != null) {
+                if (entries.version.equals(current) && !entries.isExpired()) {
+                    cached = entries.responses.get(key(request));
+                } else {
+                    users.remove(userId);
+                }
+            }
+        }
+        (cached != null ? hits : misses).increment();
+        return cached != null ? cached.toResponse(LocalDateTime.now()) : null;
+    }
+
+    /**
+     * 추천 응답 저장 (트랜잭션 중이면 커밋 이후에 저장)
+     * 응답은 바로 복사해 두므로 이후 호출자가 DTO 를 수정해도 캐시에는 반영되지 않습니다.
+     * @param version 계산 전에 읽은 데이터 버전 (계산 중 카탈로그, 행렬, 사용자 데이터가 바뀌면 저장하지 않음)
+     */
+    public void put(Long userId, RecommendationDto.RecommendationRequest request, Version version,
+                    RecommendationDto.RecommendationResponse response) {
+        RecommendationDto.RecommendationRequest key = key(request);
+        CachedResponse cached = CachedResponse.of(response);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(userId, key, version, cached);
+                }
+            });
+        } else {
+            store(userId, key, version, cached);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserTreatmentChanged(UserTreatmentChangedEvent event) {
+        // 세대를 먼저 올려 이 시점 이전에 시작한 계산이 지운 뒤에 다시 저장하지 못하게 함
+        generations.incrementAndGet(slot(event.userId()));
+        synchronized (users) {
+            users.remove(event.userId());
+        }
+        evictions.increment();
+        log.debug("사용자 {} 추천 캐시 삭제 - {}", event.userId(), event.cause());
+    }
+
+    /**
+     * 캐시된 사용자 수
+     */
+    public int size() {
+        synchronized (users) {
+            return users.size();
+        }
+    }
+
+    private void store(Long userId, RecommendationDto.RecommendationRequest key, Version version,
+                       CachedResponse response) {
+        synchronized (users) {
+            // 세대 비교와 저장을 같은 잠금 안에서 해서 삭제 직후의 저장을 막음
+            if (!version.equals(version(userId))) {
+                return;
+            }
+            UserEntries entries = users.get(userId);
+            if (entries == null || !entries.version.equals(version) || entries.isExpired()) {
+                entries = new UserEntries(version);
+                users.put(userId, entries);
+            }
+            if (entries.responses.size() >= MAX_ENTRIES_PER_USER) {
+                entries.responses.clear();
+            }
+            entries.responses.put(key, response);
+        }
+    }
+
+    private static int slot(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), GENERATION_SLOTS);
+    }
+
+    // 요청 조건 복사본 (DTO 가 변경되어도 키가 바뀌지 않도록)
+    private static RecommendationDto.RecommendationRequest key(RecommendationDto.RecommendationRequest request) {
+        return RecommendationDto.RecommendationRequest.builder()
+                .diagnosisId(request.getDiagnosisId())
+                .maxRecommendations(request.getMaxRecommendations())
+                .includeTypes(request.getIncludeTypes() != null ? new ArrayList<>(request.getIncludeTypes()) : null)
+                .excludeTypes(request.getExcludeTypes() != null ? new ArrayList<>(request.getExcludeTypes()) : null)
+                .maxDuration(request.getMaxDuration())
+                .personalizeRecommendation(request.getPersonalizeRecommendation())
+                .build();
+    }
+
+    // 목록 복사 (불변)
+    private static <T, R> List<R> copy(List<T> values, Function<T, R> mapper) {
+        return values != null ? values.stream().map(mapper).toList() : null;
+    }
+
+    // 목록 복원 (DTO 용 수정 가능한 목록)
+    private static <T, R> List<R> restore(List<T> values, Function<T, R> mapper) {
+        return values != null ? values.stream().map(mapper).collect(Collectors.toList()) : null;
+    }
+
+    private static final class UserEntries {
+        private final Version version;
+        private final long expiresAt = System.currentTimeMillis() + ENTRY_TTL.toMillis();
+        private final Map<RecommendationDto.RecommendationRequest, CachedResponse> responses = new HashMap<>();
+
+        private UserEntries(Version version) {
+            this.version = version;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+
+    // 추천 응답 불변 스냅샷 (추천 일시는 보관하지 않음)
+    private record CachedResponse(Long recommendationId, Long diagnosisId, DiagnosisSeverity diagnosisSeverity,
+                                  List<CachedRecommendation> recommendations, String status,
+                                  Integer totalRecommendations, Boolean hasUrgentRecommendations, String summary) {
+
+        static CachedResponse of(RecommendationDto.RecommendationResponse response) {
+            return new CachedResponse(response.getRecommendationId(), response.getDiagnosisId(),
+                    response.getDiagnosisSeverity(), copy(response.getRecommendations(), CachedRecommendation::of),
+                    response.getStatus(), response.getTotalRecommendations(),
+                    response.getHasUrgentRecommendations(), response.getSummary());
+        }
+
+        RecommendationDto.RecommendationResponse toResponse(LocalDateTime recommendationDate) {
+            return RecommendationDto.RecommendationResponse.builder()
+                    .recommendationId(recommendationId)
+                    .diagnosisId(diagnosisId)
+                    .diagnosisSeverity(diagnosisSeverity)
+                    .recommendations(restore(recommendations, CachedRecommendation::toInfo))
+                    .recommendationDate(recommendationDate)
+                    .status(status)
+                    .totalRecommendations(totalRecommendations)
+                    .hasUrgentRecommendations(hasUrgentRecommendations)
+                    .summary(summary)
+                    .build();
+        }
+    }
+
+    private record CachedRecommendation(CachedTreatment treatment, Double recommendationScore,
+                                        RecommendationPriority priority, String reason, String expectedEffect,
+                                        String precautions, List<CachedContent> contents) {
+
+        static CachedRecommendation of(RecommendationDto.TreatmentRecommendationInfo info) {
+            return new CachedRecommendation(info.getTreatment() != null ? CachedTreatment.of(info.getTreatment()) : null,
+                    info.getRecommendationScore(), info.getPriority(), info.getReason(), info.getExpectedEffect(),
+                    info.getPrecautions(), copy(info.getContents(), CachedContent::of));
+        }
+
+        RecommendationDto.TreatmentRecommendationInfo toInfo() {
+            return RecommendationDto.TreatmentRecommendationInfo.builder()
+                    .treatment(treatment != null ? treatment.toInfo() : null)
+                    .recommendationScore(recommendationScore)
+                    .priority(priority)
+                    .reason(reason)
+                    .expectedEffect(expectedEffect)
+                    .precautions(precautions)
+                    .contents(restore(contents, CachedContent::toInfo))
+                    .build();
+        }
+    }
+
+    private record CachedTreatment(Long treatmentId, String name, String description, TreatmentType type,
+                                   Integer durationMinutes, String difficultyLevel, Boolean isActive,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static CachedTreatment of(TreatmentDto.TreatmentInfo info) {
+            return new CachedTreatment(info.getTreatmentId(), info.getName(), info.getDescription(), info.getType(),
+                    info.getDurationMinutes(), info.getDifficultyLevel(), info.getIsActive(),
+                    info.getCreatedAt(), info.getUpdatedAt());
+        }
+
+        TreatmentDto.TreatmentInfo toInfo() {
+            return TreatmentDto.TreatmentInfo.builder()
+                    .treatmentId(treatmentId)
+                    .name(name)
+                    .description(description)
+                    .type(type)
+                    .durationMinutes(durationMinutes)
+                    .difficultyLevel(difficultyLevel)
+                    .isActive(isActive)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+
+    private record CachedContent(Long contentId, String title, String content, String contentType,
+                                 Integer sequenceOrder, Boolean isActive) {
+
+        static CachedContent of(TreatmentDto.TreatmentContentInfo info) {
+            return new CachedContent(info.getContentId(), info.getTitle(), info.getContent(), info.getContentType(),
+                    info.getSequenceOrder(), info.getIsActive());
+        }
+
+        TreatmentDto.TreatmentContentInfo toInfo() {
+            return TreatmentDto.TreatmentContentInfo.builder()
+                    .contentId(contentId)
+                    .title(title)
+                    .content(content)
+                    .contentType(contentType)
+                    .sequenceOrder(sequenceOrder)
+                    .isActive(isActive)
+                    .build();
+        }
+    }
+}
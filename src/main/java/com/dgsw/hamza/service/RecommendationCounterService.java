@@ -0,0 +1,74 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.entity.RecommendationCounter;
+import com.dgsw.hamza.entity.User;
+import com.dgsw.hamza.enums.RecommendationStatus;
+import com.dgsw.hamza.repository.RecommendationCounterRepository;
+import com.dgsw.hamza.repository.RecommendationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 추천 상태 집계 서비스
+ * 집계 행이 없는 기존 사용자는 추천 기록으로 한 번 재구성한 뒤부터 증분 갱신합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationCounterService {
+
+    private final RecommendationCounterRepository recommendationCounterRepository;
+    private final RecommendationRepository recommendationRepository;
+
+    /**
+     * 갱신용 집계 조회 (행 잠금, 없으면 추천 기록으로 생성)
+     * 새 추천을 저장하거나 상태를 바꾸기 전에 호출해야 재구성 시 중복 집계되지 않습니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public RecommendationCounter lockForUpdate(User user) {
+        Optional<RecommendationCounter> existing = recommendationCounterRepository.findByUserIdForUpdate(user.getId());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        boolean created = recommendationCounterRepository.insertIfAbsent(user.getId()) > 0;
+        RecommendationCounter counter = recommendationCounterRepository.findByUserIdForUpdate(user.getId())
+                .orElseThrow(() -> new IllegalStateException("추천 집계 행을 생성하지 못했습니다."));
+        if (created) {
+            // 다른 트랜잭션이 먼저 만들었다면 이미 채워진 행을 잠근 것이므로 재구성하지 않음
+            restore(user, counter);
+        }
+        return counter;
+    }
+
+    /**
+     * 조회용 집계 (없으면 저장하지 않고 추천 기록으로 계산)
+     */
+    @Transactional(readOnly = true)
+    public RecommendationCounter find(User user) {
+        return recommendationCounterRepository.findByUserId(user.getId())
+                .orElseGet(() -> rebuild(user));
+    }
+
+    private RecommendationCounter rebuild(User user) {
+        return restore(user, new RecommendationCounter(user.getId()));
+    }
+
+    private RecommendationCounter restore(User user, RecommendationCounter counter) {
+        Map<RecommendationStatus, Integer> statusCounts = new EnumMap<>(RecommendationStatus.class);
+        for (Object[] row : recommendationRepository.countByStatus(user)) {
+            statusCounts.put((RecommendationStatus) row[0], ((Number) row[1]).intValue());
+        }
+        counter.restore(statusCounts);
+        if (counter.total() > 0) {
+            log.info("사용자 {} 추천 집계 재구성 - {}건", user.getId(), counter.total());
+        }
+        return counter;
+    }
+}
@@ -3,20 +3,37 @@ package com.dgsw.hamza.service;
 import com.dgsw.hamza.dto.RecommendationDto;
 import com.dgsw.hamza.dto.TreatmentDto;
 import com.dgsw.hamza.entity.Diagnosis;
+import com.dgsw.hamza.entity.Recommendation;
+import com.dgsw.hamza.entity.RecommendationCounter;
 import com.dgsw.hamza.entity.Treatment;
 import com.dgsw.hamza.entity.User;
 import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.RecommendationPriority;
+import com.dgsw.hamza.enums.RecommendationStatus;
 import com.dgsw.hamza.enums.TreatmentType;
 import com.dgsw.hamza.repository.DiagnosisRepository;
+import com.dgsw.hamza.event.TreatmentEngagementEvent;
+import com.dgsw.hamza.event.UserTreatmentChangedEvent;
+import com.dgsw.hamza.repository.RecommendationJdbcRepository;
+import com.dgsw.hamza.repository.RecommendationRepository;
 import com.dgsw.hamza.repository.TreatmentRepository;
+import com.dgsw.hamza.util.RecommendationEngine;
+import com.dgsw.hamza.util.TreatmentPlanOptimizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,11 +42,21 @@ import java.util.stream.Collectors;
 @Transactional
 public class RecommendationService {
 
+    private static final int DEFAULT_MAX_RECOMMENDATIONS = 5;
+    private static final int MAX_HISTORY_LIMIT = 100;
+
     private final DiagnosisRepository diagnosisRepository;
     private final TreatmentRepository treatmentRepository;
+    private final TreatmentRankingService treatmentRankingService;
+    private final RecommendationRepository recommendationRepository;
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final RecommendationCounterService recommendationCounterService;
+    private final TreatmentSimilarityService treatmentSimilarityService;
+    private final RecommendationCache recommendationCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 진단 기반 치료 추천 생성 (간단 버전)
+     * 진단 기반 치료 추천 생성 (새로 추천된 치료법은 저장)
      */
     public RecommendationDto.RecommendationResponse generateRecommendations(
             User user, 
@@ -37,6 +64,12 @@ public class RecommendationService {
         
         log.info("사용자 {} 진단 {} 기반 치료 추천 생성", user.getId(), request.getDiagnosisId());
 
+        RecommendationCache.Version version = recommendationCache.version(user.getId());
+        RecommendationDto.RecommendationResponse cached = recommendationCache.get(user.getId(), request);
+        if (cached != null) {
+            return cached;
+        }
+
         // 1. 진단 정보 조회
         Diagnosis diagnosis = diagnosisRepository.findById(request.getDiagnosisId())
                 .orElseThrow(() -> new IllegalArgumentException("진단을 찾을 수 없습니다: " + request.getDiagnosisId()));
@@ -45,67 +78,356 @@ public class RecommendationService {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
 
-        // 2. 간단한 치료법 추천
-        List<RecommendationDto.TreatmentRecommendationInfo> recommendations = 
-            generateSimpleRecommendations(diagnosis.getSeverity());
+        // 2. 미리 계산된 심각도별 순위에서 추천 (등록된 치료법이 없으면 기본 추천)
+        List<RecommendationEngine.TreatmentRecommendation> ranked =
+            rankedRecommendations(user, diagnosis.getSeverity(), request);
+        List<RecommendationDto.TreatmentRecommendationInfo> recommendations;
+        if (ranked.isEmpty()) {
+            recommendations = generateSimpleRecommendations(diagnosis.getSeverity());
+        } else {
+            saveRecommendations(user, diagnosis, ranked);
+            recommendations = ranked.stream().map(this::toInfo).collect(Collectors.toList());
+        }
 
         // 3. 응답 생성
-        return RecommendationDto.RecommendationResponse.builder()
+        RecommendationDto.RecommendationResponse response = RecommendationDto.RecommendationResponse.builder()
                 .diagnosisId(diagnosis.getId())
+                .diagnosisSeverity(diagnosis.getSeverity())
                 .recommendations(recommendations)
                 .recommendationDate(LocalDateTime.now())
+                .status(RecommendationStatus.PENDING.name())
+                .totalRecommendations(recommendations.size())
+                .hasUrgentRecommendations(recommendations.stream()
+                        .anyMatch(rec -> rec.getPriority() == RecommendationPriority.URGENT))
                 .build();
+        recommendationCache.put(user.getId(), request, version, response);
+        return response;
     }
 
     /**
-     * 추천 히스토리 조회 (간단 버전)
+     * 추천 히스토리 조회 (진단별, 최신순)
      */
     @Transactional(readOnly = true)
     public RecommendationDto.RecommendationHistoryResponse getRecommendationHistory(User user, Integer limit) {
         log.info("사용자 {} 추천 히스토리 조회", user.getId());
 
+        int size = limit != null ? Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT) : 10;
+        List<RecommendationDto.RecommendationHistoryItem> items = new ArrayList<>();
+        for (Object[] row : recommendationRepository.findHistoryByUser(user, PageRequest.of(0, size))) {
+            int count = ((Number) row[2]).intValue();
+            int executed = ((Number) row[4]).intValue();
+            int completed = ((Number) row[5]).intValue();
+            items.add(RecommendationDto.RecommendationHistoryItem.builder()
+                    .recommendationId((Long) row[6])
+                    .diagnosisId((Long) row[0])
+                    .diagnosisSeverity((DiagnosisSeverity) row[1])
+                    .recommendationCount(count)
+                    .recommendationDate((LocalDateTime) row[3])
+                    .status(historyStatus(count, executed, completed).name())
+                    .executedCount(executed)
+                    .completedCount(completed)
+                    .build());
+        }
+
         return RecommendationDto.RecommendationHistoryResponse.builder()
-                .recommendations(List.of())
-                .totalCount(0L)
+                .recommendations(items)
+                .totalCount((long) recommendationCounterService.find(user).total())
                 .build();
     }
 
     /**
-     * 추천 통계 조회 (간단 버전)
+     * 추천 통계 조회 (상태별 수는 사용자 집계 행에서)
      */
     @Transactional(readOnly = true)
     public RecommendationDto.RecommendationStats getRecommendationStats(User user) {
         log.info("사용자 {} 추천 통계 조회", user.getId());
 
+        RecommendationCounter counter = recommendationCounterService.find(user);
+        int total = counter.total();
+        List<RecommendationDto.TypeRecommendationStats> typeStats = total == 0
+                ? List.of()
+                : recommendationRepository.findTypeStatsByUser(user).stream()
+                        .map(row -> {
+                            int count = ((Number) row[1]).intValue();
+                            return RecommendationDto.TypeRecommendationStats.builder()
+                                    .type((TreatmentType) row[0])
+                                    .count(count)
+                                    .averageScore(row[2] != null ? ((Number) row[2]).doubleValue() : null)
+                                    .executionRate(rate(((Number) row[3]).intValue(), count))
+                                    .completionRate(rate(((Number) row[4]).intValue(), count))
+                                    .build();
+                        })
+                        .collect(Collectors.toList());
+
         return RecommendationDto.RecommendationStats.builder()
-                .totalRecommendations(0)
-                .completedRecommendations(0)
-                .typeStats(List.of())
+                .totalRecommendations(total)
+                .executedRecommendations(counter.executed())
+                .completedRecommendations(counter.count(RecommendationStatus.COMPLETED))
+                .executionRate(rate(counter.executed(), total))
+                .completionRate(rate(counter.count(RecommendationStatus.COMPLETED), total))
+                .typeStats(typeStats)
                 .build();
     }
 
     /**
-     * 추천 상태 업데이트 (간단 버전)
+     * 추천 상태 업데이트 (사용자 집계도 함께 갱신)
      */
     public void updateRecommendationStatus(User user, RecommendationDto.RecommendationUpdateRequest request) {
-        log.info("사용자 {} 추천 상태 업데이트", user.getId());
-        // 간단한 구현
+        log.info("사용자 {} 추천 {} 상태 업데이트", user.getId(), request.getRecommendationId());
+
+        if (request.getRecommendationId() == null) {
+            throw new IllegalArgumentException("추천 ID가 필요합니다.");
+        }
+        RecommendationStatus target = parseStatus(request.getStatus());
+        RecommendationCounter counter = recommendationCounterService.lockForUpdate(user);
+        Recommendation recommendation = recommendationRepository.findByIdAndUser(request.getRecommendationId(), user)
+                .orElseThrow(() -> new IllegalArgumentException("추천을 찾을 수 없습니다: " + request.getRecommendationId()));
+
+        RecommendationStatus current = recommendation.getStatus();
+        if (current == target) {
+            return;
+        }
+        if (current == RecommendationStatus.COMPLETED || current == RecommendationStatus.CANCELLED) {
+            throw new IllegalArgumentException("이미 종료된 추천입니다: " + current);
+        }
+
+        switch (target) {
+            case ACTIVE -> recommendation.activate();
+            case COMPLETED -> recommendation.complete();
+            case CANCELLED -> recommendation.cancel(request.getFeedback());
+            case PAUSED -> recommendation.pause();
+            default -> throw new IllegalArgumentException("변경할 수 없는 상태입니다: " + target);
+        }
+        if (request.getFeedback() != null && target != RecommendationStatus.CANCELLED) {
+            recommendation.setNotes(request.getFeedback());
+        }
+        counter.move(current, target);
+        eventPublisher.publishEvent(new UserTreatmentChangedEvent(user.getId(),
+                UserTreatmentChangedEvent.Cause.RECOMMENDATION_UPDATED));
+        if ((target == RecommendationStatus.ACTIVE && current == RecommendationStatus.PENDING)
+                || target == RecommendationStatus.COMPLETED) {
+            eventPublisher.publishEvent(new TreatmentEngagementEvent(recommendation.getTreatment().getId(),
+                    target == RecommendationStatus.ACTIVE ? TreatmentEngagementEvent.Engagement.STARTED
+                            : TreatmentEngagementEvent.Engagement.COMPLETED));
+        }
     }
 
     /**
-     * 진단별 추천 조회 (간단 버전)
+     * 진단별 추천 조회 (1순위와 보조 치료법)
      */
     @Transactional(readOnly = true)
     public RecommendationDto.RecommendationCombinationResponse getRecommendationByDiagnosis(User user, Long diagnosisId) {
         log.info("사용자 {} 진단 {} 추천 조회", user.getId(), diagnosisId);
 
+        Diagnosis diagnosis = diagnosisRepository.findById(diagnosisId)
+                .orElseThrow(() -> new IllegalArgumentException("진단을 찾을 수 없습니다: " + diagnosisId));
+        if (!diagnosis.getUser().getId().equals(user.getId())) {
+            throw new IllegalArgumentException("접근 권한이 없습니다.");
+        }
+
+        List<RecommendationDto.TreatmentRecommendationInfo> recommendations =
+                recommendationRepository.findByDiagnosisWithTreatment(diagnosis).stream()
+                        .map(this::toInfo)
+                        .collect(Collectors.toList());
+        if (recommendations.isEmpty()) {
+            return RecommendationDto.RecommendationCombinationResponse.builder()
+                    .supportingTreatments(List.of())
+                    .build();
+        }
+
+        return RecommendationDto.RecommendationCombinationResponse.builder()
+                .primaryTreatment(recommendations.get(0))
+                .supportingTreatments(recommendations.subList(1, recommendations.size()))
+                .combinationScore(recommendations.stream()
+                        .map(RecommendationDto.TreatmentRecommendationInfo::getRecommendationScore)
+                        .filter(Objects::nonNull)
+                        .mapToDouble(Double::doubleValue)
+                        .average()
+                        .orElse(0.0))
+                .build();
+    }
+
+    /**
+     * 하루 치료 시간 안에서 추천 점수 합이 최대인 치료 조합 (치료 유형별 최대 하나)
+     * @param budgetMinutes 하루 치료 시간 (분, null 이면 설정의 기본 시간)
+     */
+    @Transactional(readOnly = true)
+    public RecommendationDto.RecommendationCombinationResponse getTreatmentPlan(
+            User user, Long diagnosisId, Integer budgetMinutes) {
+        Diagnosis diagnosis = diagnosisRepository.findById(diagnosisId)
+                .orElseThrow(() -> new IllegalArgumentException("진단을 찾을 수 없습니다: " + diagnosisId));
+        if (!diagnosis.getUser().getId().equals(user.getId())) {
+            throw new IllegalArgumentException("접근 권한이 없습니다.");
+        }
+
+        TreatmentPlanOptimizer.Plan plan = treatmentRankingService.plan(diagnosis.getSeverity(), budgetMinutes);
+        if (plan.isEmpty()) {
+            return RecommendationDto.RecommendationCombinationResponse.builder()
+                    .supportingTreatments(List.of())
+                    .combinationScore(0.0)
+                    .combinationDescription("주어진 시간 안에 할 수 있는 치료법이 없습니다.")
+                    .build();
+        }
+
+        List<RecommendationDto.TreatmentRecommendationInfo> recommendations = plan.getRecommendations().stream()
+                .map(this::toInfo)
+                .collect(Collectors.toList());
         return RecommendationDto.RecommendationCombinationResponse.builder()
-                .supportingTreatments(List.of()) // 필드명 수정
+                .primaryTreatment(recommendations.get(0))
+                .supportingTreatments(recommendations.subList(1, recommendations.size()))
+                .combinationScore(plan.getTotalScore())
+                .combinationDescription(String.format("하루 %d분, 치료법 %d개", plan.getTotalMinutes(), recommendations.size()))
                 .build();
     }
 
     // Private helper methods
 
+    private List<RecommendationEngine.TreatmentRecommendation> rankedRecommendations(
+            User user, DiagnosisSeverity severity, RecommendationDto.RecommendationRequest request) {
+        int limit = request.getMaxRecommendations() != null && request.getMaxRecommendations() > 0
+                ? request.getMaxRecommendations() : DEFAULT_MAX_RECOMMENDATIONS;
+        boolean filtered = (request.getIncludeTypes() != null && !request.getIncludeTypes().isEmpty())
+                || (request.getExcludeTypes() != null && !request.getExcludeTypes().isEmpty())
+                || request.getMaxDuration() != null;
+
+        boolean personalize = !Boolean.FALSE.equals(request.getPersonalizeRecommendation())
+                && treatmentSimilarityService.isAvailable();
+
+        // 필터와 개인화가 없으면 순위표의 앞부분만 사용
+        if (!filtered && !personalize) {
+            return treatmentRankingService.top(severity, limit);
+        }
+        List<RecommendationEngine.TreatmentRecommendation> ranked = treatmentRankingService.ranked(severity);
+        if (personalize) {
+            ranked = treatmentSimilarityService.personalize(user, ranked);
+        }
+
+        List<RecommendationEngine.TreatmentRecommendation> recommendations = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (RecommendationEngine.TreatmentRecommendation rec : ranked) {
+            if (recommendations.size() >= limit) {
+                break;
+            }
+            if (!filtered || matches(rec.getTreatment(), request)) {
+                recommendations.add(rec);
+            }
+        }
+        return recommendations;
+    }
+
+    /**
+     * 진단에 아직 없는 추천만 일괄 저장하고 사용자 집계에 반영
+     */
+    private void saveRecommendations(User user, Diagnosis diagnosis,
+                                     List<RecommendationEngine.TreatmentRecommendation> ranked) {
+        RecommendationCounter counter = recommendationCounterService.lockForUpdate(user);
+        Set<Long> existing = new HashSet<>(recommendationRepository.findTreatmentIdsByDiagnosis(diagnosis));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Recommendation> entities = new ArrayList<>(ranked.size());
+        for (RecommendationEngine.TreatmentRecommendation rec : ranked) {
+            if (!existing.add(rec.getTreatment().getId())) {
+                continue;
+            }
+            entities.add(Recommendation.builder()
+                    .user(user)
+                    .diagnosis(diagnosis)
+                    .treatment(rec.getTreatment())
+                    .recommendedDate(now)
+                    .priority(rec.getPriority().getPriority())
+                    .score(rec.getScore())
+                    .reason(rec.getReason())
+                    .build());
+        }
+        if (entities.isEmpty()) {
+            return;
+        }
+        recommendationJdbcRepository.batchInsert(entities);
+        counter.add(RecommendationStatus.PENDING, entities.size());
+        eventPublisher.publishEvent(new TreatmentEngagementEvent(
+                entities.stream().map(rec -> rec.getTreatment().getId()).toList(),
+                TreatmentEngagementEvent.Engagement.RECOMMENDED));
+    }
+
+    private boolean matches(Treatment treatment, RecommendationDto.RecommendationRequest request) {
+        if (request.getIncludeTypes() != null && !request.getIncludeTypes().isEmpty()
+                && !request.getIncludeTypes().contains(treatment.getType())) {
+            return false;
+        }
+        if (request.getExcludeTypes() != null && request.getExcludeTypes().contains(treatment.getType())) {
+            return false;
+        }
+        return request.getMaxDuration() == null || treatment.getDurationMinutes() == null
+                || treatment.getDurationMinutes() <= request.getMaxDuration();
+    }
+
+    private RecommendationDto.TreatmentRecommendationInfo toInfo(RecommendationEngine.TreatmentRecommendation rec) {
+        return RecommendationDto.TreatmentRecommendationInfo.builder()
+                .treatment(treatmentInfo(rec.getTreatment()))
+                .recommendationScore(rec.getScore())
+                .priority(rec.getPriority())
+                .reason(rec.getReason())
+                .build();
+    }
+
+    private RecommendationDto.TreatmentRecommendationInfo toInfo(Recommendation recommendation) {
+        return RecommendationDto.TreatmentRecommendationInfo.builder()
+                .treatment(treatmentInfo(recommendation.getTreatment()))
+                .recommendationScore(recommendation.getScore())
+                .priority(priorityOf(recommendation.getPriority()))
+                .reason(recommendation.getReason())
+                .build();
+    }
+
+    private TreatmentDto.TreatmentInfo treatmentInfo(Treatment treatment) {
+        return TreatmentDto.TreatmentInfo.builder()
+                .treatmentId(treatment.getId())
+                .name(treatment.getName())
+                .description(treatment.getDescription())
+                .type(treatment.getType())
+                .durationMinutes(treatment.getDurationMinutes())
+                .difficultyLevel(treatment.getDifficultyLevel() != null ? treatment.getDifficultyLevel().name() : null)
+                .isActive(treatment.isActive())
+                .build();
+    }
+
+    private static RecommendationPriority priorityOf(Integer priority) {
+        if (priority == null) {
+            return null;
+        }
+        for (RecommendationPriority value : RecommendationPriority.values()) {
+            if (value.getPriority() == priority) {
+                return value;
+            }
+        }
+        return RecommendationPriority.LOW;
+    }
+
+    private static RecommendationStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            throw new IllegalArgumentException("변경할 상태가 필요합니다.");
+        }
+        String value = status.trim().toUpperCase(Locale.ROOT);
+        if (value.equals("STARTED")) {
+            return RecommendationStatus.ACTIVE;
+        }
+        try {
+            return RecommendationStatus.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 추천 상태입니다: " + status);
+        }
+    }
+
+    private static RecommendationStatus historyStatus(int count, int executed, int completed) {
+        if (completed == count) {
+            return RecommendationStatus.COMPLETED;
+        }
+        return executed > 0 ? RecommendationStatus.ACTIVE : RecommendationStatus.PENDING;
+    }
+
+    private static double rate(int part, int total) {
+        return total == 0 ? 0.0 : part * 100.0 / total;
+    }
+
     private List<RecommendationDto.TreatmentRecommendationInfo> generateSimpleRecommendations(DiagnosisSeverity severity) {
         switch (severity) {
             case NORMAL:
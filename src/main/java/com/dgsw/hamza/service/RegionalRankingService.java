@@ -0,0 +1,105 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.HospitalRankingConfig;
+import com.dgsw.hamza.entity.Hospital;
+import com.dgsw.hamza.event.HospitalChangedEvent;
+import com.dgsw.hamza.event.HospitalSnapshotChangedEvent;
+import com.dgsw.hamza.service.scoring.HospitalFeatures;
+import com.dgsw.hamza.service.scoring.HospitalRankingPipeline;
+import com.dgsw.hamza.service.scoring.ScoringContext;
+import com.dgsw.hamza.util.KoreanAddressParser;
+import com.dgsw.hamza.util.RegionalRankingIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지역별 병원 순위 관리 서비스
+ * 병원 점수는 병원 스냅샷 구성/변경 시점에 한 번만 계산하고, 지역(시/도, 시/군/구, 동)별 상위 N개를 미리 유지합니다.
+ * 순위 조회는 지역 키로 맵을 한 번 조회하는 것으로 끝납니다.
+ */
+@Service
+@Slf4j
+public class RegionalRankingService {
+
+    private final HospitalRankingPipeline rankingPipeline;
+    private final GeocodingService geocodingService;
+    private final RegionalRankingIndex rankingIndex;
+    private final Map<Long, RankedHospital> rankedHospitals = new ConcurrentHashMap<>();
+
+    public RegionalRankingService(HospitalRankingPipeline rankingPipeline,
+                                  GeocodingService geocodingService,
+                                  HospitalRankingConfig rankingConfig) {
+        this.rankingPipeline = rankingPipeline;
+        this.geocodingService = geocodingService;
+        this.rankingIndex = new RegionalRankingIndex(rankingConfig.getRegionalTopN());
+    }
+
+    @EventListener
+    public void onSnapshotChanged(HospitalSnapshotChangedEvent event) {
+        if (event.isRebuild()) {
+            rankingIndex.clear();
+            rankedHospitals.clear();
+            event.snapshot().activeHospitals().forEach(this::upsert);
+            log.info("지역별 병원 순위 구성 완료 - {}건", rankingIndex.size());
+        } else if (event.change().type() == HospitalChangedEvent.ChangeType.DELETED) {
+            remove(event.change().hospitalId());
+        } else {
+            upsert(event.change().hospital());
+        }
+    }
+
+    private void upsert(Hospital hospital) {
+        List<String> keys = RegionalRankingIndex.keysOf(hospital.getSido(), hospital.getSigungu(), hospital.getDong());
+        if (!hospital.isActive() || keys.isEmpty()) {
+            remove(hospital.getId());
+            return;
+        }
+        ScoringContext context = new ScoringContext(HospitalFeatures.of(List.of(hospital)), null, 0);
+        HospitalRankingPipeline.Ranked ranked = rankingPipeline.score(context, 0, HospitalRankingConfig.REGIONAL_PROFILE);
+
+        rankedHospitals.put(hospital.getId(), new RankedHospital(hospital, ranked.score(), ranked.breakdown()));
+        rankingIndex.upsert(hospital.getId(), keys, ranked.score());
+    }
+
+    private void remove(Long hospitalId) {
+        rankingIndex.remove(hospitalId);
+        rankedHospitals.remove(hospitalId);
+    }
+
+    /**
+     * 지역 순위 조회
+     * @param region 지역명 (예: "서울", "강남구", "서울특별시 강남구 역삼동")
+     * @return 점수 내림차순 상위 N개, 지역을 특정할 수 없으면 빈 목록
+     */
+    public List<RankedHospital> getRanking(String region) {
+        KoreanAddressParser.AddressComponents components = geocodingService.resolveRegion(region);
+        String key = RegionalRankingIndex.keyOf(components.sido, components.sigungu, components.dong);
+        if (key == null) {
+            log.info("지역을 특정할 수 없습니다 - {}", region);
+            return List.of();
+        }
+
+        List<RegionalRankingIndex.Entry> entries = rankingIndex.top(key);
+        List<RankedHospital> result = new ArrayList<>(entries.size());
+        for (RegionalRankingIndex.Entry entry : entries) {
+            RankedHospital ranked = rankedHospitals.get(entry.hospitalId);
+            if (ranked != null) {
+                result.add(ranked);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지역 순위 항목
+     * @param breakdown 구성요소별 가중 점수
+     */
+    public record RankedHospital(Hospital hospital, double score, Map<String, Double> breakdown) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.util.GeocodeResult;
+
+import java.util.Optional;
+
+/**
+ * 외부 지오코딩 서비스 연동 인터페이스
+ * 로컬 주소 인덱스로 충분히 정밀한 좌표를 얻지 못한 경우에만 호출됩니다.
+ */
+public interface RemoteGeocodingProvider {
+
+    /**
+     * 사용 가능 여부 (API 키 설정 등)
+     */
+    boolean isAvailable();
+
+    /**
+     * 주소를 좌표로 변환
+     * @return 변환 결과, 실패 시 빈 값
+     */
+    Optional<GeocodeResult> geocode(String address, String language, String region);
+}
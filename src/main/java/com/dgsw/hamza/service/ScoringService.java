@@ -0,0 +1,77 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.DiagnosisScoringConfig;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.util.ScoringModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 설문 도구별 채점표 서비스
+ * 기동 시 설정(rate-limiting.diagnosis)의 채점표를 도구마다 한 번 컴파일해 DiagnosisService 에 제공합니다.
+ * 새 설문 도구는 instruments 설정만 추가하면 설문 코드로 조회됩니다.
+ */
+@Service
+@Slf4j
+public class ScoringService {
+
+    private static final int PHQ9_ITEMS = 9;
+    private static final int PHQ9_MAX_ITEM_SCORE = 3;
+
+    private final Map<String, ScoringModel> models;
+    private final ScoringModel phq9;
+
+    public ScoringService(DiagnosisScoringConfig config) {
+        Map<String, ScoringModel> compiled = new HashMap<>();
+        config.getInstruments().forEach((code, instrument) -> {
+            String key = code.toUpperCase(Locale.ROOT);
+            compiled.put(key, ScoringModel.compile(key, instrument.getItems(), instrument.getMaxItemScore(),
+                    bounds(key, instrument.getThresholds()), instrument.getWeights(), instrument.getReverseScored()));
+        });
+        // PHQ-9 채점표가 instruments 에 없으면 phq9 구간, 그것도 없으면 기본 구간으로 컴파일
+        if (!compiled.containsKey(QuestionnaireService.PHQ9)) {
+            compiled.put(QuestionnaireService.PHQ9, config.getPhq9().isEmpty()
+                    ? ScoringModel.defaultPhq9()
+                    : ScoringModel.compile(QuestionnaireService.PHQ9, PHQ9_ITEMS, PHQ9_MAX_ITEM_SCORE,
+                            bounds(QuestionnaireService.PHQ9, config.getPhq9()), Map.of(), List.of()));
+        }
+
+        this.models = Collections.unmodifiableMap(compiled);
+        this.phq9 = compiled.get(QuestionnaireService.PHQ9);
+        log.info("설문 채점표 컴파일 완료 - {}", models.keySet());
+    }
+
+    /**
+     * 설문 도구 채점표 조회 (코드는 대소문자 구분 없음)
+     */
+    public ScoringModel model(String code) {
+        ScoringModel model = code != null ? models.get(code.toUpperCase(Locale.ROOT)) : null;
+        if (model == null) {
+            throw new IllegalArgumentException("채점표가 없는 설문 도구입니다: " + code);
+        }
+        return model;
+    }
+
+    public ScoringModel phq9() {
+        return phq9;
+    }
+
+    private static Map<DiagnosisSeverity, Integer> bounds(String code, Map<String, Integer> thresholds) {
+        Map<DiagnosisSeverity, Integer> bounds = new EnumMap<>(DiagnosisSeverity.class);
+        thresholds.forEach((name, bound) -> {
+            try {
+                bounds.put(DiagnosisSeverity.valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_')), bound);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("알 수 없는 심각도 구간입니다: " + code + " " + name, e);
+            }
+        });
+        return bounds;
+    }
+}
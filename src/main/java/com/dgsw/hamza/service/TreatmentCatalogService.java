@@ -0,0 +1,62 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.enums.Catalog;
+import com.dgsw.hamza.event.CatalogChangedEvent;
+import com.dgsw.hamza.repository.TreatmentRepository;
+import com.dgsw.hamza.util.TreatmentCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 치료법 카탈로그 스냅샷 서비스
+ * 기동 시와 치료법 카탈로그가 바뀔 때 별도 스레드에서 전체 치료법을 한 번 읽어 새 스냅샷으로 교체하고,
+ * 목록/필터/검색 조회는 현재 스냅샷의 색인만 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TreatmentCatalogService {
+
+    private final TreatmentRepository treatmentRepository;
+    private final CatalogVersionService catalogVersionService;
+
+    private volatile TreatmentCatalog catalog = TreatmentCatalog.of(List.of(), -1L);
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true,
+            condition = "#event.catalog() == T(com.dgsw.hamza.enums.Catalog).TREATMENTS")
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 스냅샷 재구성 (동시 변경은 잠금으로 직렬화되어 마지막 재구성이 최신 데이터를 반영)
+     */
+    public synchronized void refresh() {
+        // 파생 순위표가 버전으로 교체 여부를 판단하므로, 버전 증가보다 먼저 읽었더라도 이전 스냅샷과 다른 버전을 붙임
+        long version = Math.max(catalogVersionService.version(Catalog.TREATMENTS), catalog.version + 1);
+        TreatmentCatalog built = TreatmentCatalog.of(treatmentRepository.findAll(), version);
+        catalog = built;
+        log.info("치료법 카탈로그 스냅샷 교체 - 버전 {}, 활성 {}건", version, built.size());
+    }
+
+    /**
+     * 현재 스냅샷 (불변, 기동 직후 첫 구성 전에는 빈 카탈로그)
+     */
+    public TreatmentCatalog current() {
+        return catalog;
+    }
+}
@@ -0,0 +1,165 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.TreatmentPopularityConfig;
+import com.dgsw.hamza.entity.Treatment;
+import com.dgsw.hamza.enums.RecommendationStatus;
+import com.dgsw.hamza.event.TreatmentEngagementEvent;
+import com.dgsw.hamza.repository.RecommendationRepository;
+import com.dgsw.hamza.util.DecayingPopularity;
+import com.dgsw.hamza.util.TreatmentCatalog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 실시간 치료법 인기도 서비스
+ * 추천/시작/완료 이벤트를 지수 감쇠 카운터에 반영해 두고, 인기 치료법 조회는 메모리의 순위만 읽습니다.
+ * 카운터는 주기적으로 파일에 저장해 재시작 시 복원하며, 파일이 없으면 최근 추천 기록으로 초기값을 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TreatmentPopularityService {
+
+    // 초기값 계산에 사용할 추천 기록 기간 (반감기 배수, 그 이전 기록은 비중이 1/16 미만)
+    private static final int BOOTSTRAP_HALF_LIVES = 4;
+
+    private final TreatmentCatalogService treatmentCatalogService;
+    private final RecommendationRepository recommendationRepository;
+    private final TreatmentPopularityConfig config;
+
+    private DecayingPopularity popularity;
+
+    @PostConstruct
+    void init() {
+        popularity = new DecayingPopularity(config.getHalfLife().toMillis(), System.currentTimeMillis());
+        try {
+            int restored = popularity.load(snapshotFile());
+            log.info("치료법 인기도 복원 - {}건", restored);
+        } catch (IOException e) {
+            log.warn("치료법 인기도 파일을 읽을 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (popularity.size() > 0) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now().minus(config.getHalfLife().multipliedBy(BOOTSTRAP_HALF_LIVES));
+        long now = System.currentTimeMillis();
+        List<Object[]> rows = recommendationRepository.countByTreatmentAndStatusSince(since);
+        for (Object[] row : rows) {
+            long count = ((Number) row[2]).longValue();
+            popularity.add((Long) row[0], count * weight((RecommendationStatus) row[1]), now);
+        }
+        log.info("치료법 인기도 초기화 - 추천 기록 {}건 반영", rows.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(TreatmentEngagementEvent event) {
+        double weight = weight(event.engagement());
+        long now = System.currentTimeMillis();
+        for (Long treatmentId : event.treatmentIds()) {
+            if (treatmentId != null) {
+                popularity.add(treatmentId, weight, now);
+            }
+        }
+    }
+
+    /**
+     * 인기순 활성 치료법 (인기도가 없는 치료법은 이름순으로 뒤에 채움)
+     */
+    public List<Treatment> popular(int limit) {
+        TreatmentCatalog catalog = treatmentCatalogService.current();
+        int size = Math.min(Math.max(limit, 0), catalog.size());
+        List<Treatment> result = new ArrayList<>(size);
+        Set<Long> added = new HashSet<>();
+        for (long id : popularity.top(Integer.MAX_VALUE)) {
+            if (result.size() >= size) {
+                break;
+            }
+            Treatment treatment = catalog.find(id);
+            if (treatment != null && treatment.isActive()) {
+                result.add(treatment);
+                added.add(id);
+            }
+        }
+        for (Treatment treatment : catalog.active()) {
+            if (result.size() >= size) {
+                break;
+            }
+            if (!added.contains(treatment.getId())) {
+                result.add(treatment);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 치료법의 현재 인기도 점수 (이벤트가 없으면 0)
+     */
+    public double score(Long treatmentId) {
+        return treatmentId != null ? popularity.score(treatmentId, System.currentTimeMillis()) : 0.0;
+    }
+
+    /**
+     * 변경된 인기도를 주기적으로 파일에 저장
+     */
+    @Scheduled(fixedDelayString = "${recommendation.popularity.flush-interval:300000}")
+    public void flush() {
+        if (popularity == null || !popularity.isDirty()) {
+            return;
+        }
+        try {
+            popularity.save(snapshotFile(), System.currentTimeMillis());
+        } catch (IOException e) {
+            log.warn("치료법 인기도 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private double weight(TreatmentEngagementEvent.Engagement engagement) {
+        return switch (engagement) {
+            case RECOMMENDED -> config.getRecommendedWeight();
+            case STARTED -> config.getStartedWeight();
+            case COMPLETED -> config.getCompletedWeight();
+        };
+    }
+
+    // 추천 기록 상태까지 거친 이벤트 가중치 합 (완료된 추천은 추천 + 시작 + 완료)
+    private double weight(RecommendationStatus status) {
+        double weight = config.getRecommendedWeight();
+        if (status == RecommendationStatus.ACTIVE || status == RecommendationStatus.PAUSED
+                || status == RecommendationStatus.COMPLETED) {
+            weight += config.getStartedWeight();
+        }
+        if (status == RecommendationStatus.COMPLETED) {
+            weight += config.getCompletedWeight();
+        }
+        return weight;
+    }
+
+    private Path snapshotFile() {
+        return Paths.get(config.getSnapshotFile());
+    }
+}
@@ -0,0 +1,89 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.TreatmentSessionConfig;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.util.RecommendationEngine;
+import com.dgsw.hamza.util.TreatmentCatalog;
+import com.dgsw.hamza.util.TreatmentPlanOptimizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 심각도별 치료법 추천 순위 서비스
+ * 치료법 카탈로그 버전이 바뀔 때만 순위표를 다시 만들고, 추천 요청은 미리 정렬된 목록을 잘라 씁니다.
+ * 하루 치료 계획표도 같은 버전의 순위표에서 심각도별로 한 번만 만듭니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TreatmentRankingService {
+
+    private final TreatmentCatalogService treatmentCatalogService;
+    private final TreatmentSessionConfig sessionConfig;
+
+    private volatile RecommendationEngine.RankingMatrix matrix;
+    private volatile PlanTables planTables;
+
+    /**
+     * 심각도별 점수 순 추천 목록 (불변)
+     */
+    public List<RecommendationEngine.TreatmentRecommendation> ranked(DiagnosisSeverity severity) {
+        return current().ranked(severity);
+    }
+
+    /**
+     * 심각도별 상위 limit 개 추천 (불변)
+     */
+    public List<RecommendationEngine.TreatmentRecommendation> top(DiagnosisSeverity severity, int limit) {
+        return current().top(severity, limit);
+    }
+
+    /**
+     * 하루 치료 시간 안의 최적 치료 조합
+     * @param budgetMinutes 하루 치료 시간 (분, null 이면 세션 길이 x 하루 최대 세션 수)
+     */
+    public TreatmentPlanOptimizer.Plan plan(DiagnosisSeverity severity, Integer budgetMinutes) {
+        RecommendationEngine.RankingMatrix current = current();
+        PlanTables tables = planTables;
+        if (tables == null || tables.version != current.version) {
+            tables = new PlanTables(current.version);
+            planTables = tables;
+        }
+        TreatmentPlanOptimizer.PlanTable table = tables.bySeverity.computeIfAbsent(severity,
+                s -> TreatmentPlanOptimizer.build(current.ranked(s), sessionConfig.getMaxPlanMinutes(),
+                        sessionConfig.getMaxSessionsPerDay(), sessionConfig.sessionMinutes()));
+        return table.plan(budgetMinutes != null ? budgetMinutes : sessionConfig.dailyMinutes());
+    }
+
+    private RecommendationEngine.RankingMatrix current() {
+        TreatmentCatalog catalog = treatmentCatalogService.current();
+        RecommendationEngine.RankingMatrix current = matrix;
+        if (current != null && current.version == catalog.version) {
+            return current;
+        }
+        synchronized (this) {
+            current = matrix;
+            if (current == null || current.version != catalog.version) {
+                current = RecommendationEngine.rankingMatrix(catalog.active(), catalog.version);
+                matrix = current;
+                log.info("치료법 추천 순위표 재생성 - 카탈로그 버전 {}", catalog.version);
+            }
+            return current;
+        }
+    }
+
+    // 순위표 버전별 심각도 계획표 (처음 요청된 심각도만 생성)
+    private static final class PlanTables {
+        private final long version;
+        private final Map<DiagnosisSeverity, TreatmentPlanOptimizer.PlanTable> bySeverity = new ConcurrentHashMap<>();
+
+        private PlanTables(long version) {
+            this.version = version;
+        }
+    }
+}
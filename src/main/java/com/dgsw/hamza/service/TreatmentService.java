@@ -1,21 +1,24 @@
 package com.dgsw.hamza.service;
 
-import com.dgsw.hamza.config.CacheConfig;
 import com.dgsw.hamza.dto.TreatmentDto;
 import com.dgsw.hamza.entity.Treatment;
 import com.dgsw.hamza.entity.TreatmentContent;
+import com.dgsw.hamza.enums.DifficultyLevel;
 import com.dgsw.hamza.enums.TreatmentType;
 import com.dgsw.hamza.repository.TreatmentRepository;
+import com.dgsw.hamza.util.TreatmentCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -26,16 +29,17 @@ import java.util.stream.Collectors;
 public class TreatmentService {
 
     private final TreatmentRepository treatmentRepository;
+    private final TreatmentCatalogService treatmentCatalogService;
+    private final TreatmentPopularityService treatmentPopularityService;
 
     /**
      * 활성화된 모든 치료법 조회
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = CacheConfig.TREATMENTS_CACHE, key = "'active_treatments'")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TreatmentDto.TreatmentInfo> getActiveTreatments() {
         log.info("활성화된 치료법 목록 조회");
         
-        List<Treatment> treatments = treatmentRepository.findActiveTreatments();
+        List<Treatment> treatments = treatmentCatalogService.current().active();
         
         return treatments.stream()
                 .map(this::convertToTreatmentInfo)
@@ -43,9 +47,9 @@ public class TreatmentService {
     }
 
     /**
-     * 치료법 목록 조회 (필터링 및 페이징)
+     * 치료법 목록 조회 (필터링 및 페이징, 카탈로그 스냅샷)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TreatmentDto.TreatmentListResponse getTreatmentList(TreatmentDto.TreatmentListRequest request) {
         log.info("치료법 목록 조회 - 유형: {}, 난이도: {}, 최대시간: {}", 
                 request.getType(), request.getDifficultyLevel(), request.getMaxDuration());
@@ -55,12 +59,14 @@ public class TreatmentService {
                 request.getSize() != null ? request.getSize() : 10
         );
         
-        Page<Treatment> treatmentPage = treatmentRepository.findTreatmentsWithFilters(
+        List<Treatment> matched = treatmentCatalogService.current().filter(
                 request.getType(),
-                request.getDifficultyLevel(),
-                request.getMaxDuration(),
-                pageable
+                parseDifficultyLevel(request.getDifficultyLevel()),
+                request.getMaxDuration()
         );
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        Page<Treatment> treatmentPage = new PageImpl<>(matched.subList(from, to), pageable, matched.size());
         
         List<TreatmentDto.TreatmentInfo> treatments = treatmentPage.getContent().stream()
                 .map(this::convertToTreatmentInfo)
@@ -78,12 +84,14 @@ public class TreatmentService {
     /**
      * 특정 치료법 상세 조회
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TreatmentDto.TreatmentInfo getTreatmentDetail(Long treatmentId) {
         log.info("치료법 상세 조회 - ID: {}", treatmentId);
         
-        Treatment treatment = treatmentRepository.findById(treatmentId)
-                .orElseThrow(() -> new IllegalArgumentException("치료법을 찾을 수 없습니다: " + treatmentId));
+        Treatment treatment = treatmentCatalogService.current().find(treatmentId);
+        if (treatment == null) {
+            throw new IllegalArgumentException("치료법을 찾을 수 없습니다: " + treatmentId);
+        }
         
         return convertToTreatmentInfo(treatment);
     }
@@ -91,11 +99,11 @@ public class TreatmentService {
     /**
      * 치료법 유형별 조회
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TreatmentDto.TreatmentInfo> getTreatmentsByType(TreatmentType type) {
         log.info("치료법 유형별 조회 - 유형: {}", type);
         
-        List<Treatment> treatments = treatmentRepository.findByTypeAndActive(type);
+        List<Treatment> treatments = treatmentCatalogService.current().byType(type);
         
         return treatments.stream()
                 .map(this::convertToTreatmentInfo)
@@ -105,11 +113,11 @@ public class TreatmentService {
     /**
      * 치료법 검색
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TreatmentDto.TreatmentInfo> searchTreatments(String keyword) {
         log.info("치료법 검색 - 키워드: {}", keyword);
         
-        List<Treatment> treatments = treatmentRepository.searchTreatments(keyword);
+        List<Treatment> treatments = treatmentCatalogService.current().search(keyword);
         
         return treatments.stream()
                 .map(this::convertToTreatmentInfo)
@@ -117,44 +125,33 @@ public class TreatmentService {
     }
 
     /**
-     * 치료법 통계 조회
+     * 치료법 통계 조회 (카탈로그 스냅샷의 통계 + 현재 인기도)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TreatmentDto.TreatmentStatsResponse getTreatmentStats() {
         log.info("치료법 통계 조회");
         
-        // 전체 치료법 수
-        Long totalTreatments = treatmentRepository.count();
-        Long activeTreatments = treatmentRepository.countActiveTreatments();
-        
-        // 평균 소요시간
-        Double averageDuration = treatmentRepository.findAverageDuration();
+        TreatmentCatalog catalog = treatmentCatalogService.current();
+        TreatmentCatalog.Stats stats = catalog.stats();
         
         // 치료법 유형별 통계
-        List<Object[]> typeCountData = treatmentRepository.countByType();
-        List<TreatmentDto.TreatmentTypeStats> typeStats = typeCountData.stream()
-                .map(data -> {
-                    TreatmentType type = (TreatmentType) data[0];
-                    Long count = (Long) data[1];
-                    Double avgDuration = treatmentRepository.findAverageDurationByType(type);
-                    
-                    return TreatmentDto.TreatmentTypeStats.builder()
-                            .type(type)
-                            .count(count.intValue())
-                            .averageDuration(avgDuration)
-                            .popularityScore(calculatePopularityScore(type))
-                            .build();
-                })
+        List<TreatmentDto.TreatmentTypeStats> typeStats = stats.typeStats().stream()
+                .map(type -> TreatmentDto.TreatmentTypeStats.builder()
+                        .type(type.type())
+                        .count(type.count())
+                        .averageDuration(type.averageDuration())
+                        .popularityScore(calculatePopularityScore(catalog, type.type()))
+                        .build())
                 .collect(Collectors.toList());
         
         // 가장 인기있는 치료법
         TreatmentDto.TreatmentInfo mostPopularTreatment = getMostPopularTreatment();
         
         return TreatmentDto.TreatmentStatsResponse.builder()
-                .totalTreatments(totalTreatments.intValue())
-                .activeTreatments(activeTreatments.intValue())
+                .totalTreatments(stats.totalTreatments())
+                .activeTreatments(stats.activeTreatments())
                 .typeStats(typeStats)
-                .averageDuration(averageDuration)
+                .averageDuration(stats.averageDuration())
                 .mostPopularTreatment(mostPopularTreatment)
                 .build();
     }
@@ -200,31 +197,25 @@ public class TreatmentService {
     }
 
     /**
-     * 인기 치료법 조회
+     * 인기 치료법 조회 (최근 추천/시작/완료 기준, 메모리 순위)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TreatmentDto.TreatmentInfo> getPopularTreatments(Integer limit) {
         log.info("인기 치료법 조회 (limit: {})", limit);
         
-        List<Object[]> popularData = treatmentRepository.findPopularTreatments();
-        
-        return popularData.stream()
-                .limit(limit != null ? limit : 10)
-                .map(data -> {
-                    Treatment treatment = (Treatment) data[0];
-                    return convertToTreatmentInfo(treatment);
-                })
+        return treatmentPopularityService.popular(limit != null ? limit : 10).stream()
+                .map(this::convertToTreatmentInfo)
                 .collect(Collectors.toList());
     }
 
     /**
      * 소요시간 기반 치료법 조회
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TreatmentDto.TreatmentInfo> getTreatmentsByDuration(Integer maxDuration) {
         log.info("소요시간 기반 치료법 조회 - 최대 {}분", maxDuration);
         
-        List<Treatment> treatments = treatmentRepository.findByDurationLessThanEqual(maxDuration);
+        List<Treatment> treatments = treatmentCatalogService.current().withinDuration(maxDuration);
         
         return treatments.stream()
                 .map(this::convertToTreatmentInfo)
@@ -234,11 +225,12 @@ public class TreatmentService {
     /**
      * 난이도별 치료법 조회
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TreatmentDto.TreatmentInfo> getTreatmentsByDifficulty(String difficultyLevel) {
         log.info("난이도별 치료법 조회 - 난이도: {}", difficultyLevel);
         
-        List<Treatment> treatments = treatmentRepository.findByDifficultyLevelAndActive(difficultyLevel);
+        List<Treatment> treatments = treatmentCatalogService.current()
+                .byDifficulty(parseDifficultyLevel(difficultyLevel));
         
         return treatments.stream()
                 .map(this::convertToTreatmentInfo)
@@ -247,6 +239,17 @@ public class TreatmentService {
 
     // Private helper methods
 
+    private DifficultyLevel parseDifficultyLevel(String level) {
+        if (level == null || level.isBlank()) {
+            return null;
+        }
+        try {
+            return DifficultyLevel.valueOf(level.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 난이도입니다: " + level);
+        }
+    }
+
     private TreatmentDto.TreatmentInfo convertToTreatmentInfo(Treatment treatment) {
         return TreatmentDto.TreatmentInfo.builder()
                 .treatmentId(treatment.getId())
@@ -272,32 +275,16 @@ public class TreatmentService {
                 .build();
     }
 
-    private Double calculatePopularityScore(TreatmentType type) {
-        // 추천 받은 횟수 기반으로 인기도 점수 계산
-        // 실제 구현에서는 더 복잡한 로직 적용 가능
-        List<Object[]> popularData = treatmentRepository.findPopularTreatments();
-        
-        return popularData.stream()
-                .filter(data -> {
-                    Treatment treatment = (Treatment) data[0];
-                    return treatment.getType().equals(type);
-                })
-                .mapToDouble(data -> {
-                    Long count = (Long) data[1];
-                    return count.doubleValue();
-                })
+    private Double calculatePopularityScore(TreatmentCatalog catalog, TreatmentType type) {
+        // 유형에 속한 활성 치료법의 현재 인기도 평균
+        return catalog.byType(type).stream()
+                .mapToDouble(treatment -> treatmentPopularityService.score(treatment.getId()))
                 .average()
                 .orElse(0.0);
     }
 
     private TreatmentDto.TreatmentInfo getMostPopularTreatment() {
-        List<Object[]> popularData = treatmentRepository.findPopularTreatments();
-        
-        if (popularData.isEmpty()) {
-            return null;
-        }
-        
-        Treatment mostPopular = (Treatment) popularData.get(0)[0];
-        return convertToTreatmentInfo(mostPopular);
+        List<Treatment> popular = treatmentPopularityService.popular(1);
+        return popular.isEmpty() ? null : convertToTreatmentInfo(popular.get(0));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.CollaborativeFilteringConfig;
+import com.dgsw.hamza.entity.User;
+import com.dgsw.hamza.repository.RecommendationJdbcRepository;
+import com.dgsw.hamza.repository.TreatmentRepository;
+import com.dgsw.hamza.util.ItemSimilarityMatrix;
+import com.dgsw.hamza.util.RecommendationEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 치료법 협업 필터링 서비스
+ * 완료 기록으로 치료법 간 유사도 행렬을 주기적으로 만들어 메모리에 두고,
+ * 추천 시 사용자의 완료 이력과 심각도 기반 점수를 섞습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TreatmentSimilarityService {
+
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final TreatmentRepository treatmentRepository;
+    private final CollaborativeFilteringConfig config;
+
+    private volatile ItemSimilarityMatrix matrix = ItemSimilarityMatrix.empty();
+
+    // 행렬이 교체될 때마다 증가 (추천 캐시가 이전 행렬로 계산한 응답을 버리는 기준)
+    private final AtomicLong version = new AtomicLong();
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 유사도 행렬 재생성 (완료 기록을 사용자 순으로 한 번 훑음)
+     */
+    @Scheduled(cron = "${recommendation.collaborative.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            long[] catalogIds = treatmentRepository.findActiveTreatmentIds().stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            ItemSimilarityMatrix.Builder builder = ItemSimilarityMatrix.builder(catalogIds, config.getMaxBasket());
+            recommendationJdbcRepository.forEachCompletion(builder::accept);
+            matrix = builder.build(config.getNeighbours(), config.getMinSupport());
+            version.incrementAndGet();
+            log.info("치료법 유사도 행렬 생성 - 치료법 {}개, 사용자 {}명, 유사 쌍 {}개 ({}ms)",
+                    matrix.size(), builder.users(), matrix.nonZeros(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("치료법 유사도 행렬 생성 실패 - 이전 행렬 유지", e);
+        }
+    }
+
+    /**
+     * 사용자 완료 이력을 반영한 추천 순위 (이력이 없거나 행렬이 비어 있으면 그대로)
+     */
+    public List<RecommendationEngine.TreatmentRecommendation> personalize(
+            User user, List<RecommendationEngine.TreatmentRecommendation> ranked) {
+        ItemSimilarityMatrix current = matrix;
+        if (!config.isEnabled() || current.isEmpty()) {
+            return ranked;
+        }
+        long[] history = recommendationJdbcRepository.findCompletedTreatmentIds(user.getId());
+        return RecommendationEngine.blendCollaborative(ranked, current, history, config.getWeight());
+    }
+
+    /**
+     * 현재 행렬의 생성 버전 (추천 계산 전에 읽어 캐시 저장 시 비교)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 현재 행렬로 개인화가 가능한지 (불필요한 이력 조회를 피하기 위해)
+     */
+    public boolean isAvailable() {
+        return config.isEnabled() && !matrix.isEmpty();
+    }
+}
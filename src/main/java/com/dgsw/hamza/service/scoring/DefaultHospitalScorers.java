@@ -0,0 +1,80 @@
+package com.dgsw.hamza.service.scoring;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기본 병원 점수 구성요소 (거리, 평점, 편의시설, 응급실)
+ */
+@Configuration
+public class DefaultHospitalScorers {
+
+    public static final String DISTANCE = "distance";
+    public static final String RATING = "rating";
+    public static final String FACILITY = "facility";
+    public static final String EMERGENCY = "emergency";
+
+    @Bean
+    public HospitalScorer distanceScorer() {
+        return new HospitalScorer() {
+            @Override
+            public String name() {
+                return DISTANCE;
+            }
+
+            @Override
+            public double score(ScoringContext context, int index) {
+                if (!context.hasDistances() || context.radiusKm() <= 0) {
+                    return 0.0;
+                }
+                // 반경 경계에서 0점, 바로 옆이면 100점
+                return Math.max(0.0, 100.0 * (1.0 - context.distances()[index] / context.radiusKm()));
+            }
+        };
+    }
+
+    @Bean
+    public HospitalScorer ratingScorer() {
+        return new HospitalScorer() {
+            @Override
+            public String name() {
+                return RATING;
+            }
+
+            @Override
+            public double score(ScoringContext context, int index) {
+                return context.features().rating(index) * 20.0; // 5점 만점 -> 100점
+            }
+        };
+    }
+
+    @Bean
+    public HospitalScorer facilityScorer() {
+        return new HospitalScorer() {
+            @Override
+            public String name() {
+                return FACILITY;
+            }
+
+            @Override
+            public double score(ScoringContext context, int index) {
+                return context.features().facilityScore(index) * 10.0; // 10점 만점 -> 100점
+            }
+        };
+    }
+
+    @Bean
+    public HospitalScorer emergencyScorer() {
+        return new HospitalScorer() {
+            @Override
+            public String name() {
+                return EMERGENCY;
+            }
+
+            @Override
+            public double score(ScoringContext context, int index) {
+                return context.features().isEmergency(index) ? 100.0 : 0.0;
+            }
+        };
+    }
+}
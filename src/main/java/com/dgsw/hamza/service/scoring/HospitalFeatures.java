@@ -0,0 +1,80 @@
+package com.dgsw.hamza.service.scoring;
+
+import com.dgsw.hamza.entity.Hospital;
+
+import java.util.List;
+
+/**
+ * 병원별 정적 특성 (스냅샷 생성 시 한 번만 계산)
+ * 인덱스는 스냅샷의 병원 목록과 동일합니다.
+ */
+public class HospitalFeatures {
+
+    // 평점 정보가 없는 병원에 사용할 기본 평점
+    public static final double DEFAULT_RATING = 2.5;
+
+    private final double[] ratings;
+    private final boolean[] rated;
+    private final double[] facilityScores;
+    private final boolean[] emergency;
+
+    private HospitalFeatures(int size) {
+        this.ratings = new double[size];
+        this.rated = new boolean[size];
+        this.facilityScores = new double[size];
+        this.emergency = new boolean[size];
+    }
+
+    public static HospitalFeatures of(List<Hospital> hospitals) {
+        HospitalFeatures features = new HospitalFeatures(hospitals.size());
+        for (int i = 0; i < hospitals.size(); i++) {
+            Hospital hospital = hospitals.get(i);
+            features.rated[i] = hospital.getRating() != null;
+            features.ratings[i] = features.rated[i] ? hospital.getRating().doubleValue() : DEFAULT_RATING;
+            features.facilityScores[i] = facilityScore(hospital);
+            features.emergency[i] = hospital.isEmergency();
+        }
+        return features;
+    }
+
+    /**
+     * 편의시설 점수 (0-10점: 주차 3, 휠체어 3, 응급실 4)
+     */
+    public static double facilityScore(Hospital hospital) {
+        double score = 0.0;
+
+        if (Boolean.TRUE.equals(hospital.getParkingAvailable())) {
+            score += 3.0;
+        }
+
+        if (Boolean.TRUE.equals(hospital.getWheelchairAccessible())) {
+            score += 3.0;
+        }
+
+        if (Boolean.TRUE.equals(hospital.getIsEmergency())) {
+            score += 4.0;
+        }
+
+        return score;
+    }
+
+    public int size() {
+        return ratings.length;
+    }
+
+    public double rating(int index) {
+        return ratings[index];
+    }
+
+    public boolean isRated(int index) {
+        return rated[index];
+    }
+
+    public double facilityScore(int index) {
+        return facilityScores[index];
+    }
+
+    public boolean isEmergency(int index) {
+        return emergency[index];
+    }
+}
@@ -0,0 +1,114 @@
+package com.dgsw.hamza.service.scoring;
+
+import com.dgsw.hamza.config.HospitalRankingConfig;
+import com.dgsw.hamza.util.TopKSelector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 병원 순위 계산 파이프라인
+ * 점수 = Σ (프로필별 가중치 × 구성요소 원점수), 상위 k개는 크기 k의 힙으로 선택합니다.
+ * 점수 내역은 선택된 k개에 대해서만 계산합니다.
+ */
+@Component
+@Slf4j
+public class HospitalRankingPipeline {
+
+    private final HospitalScorer[] scorers;
+    private final HospitalRankingConfig rankingConfig;
+
+    public HospitalRankingPipeline(List<HospitalScorer> scorers, HospitalRankingConfig rankingConfig) {
+        this.scorers = scorers.toArray(new HospitalScorer[0]);
+        this.rankingConfig = rankingConfig;
+    }
+
+    /**
+     * 상위 k개 병원 선택
+     * @param candidate 후보 조건 (스냅샷 인덱스 기준)
+     * @param profile 가중치 프로필 (심각도 이름 또는 REGIONAL)
+     * @return 점수 내림차순 결과
+     */
+    public List<Ranked> rank(ScoringContext context, IntPredicate candidate, String profile, int k) {
+        HospitalScorer[] active = activeScorers(profile);
+        double[] weights = new double[active.length];
+        Map<String, Double> profileWeights = rankingConfig.weightsFor(profile);
+        for (int s = 0; s < active.length; s++) {
+            weights[s] = profileWeights.get(active[s].name());
+        }
+
+        TopKSelector<Integer> selector = new TopKSelector<>(k);
+        int size = context.features().size();
+        for (int i = 0; i < size; i++) {
+            if (!candidate.test(i)) {
+                continue;
+            }
+            double total = 0.0;
+            for (int s = 0; s < active.length; s++) {
+                total += weights[s] * active[s].score(context, i);
+            }
+            selector.offer(i, total);
+        }
+
+        List<Ranked> result = new ArrayList<>(selector.size());
+        for (TopKSelector.Scored<Integer> scored : selector.toSortedList()) {
+            int index = scored.item();
+            result.add(new Ranked(index, round(scored.score()), breakdown(context, index, active, weights)));
+        }
+        return result;
+    }
+
+    /**
+     * 단일 병원 점수 계산 (지역 순위처럼 병원별 점수를 미리 저장해 두는 경우)
+     */
+    public Ranked score(ScoringContext context, int index, String profile) {
+        HospitalScorer[] active = activeScorers(profile);
+        Map<String, Double> profileWeights = rankingConfig.weightsFor(profile);
+        double[] weights = new double[active.length];
+        double total = 0.0;
+        for (int s = 0; s < active.length; s++) {
+            weights[s] = profileWeights.get(active[s].name());
+            total += weights[s] * active[s].score(context, index);
+        }
+        return new Ranked(index, round(total), breakdown(context, index, active, weights));
+    }
+
+    private static Map<String, Double> breakdown(ScoringContext context, int index,
+                                                 HospitalScorer[] active, double[] weights) {
+        Map<String, Double> breakdown = new LinkedHashMap<>();
+        for (int s = 0; s < active.length; s++) {
+            breakdown.put(active[s].name(), round(weights[s] * active[s].score(context, index)));
+        }
+        return breakdown;
+    }
+
+    private HospitalScorer[] activeScorers(String profile) {
+        Map<String, Double> profileWeights = rankingConfig.weightsFor(profile);
+        List<HospitalScorer> active = new ArrayList<>(scorers.length);
+        for (HospitalScorer scorer : scorers) {
+            Double weight = profileWeights.get(scorer.name());
+            if (weight != null && weight != 0.0) {
+                active.add(scorer);
+            }
+        }
+        return active.toArray(new HospitalScorer[0]);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 순위 결과
+     * @param index 스냅샷 인덱스
+     * @param score 최종 점수
+     * @param breakdown 구성요소별 가중 점수
+     */
+    public record Ranked(int index, double score, Map<String, Double> breakdown) {
+    }
+}
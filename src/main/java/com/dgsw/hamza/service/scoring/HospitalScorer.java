@@ -0,0 +1,16 @@
+package com.dgsw.hamza.service.scoring;
+
+/**
+ * 병원 점수 구성요소
+ * 각 구현은 0~100 범위의 원점수를 반환하고, 심각도별 가중치는 파이프라인에서 곱합니다.
+ * Spring 빈으로 등록하면 파이프라인에 자동으로 포함됩니다.
+ */
+public interface HospitalScorer {
+
+    /**
+     * 가중치 설정과 점수 내역에서 사용하는 이름
+     */
+    String name();
+
+    double score(ScoringContext context, int index);
+}
@@ -0,0 +1,14 @@
+package com.dgsw.hamza.service.scoring;
+
+/**
+ * 한 번의 순위 계산에 필요한 입력
+ * @param features 병원별 정적 특성
+ * @param distances 사용자로부터의 거리 (km), 위치 정보가 없는 순위 계산이면 null
+ * @param radiusKm 검색 반경 (km)
+ */
+public record ScoringContext(HospitalFeatures features, double[] distances, double radiusKm) {
+
+    public boolean hasDistances() {
+        return distances != null;
+    }
+}
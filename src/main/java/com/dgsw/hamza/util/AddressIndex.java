@@ -0,0 +1,258 @@
+package com.dgsw.hamza.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로컬 주소 데이터셋 기반 인메모리 지오코딩 인덱스
+ * 시/도 -> 시/군/구 -> 동/도로명 계층으로 구성되며, 조회는 해시 탐색 몇 번으로 끝납니다.
+ *
+ * 데이터셋 형식 (탭 구분, '#'으로 시작하면 주석, 빈 값은 '-'):
+ * <pre>
+ * level    sido    sigungu    name    latitude    longitude
+ * SIDO     서울특별시  -      -       37.5665     126.9780
+ * SIGUNGU  서울특별시  종로구  -       37.5735     126.9790
+ * DONG     서울특별시  종로구  혜화동  37.5862     127.0016
+ * ROAD     서울특별시  종로구  대학로  37.5800     127.0020
+ * </pre>
+ */
+public class AddressIndex {
+
+    private static final String EMPTY_COLUMN = "-";
+
+    // 같은 이름이 여러 지역에 있으면 (예: "중구") 상위 지역 없이는 특정할 수 없음
+    private static final Place AMBIGUOUS = new Place(0, 0, null);
+    private static final Region AMBIGUOUS_REGION = new Region(null, null);
+
+    private final Region root = new Region(null, null);
+    private int size;
+
+    private AddressIndex() {
+    }
+
+    /**
+     * 데이터셋 스트림으로부터 인덱스 생성
+     */
+    public static AddressIndex load(InputStream inputStream) throws IOException {
+        AddressIndex index = new AddressIndex();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = trimmed.split("\t");
+                if (columns.length < 6) {
+                    throw new IOException("주소 데이터셋 형식 오류 (line " + lineNumber + "): " + line);
+                }
+                try {
+                    index.add(columns[0].trim(), column(columns[1]), column(columns[2]), column(columns[3]),
+                            Double.parseDouble(columns[4].trim()), Double.parseDouble(columns[5].trim()));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("주소 데이터셋 형식 오류 (line " + lineNumber + "): " + e.getMessage(), e);
+                }
+            }
+        }
+        return index;
+    }
+
+    private static String column(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() || EMPTY_COLUMN.equals(trimmed) ? null : trimmed;
+    }
+
+    private void add(String level, String sido, String sigungu, String name, double latitude, double longitude) {
+        if (sido == null) {
+            throw new IllegalArgumentException("시/도가 비어 있습니다");
+        }
+        Region sidoRegion = root.children.computeIfAbsent(sido, key -> new Region(key, root));
+
+        switch (level) {
+            case "SIDO":
+                sidoRegion.place = new Place(latitude, longitude, sido);
+                break;
+            case "SIGUNGU":
+                Region region = sidoRegion.child(requireValue(sigungu, "시/군/구"));
+                region.place = new Place(latitude, longitude, sido + " " + sigungu);
+                root.registerUnique(root.sigungus, sigungu, region);
+                String shortName = lastToken(sigungu);
+                if (!shortName.equals(sigungu)) {
+                    root.registerUnique(root.sigungus, shortName, region);
+                }
+                break;
+            case "DONG":
+            case "ROAD":
+                Region parent = sidoRegion.child(requireValue(sigungu, "시/군/구"));
+                Place place = new Place(latitude, longitude, sido + " " + sigungu + " " + requireValue(name, "이름"));
+                boolean road = "ROAD".equals(level);
+                // 시/군/구, 시/도, 전국 단위에 모두 등록해서 상위 주소가 빠져도 찾을 수 있게 함
+                for (Region target = parent; target != null; target = target.parent) {
+                    target.registerUnique(road ? target.roads : target.dongs, name, place);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("알 수 없는 레벨: " + level);
+        }
+        size++;
+    }
+
+    private static String requireValue(String value, String label) {
+        if (value == null) {
+            throw new IllegalArgumentException(label + "이(가) 비어 있습니다");
+        }
+        return value;
+    }
+
+    private static String lastToken(String value) {
+        int index = value.lastIndexOf(' ');
+        return index < 0 ? value : value.substring(index + 1);
+    }
+
+    /**
+     * 주소 문자열 지오코딩
+     * @return 매칭 결과, 시/도 수준에서도 찾을 수 없으면 null
+     */
+    public GeocodeResult lookup(String address) {
+        return lookup(KoreanAddressParser.parse(address));
+    }
+
+    /**
+     * 분해된 주소 구성요소로 지오코딩 (가장 깊은 계층의 결과 반환)
+     */
+    public GeocodeResult lookup(KoreanAddressParser.AddressComponents components) {
+        if (components.isEmpty()) {
+            return null;
+        }
+
+        Region region = root;
+        GeocodeResult.Precision precision = null;
+
+        if (components.sido != null) {
+            Region sidoRegion = root.children.get(components.sido);
+            if (sidoRegion != null) {
+                region = sidoRegion;
+                precision = GeocodeResult.Precision.SIDO;
+            }
+        }
+
+        if (components.sigungu != null) {
+            Region sigunguRegion = findSigungu(region, components.sigungu);
+            if (sigunguRegion != null) {
+                region = sigunguRegion;
+                precision = GeocodeResult.Precision.SIGUNGU;
+            }
+        }
+
+        if (components.road != null) {
+            Place place = region.roads.get(components.road);
+            if (place == null) {
+                place = region.roads.get(KoreanAddressParser.parentRoad(components.road));
+            }
+            if (place != null && place != AMBIGUOUS) {
+                return place.toResult(GeocodeResult.Precision.ROAD);
+            }
+        }
+
+        if (components.dong != null) {
+            Place place = region.dongs.get(components.dong);
+            if (place != null && place != AMBIGUOUS) {
+                return place.toResult(GeocodeResult.Precision.DONG);
+            }
+        }
+
+        if (precision == null || region.place == null) {
+            return null;
+        }
+        return region.place.toResult(precision);
+    }
+
+    /**
+     * 행정구역 표기 정규화
+     * 시/도가 생략된 시/군/구는 유일한 경우에만 상위 시/도를 채웁니다. ("강남구" -> 서울특별시, "중구"는 그대로)
+     */
+    public KoreanAddressParser.AddressComponents resolveRegion(KoreanAddressParser.AddressComponents components) {
+        if (components.sigungu == null) {
+            return components;
+        }
+        Region sidoRegion = components.sido != null ? root.children.get(components.sido) : null;
+        if (components.sido != null && sidoRegion == null) {
+            return components;
+        }
+        Region sigunguRegion = findSigungu(sidoRegion != null ? sidoRegion : root, components.sigungu);
+        if (sigunguRegion == null) {
+            return components;
+        }
+        // "장안구"처럼 짧은 이름으로 찾은 경우 "수원시 장안구"로 맞춤
+        String sigungu = sigunguRegion.name.endsWith(components.sigungu) ? sigunguRegion.name : components.sigungu;
+        return new KoreanAddressParser.AddressComponents(
+                sigunguRegion.parent.name, sigungu, components.dong, components.road, components.buildingNumber);
+    }
+
+    private Region findSigungu(Region region, String sigungu) {
+        if (region == root) {
+            Region found = root.sigungus.get(sigungu);
+            return found == AMBIGUOUS_REGION ? null : found;
+        }
+        Region found = region.children.get(sigungu);
+        if (found == null && sigungu.indexOf(' ') > 0) {
+            // "수원시 장안구"가 없으면 "수원시"로 대체
+            found = region.children.get(sigungu.substring(0, sigungu.indexOf(' ')));
+        }
+        return found != null && found.place != null ? found : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static class Region {
+        final String name;
+        final Region parent;
+        final Map<String, Region> children = new HashMap<>();
+        final Map<String, Region> sigungus = new HashMap<>();
+        final Map<String, Place> dongs = new HashMap<>();
+        final Map<String, Place> roads = new HashMap<>();
+        Place place;
+
+        Region(String name, Region parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        Region child(String childName) {
+            return children.computeIfAbsent(childName, key -> new Region(key, this));
+        }
+
+        void registerUnique(Map<String, Place> map, String key, Place value) {
+            map.merge(key, value, (existing, added) -> existing == added ? existing : AMBIGUOUS);
+        }
+
+        void registerUnique(Map<String, Region> map, String key, Region value) {
+            map.merge(key, value, (existing, added) -> existing == added ? existing : AMBIGUOUS_REGION);
+        }
+    }
+
+    private static class Place {
+        final double latitude;
+        final double longitude;
+        final String label;
+
+        Place(double latitude, double longitude, String label) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.label = label;
+        }
+
+        GeocodeResult toResult(GeocodeResult.Precision precision) {
+            return new GeocodeResult(latitude, longitude, label, precision);
+        }
+    }
+}
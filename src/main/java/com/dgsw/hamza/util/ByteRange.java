@@ -0,0 +1,97 @@
+package com.dgsw.hamza.util;
+
+/**
+ * HTTP Range 요청의 단일 바이트 구간 (양 끝 포함)
+ * 다중 구간 요청은 multipart 응답 대신 전체 응답으로 처리합니다 (RFC 9110 에서 허용).
+ */
+public record ByteRange(long start, long end) {
+
+    /**
+     * 파일 범위를 벗어난 요청 (416 응답)
+     */
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1L, -1L);
+
+    private static final String UNIT = "bytes=";
+
+    /**
+     * Range 헤더 해석
+     * @param length 파일 크기
+     * @return 전체 응답이면 null (헤더 없음, 형식 오류, 다중 구간), 범위를 벗어나면 UNSATISFIABLE
+     */
+    public static ByteRange parse(String header, long length) {
+        if (header == null || !header.regionMatches(true, 0, UNIT, 0, UNIT.length())) {
+            return null;
+        }
+        String spec = header.substring(UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            return null;
+        }
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+
+        if (first.isEmpty()) {
+            // 마지막 N 바이트
+            long suffix = number(last);
+            if (suffix < 0) {
+                return null;
+            }
+            if (suffix == 0 || length == 0) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(Math.max(length - suffix, 0L), length - 1);
+        }
+
+        long start = number(first);
+        long end = last.isEmpty() ? Long.MAX_VALUE : number(last);
+        if (start < 0 || end < start) {
+            return null;
+        }
+        if (start >= length) {
+            return UNSATISFIABLE;
+        }
+        return new ByteRange(start, Math.min(end, length - 1));
+    }
+
+    public boolean isSatisfiable() {
+        return start >= 0;
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * 206 응답의 Content-Range 헤더 값
+     */
+    public String contentRange(long total) {
+        return "bytes " + start + "-" + end + "/" + total;
+    }
+
+    /**
+     * 416 응답의 Content-Range 헤더 값
+     */
+    public static String unsatisfiedRange(long total) {
+        return "bytes */" + total;
+    }
+
+    // 10진수 문자열 (형식 오류면 -1, long 범위를 넘으면 Long.MAX_VALUE)
+    private static long number(String value) {
+        if (value.isEmpty()) {
+            return -1L;
+        }
+        long result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1L;
+            }
+            if (result > (Long.MAX_VALUE - (c - '0')) / 10) {
+                result = Long.MAX_VALUE;
+            } else if (result != Long.MAX_VALUE) {
+                result = result * 10 + (c - '0');
+            }
+        }
+        return result;
+    }
+}
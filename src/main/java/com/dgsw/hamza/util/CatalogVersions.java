@@ -0,0 +1,77 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.enums.Catalog;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그별 단조 증가 버전과 강한 ETag 생성기
+ * ETag 는 "태그-기동ID-버전" 형식이라 재기동하거나 데이터가 바뀌면 달라지며,
+ * 같은 버전이면 응답 본문을 만들지 않고도 동일한 값을 계산할 수 있습니다.
+ */
+public class CatalogVersions {
+
+    private final String epoch;
+    private final Map<Catalog, AtomicLong> versions = new EnumMap<>(Catalog.class);
+
+    /**
+     * @param epoch 기동 구분값 (재기동 후 이전 ETag 가 일치하지 않도록)
+     */
+    public CatalogVersions(long epoch) {
+        this.epoch = Long.toString(epoch, 36);
+        for (Catalog catalog : Catalog.values()) {
+            versions.put(catalog, new AtomicLong());
+        }
+    }
+
+    public long version(Catalog catalog) {
+        return versions.get(catalog).get();
+    }
+
+    /**
+     * 버전 증가
+     * @return 증가된 버전
+     */
+    public long bump(Catalog catalog) {
+        return versions.get(catalog).incrementAndGet();
+    }
+
+    /**
+     * 강한 ETag (따옴표 포함)
+     * @param bucket 추가 구분값 (운영 여부처럼 시간에 따라 바뀌는 응답용), 없으면 음수
+     */
+    public String etag(Catalog catalog, long bucket) {
+        StringBuilder etag = new StringBuilder(48)
+                .append('"').append(catalog.getTag())
+                .append('-').append(epoch)
+                .append('-').append(version(catalog));
+        if (bucket >= 0) {
+            etag.append('-').append(Long.toString(bucket, 36));
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag 와 일치하는지 확인 (목록, "*", 약한 비교 접두사 W/ 허용)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
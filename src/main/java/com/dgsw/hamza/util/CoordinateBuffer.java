@@ -0,0 +1,46 @@
+package com.dgsw.hamza.util;
+
+/**
+ * 배치 거리 계산용 좌표 버퍼 (struct-of-arrays)
+ * 위도/경도를 라디안으로 미리 변환하고 위도의 코사인 값을 캐싱해 둡니다.
+ * 생성 후에는 변경하지 않으므로 여러 스레드에서 공유해도 안전합니다.
+ */
+public class CoordinateBuffer {
+
+    public static final CoordinateBuffer EMPTY = new CoordinateBuffer(new double[0], new double[0]);
+
+    final double[] latitudeRadians;
+    final double[] longitudeRadians;
+    final double[] cosLatitudes;
+
+    /**
+     * @param latitudes 위도 목록 (도)
+     * @param longitudes 경도 목록 (도)
+     */
+    public CoordinateBuffer(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도와 경도 개수가 일치하지 않습니다");
+        }
+        int size = latitudes.length;
+        this.latitudeRadians = new double[size];
+        this.longitudeRadians = new double[size];
+        this.cosLatitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudeRadians[i] = Math.toRadians(latitudes[i]);
+            longitudeRadians[i] = Math.toRadians(longitudes[i]);
+            cosLatitudes[i] = Math.cos(latitudeRadians[i]);
+        }
+    }
+
+    public int size() {
+        return latitudeRadians.length;
+    }
+
+    public double latitude(int index) {
+        return Math.toDegrees(latitudeRadians[index]);
+    }
+
+    public double longitude(int index) {
+        return Math.toDegrees(longitudeRadians[index]);
+    }
+}
@@ -0,0 +1,204 @@
+package com.dgsw.hamza.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지수 감쇠 인기도 카운터 (반감기마다 과거 이벤트의 비중이 절반으로 줄어듦)
+ * 전방 감쇠(forward decay) 방식으로 이벤트 시점에 가중치를 키워 저장하므로 기존 값을 매번 줄일 필요가 없고,
+ * 모든 항목이 같은 비율로 감쇠하므로 저장된 값의 순서가 곧 현재 순위입니다.
+ * 순위 조회는 변경이 있을 때만 다시 정렬한 불변 순위표를 읽습니다.
+ * 저장 파일은 탭 구분 텍스트이며, 임시 파일에 쓴 뒤 교체합니다.
+ */
+public class DecayingPopularity {
+
+    // 감쇠 기준 시각을 옮기는 지수 상한 (double 오버플로 방지)
+    private static final double MAX_EXPONENT = 40.0;
+
+    private static final String HEADER = "#saved-at";
+
+    private final double lambda;
+    private final Map<Long, Double> weights = new HashMap<>();
+    private long landmark;
+    private volatile long version;
+    private long savedVersion;
+
+    private volatile Ranking ranking = new Ranking(-1, new long[0]);
+
+    /**
+     * @param halfLifeMillis 반감기 (밀리초)
+     * @param now 감쇠 기준 시각 (밀리초)
+     */
+    public DecayingPopularity(long halfLifeMillis, long now) {
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("반감기는 0보다 커야 합니다");
+        }
+        this.lambda = Math.log(2) / halfLifeMillis;
+        this.landmark = now;
+    }
+
+    /**
+     * at 시각에 발생한 이벤트 가중치 추가
+     */
+    public synchronized void add(long id, double weight, long at) {
+        if (weight <= 0) {
+            return;
+        }
+        double exponent = lambda * (at - landmark);
+        if (exponent > MAX_EXPONENT) {
+            rescale(at);
+            exponent = 0;
+        }
+        weights.merge(id, weight * Math.exp(exponent), Double::sum);
+        version++;
+    }
+
+    /**
+     * now 시각 기준 감쇠된 점수
+     */
+    public synchronized double score(long id, long now) {
+        Double weight = weights.get(id);
+        return weight != null ? weight * Math.exp(-lambda * (now - landmark)) : 0.0;
+    }
+
+    /**
+     * 점수 상위 limit 개 ID (점수 내림차순, 같으면 ID 순)
+     */
+    public long[] top(int limit) {
+        long[] ids = current().ids;
+        return limit >= ids.length ? ids.clone() : Arrays.copyOf(ids, Math.max(limit, 0));
+    }
+
+    public synchronized int size() {
+        return weights.size();
+    }
+
+    public synchronized boolean isDirty() {
+        return version != savedVersion;
+    }
+
+    /**
+     * 파일에서 점수 복원 (파일이 없으면 무시, 손상된 줄은 건너뜀)
+     * 저장 시각 기준 점수를 그 시각의 이벤트로 다시 넣으므로 꺼져 있던 동안의 감쇠도 반영됩니다.
+     * @return 복원된 항목 수
+     */
+    public int load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int loaded = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            String[] headerColumns = header != null ? header.split("\t", -1) : new String[0];
+            if (headerColumns.length != 2 || !HEADER.equals(headerColumns[0])) {
+                return 0;
+            }
+            long savedAt;
+            try {
+                savedAt = Long.parseLong(headerColumns[1]);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t", -1);
+                if (columns.length != 2) {
+                    continue;
+                }
+                try {
+                    add(Long.parseLong(columns[0]), Double.parseDouble(columns[1]), savedAt);
+                    loaded++;
+                } catch (NumberFormatException e) {
+                    // 손상된 줄은 건너뜀
+                }
+            }
+        }
+        synchronized (this) {
+            savedVersion = version;
+        }
+        return loaded;
+    }
+
+    /**
+     * now 시각 기준 점수를 파일로 저장
+     */
+    public void save(Path file, long now) throws IOException {
+        List<Map.Entry<Long, Double>> snapshot;
+        double decay;
+        long snapshotVersion;
+        synchronized (this) {
+            snapshot = new ArrayList<>(weights.entrySet());
+            decay = Math.exp(-lambda * (now - landmark));
+            snapshotVersion = version;
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.write('\t');
+                writer.write(Long.toString(now));
+                writer.newLine();
+                for (Map.Entry<Long, Double> entry : snapshot) {
+                    writer.write(Long.toString(entry.getKey()));
+                    writer.write('\t');
+                    writer.write(Double.toString(entry.getValue() * decay));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        synchronized (this) {
+            savedVersion = Math.max(savedVersion, snapshotVersion);
+        }
+    }
+
+    private Ranking current() {
+        Ranking current = ranking;
+        if (current.version == version) {
+            return current;
+        }
+        synchronized (this) {
+            current = ranking;
+            if (current.version == version) {
+                return current;
+            }
+            List<Map.Entry<Long, Double>> entries = new ArrayList<>(weights.entrySet());
+            entries.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            long[] ids = new long[entries.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = entries.get(i).getKey();
+            }
+            current = new Ranking(version, ids);
+            ranking = current;
+            return current;
+        }
+    }
+
+    // 기준 시각을 at 으로 옮기고 저장된 값을 같은 비율로 줄임 (순위는 그대로)
+    private void rescale(long at) {
+        double factor = Math.exp(-lambda * (at - landmark));
+        weights.replaceAll((id, weight) -> weight * factor);
+        landmark = at;
+    }
+
+    private record Ranking(long version, long[] ids) {
+    }
+}
@@ -0,0 +1,295 @@
+package com.dgsw.hamza.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 다단계 해상도의 병원 밀도 격자
+ * 레벨마다 위/경도를 고정 크기 셀로 나누고, 셀별 병원 수 / 진료과별 수 / 응급 병원 수 / 평점 합을 유지합니다.
+ * 병원별 기여분을 기억해 두므로 변경 시 기존 기여분을 빼고 새 값을 더하는 방식으로 갱신됩니다.
+ */
+public class DensityGrid {
+
+    // 레벨별 셀 크기 (도), 0 이 가장 거친 레벨 (약 22km, 5.5km, 1.1km)
+    public static final double[] CELL_SIZES = {0.2, 0.05, 0.01};
+
+    // 한 번의 조회에서 훑을 최대 셀 수 (이를 넘으면 더 거친 레벨 사용)
+    private static final long MAX_QUERY_CELLS = 4096;
+
+    private final List<Map<Long, Cell>> levels = new ArrayList<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public DensityGrid() {
+        for (int i = 0; i < CELL_SIZES.length; i++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 병원 추가 또는 갱신
+     * @param rating 평점, 없으면 null
+     */
+    public void upsert(long hospitalId, double latitude, double longitude,
+                       String department, boolean emergency, Double rating) {
+        Contribution contribution = new Contribution(latitude, longitude, department, emergency, rating);
+        lock.writeLock().lock();
+        try {
+            Contribution previous = contributions.put(hospitalId, contribution);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            apply(contribution, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 병원 제거 (없으면 무시)
+     */
+    public void remove(long hospitalId) {
+        lock.writeLock().lock();
+        try {
+            Contribution previous = contributions.remove(hospitalId);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구성용 초기화
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            contributions.clear();
+            levels.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return contributions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        for (int level = 0; level < CELL_SIZES.length; level++) {
+            long key = cellKey(row(contribution.latitude, level), column(contribution.longitude, level));
+            Map<Long, Cell> cells = levels.get(level);
+            Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+            cell.add(contribution, sign);
+            if (cell.count == 0) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 영역에 맞는 가장 세밀한 레벨 선택 (셀 수가 MAX_QUERY_CELLS 이하)
+     */
+    public static int chooseLevel(double south, double west, double north, double east) {
+        for (int level = CELL_SIZES.length - 1; level > 0; level--) {
+            long rows = (long) Math.ceil((north - south) / CELL_SIZES[level]) + 1;
+            long columns = (long) Math.ceil((east - west) / CELL_SIZES[level]) + 1;
+            if (rows * columns <= MAX_QUERY_CELLS) {
+                return level;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 영역 내 셀 합산 (셀 중심이 영역 안에 있는 셀만 포함)
+     */
+    public Summary summarize(double south, double west, double north, double east, int level) {
+        Summary summary = new Summary(level, CELL_SIZES[level]);
+        lock.readLock().lock();
+        try {
+            forEachCell(south, west, north, east, level, (row, column, cell) -> summary.add(cell));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return summary;
+    }
+
+    /**
+     * 히트맵 타일용 셀 목록
+     */
+    public List<CellView> cells(double south, double west, double north, double east, int level) {
+        List<CellView> result = new ArrayList<>();
+        double size = CELL_SIZES[level];
+        lock.readLock().lock();
+        try {
+            forEachCell(south, west, north, east, level, (row, column, cell) -> result.add(new CellView(
+                    row * size - 90 + size / 2,
+                    column * size - 180 + size / 2,
+                    cell.count,
+                    cell.emergencyCount,
+                    cell.averageRating(),
+                    new HashMap<>(cell.departments))));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void forEachCell(double south, double west, double north, double east, int level, CellVisitor visitor) {
+        Map<Long, Cell> cells = levels.get(level);
+        double size = CELL_SIZES[level];
+        int minRow = (int) Math.ceil((south + 90) / size - 0.5);
+        int maxRow = (int) Math.floor((north + 90) / size - 0.5);
+        int minColumn = (int) Math.ceil((west + 180) / size - 0.5);
+        int maxColumn = (int) Math.floor((east + 180) / size - 0.5);
+        if (minRow > maxRow || minColumn > maxColumn) {
+            return;
+        }
+
+        long rangeCells = (long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+        if (rangeCells > cells.size()) {
+            // 영역이 넓으면 채워진 셀만 훑음
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                int row = (int) (entry.getKey() >> 32);
+                int column = (int) (long) entry.getKey();
+                if (row >= minRow && row <= maxRow && column >= minColumn && column <= maxColumn) {
+                    visitor.visit(row, column, entry.getValue());
+                }
+            }
+            return;
+        }
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                Cell cell = cells.get(cellKey(row, column));
+                if (cell != null) {
+                    visitor.visit(row, column, cell);
+                }
+            }
+        }
+    }
+
+    private static int row(double latitude, int level) {
+        return (int) Math.floor((latitude + 90) / CELL_SIZES[level]);
+    }
+
+    private static int column(double longitude, int level) {
+        return (int) Math.floor((longitude + 180) / CELL_SIZES[level]);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    private interface CellVisitor {
+        void visit(int row, int column, Cell cell);
+    }
+
+    private static class Contribution {
+        final double latitude;
+        final double longitude;
+        final String department;
+        final boolean emergency;
+        final Double rating;
+
+        Contribution(double latitude, double longitude, String department, boolean emergency, Double rating) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.department = department;
+            this.emergency = emergency;
+            this.rating = rating;
+        }
+    }
+
+    private static class Cell {
+        int count;
+        int emergencyCount;
+        int ratedCount;
+        double ratingSum;
+        final Map<String, Integer> departments = new HashMap<>();
+
+        void add(Contribution contribution, int sign) {
+            count += sign;
+            if (contribution.emergency) {
+                emergencyCount += sign;
+            }
+            if (contribution.rating != null) {
+                ratedCount += sign;
+                ratingSum += sign * contribution.rating;
+            }
+            if (contribution.department != null) {
+                departments.merge(contribution.department, sign, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+
+        double averageRating() {
+            return ratedCount == 0 ? 0.0 : ratingSum / ratedCount;
+        }
+    }
+
+    /**
+     * 히트맵 셀 정보
+     */
+    public static class CellView {
+        public final double latitude;   // 셀 중심 위도
+        public final double longitude;  // 셀 중심 경도
+        public final int count;
+        public final int emergencyCount;
+        public final double averageRating;
+        public final Map<String, Integer> departments;
+
+        public CellView(double latitude, double longitude, int count, int emergencyCount,
+                        double averageRating, Map<String, Integer> departments) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.count = count;
+            this.emergencyCount = emergencyCount;
+            this.averageRating = averageRating;
+            this.departments = departments;
+        }
+    }
+
+    /**
+     * 영역 합산 결과
+     */
+    public static class Summary {
+        public final int level;
+        public final double cellSize;
+        public int count;
+        public int emergencyCount;
+        public int cellCount;
+        public final Map<String, Long> departments = new HashMap<>();
+        private int ratedCount;
+        private double ratingSum;
+
+        Summary(int level, double cellSize) {
+            this.level = level;
+            this.cellSize = cellSize;
+        }
+
+        void add(Cell cell) {
+            cellCount++;
+            count += cell.count;
+            emergencyCount += cell.emergencyCount;
+            ratedCount += cell.ratedCount;
+            ratingSum += cell.ratingSum;
+            cell.departments.forEach((department, value) -> departments.merge(department, (long) value, Long::sum));
+        }
+
+        public double averageRating() {
+            return ratedCount == 0 ? 0.0 : ratingSum / ratedCount;
+        }
+    }
+}
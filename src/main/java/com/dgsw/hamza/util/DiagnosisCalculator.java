@@ -16,16 +16,29 @@ public class DiagnosisCalculator {
     /**
      * PHQ-9 총 점수 계산
      * @param answers 진단 답변 목록
+     * @param model 채점표 (ScoringService 가 설정으로 컴파일한 모델)
      * @return 총 점수
      */
-    public static int calculateTotalScore(List<DiagnosisAnswer> answers) {
+    public static int calculateTotalScore(List<DiagnosisAnswer> answers, ScoringModel model) {
         if (answers == null || answers.isEmpty()) {
             return 0;
         }
 
-        int totalScore = answers.stream()
-                .mapToInt(DiagnosisAnswer::getAnswerScore)
-                .sum();
+        int totalScore = 0;
+        for (int i = 0; i < answers.size(); i++) {
+            DiagnosisAnswer answer = answers.get(i);
+            // 문항 순서가 있으면 해당 문항의 가중치/역채점 적용, 없으면 답변 순서 기준
+            Integer order = answer.getQuestion() != null ? answer.getQuestion().getQuestionOrder() : null;
+            int item = order != null ? order - 1 : i;
+            if (item < 0 || item >= model.itemCount) {
+                throw new IllegalArgumentException("유효하지 않은 문항 순서입니다: " + (item + 1));
+            }
+            Integer raw = answer.getAnswerScore();
+            if (raw == null || !model.isValidAnswerScore(raw)) {
+                throw new IllegalArgumentException("유효하지 않은 답변 점수입니다: " + raw);
+            }
+            totalScore += model.itemScore(item, raw);
+        }
 
         log.debug("PHQ-9 총 점수 계산: {} (답변 개수: {})", totalScore, answers.size());
         return totalScore;
@@ -34,10 +47,11 @@ public class DiagnosisCalculator {
     /**
      * PHQ-9 점수를 기반으로 심각도 분류
      * @param totalScore 총 점수
+     * @param model 채점표
      * @return 심각도 레벨
      */
-    public static DiagnosisSeverity calculateSeverityLevel(int totalScore) {
-        return DiagnosisSeverity.fromScore(totalScore);
+    public static DiagnosisSeverity calculateSeverityLevel(int totalScore, ScoringModel model) {
+        return model.severity(totalScore);
     }
 
     /**
@@ -178,19 +192,20 @@ public class DiagnosisCalculator {
     /**
      * 점수 유효성 검증
      * @param score 점수
-     * @param maxQuestions 최대 문항 수
+     * @param model 채점표
      * @return 유효성 여부
      */
-    public static boolean isValidScore(int score, int maxQuestions) {
-        return score >= 0 && score <= (maxQuestions * 3);
+    public static boolean isValidScore(int score, ScoringModel model) {
+        return score >= 0 && score <= model.maxTotalScore;
     }
 
     /**
      * 개별 답변 점수 유효성 검증
      * @param answerScore 답변 점수
+     * @param model 채점표
      * @return 유효성 여부
      */
-    public static boolean isValidAnswerScore(int answerScore) {
-        return answerScore >= 0 && answerScore <= 3;
+    public static boolean isValidAnswerScore(int answerScore, ScoringModel model) {
+        return model.isValidAnswerScore(answerScore);
     }
 }
\ No newline at end of file
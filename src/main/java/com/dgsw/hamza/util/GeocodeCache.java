@@ -0,0 +1,140 @@
+package com.dgsw.hamza.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지오코딩 결과 LRU 캐시 (디스크 저장 지원)
+ * 저장 파일은 탭 구분 텍스트이며, 임시 파일에 쓴 뒤 교체하므로 저장 중 종료되어도 기존 파일이 유지됩니다.
+ */
+public class GeocodeCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, GeocodeResult> entries;
+    private boolean dirty;
+
+    public GeocodeCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GeocodeResult> eldest) {
+                return size() > GeocodeCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시 키 정규화 (앞뒤 공백 제거, 연속 공백 축약)
+     */
+    public static String normalizeKey(String address) {
+        return address == null ? "" : address.trim().replaceAll("\\s+", " ");
+    }
+
+    public synchronized GeocodeResult get(String address) {
+        return entries.get(normalizeKey(address));
+    }
+
+    public synchronized void put(String address, GeocodeResult result) {
+        entries.put(normalizeKey(address), result);
+        dirty = true;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 파일에서 캐시 복원 (파일이 없으면 무시, 손상된 줄은 건너뜀)
+     * @return 복원된 항목 수
+     */
+    public int load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int loaded = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t", -1);
+                if (columns.length != 5) {
+                    continue;
+                }
+                try {
+                    GeocodeResult result = new GeocodeResult(
+                            Double.parseDouble(columns[1]),
+                            Double.parseDouble(columns[2]),
+                            columns[4],
+                            GeocodeResult.Precision.valueOf(columns[3]));
+                    synchronized (this) {
+                        entries.put(columns[0], result);
+                    }
+                    loaded++;
+                } catch (IllegalArgumentException e) {
+                    // 손상된 줄은 건너뜀
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시를 파일로 저장 (가장 오래 사용되지 않은 항목부터 기록)
+     */
+    public void save(Path file) throws IOException {
+        List<Map.Entry<String, GeocodeResult>> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(entries.entrySet());
+            dirty = false;
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, GeocodeResult> entry : snapshot) {
+                    GeocodeResult result = entry.getValue();
+                    writer.write(sanitize(entry.getKey()));
+                    writer.write('\t');
+                    writer.write(Double.toString(result.latitude()));
+                    writer.write('\t');
+                    writer.write(Double.toString(result.longitude()));
+                    writer.write('\t');
+                    writer.write(result.precision().name());
+                    writer.write('\t');
+                    writer.write(sanitize(result.formattedAddress()));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            synchronized (this) {
+                dirty = true;
+            }
+            throw e;
+        }
+    }
+
+    private static String sanitize(String value) {
+        return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
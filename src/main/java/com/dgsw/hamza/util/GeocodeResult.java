@@ -0,0 +1,27 @@
+package com.dgsw.hamza.util;
+
+/**
+ * 지오코딩 결과
+ * @param latitude 위도
+ * @param longitude 경도
+ * @param formattedAddress 매칭된 주소
+ * @param precision 매칭 정밀도
+ */
+public record GeocodeResult(
+    double latitude,
+    double longitude,
+    String formattedAddress,
+    Precision precision
+) {
+    public enum Precision {
+        ROAD,       // 도로명까지 일치
+        DONG,       // 읍/면/동까지 일치
+        SIGUNGU,    // 시/군/구까지 일치
+        SIDO,       // 시/도만 일치
+        REMOTE;     // 외부 지오코딩 서비스 결과
+
+        public boolean isCoarserThan(Precision other) {
+            return this != REMOTE && other != REMOTE && this.ordinal() > other.ordinal();
+        }
+    }
+}
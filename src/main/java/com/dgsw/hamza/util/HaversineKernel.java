@@ -0,0 +1,100 @@
+package com.dgsw.hamza.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 지점에서 여러 지점까지의 거리를 한 번에 계산하는 배치 Haversine 커널
+ * 기본은 스칼라 구현이며, SIMD 구현은 선택 사항입니다.
+ * (빌드: ./gradlew build -PvectorHaversine, 실행 옵션: --add-modules jdk.incubator.vector)
+ */
+@Slf4j
+public class HaversineKernel {
+
+    static final double EARTH_RADIUS_KM = 6371.0;
+
+    private static final String VECTOR_KERNEL = "com.dgsw.hamza.util.VectorizedHaversine";
+
+    // SIMD 구현 (빌드에 없거나 모듈이 로드되지 않았으면 null)
+    private static final BatchKernel VECTOR = loadVectorKernel();
+
+    private HaversineKernel() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 선택 빌드로 포함되는 배치 구현
+     */
+    interface BatchKernel {
+        void distances(double latitude, double longitude, CoordinateBuffer buffer, double[] distances);
+    }
+
+    private static BatchKernel loadVectorKernel() {
+        Class<?> type;
+        try {
+            // 초기화하지 않고 존재 여부만 확인 (초기화는 모듈이 있어야 가능)
+            type = Class.forName(VECTOR_KERNEL, false, HaversineKernel.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null; // 기본 빌드
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            log.info("jdk.incubator.vector 모듈이 없어 스칼라 거리 계산을 사용합니다");
+            return null;
+        }
+        try {
+            BatchKernel kernel = (BatchKernel) type.getDeclaredConstructor().newInstance();
+            log.info("SIMD 거리 계산 사용 - {}", kernel);
+            return kernel;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            log.warn("SIMD 거리 계산을 사용할 수 없어 스칼라 구현을 사용합니다: {}", e.toString());
+            return null;
+        }
+    }
+
+    public static boolean isVectorized() {
+        return VECTOR != null;
+    }
+
+    /**
+     * 기준점에서 버퍼의 모든 좌표까지의 거리 계산
+     * @param latitude 기준점 위도 (도)
+     * @param longitude 기준점 경도 (도)
+     * @param buffer 대상 좌표
+     * @param distances 결과 (km), buffer.size() 이상의 길이
+     */
+    public static void distances(double latitude, double longitude, CoordinateBuffer buffer, double[] distances) {
+        if (distances.length < buffer.size()) {
+            throw new IllegalArgumentException("결과 배열이 좌표 수보다 작습니다");
+        }
+        if (VECTOR != null) {
+            VECTOR.distances(latitude, longitude, buffer, distances);
+        } else {
+            scalarDistances(latitude, longitude, buffer, distances, 0);
+        }
+    }
+
+    public static double[] distances(double latitude, double longitude, CoordinateBuffer buffer) {
+        double[] distances = new double[buffer.size()];
+        distances(latitude, longitude, buffer, distances);
+        return distances;
+    }
+
+    /**
+     * 스칼라 구현 (from 인덱스부터 끝까지), SIMD 구현의 나머지 구간 처리에도 사용
+     */
+    static void scalarDistances(double latitude, double longitude, CoordinateBuffer buffer,
+                                double[] distances, int from) {
+        double originLat = Math.toRadians(latitude);
+        double originLon = Math.toRadians(longitude);
+        double originCos = Math.cos(originLat);
+        double[] lats = buffer.latitudeRadians;
+        double[] lons = buffer.longitudeRadians;
+        double[] cosines = buffer.cosLatitudes;
+
+        for (int i = from; i < lats.length; i++) {
+            double sinLat = Math.sin((lats[i] - originLat) * 0.5);
+            double sinLon = Math.sin((lons[i] - originLon) * 0.5);
+            double a = sinLat * sinLat + originCos * cosines[i] * sinLon * sinLon;
+            distances[i] = 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1.0, a)));
+        }
+    }
+}
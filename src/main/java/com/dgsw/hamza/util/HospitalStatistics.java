@@ -0,0 +1,152 @@
+package com.dgsw.hamza.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 활성 병원 통계 누적기
+ * 병원별 기여분(진료과, 평점)을 기억해 두고 변경 시 이전 기여분을 빼고 새 값을 더합니다.
+ * 조회는 변경 시마다 새로 만드는 불변 스냅샷을 그대로 반환합니다.
+ */
+public class HospitalStatistics {
+
+    // 평점 구간 (높은 구간부터, 평점이 없으면 마지막 구간)
+    public static final String[] RATING_GROUPS = {"매우 좋음", "좋음", "보통", "개선 필요"};
+
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    // 진료과별 병원 수 (진료과가 없는 병원은 null 키로 집계, GROUP BY department 와 같은 결과)
+    private final Map<String, Long> departments = new HashMap<>();
+    private final long[] ratingGroups = new long[RATING_GROUPS.length];
+    private long ratedCount;
+    private double ratingSum;
+
+    private volatile Snapshot snapshot = new Snapshot(0, 0, 0.0, Map.of(), Map.of());
+
+    /**
+     * 평점 구간 이름
+     */
+    public static String ratingGroup(Double rating) {
+        return RATING_GROUPS[ratingGroupIndex(rating)];
+    }
+
+    private static int ratingGroupIndex(Double rating) {
+        if (rating == null) {
+            return 3;
+        }
+        if (rating >= 4.5) {
+            return 0;
+        }
+        if (rating >= 4.0) {
+            return 1;
+        }
+        if (rating >= 3.0) {
+            return 2;
+        }
+        return 3;
+    }
+
+    /**
+     * 병원 추가 또는 갱신
+     * @param rating 평점, 없으면 null
+     */
+    public synchronized void upsert(long hospitalId, String department, Double rating) {
+        Contribution contribution = new Contribution(department, rating);
+        Contribution previous = contributions.put(hospitalId, contribution);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        apply(contribution, 1);
+        publish();
+    }
+
+    /**
+     * 병원 제거 (비활성화 / 삭제, 없으면 무시)
+     */
+    public synchronized void remove(long hospitalId) {
+        Contribution previous = contributions.remove(hospitalId);
+        if (previous != null) {
+            apply(previous, -1);
+            publish();
+        }
+    }
+
+    /**
+     * 전체 재구성용 초기화
+     */
+    public synchronized void clear() {
+        contributions.clear();
+        departments.clear();
+        Arrays.fill(ratingGroups, 0);
+        ratedCount = 0;
+        ratingSum = 0.0;
+        publish();
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        departments.merge(contribution.department, (long) sign, (a, b) -> a + b == 0 ? null : a + b);
+        if (contribution.rating != null) {
+            ratedCount += sign;
+            ratingSum += sign * contribution.rating;
+        }
+        ratingGroups[contribution.ratingGroup] += sign;
+    }
+
+    private void publish() {
+        Map<String, Long> ratingDistribution = new LinkedHashMap<>();
+        for (int i = 0; i < RATING_GROUPS.length; i++) {
+            if (ratingGroups[i] > 0) {
+                ratingDistribution.put(RATING_GROUPS[i], ratingGroups[i]);
+            }
+        }
+        snapshot = new Snapshot(contributions.size(), ratedCount, ratingSum,
+                Collections.unmodifiableMap(new HashMap<>(departments)),
+                Collections.unmodifiableMap(ratingDistribution));
+    }
+
+    private static class Contribution {
+        final String department;
+        final Double rating;
+        final int ratingGroup;
+
+        Contribution(String department, Double rating) {
+            this.department = department;
+            this.rating = rating;
+            this.ratingGroup = ratingGroupIndex(rating);
+        }
+    }
+
+    /**
+     * 통계 스냅샷 (불변)
+     */
+    public static class Snapshot {
+        public final long totalHospitals;
+        public final long ratedCount;
+        public final double ratingSum;
+        public final Map<String, Long> departments;      // 진료과가 없는 병원은 null 키
+        public final Map<String, Long> ratingGroups; // 높은 구간부터, 비어 있는 구간 제외
+
+        Snapshot(long totalHospitals, long ratedCount, double ratingSum,
+                 Map<String, Long> departments, Map<String, Long> ratingGroups) {
+            this.totalHospitals = totalHospitals;
+            this.ratedCount = ratedCount;
+            this.ratingSum = ratingSum;
+            this.departments = departments;
+            this.ratingGroups = ratingGroups;
+        }
+
+        /**
+         * 평균 평점
+         * @return 평점이 있는 병원이 없으면 null
+         */
+        public Double averageRating() {
+            return ratedCount == 0 ? null : ratingSum / ratedCount;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.dgsw.hamza.util;
+
+import java.util.Arrays;
+
+/**
+ * 치료법 간 유사도 행렬 (희소 CSR, 불변)
+ * 같은 사용자가 함께 완료한 치료법의 코사인 유사도를 치료법별 상위 이웃만 남겨 원시 배열로 보관합니다.
+ * 온라인 조회는 사용자 완료 이력의 행만 훑으므로 객체 생성 없이 수 마이크로초 안에 끝납니다.
+ */
+public final class ItemSimilarityMatrix {
+
+    // 동시 완료 수를 치료법 쌍마다 세므로 메모리는 카탈로그 크기의 제곱에 비례 (행 수와는 무관)
+    public static final int MAX_ITEMS = 4096;
+
+    private static final ItemSimilarityMatrix EMPTY =
+            new ItemSimilarityMatrix(new long[0], new int[]{0}, new int[0], new float[0]);
+
+    // 행 번호 → 치료법 ID (오름차순)
+    private final long[] itemIds;
+    // 행 i 의 이웃은 [rowPtr[i], rowPtr[i + 1]) 구간 (유사도 내림차순)
+    private final int[] rowPtr;
+    private final int[] colIdx;
+    private final float[] values;
+
+    private ItemSimilarityMatrix(long[] itemIds, int[] rowPtr, int[] colIdx, float[] values) {
+        this.itemIds = itemIds;
+        this.rowPtr = rowPtr;
+        this.colIdx = colIdx;
+        this.values = values;
+    }
+
+    public static ItemSimilarityMatrix empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 행렬 생성기
+     * @param catalogIds 대상 치료법 ID (목록에 없는 치료법의 완료 기록은 무시)
+     * @param maxBasket 사용자당 반영할 최대 완료 치료법 수 (쌍 계산량 상한)
+     */
+    public static Builder builder(long[] catalogIds, int maxBasket) {
+        return new Builder(catalogIds, maxBasket);
+    }
+
+    public int size() {
+        return itemIds.length;
+    }
+
+    public int nonZeros() {
+        return colIdx.length;
+    }
+
+    public boolean isEmpty() {
+        return colIdx.length == 0;
+    }
+
+    /**
+     * 치료법 ID 의 행 번호
+     * @return 없으면 음수
+     */
+    public int indexOf(long itemId) {
+        return Arrays.binarySearch(itemIds, itemId);
+    }
+
+    public long itemId(int index) {
+        return itemIds[index];
+    }
+
+    /**
+     * 두 치료법의 유사도 (상위 이웃에 없으면 0)
+     */
+    public float similarity(long a, long b) {
+        int row = indexOf(a);
+        int col = indexOf(b);
+        if (row < 0 || col < 0) {
+            return 0f;
+        }
+        for (int p = rowPtr[row]; p < rowPtr[row + 1]; p++) {
+            if (colIdx[p] == col) {
+                return values[p];
+            }
+        }
+        return 0f;
+    }
+
+    /**
+     * 완료 이력 기준 치료법별 선호도 (이력 치료법과의 유사도 평균, 행 번호로 접근)
+     */
+    public float[] affinity(long[] history) {
+        float[] scores = new float[itemIds.length];
+        int matched = 0;
+        for (long itemId : history) {
+            int row = indexOf(itemId);
+            if (row < 0) {
+                continue;
+            }
+            matched++;
+            for (int p = rowPtr[row]; p < rowPtr[row + 1]; p++) {
+                scores[colIdx[p]] += values[p];
+            }
+        }
+        if (matched > 1) {
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] /= matched;
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * 사용자별 완료 기록을 사용자 ID 순으로 받아 동시 완료 수를 누적하는 생성기
+     * 한 번에 한 사용자의 완료 목록만 들고 있으므로 기록 수와 관계없이 메모리가 일정합니다.
+     */
+    public static final class Builder {
+
+        private final long[] ids;
+        private final int maxBasket;
+        private final int[] itemCounts;
+        // i < j 쌍의 동시 완료 수 (상삼각 행렬을 1차원으로 펼침)
+        private final int[] pairCounts;
+        private final int[] basket;
+        private int basketSize;
+        private long currentUser = Long.MIN_VALUE;
+        private long users;
+
+        private Builder(long[] catalogIds, int maxBasket) {
+            long[] ids = Arrays.stream(catalogIds).distinct().sorted().toArray();
+            if (ids.length > MAX_ITEMS) {
+                throw new IllegalArgumentException("유사도 행렬 대상 치료법이 너무 많습니다: " + ids.length);
+            }
+            if (maxBasket < 2) {
+                throw new IllegalArgumentException("사용자당 완료 치료법 상한은 2 이상이어야 합니다: " + maxBasket);
+            }
+            this.ids = ids;
+            this.maxBasket = maxBasket;
+            this.itemCounts = new int[ids.length];
+            this.pairCounts = new int[ids.length * (ids.length - 1) / 2];
+            this.basket = new int[maxBasket];
+        }
+
+        /**
+         * 완료 기록 한 건 (사용자 ID 순으로 전달)
+         */
+        public void accept(long userId, long itemId) {
+            if (userId != currentUser) {
+                flush();
+                currentUser = userId;
+            }
+            int index = Arrays.binarySearch(ids, itemId);
+            if (index >= 0 && basketSize < maxBasket) {
+                basket[basketSize++] = index;
+            }
+        }
+
+        public long users() {
+            return users;
+        }
+
+        /**
+         * 유사도 행렬 생성
+         * @param neighbours 치료법별로 남길 최대 이웃 수
+         * @param minSupport 유사도로 인정할 최소 동시 완료 사용자 수
+         */
+        public ItemSimilarityMatrix build(int neighbours, int minSupport) {
+            flush();
+            int n = ids.length;
+            int support = Math.max(minSupport, 1);
+            int[] rowPtr = new int[n + 1];
+            int[][] rowCols = new int[n][];
+            float[][] rowValues = new float[n][];
+            int[] topCols = new int[Math.max(neighbours, 0)];
+            float[] topValues = new float[topCols.length];
+
+            for (int i = 0; i < n; i++) {
+                int kept = 0;
+                for (int j = 0; j < n && topCols.length > 0; j++) {
+                    if (i == j) {
+                        continue;
+                    }
+                    int together = pairCounts[pair(Math.min(i, j), Math.max(i, j), n)];
+                    if (together < support) {
+                        continue;
+                    }
+                    float similarity = (float) (together / Math.sqrt((double) itemCounts[i] * itemCounts[j]));
+                    kept = insertTop(topCols, topValues, kept, j, similarity);
+                }
+                rowCols[i] = Arrays.copyOf(topCols, kept);
+                rowValues[i] = Arrays.copyOf(topValues, kept);
+                rowPtr[i + 1] = rowPtr[i] + kept;
+            }
+
+            int[] colIdx = new int[rowPtr[n]];
+            float[] values = new float[rowPtr[n]];
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(rowCols[i], 0, colIdx, rowPtr[i], rowCols[i].length);
+                System.arraycopy(rowValues[i], 0, values, rowPtr[i], rowValues[i].length);
+            }
+            return new ItemSimilarityMatrix(ids, rowPtr, colIdx, values);
+        }
+
+        private void flush() {
+            if (basketSize == 0) {
+                return;
+            }
+            Arrays.sort(basket, 0, basketSize);
+            int distinct = 0;
+            for (int k = 0; k < basketSize; k++) {
+                if (distinct == 0 || basket[distinct - 1] != basket[k]) {
+                    basket[distinct++] = basket[k];
+                }
+            }
+            int n = ids.length;
+            for (int a = 0; a < distinct; a++) {
+                itemCounts[basket[a]]++;
+                for (int b = a + 1; b < distinct; b++) {
+                    pairCounts[pair(basket[a], basket[b], n)]++;
+                }
+            }
+            basketSize = 0;
+            users++;
+        }
+
+        // i < j
+        private static int pair(int i, int j, int n) {
+            return i * (2 * n - i - 1) / 2 + (j - i - 1);
+        }
+
+        // 유사도 내림차순 상위 목록에 삽입 (가득 차면 가장 낮은 항목을 밀어냄)
+        private static int insertTop(int[] cols, float[] values, int size, int col, float value) {
+            if (size == cols.length && values[size - 1] >= value) {
+                return size;
+            }
+            int position = size == cols.length ? size - 1 : size;
+            while (position > 0 && values[position - 1] < value) {
+                cols[position] = cols[position - 1];
+                values[position] = values[position - 1];
+                position--;
+            }
+            cols[position] = col;
+            values[position] = value;
+            return size == cols.length ? size : size + 1;
+        }
+    }
+}
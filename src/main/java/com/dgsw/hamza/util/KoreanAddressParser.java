@@ -0,0 +1,191 @@
+package com.dgsw.hamza.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 한국 주소 문자열 파서
+ * 도로명/지번 주소를 시/도, 시/군/구, 동, 도로명 단위로 분해합니다.
+ */
+public class KoreanAddressParser {
+
+    private static final Map<String, String> SIDO_ALIASES = new HashMap<>();
+
+    private static final Pattern PARENTHESES = Pattern.compile("\\(([^)]*)\\)");
+    private static final Pattern NUMBERED_ROAD = Pattern.compile("^(.+?(?:로|길))\\d+(?:번)?길$");
+    private static final Pattern BUILDING_NUMBER = Pattern.compile("^\\d+(?:-\\d+)?(?:번지)?$");
+
+    static {
+        registerSido("서울특별시", "서울", "서울시");
+        registerSido("부산광역시", "부산", "부산시");
+        registerSido("대구광역시", "대구", "대구시");
+        registerSido("인천광역시", "인천", "인천시");
+        registerSido("광주광역시");
+        registerSido("대전광역시", "대전", "대전시");
+        registerSido("울산광역시", "울산", "울산시");
+        registerSido("세종특별자치시", "세종", "세종시");
+        registerSido("경기도", "경기");
+        registerSido("강원특별자치도", "강원", "강원도");
+        registerSido("충청북도", "충북");
+        registerSido("충청남도", "충남");
+        registerSido("전북특별자치도", "전북", "전라북도");
+        registerSido("전라남도", "전남");
+        registerSido("경상북도", "경북");
+        registerSido("경상남도", "경남");
+        registerSido("제주특별자치도", "제주", "제주도");
+    }
+
+    private KoreanAddressParser() {
+        // Utility class - prevent instantiation
+    }
+
+    private static void registerSido(String canonical, String... aliases) {
+        SIDO_ALIASES.put(canonical, canonical);
+        for (String alias : aliases) {
+            SIDO_ALIASES.put(alias, canonical);
+        }
+    }
+
+    /**
+     * 시/도 이름을 정식 명칭으로 변환 (예: "서울" -> "서울특별시")
+     * @return 정식 명칭, 알 수 없는 이름이면 null
+     */
+    public static String normalizeSido(String name) {
+        if (name == null) {
+            return null;
+        }
+        return SIDO_ALIASES.get(name.trim());
+    }
+
+    /**
+     * 주소 문자열을 시/도, 시/군/구, 동, 도로명 단위로 분해
+     * "광주"는 광주광역시와 경기도 광주시가 겹치므로 시/도 별칭으로 취급하지 않습니다.
+     */
+    public static AddressComponents parse(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            return AddressComponents.EMPTY;
+        }
+
+        String sido = null;
+        String sigungu = null;
+        String dong = null;
+        String road = null;
+        String buildingNumber = null;
+
+        // 괄호 안의 참고항목 (예: "(혜화동)")은 동 후보로 사용
+        Matcher matcher = PARENTHESES.matcher(address);
+        String referenceDong = null;
+        while (matcher.find()) {
+            for (String candidate : matcher.group(1).split("[,\\s]+")) {
+                if (isDongToken(candidate)) {
+                    referenceDong = candidate;
+                    break;
+                }
+            }
+        }
+        String stripped = PARENTHESES.matcher(address).replaceAll(" ");
+
+        String[] tokens = stripped.trim().split("[\\s,]+");
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (token.isEmpty()) {
+                continue;
+            }
+
+            if (sido == null && sigungu == null) {
+                String canonical = SIDO_ALIASES.get(token);
+                if (canonical != null) {
+                    sido = canonical;
+                    continue;
+                }
+            }
+
+            if (sigungu == null && dong == null && road == null && isSigunguToken(token)) {
+                // "수원시 장안구"처럼 일반구가 있는 시는 두 토큰을 묶어서 사용
+                if (token.endsWith("시") && i + 1 < tokens.length && tokens[i + 1].endsWith("구")) {
+                    sigungu = token + " " + tokens[++i];
+                } else {
+                    sigungu = token;
+                }
+                continue;
+            }
+
+            if (road == null && isRoadToken(token)) {
+                road = token;
+                continue;
+            }
+
+            if (dong == null && road == null && isDongToken(token)) {
+                dong = token;
+                continue;
+            }
+
+            if (buildingNumber == null && BUILDING_NUMBER.matcher(token).matches()) {
+                buildingNumber = token.replace("번지", "");
+            }
+        }
+
+        if (dong == null) {
+            dong = referenceDong;
+        }
+
+        return new AddressComponents(sido, sigungu, dong, road, buildingNumber);
+    }
+
+    /**
+     * "올림픽로43길" 같은 번호 도로명에서 상위 도로명("올림픽로")을 추출
+     * @return 상위 도로명, 번호 도로가 아니면 null
+     */
+    public static String parentRoad(String road) {
+        if (road == null) {
+            return null;
+        }
+        Matcher matcher = NUMBERED_ROAD.matcher(road);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static boolean isSigunguToken(String token) {
+        return token.length() >= 2
+                && (token.endsWith("시") || token.endsWith("군") || token.endsWith("구"))
+                && !SIDO_ALIASES.containsKey(token);
+    }
+
+    private static boolean isRoadToken(String token) {
+        return token.length() >= 2 && (token.endsWith("로") || token.endsWith("길"))
+                && !Character.isDigit(token.charAt(0));
+    }
+
+    private static boolean isDongToken(String token) {
+        return token.length() >= 2
+                && (token.endsWith("동") || token.endsWith("읍") || token.endsWith("면")
+                    || token.endsWith("가") || token.endsWith("리"))
+                && !Character.isDigit(token.charAt(0));
+    }
+
+    /**
+     * 주소 구성요소 클래스
+     */
+    public static class AddressComponents {
+        public static final AddressComponents EMPTY = new AddressComponents(null, null, null, null, null);
+
+        public final String sido;
+        public final String sigungu;
+        public final String dong;
+        public final String road;
+        public final String buildingNumber;
+
+        public AddressComponents(String sido, String sigungu, String dong, String road, String buildingNumber) {
+            this.sido = sido;
+            this.sigungu = sigungu;
+            this.dong = dong;
+            this.road = road;
+            this.buildingNumber = buildingNumber;
+        }
+
+        public boolean isEmpty() {
+            return sido == null && sigungu == null && dong == null && road == null;
+        }
+    }
+}
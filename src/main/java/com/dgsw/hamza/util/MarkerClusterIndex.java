@@ -0,0 +1,236 @@
+package com.dgsw.hamza.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 줌 레벨별 지도 마커 클러스터 인덱스 (supercluster 방식의 계층적 탐욕 클러스터링)
+ * 좌표를 웹 메르카토르 평면 [0, 1] 로 투영한 뒤, 가장 세밀한 줌부터 한 단계씩 올라가며
+ * 화면상 반경(RADIUS_PX) 안의 클러스터를 하나로 합칩니다. 모든 줌 레벨을 생성 시 미리 계산하므로
+ * 조회는 해당 레벨에서 영역 안의 클러스터를 고르는 것으로 끝납니다.
+ * 가중치(평점 등)가 높은 지점이 먼저 클러스터의 중심이 되며, 대표 id 로도 사용됩니다.
+ */
+public class MarkerClusterIndex {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 16;
+
+    // 클러스터 반경 (타일 픽셀), 타일 크기
+    private static final double RADIUS_PX = 60;
+    private static final double EXTENT = 256;
+
+    // levels[z] 는 줌 z 의 클러스터, levels[MAX_ZOOM + 1] 은 원본 지점
+    private final Level[] levels = new Level[MAX_ZOOM + 2];
+
+    /**
+     * @param weights 대표 지점 선정용 가중치 (클수록 우선)
+     */
+    public MarkerClusterIndex(long[] ids, double[] latitudes, double[] longitudes, double[] weights) {
+        int size = ids.length;
+        Level points = new Level(size, RADIUS_PX / (EXTENT * Math.pow(2, MAX_ZOOM + 1)));
+        for (int i = 0; i < size; i++) {
+            points.add(projectX(longitudes[i]), projectY(latitudes[i]), 1, ids[i], weights[i]);
+        }
+        points.buildGrid();
+        levels[MAX_ZOOM + 1] = points;
+
+        for (int zoom = MAX_ZOOM; zoom >= MIN_ZOOM; zoom--) {
+            levels[zoom] = cluster(levels[zoom + 1], RADIUS_PX / (EXTENT * Math.pow(2, zoom)));
+        }
+    }
+
+    /**
+     * 영역 내 클러스터 조회
+     * @param zoom 지도 줌 레벨 (범위를 벗어나면 가까운 레벨 사용)
+     */
+    public List<Marker> query(double south, double west, double north, double east, int zoom) {
+        Level level = levels[Math.max(MIN_ZOOM, Math.min(MAX_ZOOM + 1, zoom))];
+        double minX = projectX(west);
+        double maxX = projectX(east);
+        double minY = projectY(north); // 메르카토르 y 는 북쪽이 작음
+        double maxY = projectY(south);
+
+        List<Marker> markers = new ArrayList<>();
+        level.forEachInRange(minX, minY, maxX, maxY, i -> markers.add(new Marker(
+                unprojectY(level.y[i]),
+                unprojectX(level.x[i]),
+                level.count[i],
+                level.representativeId[i])));
+        return markers;
+    }
+
+    /**
+     * 줌 레벨의 전체 클러스터 수
+     */
+    public int size(int zoom) {
+        return levels[zoom].size;
+    }
+
+    private static Level cluster(Level previous, double radius) {
+        Level next = new Level(previous.size, radius);
+        boolean[] visited = new boolean[previous.size];
+        double radiusSquared = radius * radius;
+
+        // 가중치가 높은 클러스터부터 중심으로 사용
+        Integer[] order = new Integer[previous.size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(previous.weight[b], previous.weight[a]));
+
+        for (int i : order) {
+            if (visited[i]) {
+                continue;
+            }
+            visited[i] = true;
+
+            double x = previous.x[i];
+            double y = previous.y[i];
+            List<Integer> neighbors = new ArrayList<>();
+            previous.forEachInRange(x - radius, y - radius, x + radius, y + radius, j -> {
+                double dx = previous.x[j] - x;
+                double dy = previous.y[j] - y;
+                if (!visited[j] && dx * dx + dy * dy <= radiusSquared) {
+                    neighbors.add(j);
+                }
+            });
+
+            // 중심과 이웃의 좌표를 개수 가중으로 평균
+            int count = previous.count[i];
+            double weightedX = x * count;
+            double weightedY = y * count;
+            for (int j : neighbors) {
+                visited[j] = true;
+                weightedX += previous.x[j] * previous.count[j];
+                weightedY += previous.y[j] * previous.count[j];
+                count += previous.count[j];
+            }
+            next.add(weightedX / count, weightedY / count, count,
+                    previous.representativeId[i], previous.weight[i]);
+        }
+        next.buildGrid();
+        return next;
+    }
+
+    private static double projectX(double longitude) {
+        return longitude / 360 + 0.5;
+    }
+
+    private static double projectY(double latitude) {
+        double sin = Math.sin(Math.toRadians(latitude));
+        double y = 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+        return Math.max(0, Math.min(1, y));
+    }
+
+    private static double unprojectX(double x) {
+        return (x - 0.5) * 360;
+    }
+
+    private static double unprojectY(double y) {
+        double y2 = (180 - y * 360) * Math.PI / 180;
+        return 360 * Math.atan(Math.exp(y2)) / Math.PI - 90;
+    }
+
+    private interface IndexVisitor {
+        void visit(int index);
+    }
+
+    /**
+     * 한 줌 레벨의 클러스터 배열과 격자 인덱스
+     */
+    private static class Level {
+        final double[] x;
+        final double[] y;
+        final int[] count;
+        final long[] representativeId;
+        final double[] weight;
+        final double cellSize;
+        final Map<Long, List<Integer>> grid = new HashMap<>();
+        int size;
+
+        Level(int capacity, double cellSize) {
+            this.x = new double[capacity];
+            this.y = new double[capacity];
+            this.count = new int[capacity];
+            this.representativeId = new long[capacity];
+            this.weight = new double[capacity];
+            this.cellSize = cellSize;
+        }
+
+        void add(double px, double py, int pointCount, long id, double pointWeight) {
+            x[size] = px;
+            y[size] = py;
+            count[size] = pointCount;
+            representativeId[size] = id;
+            weight[size] = pointWeight;
+            size++;
+        }
+
+        void buildGrid() {
+            for (int i = 0; i < size; i++) {
+                grid.computeIfAbsent(cellKey(cell(x[i]), cell(y[i])), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        void forEachInRange(double minX, double minY, double maxX, double maxY, IndexVisitor visitor) {
+            long minColumn = cell(minX);
+            long maxColumn = cell(maxX);
+            long minRow = cell(minY);
+            long maxRow = cell(maxY);
+            long rangeCells = (maxColumn - minColumn + 1) * (maxRow - minRow + 1);
+
+            if (rangeCells > grid.size()) {
+                // 영역이 넓으면 채워진 셀만 훑음
+                for (List<Integer> members : grid.values()) {
+                    visitInRange(members, minX, minY, maxX, maxY, visitor);
+                }
+                return;
+            }
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long column = minColumn; column <= maxColumn; column++) {
+                    List<Integer> members = grid.get(cellKey(column, row));
+                    if (members != null) {
+                        visitInRange(members, minX, minY, maxX, maxY, visitor);
+                    }
+                }
+            }
+        }
+
+        private void visitInRange(List<Integer> members, double minX, double minY, double maxX, double maxY,
+                                  IndexVisitor visitor) {
+            for (int i : members) {
+                if (x[i] >= minX && x[i] <= maxX && y[i] >= minY && y[i] <= maxY) {
+                    visitor.visit(i);
+                }
+            }
+        }
+
+        private long cell(double value) {
+            return (long) Math.floor(value / cellSize);
+        }
+
+        private static long cellKey(long column, long row) {
+            return (row << 32) | (column & 0xffffffffL);
+        }
+    }
+
+    /**
+     * 지도 마커 (count 가 1 이면 단일 병원)
+     */
+    public static class Marker {
+        public final double latitude;   // 클러스터 중심 (개수 가중 평균)
+        public final double longitude;
+        public final int count;
+        public final long representativeId;
+
+        public Marker(double latitude, double longitude, int count, long representativeId) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.count = count;
+            this.representativeId = representativeId;
+        }
+    }
+}
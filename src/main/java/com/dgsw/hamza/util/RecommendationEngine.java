@@ -1,18 +1,31 @@
 package com.dgsw.hamza.util;
 
 import com.dgsw.hamza.entity.Treatment;
-import com.dgsw.hamza.entity.User;
 import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.DifficultyLevel;
 import com.dgsw.hamza.enums.RecommendationPriority;
 import com.dgsw.hamza.enums.TreatmentType;
-import lombok.extern.slf4j.Slf4j;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
-@Slf4j
 public class RecommendationEngine {
 
+    // 추천 점수 내림차순 (같으면 이름순으로 고정)
+    private static final Comparator<TreatmentRecommendation> BY_SCORE_DESC =
+            Comparator.comparingDouble(TreatmentRecommendation::getScore).reversed()
+                    .thenComparing(rec -> rec.getTreatment().getName(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    // 심각도별 치료 유형 가중치
+    private static final Map<DiagnosisSeverity, Map<TreatmentType, Double>> TYPE_WEIGHTS = typeWeights();
+
+    // 심각도별 난이도 보정 계수
+    private static final Map<DiagnosisSeverity, Map<DifficultyLevel, Double>> DIFFICULTY_FACTORS = difficultyFactors();
+
+    // 심각도 x 치료 유형별 추천 이유 (요청마다 문자열을 조립하지 않도록 미리 생성)
+    private static final Map<DiagnosisSeverity, Map<TreatmentType, String>> REASONS = reasons();
+
+    private static final String COLLABORATIVE_REASON = "비슷한 이력의 사용자들이 함께 완료한 치료법입니다.";
+
     private RecommendationEngine() {
         // Utility class - prevent instantiation
     }
@@ -23,126 +36,113 @@ public class RecommendationEngine {
     public static List<TreatmentRecommendation> recommendTreatments(
             DiagnosisSeverity severity, 
             List<Treatment> availableTreatments) {
-        
-        log.info("진단 심각도 {} 기반 치료 추천 시작", severity);
-        
-        Map<TreatmentType, Double> typeWeights = getTreatmentWeights(severity);
-        
-        return availableTreatments.stream()
-                .map(treatment -> {
-                    double score = calculateRecommendationScore(treatment, severity, typeWeights);
-                    RecommendationPriority priority = calculatePriority(severity, treatment.getType());
-                    
-                    return new TreatmentRecommendation(
-                            treatment,
-                            score,
-                            priority,
-                            generateRecommendationReason(treatment, severity)
-                    );
-                })
-                .sorted(Comparator.comparingDouble(TreatmentRecommendation::getScore).reversed())
-                .collect(Collectors.toList());
+
+        List<TreatmentRecommendation> recommendations = new ArrayList<>(availableTreatments.size());
+        for (Treatment treatment : availableTreatments) {
+            recommendations.add(recommend(treatment, severity));
+        }
+        recommendations.sort(BY_SCORE_DESC);
+        return recommendations;
     }
 
     /**
-     * 심각도별 치료 유형 가중치 계산
+     * 심각도별 추천 순위표 생성 (활성 치료법만, 카탈로그 버전당 한 번)
      */
-    private static Map<TreatmentType, Double> getTreatmentWeights(DiagnosisSeverity severity) {
-        Map<TreatmentType, Double> weights = new HashMap<>();
-        
-        switch (severity) {
-            case NORMAL:
-                weights.put(TreatmentType.MEDITATION, 0.9);
-                weights.put(TreatmentType.EXERCISE, 0.8);
-                weights.put(TreatmentType.RELAXATION, 0.7);
-                weights.put(TreatmentType.CBT, 0.3);
-                weights.put(TreatmentType.MEDICATION, 0.1);
-                break;
-                
-            case MILD:
-                weights.put(TreatmentType.CBT, 0.8);
-                weights.put(TreatmentType.MEDITATION, 0.7);
-                weights.put(TreatmentType.EXERCISE, 0.6);
-                weights.put(TreatmentType.RELAXATION, 0.6);
-                weights.put(TreatmentType.MEDICATION, 0.2);
-                break;
-                
-            case MODERATE:
-                weights.put(TreatmentType.CBT, 0.9);
-                weights.put(TreatmentType.MEDITATION, 0.6);
-                weights.put(TreatmentType.EXERCISE, 0.5);
-                weights.put(TreatmentType.RELAXATION, 0.5);
-                weights.put(TreatmentType.MEDICATION, 0.6);
-                break;
-                
-            case SEVERE:
-                weights.put(TreatmentType.CBT, 0.9);
-                weights.put(TreatmentType.MEDICATION, 0.8);
-                weights.put(TreatmentType.MEDITATION, 0.4);
-                weights.put(TreatmentType.EXERCISE, 0.3);
-                weights.put(TreatmentType.RELAXATION, 0.4);
-                break;
-                
-            case VERY_SEVERE:
-                weights.put(TreatmentType.MEDICATION, 0.9);
-                weights.put(TreatmentType.CBT, 0.8);
-                weights.put(TreatmentType.MEDITATION, 0.2);
-                weights.put(TreatmentType.EXERCISE, 0.1);
-                weights.put(TreatmentType.RELAXATION, 0.3);
-                break;
+    public static RankingMatrix rankingMatrix(List<Treatment> treatments, long version) {
+        Map<DiagnosisSeverity, List<TreatmentRecommendation>> ranked = new EnumMap<>(DiagnosisSeverity.class);
+        for (DiagnosisSeverity severity : DiagnosisSeverity.values()) {
+            List<TreatmentRecommendation> recommendations = new ArrayList<>(treatments.size());
+            for (Treatment treatment : treatments) {
+                if (treatment.isActive()) {
+                    recommendations.add(recommend(treatment, severity));
+                }
+            }
+            recommendations.sort(BY_SCORE_DESC);
+            ranked.put(severity, List.copyOf(recommendations));
         }
-        
-        return weights;
+        return new RankingMatrix(version, ranked);
+    }
+
+    private static TreatmentRecommendation recommend(Treatment treatment, DiagnosisSeverity severity) {
+        return new TreatmentRecommendation(
+                treatment,
+                calculateRecommendationScore(treatment, severity),
+                calculatePriority(severity, treatment.getType()),
+                treatment.getType() != null ? REASONS.get(severity).get(treatment.getType()) : null
+        );
+    }
+
+    private static Map<DiagnosisSeverity, Map<TreatmentType, Double>> typeWeights() {
+        Map<DiagnosisSeverity, Map<TreatmentType, Double>> weights = new EnumMap<>(DiagnosisSeverity.class);
+        weights.put(DiagnosisSeverity.NORMAL, typeWeights(0.3, 0.9, 0.7, 0.8, 0.1));
+        weights.put(DiagnosisSeverity.MILD, typeWeights(0.8, 0.7, 0.6, 0.6, 0.2));
+        weights.put(DiagnosisSeverity.MODERATE, typeWeights(0.9, 0.6, 0.5, 0.5, 0.6));
+        weights.put(DiagnosisSeverity.SEVERE, typeWeights(0.9, 0.4, 0.4, 0.3, 0.8));
+        weights.put(DiagnosisSeverity.VERY_SEVERE, typeWeights(0.8, 0.2, 0.3, 0.1, 0.9));
+        return Collections.unmodifiableMap(weights);
+    }
+
+    private static Map<TreatmentType, Double> typeWeights(double cbt, double meditation, double relaxation,
+                                                          double exercise, double medication) {
+        Map<TreatmentType, Double> weights = new EnumMap<>(TreatmentType.class);
+        weights.put(TreatmentType.CBT, cbt);
+        weights.put(TreatmentType.MEDITATION, meditation);
+        weights.put(TreatmentType.RELAXATION, relaxation);
+        weights.put(TreatmentType.EXERCISE, exercise);
+        weights.put(TreatmentType.MEDICATION, medication);
+        return Collections.unmodifiableMap(weights);
+    }
+
+    private static Map<DiagnosisSeverity, Map<DifficultyLevel, Double>> difficultyFactors() {
+        // 경미할수록 쉬운 치료법, 심각할수록 전문적인 치료법 우선 (EXPERT 는 ADVANCED 와 동일)
+        Map<DiagnosisSeverity, Map<DifficultyLevel, Double>> factors = new EnumMap<>(DiagnosisSeverity.class);
+        factors.put(DiagnosisSeverity.NORMAL, difficultyFactors(1.0, 0.8, 0.6));
+        factors.put(DiagnosisSeverity.MILD, difficultyFactors(1.0, 0.8, 0.6));
+        factors.put(DiagnosisSeverity.MODERATE, difficultyFactors(0.9, 1.0, 0.8));
+        factors.put(DiagnosisSeverity.SEVERE, difficultyFactors(0.7, 0.9, 1.0));
+        factors.put(DiagnosisSeverity.VERY_SEVERE, difficultyFactors(0.7, 0.9, 1.0));
+        return Collections.unmodifiableMap(factors);
+    }
+
+    private static Map<DifficultyLevel, Double> difficultyFactors(double beginner, double intermediate, double advanced) {
+        Map<DifficultyLevel, Double> factors = new EnumMap<>(DifficultyLevel.class);
+        factors.put(DifficultyLevel.BEGINNER, beginner);
+        factors.put(DifficultyLevel.INTERMEDIATE, intermediate);
+        factors.put(DifficultyLevel.ADVANCED, advanced);
+        factors.put(DifficultyLevel.EXPERT, advanced);
+        return Collections.unmodifiableMap(factors);
+    }
+
+    private static Map<DiagnosisSeverity, Map<TreatmentType, String>> reasons() {
+        Map<DiagnosisSeverity, Map<TreatmentType, String>> reasons = new EnumMap<>(DiagnosisSeverity.class);
+        for (DiagnosisSeverity severity : DiagnosisSeverity.values()) {
+            Map<TreatmentType, String> byType = new EnumMap<>(TreatmentType.class);
+            for (TreatmentType type : TreatmentType.values()) {
+                byType.put(type, generateRecommendationReason(type, severity));
+            }
+            reasons.put(severity, Collections.unmodifiableMap(byType));
+        }
+        return Collections.unmodifiableMap(reasons);
     }
 
     /**
      * 치료 추천 점수 계산
      */
-    private static double calculateRecommendationScore(
-            Treatment treatment, 
-            DiagnosisSeverity severity,
-            Map<TreatmentType, Double> typeWeights) {
-        
-        double baseScore = typeWeights.getOrDefault(treatment.getType(), 0.0);
-        
+    private static double calculateRecommendationScore(Treatment treatment, DiagnosisSeverity severity) {
+        if (!treatment.isActive() || treatment.getType() == null) {
+            return 0.0;
+        }
+
+        double baseScore = TYPE_WEIGHTS.get(severity).get(treatment.getType());
+
         // 난이도 보정
-        double difficultyFactor = getDifficultyFactor(String.valueOf(treatment.getDifficultyLevel()), severity);
-        
+        DifficultyLevel difficulty = treatment.getDifficultyLevel();
+        double difficultyFactor = difficulty != null ? DIFFICULTY_FACTORS.get(severity).get(difficulty) : 1.0;
+
         // 소요시간 보정
         double durationFactor = getDurationFactor(treatment.getDurationMinutes(), severity);
-        
-        // 활성화 상태 보정
-        double activeFactor = treatment.isActive() ? 1.0 : 0.0;
-        
-        double finalScore = baseScore * difficultyFactor * durationFactor * activeFactor;
-        
-        log.debug("치료 {} 점수 계산: base={}, difficulty={}, duration={}, active={}, final={}", 
-                treatment.getName(), baseScore, difficultyFactor, durationFactor, activeFactor, finalScore);
-        
-        return finalScore;
-    }
 
-    /**
-     * 난이도 보정 계수 계산
-     */
-    private static double getDifficultyFactor(String difficultyLevel, DiagnosisSeverity severity) {
-        if (difficultyLevel == null) return 1.0;
-        
-        switch (severity) {
-            case NORMAL:
-            case MILD:
-                return "BEGINNER".equals(difficultyLevel) ? 1.0 : 
-                       "INTERMEDIATE".equals(difficultyLevel) ? 0.8 : 0.6;
-            case MODERATE:
-                return "BEGINNER".equals(difficultyLevel) ? 0.9 : 
-                       "INTERMEDIATE".equals(difficultyLevel) ? 1.0 : 0.8;
-            case SEVERE:
-            case VERY_SEVERE:
-                return "BEGINNER".equals(difficultyLevel) ? 0.7 : 
-                       "INTERMEDIATE".equals(difficultyLevel) ? 0.9 : 1.0;
-            default:
-                return 1.0;
-        }
+        return baseScore * difficultyFactor * durationFactor;
     }
 
     /**
@@ -191,7 +191,7 @@ public class RecommendationEngine {
     /**
      * 추천 이유 생성
      */
-    private static String generateRecommendationReason(Treatment treatment, DiagnosisSeverity severity) {
+    private static String generateRecommendationReason(TreatmentType type, DiagnosisSeverity severity) {
         StringBuilder reason = new StringBuilder();
         
         switch (severity) {
@@ -212,7 +212,7 @@ public class RecommendationEngine {
                 break;
         }
         
-        switch (treatment.getType()) {
+        switch (type) {
             case CBT:
                 reason.append("부정적 사고 패턴을 개선하는 인지행동치료를 권장합니다.");
                 break;
@@ -234,21 +234,67 @@ public class RecommendationEngine {
     }
 
     /**
-     * 개인화 추천 (사용자 선호도 반영)
+     * 협업 필터링 점수 혼합 ("비슷한 사용자들이 완료한 치료법")
+     * 심각도 기반 점수와 완료 이력 유사도를 weight 비율로 섞어 다시 정렬합니다.
+     * @param ranked 심각도별 추천 목록
+     * @param history 사용자가 완료한 치료법 ID
+     * @param weight 협업 필터링 점수 비중 (0~1)
      */
-    public static List<TreatmentRecommendation> personalizedRecommendations(
-            List<TreatmentRecommendation> baseRecommendations,
-            User user) {
-        
-        // 사용자 선호도나 과거 치료 이력을 반영한 개인화 로직
-        // 현재는 기본 추천을 반환하지만, 향후 확장 가능
-        
-        return baseRecommendations.stream()
-                .map(rec -> {
-                    // 개인화 점수 조정 로직 추가 가능
-                    return rec;
-                })
-                .collect(Collectors.toList());
+    public static List<TreatmentRecommendation> blendCollaborative(
+            List<TreatmentRecommendation> ranked,
+            ItemSimilarityMatrix similarity,
+            long[] history,
+            double weight) {
+
+        if (history.length == 0 || similarity.isEmpty() || weight <= 0) {
+            return ranked;
+        }
+
+        float[] affinity = similarity.affinity(history);
+        List<TreatmentRecommendation> blended = new ArrayList<>(ranked.size());
+        for (TreatmentRecommendation rec : ranked) {
+            Long treatmentId = rec.getTreatment().getId();
+            int index = treatmentId != null ? similarity.indexOf(treatmentId) : -1;
+            double collaborative = index >= 0 ? affinity[index] : 0.0;
+            String reason = collaborative <= 0 ? rec.getReason()
+                    : rec.getReason() != null ? rec.getReason() + " " + COLLABORATIVE_REASON : COLLABORATIVE_REASON;
+            blended.add(new TreatmentRecommendation(
+                    rec.getTreatment(),
+                    rec.getScore() * (1 - weight) + collaborative * weight,
+                    rec.getPriority(),
+                    reason));
+        }
+        blended.sort(BY_SCORE_DESC);
+        return blended;
+    }
+
+    /**
+     * 심각도별 추천 순위표 (불변, 카탈로그 버전별)
+     * 추천 요청은 미리 정렬된 목록의 앞부분 뷰를 돌려주는 것으로 끝납니다.
+     */
+    public static final class RankingMatrix {
+        public final long version;
+        private final Map<DiagnosisSeverity, List<TreatmentRecommendation>> ranked;
+
+        private RankingMatrix(long version, Map<DiagnosisSeverity, List<TreatmentRecommendation>> ranked) {
+            this.version = version;
+            this.ranked = ranked;
+        }
+
+        /**
+         * 점수 순 전체 추천 (불변)
+         */
+        public List<TreatmentRecommendation> ranked(DiagnosisSeverity severity) {
+            return ranked.get(severity);
+        }
+
+        /**
+         * 상위 limit 개 추천 (복사 없이 불변 목록의 뷰)
+         */
+        public List<TreatmentRecommendation> top(DiagnosisSeverity severity, int limit) {
+            List<TreatmentRecommendation> recommendations = ranked.get(severity);
+            return limit >= recommendations.size() ? recommendations : recommendations.subList(0, Math.max(limit, 0));
+        }
     }
 
     /**
@@ -284,31 +330,4 @@ public class RecommendationEngine {
             return reason;
         }
     }
-
-    /**
-     * 최적 치료 조합 추천
-     */
-    public static List<TreatmentRecommendation> recommendTreatmentCombination(
-            DiagnosisSeverity severity,
-            List<Treatment> availableTreatments,
-            int maxRecommendations) {
-        
-        List<TreatmentRecommendation> recommendations = recommendTreatments(severity, availableTreatments);
-        
-        // 치료 유형별로 최고 점수 치료법 선택
-        Map<TreatmentType, TreatmentRecommendation> bestByType = new HashMap<>();
-        
-        for (TreatmentRecommendation rec : recommendations) {
-            TreatmentType type = rec.getTreatment().getType();
-            if (!bestByType.containsKey(type) || 
-                bestByType.get(type).getScore() < rec.getScore()) {
-                bestByType.put(type, rec);
-            }
-        }
-        
-        return bestByType.values().stream()
-                .sorted(Comparator.comparingDouble(TreatmentRecommendation::getScore).reversed())
-                .limit(maxRecommendations)
-                .collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,190 @@
+package com.dgsw.hamza.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지역별 상위 N개 병원 순위 (materialized view)
+ * 지역 키마다 소속 병원을 점수순 정렬 집합으로 유지하고, 병원이 바뀌면 그 병원 항목만 빼고 다시 넣은 뒤
+ * 영향을 받은 지역의 앞쪽 N개만 다시 잘라 둡니다. 조회는 미리 잘라 둔 불변 목록을 맵에서 꺼내기만 합니다.
+ *
+ * 지역 키 형식: "시/도", "시/도|시/군/구", "시/도|시/군/구|동"
+ */
+public class RegionalRankingIndex {
+
+    private static final String SEPARATOR = "|";
+
+    // 점수 내림차순, 같으면 id 오름차순
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble((Entry entry) -> entry.score)
+            .reversed()
+            .thenComparingLong(entry -> entry.hospitalId);
+
+    private final int topN;
+    private final Map<String, NavigableSet<Entry>> members = new HashMap<>();
+    private final Map<Long, Membership> memberships = new HashMap<>();
+    private final Map<String, List<Entry>> rankings = new ConcurrentHashMap<>();
+
+    public RegionalRankingIndex(int topN) {
+        if (topN <= 0) {
+            throw new IllegalArgumentException("topN은 1 이상이어야 합니다");
+        }
+        this.topN = topN;
+    }
+
+    /**
+     * 행정구역으로부터 병원이 속한 지역 키 목록 생성
+     * "수원시 장안구"처럼 일반구가 있으면 상위 시("수원시") 키도 함께 포함합니다.
+     * @return 시/도가 없으면 빈 목록
+     */
+    public static List<String> keysOf(String sido, String sigungu, String dong) {
+        if (sido == null) {
+            return Collections.emptyList();
+        }
+        List<String> keys = new ArrayList<>(4);
+        keys.add(sido);
+        if (sigungu != null) {
+            keys.add(sido + SEPARATOR + sigungu);
+            int space = sigungu.indexOf(' ');
+            if (space > 0) {
+                keys.add(sido + SEPARATOR + sigungu.substring(0, space));
+            }
+            if (dong != null) {
+                keys.add(sido + SEPARATOR + sigungu + SEPARATOR + dong);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 조회용 지역 키 (가장 깊은 계층)
+     * @return 시/도가 없으면 null
+     */
+    public static String keyOf(String sido, String sigungu, String dong) {
+        if (sido == null) {
+            return null;
+        }
+        if (sigungu == null) {
+            return sido;
+        }
+        return dong == null ? sido + SEPARATOR + sigungu : sido + SEPARATOR + sigungu + SEPARATOR + dong;
+    }
+
+    /**
+     * 병원 추가 또는 갱신, 영향을 받는 지역의 순위만 재계산
+     */
+    public synchronized void upsert(long hospitalId, List<String> keys, double score) {
+        Membership previous = memberships.put(hospitalId, new Membership(keys, score));
+        Set<String> affected = new HashSet<>(keys);
+        if (previous != null) {
+            if (previous.keys.equals(keys) && previous.score == score) {
+                return;
+            }
+            Entry old = new Entry(hospitalId, previous.score);
+            for (String key : previous.keys) {
+                removeMember(key, old);
+            }
+            affected.addAll(previous.keys);
+        }
+        Entry entry = new Entry(hospitalId, score);
+        for (String key : keys) {
+            members.computeIfAbsent(key, k -> new TreeSet<>(ORDER)).add(entry);
+        }
+        affected.forEach(this::refresh);
+    }
+
+    /**
+     * 병원 제거 (없으면 무시)
+     */
+    public synchronized void remove(long hospitalId) {
+        Membership previous = memberships.remove(hospitalId);
+        if (previous == null) {
+            return;
+        }
+        Entry old = new Entry(hospitalId, previous.score);
+        for (String key : previous.keys) {
+            removeMember(key, old);
+            refresh(key);
+        }
+    }
+
+    /**
+     * 전체 재구성용 초기화
+     */
+    public synchronized void clear() {
+        members.clear();
+        memberships.clear();
+        rankings.clear();
+    }
+
+    /**
+     * 지역 순위 조회
+     * @return 점수 내림차순 상위 N개, 해당 지역에 병원이 없으면 빈 목록
+     */
+    public List<Entry> top(String key) {
+        List<Entry> ranking = key != null ? rankings.get(key) : null;
+        return ranking != null ? ranking : Collections.emptyList();
+    }
+
+    public synchronized int size() {
+        return memberships.size();
+    }
+
+    private void removeMember(String key, Entry entry) {
+        NavigableSet<Entry> entries = members.get(key);
+        if (entries != null) {
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                members.remove(key);
+            }
+        }
+    }
+
+    // 정렬 집합의 앞쪽 N개만 잘라 게시 (집합 전체를 다시 정렬하지 않음)
+    private void refresh(String key) {
+        NavigableSet<Entry> entries = members.get(key);
+        if (entries == null) {
+            rankings.remove(key);
+            return;
+        }
+        List<Entry> ranking = new ArrayList<>(Math.min(topN, entries.size()));
+        for (Entry entry : entries) {
+            if (ranking.size() == topN) {
+                break;
+            }
+            ranking.add(entry);
+        }
+        rankings.put(key, Collections.unmodifiableList(ranking));
+    }
+
+    private static class Membership {
+        final List<String> keys;
+        final double score;
+
+        Membership(List<String> keys, double score) {
+            this.keys = keys;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 순위 항목
+     */
+    public static class Entry {
+        public final long hospitalId;
+        public final double score;
+
+        public Entry(long hospitalId, double score) {
+            this.hospitalId = hospitalId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.dgsw.hamza.util;
+
+import java.util.Random;
+
+/**
+ * 다중 방문지 경로 최적화 유틸리티
+ * 시작점에서 출발해 모든 방문지를 한 번씩 들르는 (돌아오지 않는) 경로를 계산합니다.
+ * 최근접 이웃으로 초기 경로를 만든 뒤, 제한 시간 안에서 2-opt / Or-opt 로 개선하고
+ * 경로를 조금씩 흔들어 다시 개선하는 과정(double-bridge)을 반복해 지역 최적해를 벗어납니다.
+ */
+public class RouteOptimizer {
+
+    // 기본 개선 제한 시간 (5ms)
+    public static final long DEFAULT_TIME_BUDGET_NANOS = 5_000_000L;
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT_LENGTH = 3;
+    private static final int MAX_KICKS = 100;
+
+    private RouteOptimizer() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 방문 순서 최적화
+     * @param startLat 시작점 위도
+     * @param startLon 시작점 경도
+     * @param latitudes 방문지 위도 목록
+     * @param longitudes 방문지 경도 목록
+     * @param timeBudgetNanos 개선 단계 제한 시간
+     * @return 방문 순서와 구간별 거리
+     */
+    public static Route optimize(double startLat, double startLon,
+                                 double[] latitudes, double[] longitudes, long timeBudgetNanos) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도와 경도 개수가 일치하지 않습니다");
+        }
+        int stops = latitudes.length;
+        if (stops == 0) {
+            return new Route(new int[0], new double[0]);
+        }
+
+        int size = stops + 1;
+        double[] matrix = buildDistanceMatrix(startLat, startLon, latitudes, longitudes);
+
+        // tour[0] = 시작점(노드 0), tour[1..stops] = 방문지 노드 (1-based)
+        int[] tour = nearestNeighbour(matrix, size);
+
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        localSearch(matrix, size, tour, deadline);
+
+        if (stops >= 4) {
+            // 같은 입력에는 항상 같은 결과가 나오도록 고정 시드 사용
+            Random random = new Random(stops);
+            int[] candidate = new int[size];
+            double bestLength = tourLength(matrix, size, tour);
+            for (int kick = 0; kick < MAX_KICKS && System.nanoTime() < deadline; kick++) {
+                System.arraycopy(tour, 0, candidate, 0, size);
+                doubleBridge(candidate, random);
+                localSearch(matrix, size, candidate, deadline);
+                double length = tourLength(matrix, size, candidate);
+                if (length < bestLength - EPSILON) {
+                    bestLength = length;
+                    System.arraycopy(candidate, 0, tour, 0, size);
+                }
+            }
+        }
+
+        int[] order = new int[stops];
+        double[] legs = new double[stops];
+        for (int i = 1; i < size; i++) {
+            order[i - 1] = tour[i] - 1;
+            legs[i - 1] = matrix[tour[i - 1] * size + tour[i]];
+        }
+        return new Route(order, legs);
+    }
+
+    public static Route optimize(double startLat, double startLon, double[] latitudes, double[] longitudes) {
+        return optimize(startLat, startLon, latitudes, longitudes, DEFAULT_TIME_BUDGET_NANOS);
+    }
+
+    /**
+     * 시작점(0)과 방문지(1..n)의 전체 쌍 거리 행렬 (행 우선 1차원 배열)
+     */
+    static double[] buildDistanceMatrix(double startLat, double startLon, double[] latitudes, double[] longitudes) {
+        int size = latitudes.length + 1;
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        lats[0] = startLat;
+        lons[0] = startLon;
+        System.arraycopy(latitudes, 0, lats, 1, latitudes.length);
+        System.arraycopy(longitudes, 0, lons, 1, longitudes.length);
+
+        double[] matrix = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                double distance = LocationCalculator.calculateDistance(lats[i], lons[i], lats[j], lons[j]);
+                matrix[i * size + j] = distance;
+                matrix[j * size + i] = distance;
+            }
+        }
+        return matrix;
+    }
+
+    private static void localSearch(double[] matrix, int size, int[] tour, long deadline) {
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadline) {
+            improved = twoOpt(matrix, size, tour, deadline);
+            improved |= orOpt(matrix, size, tour, deadline);
+        }
+    }
+
+    private static double tourLength(double[] matrix, int size, int[] tour) {
+        double length = 0;
+        for (int i = 1; i < size; i++) {
+            length += matrix[tour[i - 1] * size + tour[i]];
+        }
+        return length;
+    }
+
+    /**
+     * 방문지 구간을 A B C D -> A C B D 로 재배치 (2-opt 로는 되돌릴 수 없는 변형)
+     */
+    private static void doubleBridge(int[] tour, Random random) {
+        int stops = tour.length - 1;
+        int first = 1 + random.nextInt(stops - 2);
+        int second = first + 1 + random.nextInt(stops - first - 1);
+        int[] segment = new int[second - first];
+        System.arraycopy(tour, first, segment, 0, segment.length);
+        int thirdEnd = second + 1 + random.nextInt(stops - second + 1);
+        // [first, second) 와 [second, thirdEnd) 의 순서를 바꿈
+        System.arraycopy(tour, second, tour, first, thirdEnd - second);
+        System.arraycopy(segment, 0, tour, first + thirdEnd - second, segment.length);
+    }
+
+    private static int[] nearestNeighbour(double[] matrix, int size) {
+        int[] tour = new int[size];
+        boolean[] visited = new boolean[size];
+        visited[0] = true;
+        int current = 0;
+        for (int position = 1; position < size; position++) {
+            int best = -1;
+            double bestDistance = Double.MAX_VALUE;
+            int row = current * size;
+            for (int candidate = 1; candidate < size; candidate++) {
+                if (!visited[candidate] && matrix[row + candidate] < bestDistance) {
+                    bestDistance = matrix[row + candidate];
+                    best = candidate;
+                }
+            }
+            tour[position] = best;
+            visited[best] = true;
+            current = best;
+        }
+        return tour;
+    }
+
+    /**
+     * 2-opt: 구간 [i..j]를 뒤집어 거리가 줄어들면 적용
+     * 열린 경로이므로 j가 마지막이면 뒤쪽 간선이 없습니다.
+     */
+    private static boolean twoOpt(double[] matrix, int size, int[] tour, long deadline) {
+        boolean improvedAny = false;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 1; i < size - 1; i++) {
+                int a = tour[i - 1];
+                int b = tour[i];
+                double ab = matrix[a * size + b];
+                for (int j = i + 1; j < size; j++) {
+                    int c = tour[j];
+                    double delta = matrix[a * size + c] - ab;
+                    if (j + 1 < size) {
+                        int d = tour[j + 1];
+                        delta += matrix[b * size + d] - matrix[c * size + d];
+                    }
+                    if (delta < -EPSILON) {
+                        reverse(tour, i, j);
+                        b = tour[i];
+                        ab = matrix[a * size + b];
+                        improved = true;
+                        improvedAny = true;
+                    }
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        return improvedAny;
+    }
+
+    /**
+     * Or-opt: 길이 1~3의 연속 구간을 다른 위치로 옮김 (정방향/역방향)
+     */
+    private static boolean orOpt(double[] matrix, int size, int[] tour, long deadline) {
+        boolean improvedAny = false;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int length = 1; length <= MAX_SEGMENT_LENGTH; length++) {
+                for (int start = 1; start + length <= size; start++) {
+                    int end = start + length - 1;
+                    int prev = tour[start - 1];
+                    int first = tour[start];
+                    int last = tour[end];
+                    boolean hasNext = end + 1 < size;
+                    int next = hasNext ? tour[end + 1] : -1;
+
+                    // 구간을 제거했을 때 절약되는 거리
+                    double removeGain = matrix[prev * size + first]
+                            + (hasNext ? matrix[last * size + next] - matrix[prev * size + next] : 0);
+
+                    for (int insert = 0; insert < size; insert++) {
+                        // insert 뒤에 삽입 (구간 내부나 바로 앞은 제외)
+                        if (insert >= start - 1 && insert <= end) {
+                            continue;
+                        }
+                        int left = tour[insert];
+                        boolean hasRight = insert + 1 < size;
+                        int right = hasRight ? tour[insert + 1] : -1;
+                        double base = hasRight ? matrix[left * size + right] : 0;
+
+                        double forward = matrix[left * size + first]
+                                + (hasRight ? matrix[last * size + right] : 0) - base;
+                        double backward = matrix[left * size + last]
+                                + (hasRight ? matrix[first * size + right] : 0) - base;
+
+                        boolean reversed = backward < forward;
+                        double insertCost = reversed ? backward : forward;
+                        if (insertCost - removeGain < -EPSILON) {
+                            moveSegment(tour, start, end, insert, reversed);
+                            improved = true;
+                            improvedAny = true;
+                            break;
+                        }
+                    }
+                    if (improved) {
+                        break;
+                    }
+                }
+                if (improved) {
+                    break;
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        return improvedAny;
+    }
+
+    private static void reverse(int[] tour, int from, int to) {
+        while (from < to) {
+            int temp = tour[from];
+            tour[from++] = tour[to];
+            tour[to--] = temp;
+        }
+    }
+
+    private static void moveSegment(int[] tour, int start, int end, int insert, boolean reversed) {
+        int length = end - start + 1;
+        int[] segment = new int[length];
+        for (int k = 0; k < length; k++) {
+            segment[k] = tour[reversed ? end - k : start + k];
+        }
+        int target;
+        if (insert < start) {
+            // insert+1 .. start-1 을 뒤로 밀기
+            System.arraycopy(tour, insert + 1, tour, insert + 1 + length, start - insert - 1);
+            target = insert + 1;
+        } else {
+            // end+1 .. insert 를 앞으로 당기기
+            System.arraycopy(tour, end + 1, tour, start, insert - end);
+            target = insert - length + 1;
+        }
+        System.arraycopy(segment, 0, tour, target, length);
+    }
+
+    /**
+     * 경로 계산 결과
+     */
+    public static class Route {
+        public final int[] order;          // 입력 방문지 인덱스의 방문 순서
+        public final double[] legDistances; // 구간별 거리 (km), legDistances[0]은 시작점 -> 첫 방문지
+        public final double totalDistance;
+
+        public Route(int[] order, double[] legDistances) {
+            this.order = order;
+            this.legDistances = legDistances;
+            double total = 0;
+            for (double leg : legDistances) {
+                total += leg;
+            }
+            this.totalDistance = total;
+        }
+    }
+}
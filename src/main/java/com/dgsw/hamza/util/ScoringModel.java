@@ -0,0 +1,124 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설문 도구별 채점표 (컴파일된 불변 모델)
+ * 문항 가중치와 역채점을 (문항, 응답) 배점표로, 심각도 구간을 총점별 심각도 배열로 미리 펼쳐 두어
+ * 채점과 심각도 분류가 분기 없는 배열 조회가 됩니다.
+ */
+public final class ScoringModel {
+
+    public final String code;
+    public final int itemCount;
+    public final int maxItemScore;
+    public final int maxTotalScore;
+
+    // [문항 * (maxItemScore + 1) + 응답] → 가중치와 역채점을 반영한 점수
+    private final int[] itemTable;
+    // [총점] → 심각도
+    private final DiagnosisSeverity[] severityByScore;
+
+    private ScoringModel(String code, int itemCount, int maxItemScore, int maxTotalScore,
+                         int[] itemTable, DiagnosisSeverity[] severityByScore) {
+        this.code = code;
+        this.itemCount = itemCount;
+        this.maxItemScore = maxItemScore;
+        this.maxTotalScore = maxTotalScore;
+        this.itemTable = itemTable;
+        this.severityByScore = severityByScore;
+    }
+
+    /**
+     * 채점표 컴파일
+     * @param upperBounds 심각도별 총점 상한 (심각도 순서대로 증가, 마지막 상한 이후는 다음 심각도)
+     * @param weights 문항 번호(1부터)별 가중치 (없으면 1)
+     * @param reverseScored 역채점 문항 번호(1부터)
+     */
+    public static ScoringModel compile(String code, int itemCount, int maxItemScore,
+                                       Map<DiagnosisSeverity, Integer> upperBounds,
+                                       Map<Integer, Integer> weights,
+                                       Collection<Integer> reverseScored) {
+        if (itemCount <= 0 || maxItemScore <= 0) {
+            throw new IllegalArgumentException("문항 수와 응답 최대 점수는 1 이상이어야 합니다: " + code);
+        }
+        if (upperBounds.isEmpty()) {
+            throw new IllegalArgumentException("심각도 구간이 없습니다: " + code);
+        }
+
+        int stride = maxItemScore + 1;
+        int[] itemTable = new int[itemCount * stride];
+        int maxTotal = 0;
+        for (int item = 0; item < itemCount; item++) {
+            int weight = weights.getOrDefault(item + 1, 1);
+            if (weight < 0) {
+                throw new IllegalArgumentException("문항 가중치는 0 이상이어야 합니다: " + code + " #" + (item + 1));
+            }
+            boolean reverse = reverseScored.contains(item + 1);
+            for (int raw = 0; raw <= maxItemScore; raw++) {
+                itemTable[item * stride + raw] = weight * (reverse ? maxItemScore - raw : raw);
+            }
+            maxTotal += weight * maxItemScore;
+        }
+
+        DiagnosisSeverity[] severityByScore = new DiagnosisSeverity[maxTotal + 1];
+        DiagnosisSeverity[] severities = DiagnosisSeverity.values();
+        int lower = 0;
+        int next = 0;
+        for (DiagnosisSeverity severity : severities) {
+            Integer bound = upperBounds.get(severity);
+            if (bound == null) {
+                continue;
+            }
+            if (bound < lower) {
+                throw new IllegalArgumentException("심각도 구간 상한은 순서대로 증가해야 합니다: " + code + " " + severity);
+            }
+            for (int score = lower; score <= Math.min(bound, maxTotal); score++) {
+                severityByScore[score] = severity;
+            }
+            lower = bound + 1;
+            next = severity.ordinal() + 1;
+        }
+        // 마지막 상한 이후 점수는 다음 심각도 (없으면 마지막 심각도)
+        DiagnosisSeverity rest = severities[Math.min(next, severities.length - 1)];
+        for (int score = lower; score <= maxTotal; score++) {
+            severityByScore[score] = rest;
+        }
+
+        return new ScoringModel(code, itemCount, maxItemScore, maxTotal, itemTable, severityByScore);
+    }
+
+    /**
+     * 기본 PHQ-9 채점표 (DiagnosisSeverity 구간, 9문항 0~3점)
+     */
+    public static ScoringModel defaultPhq9() {
+        Map<DiagnosisSeverity, Integer> bounds = new EnumMap<>(DiagnosisSeverity.class);
+        for (DiagnosisSeverity severity : DiagnosisSeverity.values()) {
+            bounds.put(severity, severity.getMaxScore());
+        }
+        return compile("PHQ-9", 9, 3, bounds, Map.of(), List.of());
+    }
+
+    /**
+     * 문항 응답 점수 (item 은 0부터, raw 는 0~maxItemScore 범위로 검증된 값)
+     */
+    public int itemScore(int item, int raw) {
+        return itemTable[item * (maxItemScore + 1) + raw];
+    }
+
+    /**
+     * 총점의 심각도 (범위를 벗어난 총점은 양 끝 구간)
+     */
+    public DiagnosisSeverity severity(int totalScore) {
+        return severityByScore[Math.min(Math.max(totalScore, 0), maxTotalScore)];
+    }
+
+    public boolean isValidAnswerScore(int raw) {
+        return raw >= 0 && raw <= maxItemScore;
+    }
+}
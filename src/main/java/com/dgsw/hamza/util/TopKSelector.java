@@ -0,0 +1,133 @@
+package com.dgsw.hamza.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 점수 상위 k개 선택기 (크기 k의 최소 힙)
+ * 전체 정렬 O(n log n) 대신 O(n log k)로 상위 항목만 유지합니다.
+ * 점수가 같으면 먼저 들어온 항목이 우선합니다.
+ */
+public class TopKSelector<T> {
+
+    private final int capacity;
+    private final Object[] items;
+    private final double[] scores;
+    private final long[] sequences;
+    private int size;
+    private long sequence;
+
+    public TopKSelector(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k는 1 이상이어야 합니다");
+        }
+        this.capacity = k;
+        this.items = new Object[k];
+        this.scores = new double[k];
+        this.sequences = new long[k];
+    }
+
+    /**
+     * 후보 추가
+     * @return 상위 k개 안에 들어갔으면 true
+     */
+    public boolean offer(T item, double score) {
+        long order = sequence++;
+        if (size < capacity) {
+            items[size] = item;
+            scores[size] = score;
+            sequences[size] = order;
+            siftUp(size++);
+            return true;
+        }
+        // 힙의 루트가 현재 k번째 항목
+        if (!isWorse(0, score, order)) {
+            return false;
+        }
+        items[0] = item;
+        scores[0] = score;
+        sequences[0] = order;
+        siftDown(0);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순 결과 (선택기 상태는 유지)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Scored<T>> toSortedList() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int compare = Double.compare(scores[b], scores[a]);
+            return compare != 0 ? compare : Long.compare(sequences[a], sequences[b]);
+        });
+        List<Scored<T>> result = new ArrayList<>(size);
+        for (int index : order) {
+            result.add(new Scored<>((T) items[index], scores[index]));
+        }
+        return result;
+    }
+
+    // 힙 위치 i의 항목이 (score, order) 후보보다 순위가 낮은지
+    private boolean isWorse(int i, double score, long order) {
+        int compare = Double.compare(scores[i], score);
+        return compare < 0 || (compare == 0 && sequences[i] > order);
+    }
+
+    private boolean lowerThan(int a, int b) {
+        return isWorse(a, scores[b], sequences[b]);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!lowerThan(index, parent)) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int smallest = right < size && lowerThan(right, left) ? right : left;
+            if (!lowerThan(smallest, index)) {
+                break;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        Object item = items[a];
+        items[a] = items[b];
+        items[b] = item;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long order = sequences[a];
+        sequences[a] = sequences[b];
+        sequences[b] = order;
+    }
+
+    /**
+     * 점수가 붙은 항목
+     */
+    public record Scored<T>(T item, double score) {
+    }
+}
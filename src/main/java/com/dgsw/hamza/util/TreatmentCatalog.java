@@ -0,0 +1,333 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.entity.Treatment;
+import com.dgsw.hamza.enums.DifficultyLevel;
+import com.dgsw.hamza.enums.TreatmentType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 치료법 카탈로그 스냅샷 (불변, 카탈로그 버전별)
+ * 활성 치료법을 이름순 배열로 두고 유형/난이도별 위치 목록, 소요시간순 배열, 2-gram 검색 색인을 함께 만듭니다.
+ * 위치 목록은 이름순 배열의 인덱스를 오름차순으로 담으므로 교집합과 결과 정렬에 추가 정렬이 필요 없습니다.
+ */
+public final class TreatmentCatalog {
+
+    private static final int[] NONE = new int[0];
+
+    private static final Comparator<Treatment> BY_NAME =
+            Comparator.comparing(Treatment::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(Treatment::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    public final long version;
+
+    // 활성 치료법 (이름순)
+    private final List<Treatment> active;
+    // 전체 치료법 (비활성 포함, 상세 조회용)
+    private final Map<Long, Treatment> byId;
+    private final Map<TreatmentType, int[]> byType;
+    private final Map<DifficultyLevel, int[]> byDifficulty;
+    // 소요시간이 있는 활성 치료법 위치 (소요시간 오름차순, 같으면 이름순)와 그 소요시간
+    private final int[] byDuration;
+    private final int[] durations;
+    // 소문자 "이름\n설명" 의 2-gram -> 위치 목록
+    private final Map<Integer, int[]> grams;
+    private final String[] texts;
+    private final Stats stats;
+
+    private TreatmentCatalog(long version, List<Treatment> treatments) {
+        this.version = version;
+
+        Map<Long, Treatment> ids = new HashMap<>(treatments.size() * 2);
+        List<Treatment> activeTreatments = new ArrayList<>(treatments.size());
+        for (Treatment treatment : treatments) {
+            ids.put(treatment.getId(), treatment);
+            if (treatment.isActive()) {
+                activeTreatments.add(treatment);
+            }
+        }
+        activeTreatments.sort(BY_NAME);
+        this.active = List.copyOf(activeTreatments);
+        this.byId = Collections.unmodifiableMap(ids);
+
+        int n = active.size();
+        Map<TreatmentType, IntList> types = new EnumMap<>(TreatmentType.class);
+        Map<DifficultyLevel, IntList> difficulties = new EnumMap<>(DifficultyLevel.class);
+        Map<Integer, IntList> gramLists = new HashMap<>();
+        List<Integer> timed = new ArrayList<>(n);
+        // 유형별 (소요시간 합, 소요시간이 있는 수)
+        Map<TreatmentType, long[]> typeDurations = new EnumMap<>(TreatmentType.class);
+        long durationSum = 0;
+        this.texts = new String[n];
+        for (int i = 0; i < n; i++) {
+            Treatment treatment = active.get(i);
+            Integer minutes = treatment.getDurationMinutes();
+            if (treatment.getType() != null) {
+                types.computeIfAbsent(treatment.getType(), t -> new IntList()).add(i);
+                long[] sum = typeDurations.computeIfAbsent(treatment.getType(), t -> new long[2]);
+                if (minutes != null) {
+                    sum[0] += minutes;
+                    sum[1]++;
+                }
+            }
+            if (treatment.getDifficultyLevel() != null) {
+                difficulties.computeIfAbsent(treatment.getDifficultyLevel(), d -> new IntList()).add(i);
+            }
+            if (minutes != null) {
+                timed.add(i);
+                durationSum += minutes;
+            }
+            String text = normalize(treatment.getName()) + "\n" + normalize(treatment.getDescription());
+            texts[i] = text;
+            for (int j = 0; j + 1 < text.length(); j++) {
+                gramLists.computeIfAbsent(gram(text, j), g -> new IntList()).addOnce(i);
+            }
+        }
+        this.byType = freeze(types, new EnumMap<>(TreatmentType.class));
+        this.byDifficulty = freeze(difficulties, new EnumMap<>(DifficultyLevel.class));
+        this.grams = freeze(gramLists, new HashMap<>(gramLists.size() * 2));
+
+        timed.sort(Comparator.comparingInt((Integer i) -> active.get(i).getDurationMinutes()).thenComparingInt(i -> i));
+        this.byDuration = new int[timed.size()];
+        this.durations = new int[timed.size()];
+        for (int i = 0; i < byDuration.length; i++) {
+            byDuration[i] = timed.get(i);
+            durations[i] = active.get(byDuration[i]).getDurationMinutes();
+        }
+
+        List<TypeStats> typeStats = new ArrayList<>(byType.size());
+        byType.forEach((type, positions) -> {
+            long[] sum = typeDurations.get(type);
+            typeStats.add(new TypeStats(type, positions.length, average(sum[0], sum[1])));
+        });
+        this.stats = new Stats(byId.size(), n, average(durationSum, timed.size()), List.copyOf(typeStats));
+    }
+
+    /**
+     * 전체 치료법(비활성 포함)으로 스냅샷 생성
+     */
+    public static TreatmentCatalog of(List<Treatment> treatments, long version) {
+        return new TreatmentCatalog(version, treatments);
+    }
+
+    /**
+     * 활성 치료법 (이름순, 불변)
+     */
+    public List<Treatment> active() {
+        return active;
+    }
+
+    /**
+     * ID 로 치료법 조회 (비활성 포함)
+     * @return 없으면 null
+     */
+    public Treatment find(Long treatmentId) {
+        return byId.get(treatmentId);
+    }
+
+    /**
+     * 유형별 활성 치료법 (이름순)
+     */
+    public List<Treatment> byType(TreatmentType type) {
+        return collect(byType.getOrDefault(type, NONE));
+    }
+
+    /**
+     * 난이도별 활성 치료법 (이름순)
+     */
+    public List<Treatment> byDifficulty(DifficultyLevel level) {
+        return collect(byDifficulty.getOrDefault(level, NONE));
+    }
+
+    /**
+     * 소요시간이 maxMinutes 이하인 활성 치료법 (소요시간순)
+     */
+    public List<Treatment> withinDuration(int maxMinutes) {
+        return collect(Arrays.copyOf(byDuration, durationBound(maxMinutes)));
+    }
+
+    /**
+     * 이름 또는 설명에 키워드가 포함된 활성 치료법 (대소문자 무시, 이름순)
+     * 키워드의 2-gram 위치 목록을 교집합한 뒤 실제 포함 여부를 확인합니다.
+     */
+    public List<Treatment> search(String keyword) {
+        if (keyword == null) {
+            return List.of();
+        }
+        String query = normalize(keyword);
+        if (query.length() < 2) {
+            return collect(scan(query, null));
+        }
+        int[] candidates = null;
+        for (int j = 0; j + 1 < query.length(); j++) {
+            int[] postings = grams.getOrDefault(gram(query, j), NONE);
+            candidates = candidates == null ? postings : intersect(candidates, postings);
+            if (candidates.length == 0) {
+                return List.of();
+            }
+        }
+        return collect(scan(query, candidates));
+    }
+
+    /**
+     * 복합 조건 활성 치료법 (조건이 null 이면 무시, 이름순)
+     * 유형/난이도 색인의 교집합을 후보로 삼고, 소요시간은 후보가 없을 때만 소요시간 색인을 씁니다.
+     */
+    public List<Treatment> filter(TreatmentType type, DifficultyLevel level, Integer maxDuration) {
+        int[] candidates = null;
+        if (type != null) {
+            candidates = byType.getOrDefault(type, NONE);
+        }
+        if (level != null) {
+            int[] levels = byDifficulty.getOrDefault(level, NONE);
+            candidates = candidates == null ? levels : intersect(candidates, levels);
+        }
+        if (maxDuration != null) {
+            int bound = durationBound(maxDuration);
+            if (candidates == null) {
+                candidates = Arrays.copyOf(byDuration, bound);
+                Arrays.sort(candidates);
+            } else {
+                int cut = 0;
+                int[] kept = new int[candidates.length];
+                for (int i : candidates) {
+                    Integer minutes = active.get(i).getDurationMinutes();
+                    if (minutes != null && minutes <= maxDuration) {
+                        kept[cut++] = i;
+                    }
+                }
+                candidates = Arrays.copyOf(kept, cut);
+            }
+        }
+        return candidates == null ? active : collect(candidates);
+    }
+
+    public int size() {
+        return active.size();
+    }
+
+    /**
+     * 카탈로그 통계 (스냅샷 생성 시 한 번에 계산)
+     */
+    public Stats stats() {
+        return stats;
+    }
+
+    // 소요시간 <= maxMinutes 인 byDuration 앞부분 길이 (이분 탐색)
+    private int durationBound(int maxMinutes) {
+        int low = 0;
+        int high = durations.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (durations[mid] <= maxMinutes) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 후보(null 이면 전체) 중 텍스트에 query 가 포함된 위치
+    private int[] scan(String query, int[] candidates) {
+        int count = candidates != null ? candidates.length : texts.length;
+        int[] matched = new int[count];
+        int size = 0;
+        for (int k = 0; k < count; k++) {
+            int i = candidates != null ? candidates[k] : k;
+            if (texts[i].contains(query)) {
+                matched[size++] = i;
+            }
+        }
+        return Arrays.copyOf(matched, size);
+    }
+
+    private List<Treatment> collect(int[] positions) {
+        Treatment[] treatments = new Treatment[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            treatments[i] = active.get(positions[i]);
+        }
+        return List.of(treatments);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 소요시간 평균 (소요시간이 있는 치료법이 없으면 null, SQL AVG 와 동일)
+    private static Double average(long sum, long count) {
+        return count > 0 ? (double) sum / count : null;
+    }
+
+    private static int gram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> Map<K, int[]> freeze(Map<K, IntList> lists, Map<K, int[]> target) {
+        lists.forEach((key, list) -> target.put(key, list.toArray()));
+        return Collections.unmodifiableMap(target);
+    }
+
+    /**
+     * 카탈로그 통계
+     * @param totalTreatments 전체 치료법 수 (비활성 포함)
+     * @param activeTreatments 활성 치료법 수
+     * @param averageDuration 활성 치료법 평균 소요시간 (분)
+     * @param typeStats 유형별 통계 (유형 선언 순, 활성 치료법이 있는 유형만)
+     */
+    public record Stats(int totalTreatments, int activeTreatments, Double averageDuration, List<TypeStats> typeStats) {
+    }
+
+    public record TypeStats(TreatmentType type, int count, Double averageDuration) {
+    }
+
+    // 오름차순으로만 추가되는 위치 목록
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addOnce(int value) {
+            if (size == 0 || values[size - 1] != value) {
+                add(value);
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
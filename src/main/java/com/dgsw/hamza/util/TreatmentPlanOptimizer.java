@@ -0,0 +1,178 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.enums.TreatmentType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하루 치료 시간 안에서 추천 점수 합이 최대인 치료 조합 계산
+ * 치료 유형별로 하나씩만 고르는 그룹 배낭 문제를 (치료법 수, 분) 표로 한 번 풀고,
+ * 0분부터 최대 시간까지 모든 예산의 계획을 미리 만들어 조회는 배열 접근으로 끝납니다.
+ */
+public final class TreatmentPlanOptimizer {
+
+    private static final double EPSILON = 1e-9;
+
+    private TreatmentPlanOptimizer() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 예산별 최적 계획표 생성
+     * @param ranked 심각도별 추천 목록 (점수 내림차순)
+     * @param maxMinutes 계획할 수 있는 최대 시간 (분)
+     * @param maxItems 계획에 담을 최대 치료법 수 (하루 최대 세션 수)
+     * @param defaultMinutes 소요시간이 없는 치료법의 시간 (분)
+     */
+    public static PlanTable build(List<RecommendationEngine.TreatmentRecommendation> ranked,
+                                  int maxMinutes, int maxItems, int defaultMinutes) {
+        if (maxMinutes < 0 || maxItems < 0) {
+            throw new IllegalArgumentException("계획 시간과 치료법 수는 0 이상이어야 합니다.");
+        }
+
+        // 치료 유형별 후보 (유형당 하나만 고를 수 있음)
+        Map<TreatmentType, List<RecommendationEngine.TreatmentRecommendation>> byType = new EnumMap<>(TreatmentType.class);
+        for (RecommendationEngine.TreatmentRecommendation rec : ranked) {
+            TreatmentType type = rec.getTreatment().getType();
+            if (type != null && rec.getScore() > 0 && minutes(rec, defaultMinutes) <= maxMinutes) {
+                byType.computeIfAbsent(type, t -> new ArrayList<>()).add(rec);
+            }
+        }
+        List<List<RecommendationEngine.TreatmentRecommendation>> groups = new ArrayList<>(byType.values());
+        int items = Math.min(maxItems, groups.size());
+
+        // best[k][c]: 치료법 k개 이하, c분 이하로 얻을 수 있는 최대 점수
+        // choice[g][k][c]: g번째 유형을 처리할 때 (k, c) 상태에서 고른 후보 (없으면 -1)
+        int width = maxMinutes + 1;
+        double[] best = new double[(items + 1) * width];
+        int[][] choice = new int[groups.size()][];
+        for (int g = 0; g < groups.size(); g++) {
+            List<RecommendationEngine.TreatmentRecommendation> group = groups.get(g);
+            int[] chosen = new int[(items + 1) * width];
+            Arrays.fill(chosen, -1);
+            // k 를 내림차순으로 갱신하면 k-1 행은 아직 이번 유형을 반영하기 전 값
+            for (int k = items; k >= 1; k--) {
+                for (int c = maxMinutes; c >= 0; c--) {
+                    double current = best[k * width + c];
+                    for (int j = 0; j < group.size(); j++) {
+                        RecommendationEngine.TreatmentRecommendation rec = group.get(j);
+                        int w = minutes(rec, defaultMinutes);
+                        if (w > c) {
+                            continue;
+                        }
+                        double candidate = best[(k - 1) * width + c - w] + rec.getScore();
+                        if (candidate > current + EPSILON) {
+                            current = candidate;
+                            chosen[k * width + c] = j;
+                        }
+                    }
+                    best[k * width + c] = current;
+                }
+            }
+            choice[g] = chosen;
+        }
+
+        // 모든 예산의 계획 복원 (점수가 같으면 이전 예산의 계획을 공유)
+        Plan[] plans = new Plan[width];
+        Plan previous = Plan.EMPTY;
+        for (int budget = 0; budget <= maxMinutes; budget++) {
+            double score = best[items * width + budget];
+            if (budget == 0 || score > previous.totalScore + EPSILON) {
+                previous = reconstruct(groups, choice, width, items, budget, score, defaultMinutes);
+            }
+            plans[budget] = previous;
+        }
+        return new PlanTable(plans);
+    }
+
+    private static Plan reconstruct(List<List<RecommendationEngine.TreatmentRecommendation>> groups, int[][] choice,
+                                    int width, int items, int budget, double score, int defaultMinutes) {
+        List<RecommendationEngine.TreatmentRecommendation> selected = new ArrayList<>(items);
+        int k = items;
+        int c = budget;
+        int total = 0;
+        for (int g = groups.size() - 1; g >= 0 && k > 0; g--) {
+            int j = choice[g][k * width + c];
+            if (j >= 0) {
+                RecommendationEngine.TreatmentRecommendation rec = groups.get(g).get(j);
+                selected.add(rec);
+                int w = minutes(rec, defaultMinutes);
+                c -= w;
+                total += w;
+                k--;
+            }
+        }
+        selected.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return new Plan(List.copyOf(selected), total, score);
+    }
+
+    private static int minutes(RecommendationEngine.TreatmentRecommendation rec, int defaultMinutes) {
+        Integer minutes = rec.getTreatment().getDurationMinutes();
+        return minutes != null && minutes >= 0 ? minutes : defaultMinutes;
+    }
+
+    /**
+     * 예산(분)별 최적 계획표 (불변)
+     */
+    public static final class PlanTable {
+        private final Plan[] plans;
+
+        private PlanTable(Plan[] plans) {
+            this.plans = plans;
+        }
+
+        /**
+         * 최대 계획 시간 (분)
+         */
+        public int maxMinutes() {
+            return plans.length - 1;
+        }
+
+        /**
+         * budgetMinutes 분 안에서의 최적 계획
+         */
+        public Plan plan(int budgetMinutes) {
+            if (budgetMinutes < 0 || budgetMinutes >= plans.length) {
+                throw new IllegalArgumentException("하루 치료 시간은 0~" + maxMinutes() + "분 사이여야 합니다: " + budgetMinutes);
+            }
+            return plans[budgetMinutes];
+        }
+    }
+
+    /**
+     * 하루 치료 계획 (점수 내림차순, 유형별 최대 하나)
+     */
+    public static final class Plan {
+        static final Plan EMPTY = new Plan(List.of(), 0, 0.0);
+
+        private final List<RecommendationEngine.TreatmentRecommendation> recommendations;
+        private final int totalMinutes;
+        private final double totalScore;
+
+        private Plan(List<RecommendationEngine.TreatmentRecommendation> recommendations, int totalMinutes, double totalScore) {
+            this.recommendations = recommendations;
+            this.totalMinutes = totalMinutes;
+            this.totalScore = totalScore;
+        }
+
+        public List<RecommendationEngine.TreatmentRecommendation> getRecommendations() {
+            return recommendations;
+        }
+
+        public int getTotalMinutes() {
+            return totalMinutes;
+        }
+
+        public double getTotalScore() {
+            return totalScore;
+        }
+
+        public boolean isEmpty() {
+            return recommendations.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.dgsw.hamza.controller;
+
+import com.dgsw.hamza.config.SecurityConfig;
+import com.dgsw.hamza.security.CustomUserDetailsService;
+import com.dgsw.hamza.security.JwtAuthenticationEntryPoint;
+import com.dgsw.hamza.security.JwtAuthenticationFilter;
+import com.dgsw.hamza.security.JwtTokenProvider;
+import com.dgsw.hamza.service.DiagnosisRollupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringJUnitWebConfig(AdminControllerSecurityTest.Config.class)
+@DisplayName("AdminController 권한 테스트")
+class AdminControllerSecurityTest {
+
+    private static final String TREND_URL = "/api/admin/diagnosis/severity-trend";
+    private static final String REBUILD_URL = "/api/admin/diagnosis/rollups/rebuild";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private DiagnosisRollupService diagnosisRollupService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        reset(diagnosisRollupService);
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 401, 집계 재구성 미실행")
+    void anonymous_Unauthorized() throws Exception {
+        // when & then
+        mockMvc.perform(get(TREND_URL).param("from", "2025-01-01").param("to", "2025-01-31"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post(REBUILD_URL))
+                .andExpect(status().isUnauthorized());
+        verify(diagnosisRollupService, never()).rebuild();
+        verify(diagnosisRollupService, never()).trend(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("일반 사용자는 403, 집계 재구성 미실행")
+    void user_Forbidden() throws Exception {
+        // when & then
+        mockMvc.perform(get(TREND_URL).param("from", "2025-01-01").param("to", "2025-01-31"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post(REBUILD_URL))
+                .andExpect(status().isForbidden());
+        verify(diagnosisRollupService, never()).rebuild();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("관리자는 집계 재구성 가능")
+    void admin_Allowed() throws Exception {
+        // when & then
+        mockMvc.perform(post(REBUILD_URL))
+                .andExpect(status().isOk());
+        verify(diagnosisRollupService).rebuild();
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import({SecurityConfig.class, AdminController.class, JwtAuthenticationFilter.class, JwtAuthenticationEntryPoint.class})
+    static class Config {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+
+        @Bean
+        CustomUserDetailsService customUserDetailsService() {
+            return Mockito.mock(CustomUserDetailsService.class);
+        }
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            return Mockito.mock(JwtTokenProvider.class);
+        }
+
+        @Bean
+        DiagnosisRollupService diagnosisRollupService() {
+            return Mockito.mock(DiagnosisRollupService.class);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.dgsw.hamza.event;
+
+import com.dgsw.hamza.entity.Treatment;
+import com.dgsw.hamza.entity.User;
+import com.dgsw.hamza.entity.UserProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProgressEntityListener 테스트")
+class UserProgressEntityListenerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserProgressEntityListener listener;
+
+    private UserProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        Treatment treatment = Treatment.builder().name("호흡 명상").build();
+        treatment.setId(100L);
+        progress = UserProgress.builder()
+                .user(user)
+                .treatment(treatment)
+                .build();
+    }
+
+    @Test
+    @DisplayName("완료 여부가 false 에서 true 로 바뀐 갱신에서만 치료 완료 이벤트 발행")
+    void onUpdated_PublishesCompletedOnTransition() {
+        // given
+        listener.onLoaded(progress);
+        progress.completeProgress();
+
+        // when
+        listener.onUpdated(progress);
+        listener.onUpdated(progress);
+
+        // then
+        verify(eventPublisher, times(1)).publishEvent(new TreatmentEngagementEvent(List.of(100L),
+                TreatmentEngagementEvent.Engagement.COMPLETED));
+        verify(eventPublisher, times(2)).publishEvent(new UserTreatmentChangedEvent(1L,
+                UserTreatmentChangedEvent.Cause.PROGRESS_CHANGED));
+    }
+
+    @Test
+    @DisplayName("이미 완료된 상태로 읽은 기록의 갱신은 치료 완료 이벤트를 발행하지 않음")
+    void onUpdated_AlreadyCompleted() {
+        // given
+        progress.completeProgress();
+        listener.onLoaded(progress);
+
+        // when
+        listener.onUpdated(progress);
+
+        // then
+        verify(eventPublisher, never()).publishEvent(new TreatmentEngagementEvent(List.of(100L),
+                TreatmentEngagementEvent.Engagement.COMPLETED));
+    }
+}
@@ -0,0 +1,164 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.entity.Diagnosis;
+import com.dgsw.hamza.entity.DiagnosisAggregate;
+import com.dgsw.hamza.entity.User;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.repository.DiagnosisAggregateRepository;
+import com.dgsw.hamza.repository.DiagnosisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiagnosisAggregateService 테스트")
+class DiagnosisAggregateServiceTest {
+
+    @Mock
+    private DiagnosisAggregateRepository diagnosisAggregateRepository;
+
+    @Mock
+    private DiagnosisRepository diagnosisRepository;
+
+    @InjectMocks
+    private DiagnosisAggregateService diagnosisAggregateService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+    }
+
+    @Test
+    @DisplayName("집계 행이 있으면 진단 기록을 읽지 않음")
+    void find_UsesExistingRow() {
+        // given
+        DiagnosisAggregate aggregate = new DiagnosisAggregate(1L);
+        aggregate.record(7, DiagnosisSeverity.MILD, LocalDateTime.now());
+        given(diagnosisAggregateRepository.findByUserId(1L)).willReturn(Optional.of(aggregate));
+
+        // when
+        DiagnosisAggregate result = diagnosisAggregateService.find(testUser);
+
+        // then
+        assertThat(result).isSameAs(aggregate);
+        verifyNoInteractions(diagnosisRepository);
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 진단 기록으로 재구성하고 조회 시에는 저장하지 않음")
+    void find_RebuildsFromHistory() {
+        // given
+        LocalDateTime lastDate = LocalDateTime.now().minusDays(2);
+        Diagnosis latest = Diagnosis.builder()
+                .totalScore(12)
+                .severity(DiagnosisSeverity.MODERATE)
+                .diagnosisDate(lastDate)
+                .build();
+        given(diagnosisAggregateRepository.findByUserId(1L)).willReturn(Optional.empty());
+        given(diagnosisRepository.findSeverityDistribution(testUser)).willReturn(List.of(
+                new Object[]{DiagnosisSeverity.MILD, 2L},
+                new Object[]{DiagnosisSeverity.MODERATE, 1L}));
+        given(diagnosisRepository.findScoreSumByUser(testUser)).willReturn(25L);
+        given(diagnosisRepository.findMinScoreByUser(testUser)).willReturn(Optional.of(5));
+        given(diagnosisRepository.findMaxScoreByUser(testUser)).willReturn(Optional.of(12));
+        given(diagnosisRepository.findLatestByUser(testUser)).willReturn(Optional.of(latest));
+
+        // when
+        DiagnosisAggregate result = diagnosisAggregateService.find(testUser);
+
+        // then
+        assertThat(result.getDiagnosisCount()).isEqualTo(3);
+        assertThat(result.getScoreSum()).isEqualTo(25L);
+        assertThat(result.getMinScore()).isEqualTo(5);
+        assertThat(result.getMaxScore()).isEqualTo(12);
+        assertThat(result.getLastScore()).isEqualTo(12);
+        assertThat(result.getLastDiagnosisDate()).isEqualTo(lastDate);
+        assertThat(result.mostFrequentSeverity()).isEqualTo(DiagnosisSeverity.MILD);
+        verify(diagnosisAggregateRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("진단 기록이 없는 사용자는 빈 집계 행을 만들어 잠금")
+    void lockForUpdate_CreatesEmptyRow() {
+        // given
+        DiagnosisAggregate created = new DiagnosisAggregate(1L);
+        given(diagnosisAggregateRepository.findByUserIdForUpdate(1L))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(created));
+        given(diagnosisAggregateRepository.insertIfAbsent(1L)).willReturn(1);
+        given(diagnosisRepository.findSeverityDistribution(testUser)).willReturn(List.of());
+
+        // when
+        DiagnosisAggregate result = diagnosisAggregateService.lockForUpdate(testUser);
+
+        // then
+        assertThat(result).isSameAs(created);
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(result.getUserId()).isEqualTo(1L);
+        assertThat(result.getLastScore()).isNull();
+        assertThat(result.averageScore()).isNull();
+        verify(diagnosisAggregateRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("동시 첫 제출에서 다른 트랜잭션이 먼저 만든 행은 재구성 없이 잠금")
+    void lockForUpdate_ConcurrentFirstSubmission() {
+        // given
+        DiagnosisAggregate rebuiltByOther = new DiagnosisAggregate(1L);
+        rebuiltByOther.record(7, DiagnosisSeverity.MILD, LocalDateTime.now());
+        given(diagnosisAggregateRepository.findByUserIdForUpdate(1L))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(rebuiltByOther));
+        given(diagnosisAggregateRepository.insertIfAbsent(1L)).willReturn(0);
+
+        // when
+        DiagnosisAggregate result = diagnosisAggregateService.lockForUpdate(testUser);
+
+        // then
+        assertThat(result).isSameAs(rebuiltByOther);
+        assertThat(result.getDiagnosisCount()).isEqualTo(1);
+        verifyNoInteractions(diagnosisRepository);
+    }
+
+    @Test
+    @DisplayName("진단 반영 시 누적값과 마지막 진단 갱신")
+    void record_UpdatesRunningValues() {
+        // given
+        DiagnosisAggregate aggregate = new DiagnosisAggregate(1L);
+        LocalDateTime first = LocalDateTime.now().minusDays(10);
+        LocalDateTime second = LocalDateTime.now();
+
+        // when
+        aggregate.record(16, DiagnosisSeverity.SEVERE, first);
+        aggregate.record(4, DiagnosisSeverity.NORMAL, second);
+        aggregate.record(9, DiagnosisSeverity.MILD, first.minusDays(1)); // 늦게 동기화된 과거 진단
+
+        // then
+        assertThat(aggregate.getDiagnosisCount()).isEqualTo(3);
+        assertThat(aggregate.averageScore()).isEqualTo(29.0 / 3);
+        assertThat(aggregate.getMinScore()).isEqualTo(4);
+        assertThat(aggregate.getMaxScore()).isEqualTo(16);
+        assertThat(aggregate.getLastScore()).isEqualTo(4);
+        assertThat(aggregate.getLastSeverity()).isEqualTo(DiagnosisSeverity.NORMAL);
+        assertThat(aggregate.getLastDiagnosisDate()).isEqualTo(second);
+        assertThat(aggregate.severityCount(DiagnosisSeverity.SEVERE)).isEqualTo(1);
+    }
+}
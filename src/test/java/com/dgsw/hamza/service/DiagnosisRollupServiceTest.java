@@ -0,0 +1,125 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.AdminDto;
+import com.dgsw.hamza.entity.Diagnosis;
+import com.dgsw.hamza.entity.DiagnosisRollup;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.RollupGranularity;
+import com.dgsw.hamza.repository.DiagnosisRepository;
+import com.dgsw.hamza.repository.DiagnosisRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiagnosisRollupService 테스트")
+class DiagnosisRollupServiceTest {
+
+    @Mock
+    private DiagnosisRollupRepository diagnosisRollupRepository;
+
+    @Mock
+    private DiagnosisRepository diagnosisRepository;
+
+    @InjectMocks
+    private DiagnosisRollupService diagnosisRollupService;
+
+    @Test
+    @DisplayName("같은 구간의 진단은 단위별로 한 번에 증가")
+    void record_GroupsByBucket() {
+        // given
+        LocalDateTime wednesday = LocalDateTime.of(2025, 3, 12, 9, 0);
+        List<Diagnosis> diagnoses = List.of(
+                diagnosis(DiagnosisSeverity.MILD, wednesday),
+                diagnosis(DiagnosisSeverity.MILD, wednesday.plusHours(3)));
+
+        // when
+        diagnosisRollupService.record(diagnoses);
+
+        // then
+        verify(diagnosisRollupRepository).increment("DAY", LocalDate.of(2025, 3, 12), "MILD", 2L);
+        verify(diagnosisRollupRepository).increment("WEEK", LocalDate.of(2025, 3, 10), "MILD", 2L);
+        verify(diagnosisRollupRepository).increment("MONTH", LocalDate.of(2025, 3, 1), "MILD", 2L);
+    }
+
+    @Test
+    @DisplayName("진단이 없는 구간도 0 으로 채워 연속된 추이 반환")
+    void trend_FillsEmptyBuckets() {
+        // given
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 3);
+        given(diagnosisRollupRepository.findRange(RollupGranularity.DAY, from, to)).willReturn(List.of(
+                new DiagnosisRollup(RollupGranularity.DAY, from, DiagnosisSeverity.NORMAL, 4L),
+                new DiagnosisRollup(RollupGranularity.DAY, to, DiagnosisSeverity.SEVERE, 1L)));
+
+        // when
+        AdminDto.SeverityTrendResponse response = diagnosisRollupService.trend(RollupGranularity.DAY, from, to);
+
+        // then
+        assertThat(response.getBuckets()).hasSize(3);
+        assertThat(response.getBuckets().get(0).getTotal()).isEqualTo(4L);
+        assertThat(response.getBuckets().get(1).getTotal()).isZero();
+        assertThat(response.getBuckets().get(2).getCounts().get(DiagnosisSeverity.SEVERE)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("너무 긴 기간은 거부")
+    void trend_RejectsTooManyBuckets() {
+        // when & then
+        assertThatThrownBy(() -> diagnosisRollupService.trend(RollupGranularity.DAY,
+                LocalDate.of(2020, 1, 1), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("재구성은 스트리밍한 진단과 기존 집계의 차이만 증가분으로 반영")
+    void rebuild_AppliesDifferenceAsIncrements() {
+        // given
+        LocalDateTime date = LocalDateTime.of(2025, 3, 12, 9, 0);
+        given(diagnosisRollupRepository.findAll()).willReturn(List.of(
+                new DiagnosisRollup(RollupGranularity.WEEK, LocalDate.of(2025, 3, 10), DiagnosisSeverity.MILD, 1L),
+                new DiagnosisRollup(RollupGranularity.DAY, LocalDate.of(2025, 3, 12), DiagnosisSeverity.SEVERE, 1L),
+                new DiagnosisRollup(RollupGranularity.MONTH, LocalDate.of(2025, 2, 1), DiagnosisSeverity.NORMAL, 5L)));
+        given(diagnosisRepository.streamSeverityAndDate()).willReturn(Stream.of(
+                new Object[]{DiagnosisSeverity.MILD, date},
+                new Object[]{DiagnosisSeverity.MILD, date.plusDays(1)},
+                new Object[]{DiagnosisSeverity.SEVERE, date}));
+
+        // when
+        AdminDto.RollupRebuildResponse response = diagnosisRollupService.rebuild();
+
+        // then
+        assertThat(response.getDiagnoses()).isEqualTo(3L);
+        // DAY 3행(MILD 2일 + SEVERE 1일), WEEK 2행, MONTH 2행
+        assertThat(response.getRows()).isEqualTo(7);
+        verify(diagnosisRollupRepository).increment("WEEK", LocalDate.of(2025, 3, 10), "MILD", 1L);
+        verify(diagnosisRollupRepository).increment("MONTH", LocalDate.of(2025, 2, 1), "NORMAL", -5L);
+        verify(diagnosisRollupRepository, never()).increment(eq("DAY"), eq(LocalDate.of(2025, 3, 12)), eq("SEVERE"), anyLong());
+        verify(diagnosisRollupRepository, never()).deleteAllInBatch();
+    }
+
+    private Diagnosis diagnosis(DiagnosisSeverity severity, LocalDateTime date) {
+        return Diagnosis.builder()
+                .totalScore(severity.getMinScore())
+                .severity(severity)
+                .diagnosisDate(date)
+                .isCompleted(true)
+                .build();
+    }
+}
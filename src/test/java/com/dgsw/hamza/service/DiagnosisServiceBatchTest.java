@@ -0,0 +1,292 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.DiagnosisDto;
+import com.dgsw.hamza.entity.Diagnosis;
+import com.dgsw.hamza.entity.DiagnosisAggregate;
+import com.dgsw.hamza.entity.User;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.event.UserTreatmentChangedEvent;
+import com.dgsw.hamza.repository.DiagnosisJdbcRepository;
+import com.dgsw.hamza.repository.DiagnosisRepository;
+import com.dgsw.hamza.repository.UserRepository;
+import com.dgsw.hamza.util.ScoringModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiagnosisService 일괄 제출 테스트")
+class DiagnosisServiceBatchTest {
+
+    @Mock
+    private DiagnosisRepository diagnosisRepository;
+
+    @Mock
+    private DiagnosisJdbcRepository diagnosisJdbcRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private QuestionnaireService questionnaireService;
+
+    @Mock
+    private DiagnosisAggregateService diagnosisAggregateService;
+
+    @Mock
+    private ScoringService scoringService;
+
+    @Mock
+    private DiagnosisRollupService diagnosisRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DiagnosisService diagnosisService;
+
+    private User testUser;
+    private DiagnosisAggregate aggregate;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        aggregate = new DiagnosisAggregate(1L);
+        given(diagnosisAggregateService.lockForUpdate(testUser)).willReturn(aggregate);
+        lenient().when(scoringService.model(QuestionnaireService.PHQ9)).thenReturn(ScoringModel.defaultPhq9());
+        lenient().when(questionnaireService.itemIndexes(QuestionnaireService.PHQ9)).thenReturn(IntStream.range(0, 9).boxed()
+                .collect(Collectors.toMap(i -> (long) i + 1, i -> i)));
+    }
+
+    @Test
+    @DisplayName("저장된 키와 배치 내 중복 키는 건너뛰고 유효한 항목만 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void submitDiagnosisBatch_SkipsDuplicatesAndRejectsInvalid() {
+        // given
+        Diagnosis stored = diagnosis(10L, "a", 3, DiagnosisSeverity.NORMAL);
+        Diagnosis inserted = diagnosis(11L, "b", 18, DiagnosisSeverity.SEVERE);
+        given(diagnosisRepository.findByUserAndClientSubmissionIdIn(eq(testUser), anyCollection()))
+                .willReturn(List.of(stored))
+                .willReturn(List.of(inserted));
+
+        DiagnosisDto.DiagnosisBatchSubmitRequest request = DiagnosisDto.DiagnosisBatchSubmitRequest.builder()
+                .submissions(List.of(
+                        item("a", 0),
+                        item("b", 2),
+                        item("b", 2),
+                        DiagnosisDto.DiagnosisBatchItem.builder()
+                                .clientSubmissionId("c")
+                                .answers(List.of(new DiagnosisDto.DiagnosisAnswerRequest(99L, 1)))
+                                .build()))
+                .build();
+
+        // when
+        DiagnosisDto.DiagnosisBatchSubmitResponse response = diagnosisService.submitDiagnosisBatch(testUser, request);
+
+        // then
+        assertThat(response.getAcceptedCount()).isEqualTo(1);
+        assertThat(response.getDuplicateCount()).isEqualTo(2);
+        assertThat(response.getRejectedCount()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(DiagnosisDto.DiagnosisBatchResult::getStatus)
+                .containsExactly("DUPLICATE", "ACCEPTED", "DUPLICATE", "REJECTED");
+        assertThat(response.getResults())
+                .extracting(DiagnosisDto.DiagnosisBatchResult::getDiagnosisId)
+                .containsExactly(10L, 11L, 11L, null);
+        assertThat(response.getResults().get(1).getSeverity()).isEqualTo(DiagnosisSeverity.SEVERE);
+        assertThat(response.getResults().get(3).getError()).contains("99");
+
+        ArgumentCaptor<List<Diagnosis>> captor = ArgumentCaptor.forClass(List.class);
+        verify(diagnosisJdbcRepository).batchInsert(captor.capture());
+        assertThat(captor.getValue()).extracting(Diagnosis::getClientSubmissionId).containsExactly("b");
+        verify(diagnosisRollupService).record(captor.getValue());
+        verify(eventPublisher).publishEvent(any(UserTreatmentChangedEvent.class));
+        assertThat(aggregate.getDiagnosisCount()).isEqualTo(1);
+        assertThat(aggregate.getLastScore()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("기기 완료 시각을 진단일로 사용하고 미래 시각은 수신 시각으로 대체")
+    void submitDiagnosisBatch_UsesDeviceCompletionTime() {
+        // given
+        LocalDateTime offline = LocalDateTime.now().minusDays(3);
+        given(diagnosisRepository.findByUserAndClientSubmissionIdIn(eq(testUser), anyCollection()))
+                .willReturn(List.of());
+        DiagnosisDto.DiagnosisBatchItem past = item("past", 1);
+        past.setCompletedAt(offline);
+        DiagnosisDto.DiagnosisBatchItem future = item("future", 1);
+        future.setCompletedAt(LocalDateTime.now().plusDays(1));
+
+        // when
+        DiagnosisDto.DiagnosisBatchSubmitResponse response = diagnosisService.submitDiagnosisBatch(testUser,
+                new DiagnosisDto.DiagnosisBatchSubmitRequest(List.of(past, future)));
+
+        // then
+        assertThat(response.getResults().get(0).getDiagnosisDate()).isEqualTo(offline);
+        assertThat(response.getResults().get(1).getDiagnosisDate()).isBefore(LocalDateTime.now().plusSeconds(1));
+        assertThat(aggregate.getLastDiagnosisDate()).isEqualTo(response.getResults().get(1).getDiagnosisDate());
+    }
+
+    @Test
+    @DisplayName("모두 중복이면 저장하지 않음")
+    void submitDiagnosisBatch_AllDuplicates() {
+        // given
+        given(diagnosisRepository.findByUserAndClientSubmissionIdIn(eq(testUser), anyCollection()))
+                .willReturn(List.of(diagnosis(10L, "a", 3, DiagnosisSeverity.NORMAL)));
+
+        // when
+        DiagnosisDto.DiagnosisBatchSubmitResponse response = diagnosisService.submitDiagnosisBatch(testUser,
+                new DiagnosisDto.DiagnosisBatchSubmitRequest(List.of(item("a", 0))));
+
+        // then
+        assertThat(response.getDuplicateCount()).isEqualTo(1);
+        verify(diagnosisJdbcRepository, never()).batchInsert(any());
+        assertThat(aggregate.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 문항 중복 답변과 누락 문항이 있는 항목은 거부")
+    void submitDiagnosisBatch_RejectsDuplicateAndMissingItems() {
+        // given
+        given(diagnosisRepository.findByUserAndClientSubmissionIdIn(eq(testUser), anyCollection()))
+                .willReturn(List.of());
+        List<DiagnosisDto.DiagnosisAnswerRequest> repeated = new ArrayList<>(item("dup", 1).getAnswers());
+        repeated.set(8, new DiagnosisDto.DiagnosisAnswerRequest(1L, 3));
+        DiagnosisDto.DiagnosisBatchItem duplicate = DiagnosisDto.DiagnosisBatchItem.builder()
+                .clientSubmissionId("dup")
+                .answers(repeated)
+                .build();
+        DiagnosisDto.DiagnosisBatchItem partial = DiagnosisDto.DiagnosisBatchItem.builder()
+                .clientSubmissionId("partial")
+                .answers(item("partial", 1).getAnswers().subList(0, 8))
+                .build();
+
+        // when
+        DiagnosisDto.DiagnosisBatchSubmitResponse response = diagnosisService.submitDiagnosisBatch(testUser,
+                new DiagnosisDto.DiagnosisBatchSubmitRequest(List.of(duplicate, partial)));
+
+        // then
+        assertThat(response.getRejectedCount()).isEqualTo(2);
+        assertThat(response.getResults().get(0).getError()).contains("중복");
+        assertThat(response.getResults().get(1).getError()).contains("8/9");
+        verify(diagnosisJdbcRepository, never()).batchInsert(any());
+        assertThat(aggregate.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 설문 도구 항목은 해당 채점표로 저장하되 PHQ-9 집계에는 반영하지 않고, 채점표가 없는 도구는 거부")
+    @SuppressWarnings("unchecked")
+    void submitDiagnosisBatch_ScoresOtherInstrumentsWithoutAggregating() {
+        // given
+        Map<DiagnosisSeverity, Integer> bounds = new EnumMap<>(DiagnosisSeverity.class);
+        bounds.put(DiagnosisSeverity.NORMAL, 4);
+        bounds.put(DiagnosisSeverity.MILD, 9);
+        bounds.put(DiagnosisSeverity.MODERATE, 14);
+        bounds.put(DiagnosisSeverity.SEVERE, 21);
+        given(scoringService.model("gad-7")).willReturn(ScoringModel.compile("GAD-7", 7, 3, bounds, Map.of(), List.of()));
+        given(scoringService.model("BDI")).willThrow(new IllegalArgumentException("채점표가 없는 설문 도구입니다: BDI"));
+        given(questionnaireService.itemIndexes("GAD-7")).willReturn(IntStream.range(0, 7).boxed()
+                .collect(Collectors.toMap(i -> (long) i + 101, i -> i)));
+        given(diagnosisRepository.findByUserAndClientSubmissionIdIn(eq(testUser), anyCollection()))
+                .willReturn(List.of());
+        DiagnosisDto.DiagnosisBatchItem gad7 = DiagnosisDto.DiagnosisBatchItem.builder()
+                .clientSubmissionId("gad")
+                .questionnaireCode("gad-7")
+                .answers(IntStream.rangeClosed(101, 107)
+                        .mapToObj(id -> new DiagnosisDto.DiagnosisAnswerRequest((long) id, 2))
+                        .toList())
+                .build();
+        DiagnosisDto.DiagnosisBatchItem unknown = item("bdi", 1);
+        unknown.setQuestionnaireCode("BDI");
+
+        // when
+        DiagnosisDto.DiagnosisBatchSubmitResponse response = diagnosisService.submitDiagnosisBatch(testUser,
+                new DiagnosisDto.DiagnosisBatchSubmitRequest(List.of(gad7, unknown)));
+
+        // then
+        assertThat(response.getResults())
+                .extracting(DiagnosisDto.DiagnosisBatchResult::getStatus)
+                .containsExactly("ACCEPTED", "REJECTED");
+        assertThat(response.getResults().get(0).getTotalScore()).isEqualTo(14);
+        assertThat(response.getResults().get(0).getSeverity()).isEqualTo(DiagnosisSeverity.MODERATE);
+        assertThat(response.getResults().get(1).getError()).contains("BDI");
+
+        ArgumentCaptor<List<Diagnosis>> captor = ArgumentCaptor.forClass(List.class);
+        verify(diagnosisJdbcRepository).batchInsert(captor.capture());
+        assertThat(captor.getValue()).extracting(Diagnosis::getQuestionnaireCode).containsExactly("GAD-7");
+        verify(diagnosisRollupService, never()).record(any());
+        assertThat(aggregate.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("설문 코드 없이 이전 5문항 설문(문항 ID 1~5)에 답한 항목은 답변 점수 합으로 채점")
+    void submitDiagnosisBatch_ScoresLegacyFiveItemSet() {
+        // given
+        given(scoringService.phq9()).willReturn(ScoringModel.defaultPhq9());
+        given(diagnosisRepository.findByUserAndClientSubmissionIdIn(eq(testUser), anyCollection()))
+                .willReturn(List.of());
+        DiagnosisDto.DiagnosisBatchItem legacy = DiagnosisDto.DiagnosisBatchItem.builder()
+                .clientSubmissionId("legacy")
+                .answers(IntStream.rangeClosed(1, 5)
+                        .mapToObj(id -> new DiagnosisDto.DiagnosisAnswerRequest((long) id, 2))
+                        .toList())
+                .build();
+
+        // when
+        DiagnosisDto.DiagnosisBatchSubmitResponse response = diagnosisService.submitDiagnosisBatch(testUser,
+                new DiagnosisDto.DiagnosisBatchSubmitRequest(List.of(legacy)));
+
+        // then
+        assertThat(response.getAcceptedCount()).isEqualTo(1);
+        assertThat(response.getResults().get(0).getTotalScore()).isEqualTo(10);
+        assertThat(response.getResults().get(0).getSeverity()).isEqualTo(DiagnosisSeverity.MODERATE);
+        assertThat(aggregate.getLastScore()).isEqualTo(10);
+    }
+
+    private DiagnosisDto.DiagnosisBatchItem item(String key, int score) {
+        List<DiagnosisDto.DiagnosisAnswerRequest> answers = IntStream.rangeClosed(1, 9)
+                .mapToObj(id -> new DiagnosisDto.DiagnosisAnswerRequest((long) id, score))
+                .toList();
+        return DiagnosisDto.DiagnosisBatchItem.builder()
+                .clientSubmissionId(key)
+                .answers(answers)
+                .build();
+    }
+
+    private Diagnosis diagnosis(Long id, String key, int score, DiagnosisSeverity severity) {
+        Diagnosis diagnosis = Diagnosis.builder()
+                .user(testUser)
+                .totalScore(score)
+                .severity(severity)
+                .diagnosisDate(LocalDateTime.now())
+                .clientSubmissionId(key)
+                .isCompleted(true)
+                .build();
+        diagnosis.setId(id);
+        return diagnosis;
+    }
+}
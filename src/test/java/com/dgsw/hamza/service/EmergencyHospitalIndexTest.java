@@ -0,0 +1,157 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.EmergencyIndexConfig;
+import com.dgsw.hamza.entity.Hospital;
+import com.dgsw.hamza.event.HospitalSnapshotChangedEvent;
+import com.dgsw.hamza.repository.HospitalRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmergencyHospitalIndex 테스트")
+class EmergencyHospitalIndexTest {
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private GeocodingService geocodingService;
+
+    @TempDir
+    Path tempDir;
+
+    private EmergencyIndexConfig indexConfig;
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        indexConfig = new EmergencyIndexConfig();
+        indexConfig.setSnapshotFile(tempDir.resolve("emergency-index.json").toString());
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("반경 내 응급 병원을 가까운 순으로 조회하고 지연 시간 기록")
+    void findNearest() {
+        // given
+        given(hospitalRepository.findActiveHospitals()).willReturn(List.of(
+                hospital(1L, "서울대학교병원", 37.5796, 126.9990),
+                hospital(2L, "세브란스병원", 37.5622, 126.9410),
+                hospital(3L, "부산대학교병원", 35.1001, 129.0173)));
+        EmergencyHospitalIndex index = newIndex();
+        snapshotServiceFor(index).rebuild();
+
+        // when
+        List<HospitalSnapshotService.Candidate> result = index.findNearest(37.5665, 126.9780, 20.0, 5);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).hospital().getId()).isEqualTo(1L);
+        assertThat(result.get(1).hospital().getId()).isEqualTo(2L);
+        assertThat(meterRegistry.get(EmergencyHospitalIndex.LATENCY_METRIC).timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get(EmergencyHospitalIndex.SIZE_METRIC).gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get(EmergencyHospitalIndex.SLO_BREACHED_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 장애 시 로컬 스냅샷 파일로 응답")
+    void rebuild_DatabaseUnavailable() {
+        // given - 정상 기동 시 스냅샷 파일 저장
+        given(hospitalRepository.findActiveHospitals()).willReturn(List.of(
+                hospital(1L, "서울대학교병원", 37.5796, 126.9990)));
+        snapshotServiceFor(newIndex()).rebuild();
+        assertThat(Files.exists(tempDir.resolve("emergency-index.json"))).isTrue();
+
+        // when - 재기동 시 DB 연결 실패
+        given(hospitalRepository.findActiveHospitals())
+                .willThrow(new DataAccessResourceFailureException("Communications link failure"));
+        EmergencyHospitalIndex restarted = newIndex();
+        restarted.loadSnapshotFile();
+        snapshotServiceFor(restarted).rebuild();
+
+        // then
+        List<HospitalSnapshotService.Candidate> result = restarted.findNearest(37.5665, 126.9780, 20.0, 5);
+        assertThat(restarted.source()).isEqualTo(EmergencyHospitalIndex.Source.FILE);
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).hospital().getName()).isEqualTo("서울대학교병원");
+        assertThat(result.get(0).hospital().getOpenTime()).isEqualTo(LocalTime.of(0, 0));
+    }
+
+    @Test
+    @DisplayName("기동 시 스냅샷 구성이 실패하면 준비되지 않은 상태로 백오프 후 재시도")
+    void rebuild_RetriesAfterFailure() {
+        // given
+        given(hospitalRepository.findActiveHospitals())
+                .willThrow(new DataAccessResourceFailureException("Communications link failure"))
+                .willReturn(List.of(hospital(1L, "서울대학교병원", 37.5796, 126.9990)));
+        EmergencyHospitalIndex index = newIndex();
+        HospitalSnapshotService snapshotService = snapshotServiceFor(index);
+
+        // when
+        snapshotService.rebuild();
+        snapshotService.retryRebuild();
+
+        // then - 백오프 시간 전에는 DB 를 다시 조회하지 않음
+        assertThat(snapshotService.isReady()).isFalse();
+        assertThat(snapshotService.failures()).isEqualTo(1);
+        verify(hospitalRepository, times(1)).findActiveHospitals();
+
+        // when - 재시도 성공
+        snapshotService.rebuild();
+
+        // then
+        assertThat(snapshotService.isReady()).isTrue();
+        assertThat(snapshotService.failures()).isZero();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private EmergencyHospitalIndex newIndex() {
+        return new EmergencyHospitalIndex(indexConfig, objectMapper, meterRegistry);
+    }
+
+    // 스냅샷 변경 이벤트를 인덱스로 바로 전달하는 병원 스냅샷 서비스
+    private HospitalSnapshotService snapshotServiceFor(EmergencyHospitalIndex index) {
+        return new HospitalSnapshotService(hospitalRepository, geocodingService, event -> {
+            if (event instanceof HospitalSnapshotChangedEvent changed) {
+                index.onSnapshotChanged(changed);
+            }
+        });
+    }
+
+    private Hospital hospital(Long id, String name, double latitude, double longitude) {
+        Hospital hospital = Hospital.builder()
+                .name(name)
+                .address("서울특별시 종로구 대학로 101")
+                .latitude(BigDecimal.valueOf(latitude))
+                .longitude(BigDecimal.valueOf(longitude))
+                .openTime(LocalTime.of(0, 0))
+                .closeTime(LocalTime.of(23, 59))
+                .isEmergency(true)
+                .build();
+        hospital.setId(id);
+        return hospital;
+    }
+}
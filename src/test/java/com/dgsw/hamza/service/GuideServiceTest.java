@@ -0,0 +1,57 @@
+package com.dgsw.hamza.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GuideService 테스트")
+class GuideServiceTest {
+
+    private ObjectMapper objectMapper;
+    private GuideService guideService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        guideService = new GuideService(objectMapper);
+    }
+
+    @Test
+    @DisplayName("기존 응답 형식 그대로 직렬화")
+    void body_KeepsWireFormat() throws Exception {
+        // when
+        JsonNode crisisGuide = objectMapper.readTree(guideService.body(GuideService.Guide.CRISIS_GUIDE));
+        JsonNode locationHelp = objectMapper.readTree(guideService.body(GuideService.Guide.LOCATION_HELP));
+        JsonNode searchTips = objectMapper.readTree(guideService.body(GuideService.Guide.SEARCH_TIPS));
+
+        // then
+        assertThat(crisisGuide.get("title").asText()).isEqualTo("위기 상황 대응 가이드");
+        assertThat(crisisGuide.get("emergencyContacts").get("lifeline").asText()).isEqualTo("생명의전화: 1588-9191 (24시간)");
+        assertThat(crisisGuide.get("crisisLevels").has("CRITICAL")).isTrue();
+        assertThat(crisisGuide.get("immediateActions").size()).isEqualTo(5);
+        assertThat(locationHelp.get("severityLevels").has("VERY_SEVERE")).isTrue();
+        assertThat(searchTips.isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청마다 미리 만든 같은 본문과 응답 반환")
+    void response_ReusesPrebuiltBody() {
+        // when
+        byte[] body = guideService.body(GuideService.Guide.CHAT_HELP);
+        ResponseEntity<byte[]> response = guideService.response(GuideService.Guide.CHAT_HELP);
+
+        // then
+        assertThat(guideService.body(GuideService.Guide.CHAT_HELP)).isSameAs(body);
+        assertThat(guideService.response(GuideService.Guide.CHAT_HELP)).isSameAs(response);
+        assertThat(response.getBody()).isSameAs(body);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+}
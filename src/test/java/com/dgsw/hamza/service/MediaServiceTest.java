@@ -0,0 +1,268 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.MediaConfig;
+import com.dgsw.hamza.entity.TreatmentContent;
+import com.dgsw.hamza.enums.ContentType;
+import com.dgsw.hamza.repository.TreatmentContentRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MediaService 테스트")
+class MediaServiceTest {
+
+    private static final String BODY = "0123456789abcdefghij";
+    private static final Instant MODIFIED = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private TreatmentContentRepository treatmentContentRepository;
+
+    @TempDir
+    Path directory;
+
+    private MediaService mediaService;
+    private Path root;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        root = Files.createDirectories(directory.resolve("media"));
+        Path audio = Files.writeString(root.resolve("audio.mp3"), BODY, StandardCharsets.US_ASCII);
+        Files.setLastModifiedTime(audio, FileTime.from(MODIFIED));
+
+        MediaConfig config = new MediaConfig();
+        config.setRootDirectory(root.toString());
+        config.setThumbnailDirectory(directory.resolve("thumbnails").toString());
+        mediaService = new MediaService(treatmentContentRepository, config);
+    }
+
+    @Test
+    @DisplayName("Range 요청은 206 과 Content-Range 로 해당 구간만 전송")
+    void serve_PartialContent() throws Exception {
+        // given
+        MediaService.MediaFile file = media("audio.mp3");
+        MockHttpServletRequest request = request("GET");
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        mediaService.serve(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 Range 요청은 416 과 전체 크기를 알리는 Content-Range")
+    void serve_RangeNotSatisfiable() throws Exception {
+        // given
+        MediaService.MediaFile file = media("audio.mp3");
+        MockHttpServletRequest request = request("GET");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        mediaService.serve(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 200 전체 응답")
+    void serve_IfRangeMismatch() throws Exception {
+        // given
+        MediaService.MediaFile file = media("audio.mp3");
+        MockHttpServletRequest request = request("GET");
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        mediaService.serve(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 수정 시각과 같으면 Range 적용")
+    void serve_IfRangeDateMatches() throws Exception {
+        // given
+        MediaService.MediaFile file = media("audio.mp3");
+        MockHttpServletRequest request = request("GET");
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+        request.addHeader(HttpHeaders.IF_RANGE, DateTimeFormatter.RFC_1123_DATE_TIME.format(MODIFIED.atZone(ZoneOffset.UTC)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        mediaService.serve(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("hij");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 일치하면 본문 없이 304")
+    void serve_NotModified() throws Exception {
+        // given
+        MediaService.MediaFile file = media("audio.mp3");
+        MockHttpServletRequest request = request("GET");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, file.etag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        mediaService.serve(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(file.etag());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Match 가 다르거나 If-Unmodified-Since 이후에 수정됐으면 412")
+    void serve_PreconditionFailed() throws Exception {
+        // given
+        MediaService.MediaFile file = media("audio.mp3");
+        MockHttpServletRequest ifMatch = request("GET");
+        ifMatch.addHeader(HttpHeaders.IF_MATCH, "\"old\"");
+        MockHttpServletRequest ifUnmodifiedSince = request("GET");
+        ifUnmodifiedSince.addHeader(HttpHeaders.IF_UNMODIFIED_SINCE,
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(MODIFIED.minusSeconds(60).atZone(ZoneOffset.UTC)));
+        MockHttpServletResponse ifMatchResponse = new MockHttpServletResponse();
+        MockHttpServletResponse ifUnmodifiedSinceResponse = new MockHttpServletResponse();
+
+        // when
+        mediaService.serve(file, ifMatch, ifMatchResponse);
+        mediaService.serve(file, ifUnmodifiedSince, ifUnmodifiedSinceResponse);
+
+        // then
+        assertThat(ifMatchResponse.getStatus()).isEqualTo(412);
+        assertThat(ifMatchResponse.getContentAsByteArray()).isEmpty();
+        assertThat(ifUnmodifiedSinceResponse.getStatus()).isEqualTo(412);
+        assertThat(ifUnmodifiedSinceResponse.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Match 가 현재 ETag 와 같으면 전체 응답")
+    void serve_IfMatchSatisfied() throws Exception {
+        // given
+        MediaService.MediaFile file = media("audio.mp3");
+        MockHttpServletRequest request = request("GET");
+        request.addHeader(HttpHeaders.IF_MATCH, "\"other\", " + file.etag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        mediaService.serve(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("HEAD 는 GET 과 같은 헤더를 보내고 본문은 보내지 않음")
+    void serve_HeadWithoutBody() throws Exception {
+        // given
+        MediaService.MediaFile file = media("audio.mp3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        mediaService.serve(file, request("HEAD"), response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(BODY.length());
+        assertThat(response.getContentType()).isEqualTo("audio/mpeg");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(file.etag());
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=86400, public");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기준 디렉터리를 벗어나는 상대 경로는 색인하지 않음")
+    void media_RejectsPathTraversal() throws Exception {
+        // given
+        Files.writeString(directory.resolve("secret.mp3"), "secret");
+        given(treatmentContentRepository.findActiveContents()).willReturn(List.of(
+                content(1L, "../secret.mp3"),
+                content(2L, "/../../secret.mp3")));
+
+        // when
+        mediaService.refresh();
+
+        // then
+        assertThatThrownBy(() -> mediaService.media(1L)).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> mediaService.media(2L)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("기준 디렉터리 밖을 가리키는 심볼릭 링크는 제공하지 않음")
+    void media_RejectsSymlinkEscape() throws Exception {
+        // given
+        Path secret = Files.writeString(directory.resolve("secret.mp3"), "secret");
+        Files.createSymbolicLink(root.resolve("link.mp3"), secret);
+        Files.createSymbolicLink(root.resolve("inside.mp3"), root.resolve("audio.mp3"));
+        given(treatmentContentRepository.findActiveContents()).willReturn(List.of(
+                content(1L, "link.mp3"),
+                content(2L, "inside.mp3")));
+
+        // when
+        mediaService.refresh();
+
+        // then
+        assertThatThrownBy(() -> mediaService.media(1L)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(mediaService.media(2L).path()).isEqualTo(root.resolve("audio.mp3").toRealPath());
+    }
+
+    private MediaService.MediaFile media(String fileUrl) {
+        given(treatmentContentRepository.findActiveContents()).willReturn(List.of(content(1L, fileUrl)));
+        mediaService.refresh();
+        return mediaService.media(1L);
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        return new MockHttpServletRequest(method, "/api/media/1");
+    }
+
+    private static TreatmentContent content(Long id, String fileUrl) {
+        TreatmentContent content = TreatmentContent.builder()
+                .title("호흡 명상")
+                .contentType(ContentType.AUDIO)
+                .fileUrl(fileUrl)
+                .build();
+        content.setId(id);
+        return content;
+    }
+}
@@ -0,0 +1,120 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.entity.DiagnosisQuestion;
+import com.dgsw.hamza.entity.Questionnaire;
+import com.dgsw.hamza.repository.QuestionnaireRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionnaireService 테스트")
+class QuestionnaireServiceTest {
+
+    @Mock
+    private QuestionnaireRepository questionnaireRepository;
+
+    private QuestionnaireService questionnaireService;
+
+    @BeforeEach
+    void setUp() {
+        questionnaireService = new QuestionnaireService(questionnaireRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("DB 가 비어 있으면 기본 설문 정의 등록")
+    @SuppressWarnings("unchecked")
+    void initialize_SeedsWhenEmpty() {
+        // given
+        given(questionnaireRepository.count()).willReturn(0L);
+        ArgumentCaptor<List<Questionnaire>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        questionnaireService.initialize();
+
+        // then
+        verify(questionnaireRepository).saveAll(captor.capture());
+        List<Questionnaire> seeds = captor.getValue();
+        assertThat(seeds).extracting(Questionnaire::getCode).containsExactly("PHQ-9", "GAD-7");
+        assertThat(seeds.get(0).getQuestions()).hasSize(9);
+        assertThat(seeds.get(1).getQuestions()).hasSize(7);
+        assertThat(seeds.get(0).getAnswerOptions()).hasSize(4);
+        assertThat(seeds.get(0).getQuestions().get(0).getQuestionnaire()).isSameAs(seeds.get(0));
+    }
+
+    @Test
+    @DisplayName("활성 정의 중 가장 높은 버전을 현재 버전으로 제공하고 이전 버전도 유지")
+    void current_LatestActiveVersion() {
+        // given
+        given(questionnaireRepository.count()).willReturn(3L);
+        given(questionnaireRepository.findAllWithQuestions()).willReturn(List.of(
+                phq9(1, true, 1L, "첫 번째 문항"),
+                phq9(2, true, 11L, "개정된 문항"),
+                phq9(3, false, 21L, "작성 중인 문항")));
+
+        // when
+        questionnaireService.initialize();
+
+        // then
+        QuestionnaireService.CachedBody current = questionnaireService.current("phq-9");
+        assertThat(new String(current.body(), StandardCharsets.UTF_8)).contains("개정된 문항");
+        assertThat(current.respond(null).getHeaders().getCacheControl())
+                .isEqualTo(QuestionnaireService.CURRENT_CACHE_CONTROL);
+        assertThat(new String(questionnaireService.version("PHQ-9", 1).body(), StandardCharsets.UTF_8))
+                .contains("첫 번째 문항");
+        assertThat(questionnaireService.version("PHQ-9", 1).respond(null).getHeaders().getCacheControl())
+                .isEqualTo(QuestionnaireService.VERSIONED_CACHE_CONTROL);
+        assertThat(questionnaireService.questionIds(QuestionnaireService.PHQ9)).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("같은 응답 객체를 재사용하고 ETag 가 일치하면 304")
+    void respond_ReusesResponseAndNotModified() {
+        // given
+        given(questionnaireRepository.count()).willReturn(1L);
+        given(questionnaireRepository.findAllWithQuestions()).willReturn(List.of(phq9(1, true, 1L, "첫 번째 문항")));
+        questionnaireService.initialize();
+
+        // when
+        ResponseEntity<byte[]> first = questionnaireService.phq9Questions().respond(null);
+        ResponseEntity<byte[]> second = questionnaireService.phq9Questions().respond(null);
+        ResponseEntity<byte[]> notModified = questionnaireService.phq9Questions().respond(first.getHeaders().getETag());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+    }
+
+    private Questionnaire phq9(int version, boolean active, Long questionId, String questionText) {
+        Questionnaire questionnaire = Questionnaire.builder()
+                .code(QuestionnaireService.PHQ9)
+                .version(version)
+                .title("우울 선별 검사 (PHQ-9)")
+                .isActive(active)
+                .build();
+        questionnaire.getAnswerOptions().add(new Questionnaire.AnswerOption("전혀 없음", 0));
+        DiagnosisQuestion question = DiagnosisQuestion.builder()
+                .questionText(questionText)
+                .questionOrder(1)
+                .build();
+        question.setId(questionId);
+        questionnaire.addQuestion(question);
+        return questionnaire;
+    }
+}
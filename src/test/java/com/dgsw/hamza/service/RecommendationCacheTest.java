@@ -0,0 +1,154 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.RecommendationDto;
+import com.dgsw.hamza.dto.TreatmentDto;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.RecommendationPriority;
+import com.dgsw.hamza.enums.TreatmentType;
+import com.dgsw.hamza.event.UserTreatmentChangedEvent;
+import com.dgsw.hamza.util.TreatmentCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationCache 테스트")
+class RecommendationCacheTest {
+
+    @Mock
+    private TreatmentCatalogService treatmentCatalogService;
+
+    @Mock
+    private TreatmentSimilarityService treatmentSimilarityService;
+
+    private RecommendationCache recommendationCache;
+
+    private final RecommendationDto.RecommendationRequest request =
+            RecommendationDto.RecommendationRequest.builder().diagnosisId(10L).build();
+
+    @BeforeEach
+    void setUp() {
+        recommendationCache = new RecommendationCache(treatmentCatalogService, treatmentSimilarityService,
+                new SimpleMeterRegistry());
+        given(treatmentCatalogService.current()).willReturn(TreatmentCatalog.of(List.of(), 1L));
+    }
+
+    @Test
+    @DisplayName("저장 후 원본 DTO 를 수정해도 캐시 응답은 바뀌지 않고, 조회마다 새 응답과 조회 시각을 반환")
+    void get_ReturnsIsolatedCopy() {
+        // given
+        given(treatmentSimilarityService.version()).willReturn(1L);
+        LocalDateTime generatedAt = LocalDateTime.now().minusHours(1);
+        RecommendationDto.RecommendationResponse response = response(generatedAt);
+        recommendationCache.put(1L, request, recommendationCache.version(1L), response);
+
+        // when
+        response.getRecommendations().get(0).getTreatment().setName("변경됨");
+        response.getRecommendations().clear();
+        response.setStatus("COMPLETED");
+        RecommendationDto.RecommendationResponse first = recommendationCache.get(1L, request);
+        RecommendationDto.RecommendationResponse second = recommendationCache.get(1L, request);
+
+        // then
+        assertThat(first).isNotSameAs(response).isNotSameAs(second);
+        assertThat(first.getStatus()).isEqualTo("PENDING");
+        assertThat(first.getRecommendations()).hasSize(1);
+        assertThat(first.getRecommendations().get(0).getTreatment().getName()).isEqualTo("인지행동치료");
+        assertThat(first.getRecommendationDate()).isAfter(generatedAt);
+
+        first.getRecommendations().clear();
+        assertThat(second.getRecommendations()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("유사도 행렬이 다시 만들어지면 캐시된 응답을 버림")
+    void get_DiscardsWhenSimilarityMatrixRebuilt() {
+        // given
+        given(treatmentSimilarityService.version()).willReturn(1L, 1L, 2L);
+        recommendationCache.put(1L, request, recommendationCache.version(1L), response(LocalDateTime.now()));
+
+        // when
+        RecommendationDto.RecommendationResponse cached = recommendationCache.get(1L, request);
+
+        // then
+        assertThat(cached).isNull();
+    }
+
+    @Test
+    @DisplayName("계산 중 유사도 행렬이 바뀌면 저장하지 않음")
+    void put_SkipsWhenSimilarityMatrixChangedDuringCalculation() {
+        // given
+        given(treatmentSimilarityService.version()).willReturn(1L, 2L);
+        RecommendationCache.Version version = recommendationCache.version(1L);
+
+        // when
+        recommendationCache.put(1L, request, version, response(LocalDateTime.now()));
+
+        // then
+        assertThat(recommendationCache.get(1L, request)).isNull();
+    }
+
+    @Test
+    @DisplayName("치료법 카탈로그 스냅샷이 교체되면 캐시된 응답을 버림")
+    void get_DiscardsWhenCatalogSnapshotReplaced() {
+        // given
+        given(treatmentSimilarityService.version()).willReturn(1L);
+        recommendationCache.put(1L, request, recommendationCache.version(1L), response(LocalDateTime.now()));
+        given(treatmentCatalogService.current()).willReturn(TreatmentCatalog.of(List.of(), 2L));
+
+        // when
+        RecommendationDto.RecommendationResponse cached = recommendationCache.get(1L, request);
+
+        // then
+        assertThat(cached).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 데이터가 바뀐 뒤 끝난 계산 결과는 저장하지 않음")
+    void put_SkipsWhenUserChangedDuringCalculation() {
+        // given
+        given(treatmentSimilarityService.version()).willReturn(1L);
+        RecommendationCache.Version version = recommendationCache.version(1L);
+        recommendationCache.onUserTreatmentChanged(
+                new UserTreatmentChangedEvent(1L, UserTreatmentChangedEvent.Cause.PROGRESS_CHANGED));
+
+        // when
+        recommendationCache.put(1L, request, version, response(LocalDateTime.now()));
+
+        // then
+        assertThat(recommendationCache.get(1L, request)).isNull();
+        assertThat(recommendationCache.size()).isZero();
+    }
+
+    private RecommendationDto.RecommendationResponse response(LocalDateTime recommendationDate) {
+        RecommendationDto.TreatmentRecommendationInfo info = RecommendationDto.TreatmentRecommendationInfo.builder()
+                .treatment(TreatmentDto.TreatmentInfo.builder()
+                        .treatmentId(100L)
+                        .name("인지행동치료")
+                        .type(TreatmentType.CBT)
+                        .build())
+                .recommendationScore(0.8)
+                .priority(RecommendationPriority.HIGH)
+                .build();
+        return RecommendationDto.RecommendationResponse.builder()
+                .diagnosisId(10L)
+                .diagnosisSeverity(DiagnosisSeverity.MODERATE)
+                .recommendations(new ArrayList<>(List.of(info)))
+                .recommendationDate(recommendationDate)
+                .status("PENDING")
+                .totalRecommendations(1)
+                .hasUrgentRecommendations(false)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.entity.RecommendationCounter;
+import com.dgsw.hamza.entity.User;
+import com.dgsw.hamza.enums.RecommendationStatus;
+import com.dgsw.hamza.repository.RecommendationCounterRepository;
+import com.dgsw.hamza.repository.RecommendationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationCounterService 테스트")
+class RecommendationCounterServiceTest {
+
+    @Mock
+    private RecommendationCounterRepository recommendationCounterRepository;
+
+    @Mock
+    private RecommendationRepository recommendationRepository;
+
+    @InjectMocks
+    private RecommendationCounterService recommendationCounterService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 빈 행을 만든 뒤 잠그고 추천 기록으로 채움")
+    void lockForUpdate_CreatesAndRestoresRow() {
+        // given
+        RecommendationCounter created = new RecommendationCounter(1L);
+        given(recommendationCounterRepository.findByUserIdForUpdate(1L))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(created));
+        given(recommendationCounterRepository.insertIfAbsent(1L)).willReturn(1);
+        given(recommendationRepository.countByStatus(testUser))
+                .willReturn(List.<Object[]>of(new Object[]{RecommendationStatus.PENDING, 3L}));
+
+        // when
+        RecommendationCounter result = recommendationCounterService.lockForUpdate(testUser);
+
+        // then
+        assertThat(result).isSameAs(created);
+        assertThat(result.count(RecommendationStatus.PENDING)).isEqualTo(3);
+        verify(recommendationCounterRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("동시 첫 요청에서 다른 트랜잭션이 먼저 만든 행은 재구성 없이 잠금")
+    void lockForUpdate_ConcurrentFirstRequest() {
+        // given
+        RecommendationCounter restoredByOther = new RecommendationCounter(1L);
+        restoredByOther.add(RecommendationStatus.PENDING, 2);
+        given(recommendationCounterRepository.findByUserIdForUpdate(1L))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(restoredByOther));
+        given(recommendationCounterRepository.insertIfAbsent(1L)).willReturn(0);
+
+        // when
+        RecommendationCounter result = recommendationCounterService.lockForUpdate(testUser);
+
+        // then
+        assertThat(result).isSameAs(restoredByOther);
+        assertThat(result.count(RecommendationStatus.PENDING)).isEqualTo(2);
+        verifyNoInteractions(recommendationRepository);
+    }
+}
@@ -0,0 +1,225 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.dto.RecommendationDto;
+import com.dgsw.hamza.entity.Diagnosis;
+import com.dgsw.hamza.entity.Recommendation;
+import com.dgsw.hamza.entity.RecommendationCounter;
+import com.dgsw.hamza.entity.Treatment;
+import com.dgsw.hamza.entity.User;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.DifficultyLevel;
+import com.dgsw.hamza.enums.RecommendationStatus;
+import com.dgsw.hamza.enums.TreatmentType;
+import com.dgsw.hamza.event.TreatmentEngagementEvent;
+import com.dgsw.hamza.event.UserTreatmentChangedEvent;
+import com.dgsw.hamza.repository.DiagnosisRepository;
+import com.dgsw.hamza.repository.RecommendationJdbcRepository;
+import com.dgsw.hamza.repository.RecommendationRepository;
+import com.dgsw.hamza.util.RecommendationEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationService 테스트")
+class RecommendationServiceTest {
+
+    @Mock
+    private DiagnosisRepository diagnosisRepository;
+
+    @Mock
+    private TreatmentRankingService treatmentRankingService;
+
+    @Mock
+    private RecommendationRepository recommendationRepository;
+
+    @Mock
+    private RecommendationJdbcRepository recommendationJdbcRepository;
+
+    @Mock
+    private RecommendationCounterService recommendationCounterService;
+
+    @Mock
+    private TreatmentSimilarityService treatmentSimilarityService;
+
+    @Mock
+    private RecommendationCache recommendationCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RecommendationService recommendationService;
+
+    private User testUser;
+    private Diagnosis diagnosis;
+    private RecommendationCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        diagnosis = Diagnosis.builder()
+                .user(testUser)
+                .totalScore(12)
+                .severity(DiagnosisSeverity.MODERATE)
+                .diagnosisDate(LocalDateTime.now())
+                .isCompleted(true)
+                .build();
+        diagnosis.setId(10L);
+        counter = new RecommendationCounter(1L);
+    }
+
+    @Test
+    @DisplayName("진단에 아직 없는 추천만 일괄 저장하고 대기 수 증가")
+    @SuppressWarnings("unchecked")
+    void generateRecommendations_SavesOnlyNewRecommendations() {
+        // given
+        Treatment cbt = treatment(100L, "인지행동치료", TreatmentType.CBT);
+        Treatment meditation = treatment(101L, "집중 명상", TreatmentType.MEDITATION);
+        List<RecommendationEngine.TreatmentRecommendation> ranked =
+                RecommendationEngine.recommendTreatments(DiagnosisSeverity.MODERATE, List.of(cbt, meditation));
+        RecommendationCache.Version version = new RecommendationCache.Version(3L, 2L, 0L);
+        given(recommendationCache.version(1L)).willReturn(version);
+        given(diagnosisRepository.findById(10L)).willReturn(Optional.of(diagnosis));
+        given(treatmentSimilarityService.isAvailable()).willReturn(false);
+        given(treatmentRankingService.top(DiagnosisSeverity.MODERATE, 5)).willReturn(ranked);
+        given(recommendationCounterService.lockForUpdate(testUser)).willReturn(counter);
+        given(recommendationRepository.findTreatmentIdsByDiagnosis(diagnosis)).willReturn(List.of(100L));
+
+        // when
+        RecommendationDto.RecommendationResponse response = recommendationService.generateRecommendations(testUser,
+                RecommendationDto.RecommendationRequest.builder().diagnosisId(10L).build());
+
+        // then
+        assertThat(response.getTotalRecommendations()).isEqualTo(2);
+        assertThat(response.getRecommendations().get(0).getTreatment().getTreatmentId()).isEqualTo(100L);
+
+        ArgumentCaptor<List<Recommendation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(recommendationJdbcRepository).batchInsert(captor.capture());
+        assertThat(captor.getValue()).extracting(rec -> rec.getTreatment().getId()).containsExactly(101L);
+        assertThat(counter.count(RecommendationStatus.PENDING)).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new TreatmentEngagementEvent(List.of(101L),
+                TreatmentEngagementEvent.Engagement.RECOMMENDED));
+        verify(recommendationCache).put(eq(1L), any(), eq(version), eq(response));
+    }
+
+    @Test
+    @DisplayName("캐시된 추천은 진단 조회와 계산 없이 반환")
+    void generateRecommendations_ReturnsCachedResponse() {
+        // given
+        RecommendationDto.RecommendationRequest request =
+                RecommendationDto.RecommendationRequest.builder().diagnosisId(10L).build();
+        RecommendationDto.RecommendationResponse cached =
+                RecommendationDto.RecommendationResponse.builder().diagnosisId(10L).build();
+        given(recommendationCache.get(1L, request)).willReturn(cached);
+
+        // when
+        RecommendationDto.RecommendationResponse response = recommendationService.generateRecommendations(testUser, request);
+
+        // then
+        assertThat(response).isSameAs(cached);
+        verifyNoInteractions(diagnosisRepository, treatmentRankingService, recommendationJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("상태 변경 시 사용자 집계도 함께 이동")
+    void updateRecommendationStatus_MovesCounter() {
+        // given
+        counter.add(RecommendationStatus.PENDING, 2);
+        Recommendation recommendation = Recommendation.builder()
+                .user(testUser)
+                .diagnosis(diagnosis)
+                .treatment(treatment(100L, "인지행동치료", TreatmentType.CBT))
+                .recommendedDate(LocalDateTime.now())
+                .build();
+        given(recommendationCounterService.lockForUpdate(testUser)).willReturn(counter);
+        given(recommendationRepository.findByIdAndUser(5L, testUser)).willReturn(Optional.of(recommendation));
+
+        // when
+        recommendationService.updateRecommendationStatus(testUser, RecommendationDto.RecommendationUpdateRequest.builder()
+                .recommendationId(5L)
+                .status("STARTED")
+                .feedback("도움이 되었습니다.")
+                .build());
+
+        // then
+        assertThat(recommendation.getStatus()).isEqualTo(RecommendationStatus.ACTIVE);
+        assertThat(recommendation.getNotes()).isEqualTo("도움이 되었습니다.");
+        assertThat(counter.count(RecommendationStatus.PENDING)).isEqualTo(1);
+        assertThat(counter.count(RecommendationStatus.ACTIVE)).isEqualTo(1);
+        verify(eventPublisher).publishEvent(any(UserTreatmentChangedEvent.class));
+        verify(eventPublisher).publishEvent(new TreatmentEngagementEvent(100L, TreatmentEngagementEvent.Engagement.STARTED));
+    }
+
+    @Test
+    @DisplayName("종료된 추천은 상태를 바꿀 수 없음")
+    void updateRecommendationStatus_RejectsFinishedRecommendation() {
+        // given
+        Recommendation recommendation = Recommendation.builder()
+                .user(testUser)
+                .diagnosis(diagnosis)
+                .recommendedDate(LocalDateTime.now())
+                .build();
+        recommendation.complete();
+        given(recommendationCounterService.lockForUpdate(testUser)).willReturn(counter);
+        given(recommendationRepository.findByIdAndUser(5L, testUser)).willReturn(Optional.of(recommendation));
+
+        // when & then
+        assertThatThrownBy(() -> recommendationService.updateRecommendationStatus(testUser,
+                RecommendationDto.RecommendationUpdateRequest.builder().recommendationId(5L).status("PAUSED").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("추천 통계는 사용자 집계 행에서 계산")
+    void getRecommendationStats_ReadsCounter() {
+        // given
+        counter.restore(Map.of(
+                RecommendationStatus.PENDING, 2,
+                RecommendationStatus.ACTIVE, 1,
+                RecommendationStatus.COMPLETED, 1));
+        given(recommendationCounterService.find(testUser)).willReturn(counter);
+        given(recommendationRepository.findTypeStatsByUser(testUser)).willReturn(List.of());
+
+        // when
+        RecommendationDto.RecommendationStats stats = recommendationService.getRecommendationStats(testUser);
+
+        // then
+        assertThat(stats.getTotalRecommendations()).isEqualTo(4);
+        assertThat(stats.getExecutedRecommendations()).isEqualTo(2);
+        assertThat(stats.getCompletedRecommendations()).isEqualTo(1);
+        assertThat(stats.getExecutionRate()).isEqualTo(50.0);
+        assertThat(stats.getCompletionRate()).isEqualTo(25.0);
+    }
+
+    private Treatment treatment(Long id, String name, TreatmentType type) {
+        Treatment treatment = Treatment.builder()
+                .name(name)
+                .type(type)
+                .difficultyLevel(DifficultyLevel.BEGINNER)
+                .durationMinutes(20)
+                .build();
+        treatment.setId(id);
+        return treatment;
+    }
+}
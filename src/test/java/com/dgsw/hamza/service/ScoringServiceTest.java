@@ -0,0 +1,51 @@
+package com.dgsw.hamza.service;
+
+import com.dgsw.hamza.config.DiagnosisScoringConfig;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.util.ScoringModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScoringService 테스트")
+class ScoringServiceTest {
+
+    @Test
+    @DisplayName("설정한 설문 도구마다 채점표를 만들고 코드로 조회")
+    void model_CompilesEachConfiguredInstrument() {
+        // given
+        DiagnosisScoringConfig.Instrument gad7 = new DiagnosisScoringConfig.Instrument();
+        gad7.setItems(7);
+        gad7.setThresholds(new LinkedHashMap<>(Map.of("normal", 4, "mild", 9, "moderate", 14, "severe", 21)));
+        DiagnosisScoringConfig config = new DiagnosisScoringConfig();
+        config.getInstruments().put("GAD-7", gad7);
+
+        // when
+        ScoringService scoringService = new ScoringService(config);
+        ScoringModel model = scoringService.model("gad-7");
+
+        // then
+        assertThat(model.code).isEqualTo("GAD-7");
+        assertThat(model.itemCount).isEqualTo(7);
+        assertThat(model.severity(15)).isEqualTo(DiagnosisSeverity.SEVERE);
+        assertThat(scoringService.model(QuestionnaireService.PHQ9)).isSameAs(scoringService.phq9());
+        assertThat(scoringService.phq9().itemCount).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("채점표가 없는 설문 도구는 IllegalArgumentException")
+    void model_UnknownInstrument() {
+        // given
+        ScoringService scoringService = new ScoringService(new DiagnosisScoringConfig());
+
+        // when & then
+        assertThatThrownBy(() -> scoringService.model("BDI"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("BDI");
+    }
+}
@@ -0,0 +1,127 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AddressIndex 테스트")
+class AddressIndexTest {
+
+    private static AddressIndex addressIndex;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        try (InputStream inputStream = AddressIndexTest.class.getClassLoader()
+                .getResourceAsStream("geo/kr-address-index.tsv")) {
+            addressIndex = AddressIndex.load(inputStream);
+        }
+    }
+
+    @Test
+    @DisplayName("도로명 주소 - 도로명 단위 매칭")
+    void lookup_RoadAddress() {
+        // when
+        GeocodeResult result = addressIndex.lookup("서울특별시 강남구 테헤란로 152");
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.precision()).isEqualTo(GeocodeResult.Precision.ROAD);
+        assertThat(result.formattedAddress()).isEqualTo("서울특별시 강남구 테헤란로");
+        assertThat(result.latitude()).isBetween(37.49, 37.52);
+    }
+
+    @Test
+    @DisplayName("번호 도로명은 상위 도로명으로 매칭")
+    void lookup_NumberedRoad() {
+        // when
+        GeocodeResult result = addressIndex.lookup("서울 송파구 올림픽로43길 88");
+
+        // then
+        assertThat(result.precision()).isEqualTo(GeocodeResult.Precision.ROAD);
+        assertThat(result.formattedAddress()).isEqualTo("서울특별시 송파구 올림픽로");
+    }
+
+    @Test
+    @DisplayName("지번 주소 - 동 단위 매칭")
+    void lookup_LotAddress() {
+        // when
+        GeocodeResult result = addressIndex.lookup("서울시 종로구 혜화동 1-1");
+
+        // then
+        assertThat(result.precision()).isEqualTo(GeocodeResult.Precision.DONG);
+        assertThat(result.formattedAddress()).isEqualTo("서울특별시 종로구 혜화동");
+    }
+
+    @Test
+    @DisplayName("같은 이름의 구는 시/도가 있어야 구분")
+    void lookup_AmbiguousSigungu() {
+        // when
+        GeocodeResult busan = addressIndex.lookup("부산광역시 중구");
+        GeocodeResult unknown = addressIndex.lookup("중구");
+
+        // then
+        assertThat(busan.precision()).isEqualTo(GeocodeResult.Precision.SIGUNGU);
+        assertThat(busan.formattedAddress()).isEqualTo("부산광역시 중구");
+        assertThat(unknown).isNull();
+    }
+
+    @Test
+    @DisplayName("시/도가 없어도 고유한 시/군/구는 매칭")
+    void lookup_WithoutSido() {
+        // when
+        GeocodeResult result = addressIndex.lookup("분당구 정자동 178");
+
+        // then
+        assertThat(result.precision()).isEqualTo(GeocodeResult.Precision.DONG);
+        assertThat(result.formattedAddress()).isEqualTo("경기도 성남시 분당구 정자동");
+    }
+
+    @Test
+    @DisplayName("시/도가 생략된 지역명 - 유일한 시/군/구만 시/도 보완")
+    void resolveRegion() {
+        // when
+        KoreanAddressParser.AddressComponents gangnam = addressIndex.resolveRegion(KoreanAddressParser.parse("강남구"));
+        KoreanAddressParser.AddressComponents junggu = addressIndex.resolveRegion(KoreanAddressParser.parse("중구"));
+
+        // then
+        assertThat(gangnam.sido).isEqualTo("서울특별시");
+        assertThat(gangnam.sigungu).isEqualTo("강남구");
+        assertThat(junggu.sido).isNull();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 주소")
+    void lookup_Unknown() {
+        // when & then
+        assertThat(addressIndex.lookup("아무 데도 없는 곳")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 저장 후 복원")
+    void cache_SaveAndLoad(@TempDir Path tempDir) throws Exception {
+        // given
+        GeocodeCache cache = new GeocodeCache(2);
+        cache.put("서울 종로구 혜화동", addressIndex.lookup("서울 종로구 혜화동"));
+        cache.put("서울 강남구 역삼동", addressIndex.lookup("서울 강남구 역삼동"));
+        cache.get("서울 종로구 혜화동");
+        cache.put("부산 해운대구 우동", addressIndex.lookup("부산 해운대구 우동"));
+
+        // when
+        Path file = tempDir.resolve("geocode-cache.tsv");
+        cache.save(file);
+        GeocodeCache restored = new GeocodeCache(10);
+        int loaded = restored.load(file);
+
+        // then
+        assertThat(loaded).isEqualTo(2);
+        assertThat(restored.get("서울  종로구 혜화동")).isNotNull();
+        assertThat(restored.get("서울 강남구 역삼동")).isNull();
+        assertThat(restored.get("부산 해운대구 우동").precision()).isEqualTo(GeocodeResult.Precision.DONG);
+    }
+}
@@ -0,0 +1,58 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ByteRange 테스트")
+class ByteRangeTest {
+
+    private static final long LENGTH = 1_000L;
+
+    @Test
+    @DisplayName("시작-끝, 열린 끝, 마지막 N 바이트 구간 해석")
+    void parse_SingleRangeForms() {
+        // then
+        assertThat(ByteRange.parse("bytes=0-99", LENGTH)).isEqualTo(new ByteRange(0, 99));
+        assertThat(ByteRange.parse("bytes=500-", LENGTH)).isEqualTo(new ByteRange(500, 999));
+        assertThat(ByteRange.parse("bytes=-200", LENGTH)).isEqualTo(new ByteRange(800, 999));
+        assertThat(ByteRange.parse("BYTES= 10 - 19 ", LENGTH)).isEqualTo(new ByteRange(10, 19));
+    }
+
+    @Test
+    @DisplayName("파일 크기를 넘는 끝과 접미 길이는 파일 끝으로 맞춤")
+    void parse_ClampsToFileLength() {
+        // when
+        ByteRange range = ByteRange.parse("bytes=900-99999999999999999999999", LENGTH);
+
+        // then
+        assertThat(range).isEqualTo(new ByteRange(900, 999));
+        assertThat(range.length()).isEqualTo(100L);
+        assertThat(range.contentRange(LENGTH)).isEqualTo("bytes 900-999/1000");
+        assertThat(ByteRange.parse("bytes=-5000", LENGTH)).isEqualTo(new ByteRange(0, 999));
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어나면 416 대상")
+    void parse_UnsatisfiableRanges() {
+        // then
+        assertThat(ByteRange.parse("bytes=1000-", LENGTH)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=-0", LENGTH)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=0-", 0L)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.UNSATISFIABLE.isSatisfiable()).isFalse();
+        assertThat(ByteRange.unsatisfiedRange(LENGTH)).isEqualTo("bytes */1000");
+    }
+
+    @Test
+    @DisplayName("형식 오류와 다중 구간은 Range 를 무시하고 전체 응답")
+    void parse_IgnoresInvalidOrMultipleRanges() {
+        // then
+        assertThat(ByteRange.parse(null, LENGTH)).isNull();
+        assertThat(ByteRange.parse("items=0-10", LENGTH)).isNull();
+        assertThat(ByteRange.parse("bytes=10-5", LENGTH)).isNull();
+        assertThat(ByteRange.parse("bytes=abc-", LENGTH)).isNull();
+        assertThat(ByteRange.parse("bytes=+1-2", LENGTH)).isNull();
+        assertThat(ByteRange.parse("bytes=0-10,20-30", LENGTH)).isNull();
+    }
+}
@@ -0,0 +1,56 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.enums.Catalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CatalogVersions 테스트")
+class CatalogVersionsTest {
+
+    @Test
+    @DisplayName("버전이 바뀐 카탈로그의 ETag 만 변경")
+    void etag_ChangesOnlyForBumpedCatalog() {
+        // given
+        CatalogVersions versions = new CatalogVersions(1_000L);
+        String treatments = versions.etag(Catalog.TREATMENTS, -1);
+        String hospitals = versions.etag(Catalog.HOSPITALS, -1);
+
+        // when
+        versions.bump(Catalog.TREATMENTS);
+
+        // then
+        assertThat(versions.etag(Catalog.TREATMENTS, -1)).isNotEqualTo(treatments);
+        assertThat(versions.etag(Catalog.HOSPITALS, -1)).isEqualTo(hospitals);
+        assertThat(versions.version(Catalog.TREATMENTS)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("재기동 또는 시간 구간이 다르면 ETag 가 다름")
+    void etag_DiffersByEpochAndBucket() {
+        // given
+        CatalogVersions before = new CatalogVersions(1_000L);
+        CatalogVersions after = new CatalogVersions(2_000L);
+
+        // when & then
+        assertThat(before.etag(Catalog.GUIDES, -1)).isNotEqualTo(after.etag(Catalog.GUIDES, -1));
+        assertThat(before.etag(Catalog.HOSPITALS, 10)).isNotEqualTo(before.etag(Catalog.HOSPITALS, 11));
+        assertThat(before.etag(Catalog.GUIDES, -1)).startsWith("\"guides-");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 목록, 와일드카드, 약한 비교 접두사 처리")
+    void matches() {
+        // given
+        String etag = "\"treatments-rs-3\"";
+
+        // when & then
+        assertThat(CatalogVersions.matches(etag, etag)).isTrue();
+        assertThat(CatalogVersions.matches("\"other\", " + etag, etag)).isTrue();
+        assertThat(CatalogVersions.matches("W/" + etag, etag)).isTrue();
+        assertThat(CatalogVersions.matches("*", etag)).isTrue();
+        assertThat(CatalogVersions.matches("\"treatments-rs-2\"", etag)).isFalse();
+        assertThat(CatalogVersions.matches(null, etag)).isFalse();
+    }
+}
@@ -0,0 +1,99 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("DecayingPopularity 테스트")
+class DecayingPopularityTest {
+
+    private static final long HALF_LIFE = 1_000L;
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반")
+    void score_HalvesEveryHalfLife() {
+        // given
+        DecayingPopularity popularity = new DecayingPopularity(HALF_LIFE, 0L);
+
+        // when
+        popularity.add(1L, 8.0, 0L);
+
+        // then
+        assertThat(popularity.score(1L, 0L)).isCloseTo(8.0, within(1e-9));
+        assertThat(popularity.score(1L, HALF_LIFE)).isCloseTo(4.0, within(1e-9));
+        assertThat(popularity.score(1L, 3 * HALF_LIFE)).isCloseTo(1.0, within(1e-9));
+        assertThat(popularity.score(2L, 0L)).isZero();
+    }
+
+    @Test
+    @DisplayName("최근 이벤트가 오래된 같은 가중치 이벤트보다 앞섬")
+    void top_PrefersRecentEvents() {
+        // given
+        DecayingPopularity popularity = new DecayingPopularity(HALF_LIFE, 0L);
+        popularity.add(1L, 3.0, 0L);
+        popularity.add(2L, 2.0, 0L);
+        assertThat(popularity.top(10)).containsExactly(1L, 2L);
+
+        // when
+        popularity.add(3L, 3.0, 2 * HALF_LIFE);
+
+        // then
+        assertThat(popularity.top(10)).containsExactly(3L, 1L, 2L);
+        assertThat(popularity.top(1)).containsExactly(3L);
+        assertThat(popularity.top(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮겨도 점수와 순위 유지")
+    void add_RescalesFarFutureEvents() {
+        // given
+        DecayingPopularity popularity = new DecayingPopularity(HALF_LIFE, 0L);
+        popularity.add(1L, 1.0, 0L);
+        long later = 100 * HALF_LIFE;
+
+        // when
+        popularity.add(2L, 1.0, later);
+        popularity.add(1L, 2.0, later);
+
+        // then
+        assertThat(popularity.score(1L, later)).isCloseTo(2.0, within(1e-9));
+        assertThat(popularity.score(2L, later + HALF_LIFE)).isCloseTo(0.5, within(1e-9));
+        assertThat(popularity.top(2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("저장 후 복원하면 꺼져 있던 시간만큼 감쇠")
+    void saveAndLoad_AppliesDecaySinceSnapshot(@TempDir Path tempDir) throws Exception {
+        // given
+        DecayingPopularity popularity = new DecayingPopularity(HALF_LIFE, 0L);
+        popularity.add(1L, 4.0, 0L);
+        popularity.add(2L, 2.0, 0L);
+        Path file = tempDir.resolve("treatment-popularity.tsv");
+
+        // when
+        popularity.save(file, HALF_LIFE);
+        DecayingPopularity restored = new DecayingPopularity(HALF_LIFE, 5 * HALF_LIFE);
+        int loaded = restored.load(file);
+
+        // then
+        assertThat(popularity.isDirty()).isFalse();
+        assertThat(loaded).isEqualTo(2);
+        assertThat(restored.isDirty()).isFalse();
+        assertThat(restored.score(1L, 2 * HALF_LIFE)).isCloseTo(1.0, within(1e-9));
+        assertThat(restored.top(10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("반감기는 0보다 커야 함")
+    void constructor_RejectsNonPositiveHalfLife() {
+        // when & then
+        assertThatThrownBy(() -> new DecayingPopularity(0L, 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
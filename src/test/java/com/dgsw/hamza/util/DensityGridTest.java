@@ -0,0 +1,104 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("DensityGrid 테스트")
+class DensityGridTest {
+
+    private DensityGrid densityGrid;
+
+    @BeforeEach
+    void setUp() {
+        densityGrid = new DensityGrid();
+        densityGrid.upsert(1L, 37.5665, 126.9780, "정신건강의학과", true, 4.0);
+        densityGrid.upsert(2L, 37.5700, 126.9820, "정신건강의학과", false, 5.0);
+        densityGrid.upsert(3L, 37.5010, 127.0390, "심리상담", false, null);
+        densityGrid.upsert(4L, 35.1796, 129.0756, "정신건강의학과", true, 3.0);
+    }
+
+    @Test
+    @DisplayName("영역 합산 - 진료과, 응급, 평균 평점")
+    void summarize_Seoul() {
+        // when
+        DensityGrid.Summary summary = densityGrid.summarize(37.4, 126.8, 37.7, 127.2, 2);
+
+        // then
+        assertThat(summary.count).isEqualTo(3);
+        assertThat(summary.emergencyCount).isEqualTo(1);
+        assertThat(summary.departments.get("정신건강의학과")).isEqualTo(2L);
+        assertThat(summary.departments.get("심리상담")).isEqualTo(1L);
+        assertThat(summary.averageRating()).isCloseTo(4.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("모든 레벨에서 전체 합계가 동일")
+    void summarize_AllLevelsConsistent() {
+        for (int level = 0; level < DensityGrid.CELL_SIZES.length; level++) {
+            // when
+            DensityGrid.Summary summary = densityGrid.summarize(30, 120, 40, 135, level);
+
+            // then
+            assertThat(summary.count).isEqualTo(4);
+            assertThat(summary.emergencyCount).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("갱신 시 이전 기여분을 제거하고 새 위치에 반영")
+    void upsert_MovesHospital() {
+        // when
+        densityGrid.upsert(2L, 35.1800, 129.0760, "심리상담", true, 1.0);
+
+        // then
+        DensityGrid.Summary seoul = densityGrid.summarize(37.4, 126.8, 37.7, 127.2, 2);
+        DensityGrid.Summary busan = densityGrid.summarize(35.0, 128.9, 35.3, 129.2, 2);
+        assertThat(seoul.count).isEqualTo(2);
+        assertThat(seoul.departments.get("심리상담")).isEqualTo(1L);
+        assertThat(seoul.averageRating()).isCloseTo(4.0, within(1e-9));
+        assertThat(busan.count).isEqualTo(2);
+        assertThat(busan.emergencyCount).isEqualTo(2);
+        assertThat(densityGrid.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("삭제 후 빈 셀은 히트맵에서 제외")
+    void remove_DropsEmptyCells() {
+        // when
+        densityGrid.remove(4L);
+        densityGrid.remove(99L);
+
+        // then
+        List<DensityGrid.CellView> cells = densityGrid.cells(34, 128, 36, 130, 1);
+        assertThat(cells).isEmpty();
+        assertThat(densityGrid.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("히트맵 셀은 셀 중심 좌표와 집계값을 가짐")
+    void cells_Heatmap() {
+        // when
+        List<DensityGrid.CellView> cells = densityGrid.cells(37.4, 126.8, 37.7, 127.2, 0);
+
+        // then
+        int total = cells.stream().mapToInt(cell -> cell.count).sum();
+        assertThat(total).isEqualTo(3);
+        for (DensityGrid.CellView cell : cells) {
+            assertThat(cell.latitude).isBetween(37.4, 37.7);
+            assertThat(cell.longitude).isBetween(126.8, 127.2);
+        }
+    }
+
+    @Test
+    @DisplayName("넓은 영역은 거친 레벨 선택")
+    void chooseLevel() {
+        assertThat(DensityGrid.chooseLevel(37.5, 126.9, 37.6, 127.0)).isEqualTo(2);
+        assertThat(DensityGrid.chooseLevel(33, 124, 39, 132)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HaversineKernel 테스트")
+class HaversineKernelTest {
+
+    @Test
+    @DisplayName("배치 계산 결과가 단건 계산과 일치")
+    void distances_MatchScalarFormula() {
+        // given
+        Random random = new Random(42);
+        int size = 1003; // SIMD 레인 수의 배수가 아닌 길이로 나머지 구간까지 검증
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 33 + random.nextDouble() * 5;
+            lons[i] = 125 + random.nextDouble() * 5;
+        }
+        CoordinateBuffer buffer = new CoordinateBuffer(lats, lons);
+
+        // when
+        double[] distances = HaversineKernel.distances(37.5665, 126.9780, buffer);
+
+        // then
+        for (int i = 0; i < size; i++) {
+            double expected = LocationCalculator.calculateDistance(37.5665, 126.9780, lats[i], lons[i]);
+            assertThat(distances[i]).isCloseTo(expected, within(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("스칼라 구현과 SIMD 구현의 결과가 일치")
+    void scalarAndVectorAgree() {
+        // given
+        Random random = new Random(7);
+        int size = 257;
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = -80 + random.nextDouble() * 160;
+            lons[i] = -180 + random.nextDouble() * 360;
+        }
+        CoordinateBuffer buffer = new CoordinateBuffer(lats, lons);
+
+        // when
+        double[] batch = HaversineKernel.distances(35.1796, 129.0756, buffer);
+        double[] scalar = new double[size];
+        HaversineKernel.scalarDistances(35.1796, 129.0756, buffer, scalar, 0);
+
+        // then
+        for (int i = 0; i < size; i++) {
+            assertThat(batch[i]).isCloseTo(scalar[i], within(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 지점은 거리 0")
+    void distances_SamePoint() {
+        // given
+        CoordinateBuffer buffer = new CoordinateBuffer(new double[]{37.5665}, new double[]{126.9780});
+
+        // when
+        double[] distances = HaversineKernel.distances(37.5665, 126.9780, buffer);
+
+        // then
+        assertThat(distances[0]).isCloseTo(0.0, within(1e-9));
+    }
+}
@@ -0,0 +1,94 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HospitalStatistics 테스트")
+class HospitalStatisticsTest {
+
+    private HospitalStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new HospitalStatistics();
+        statistics.upsert(1L, "정신건강의학과", 4.6);
+        statistics.upsert(2L, "정신건강의학과", 4.2);
+        statistics.upsert(3L, "심리상담", null);
+    }
+
+    @Test
+    @DisplayName("병원 수, 평균 평점, 분포 집계")
+    void snapshot_Aggregates() {
+        // when
+        HospitalStatistics.Snapshot snapshot = statistics.snapshot();
+
+        // then
+        assertThat(snapshot.totalHospitals).isEqualTo(3L);
+        assertThat(snapshot.averageRating()).isCloseTo(4.4, within(1e-9));
+        assertThat(snapshot.departments).containsEntry("정신건강의학과", 2L).containsEntry("심리상담", 1L);
+        assertThat(snapshot.ratingGroups.keySet()).containsExactly("매우 좋음", "좋음", "개선 필요");
+    }
+
+    @Test
+    @DisplayName("진료과가 없는 병원도 별도 구간으로 집계해 구간 합이 전체 병원 수와 일치")
+    void upsert_NullDepartment() {
+        // when
+        statistics.upsert(4L, null, 3.5);
+        statistics.upsert(5L, null, null);
+        statistics.remove(5L);
+
+        // then
+        HospitalStatistics.Snapshot snapshot = statistics.snapshot();
+        assertThat(snapshot.departments).containsEntry(null, 1L);
+        assertThat(snapshot.departments.values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(snapshot.totalHospitals);
+    }
+
+    @Test
+    @DisplayName("평점 변경 시 이전 기여분을 제거하고 반영")
+    void upsert_RatingChanged() {
+        // when
+        statistics.upsert(2L, "심리상담", 3.0);
+
+        // then
+        HospitalStatistics.Snapshot snapshot = statistics.snapshot();
+        assertThat(snapshot.totalHospitals).isEqualTo(3L);
+        assertThat(snapshot.averageRating()).isCloseTo(3.8, within(1e-9));
+        assertThat(snapshot.departments).containsEntry("정신건강의학과", 1L).containsEntry("심리상담", 2L);
+        assertThat(snapshot.ratingGroups).containsEntry("보통", 1L);
+        assertThat(snapshot.ratingGroups.containsKey("좋음")).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화된 병원은 통계에서 제외, 이전 스냅샷은 그대로 유지")
+    void remove_KeepsPreviousSnapshot() {
+        // given
+        HospitalStatistics.Snapshot before = statistics.snapshot();
+
+        // when
+        statistics.remove(1L);
+        statistics.remove(1L);
+
+        // then
+        HospitalStatistics.Snapshot after = statistics.snapshot();
+        assertThat(after.totalHospitals).isEqualTo(2L);
+        assertThat(after.averageRating()).isCloseTo(4.2, within(1e-9));
+        assertThat(after.ratingGroups.containsKey("매우 좋음")).isFalse();
+        assertThat(before.totalHospitals).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("평점이 없으면 평균은 null")
+    void averageRating_Empty() {
+        // when
+        statistics.clear();
+
+        // then
+        assertThat(statistics.snapshot().averageRating()).isNull();
+        assertThat(statistics.snapshot().totalHospitals).isZero();
+    }
+}
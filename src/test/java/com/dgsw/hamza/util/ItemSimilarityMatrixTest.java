@@ -0,0 +1,100 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ItemSimilarityMatrix 테스트")
+class ItemSimilarityMatrixTest {
+
+    @Test
+    @DisplayName("함께 완료한 사용자 수로 코사인 유사도를 계산")
+    void build_ComputesCosineSimilarity() {
+        // given
+        ItemSimilarityMatrix.Builder builder = ItemSimilarityMatrix.builder(new long[]{30L, 10L, 20L}, 10);
+        builder.accept(1L, 10L);
+        builder.accept(1L, 20L);
+        builder.accept(2L, 10L);
+        builder.accept(2L, 20L);
+        builder.accept(2L, 20L);
+        builder.accept(3L, 10L);
+        builder.accept(3L, 30L);
+        builder.accept(3L, 99L);
+
+        // when
+        ItemSimilarityMatrix matrix = builder.build(10, 1);
+
+        // then
+        assertThat(builder.users()).isEqualTo(3);
+        assertThat(matrix.size()).isEqualTo(3);
+        assertThat(matrix.similarity(10L, 20L)).isCloseTo((float) (2 / Math.sqrt(3 * 2)), within(1e-6f));
+        assertThat(matrix.similarity(20L, 10L)).isEqualTo(matrix.similarity(10L, 20L));
+        assertThat(matrix.similarity(20L, 30L)).isZero();
+        assertThat(matrix.indexOf(99L)).isNegative();
+    }
+
+    @Test
+    @DisplayName("최소 지지도 미만 쌍은 버리고 이웃 수를 제한")
+    void build_AppliesSupportAndNeighbourLimit() {
+        // given
+        ItemSimilarityMatrix.Builder builder = ItemSimilarityMatrix.builder(new long[]{1L, 2L, 3L, 4L}, 10);
+        for (long user = 1; user <= 3; user++) {
+            builder.accept(user, 1L);
+            builder.accept(user, 2L);
+        }
+        builder.accept(4L, 1L);
+        builder.accept(4L, 3L);
+        builder.accept(5L, 1L);
+        builder.accept(5L, 4L);
+        builder.accept(6L, 1L);
+        builder.accept(6L, 4L);
+
+        // when
+        ItemSimilarityMatrix matrix = builder.build(1, 2);
+
+        // then
+        assertThat(matrix.similarity(1L, 2L)).isPositive();
+        assertThat(matrix.similarity(1L, 3L)).isZero();
+        assertThat(matrix.similarity(1L, 4L)).isZero();
+        assertThat(matrix.similarity(4L, 1L)).isPositive();
+        assertThat(matrix.nonZeros()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("완료 이력과의 평균 유사도로 선호도 계산")
+    void affinity_AveragesOverHistory() {
+        // given
+        ItemSimilarityMatrix.Builder builder = ItemSimilarityMatrix.builder(new long[]{1L, 2L, 3L}, 10);
+        builder.accept(1L, 1L);
+        builder.accept(1L, 3L);
+        builder.accept(2L, 2L);
+        builder.accept(2L, 3L);
+        ItemSimilarityMatrix matrix = builder.build(10, 1);
+
+        // when
+        float[] affinity = matrix.affinity(new long[]{1L, 2L, 42L});
+
+        // then
+        float expected = (float) (1 / Math.sqrt(2));
+        assertThat(affinity[matrix.indexOf(3L)]).isCloseTo(expected, within(1e-6f));
+        assertThat(affinity[matrix.indexOf(1L)]).isZero();
+        assertThat(ItemSimilarityMatrix.empty().affinity(new long[]{1L})).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카탈로그가 너무 크면 거부")
+    void builder_RejectsOversizedCatalog() {
+        // given
+        long[] ids = new long[ItemSimilarityMatrix.MAX_ITEMS + 1];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+
+        // when & then
+        assertThatThrownBy(() -> ItemSimilarityMatrix.builder(ids, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("MarkerClusterIndex 테스트")
+class MarkerClusterIndexTest {
+
+    private MarkerClusterIndex clusterIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 서울 도심 3곳 (수백 m 간격), 부산 1곳
+        clusterIndex = new MarkerClusterIndex(
+                new long[]{1L, 2L, 3L, 4L},
+                new double[]{37.5665, 37.5700, 37.5640, 35.1796},
+                new double[]{126.9780, 126.9820, 126.9750, 129.0756},
+                new double[]{3.0, 4.5, 4.0, 5.0});
+    }
+
+    @Test
+    @DisplayName("낮은 줌에서는 가까운 병원을 하나의 클러스터로 합침")
+    void query_LowZoomMergesNearbyHospitals() {
+        // when
+        List<MarkerClusterIndex.Marker> markers = clusterIndex.query(33, 124, 39, 131, 7);
+
+        // then
+        assertThat(markers).hasSize(2);
+        MarkerClusterIndex.Marker seoul = markers.stream().filter(marker -> marker.count == 3).findFirst().orElseThrow();
+        assertThat(seoul.representativeId).isEqualTo(2L); // 가중치가 가장 높은 병원
+        assertThat(seoul.latitude).isCloseTo((37.5665 + 37.5700 + 37.5640) / 3, within(1e-3));
+        assertThat(seoul.longitude).isCloseTo((126.9780 + 126.9820 + 126.9750) / 3, within(1e-3));
+    }
+
+    @Test
+    @DisplayName("높은 줌에서는 개별 병원으로 분리")
+    void query_HighZoomSeparatesHospitals() {
+        // when
+        List<MarkerClusterIndex.Marker> markers = clusterIndex.query(37.5, 126.9, 37.6, 127.1, 17);
+
+        // then
+        assertThat(markers).hasSize(3);
+        assertThat(markers).allMatch(marker -> marker.count == 1);
+    }
+
+    @Test
+    @DisplayName("영역 밖의 클러스터는 제외")
+    void query_FiltersByViewport() {
+        // when
+        List<MarkerClusterIndex.Marker> markers = clusterIndex.query(34.5, 128.5, 35.5, 129.5, 10);
+
+        // then
+        assertThat(markers).hasSize(1);
+        assertThat(markers.get(0).representativeId).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("모든 줌 레벨에서 병원 수의 합이 보존됨")
+    void build_PreservesCounts() {
+        // given
+        Random random = new Random(42);
+        int size = 2000;
+        long[] ids = new long[size];
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i;
+            latitudes[i] = 34 + random.nextDouble() * 4;
+            longitudes[i] = 126 + random.nextDouble() * 4;
+            weights[i] = random.nextDouble() * 5;
+        }
+
+        // when
+        MarkerClusterIndex index = new MarkerClusterIndex(ids, latitudes, longitudes, weights);
+
+        // then
+        for (int zoom = MarkerClusterIndex.MIN_ZOOM; zoom <= MarkerClusterIndex.MAX_ZOOM; zoom++) {
+            int total = index.query(30, 120, 40, 135, zoom).stream().mapToInt(marker -> marker.count).sum();
+            assertThat(total).isEqualTo(size);
+            if (zoom > MarkerClusterIndex.MIN_ZOOM) {
+                assertThat(index.size(zoom)).isGreaterThanOrEqualTo(index.size(zoom - 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.entity.Treatment;
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import com.dgsw.hamza.enums.DifficultyLevel;
+import com.dgsw.hamza.enums.RecommendationPriority;
+import com.dgsw.hamza.enums.TreatmentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RecommendationEngine 테스트")
+class RecommendationEngineTest {
+
+    private final Treatment cbt = treatment("인지행동치료", TreatmentType.CBT, DifficultyLevel.INTERMEDIATE, 60, true);
+    private final Treatment meditation = treatment("일상 명상", TreatmentType.MEDITATION, DifficultyLevel.BEGINNER, 15, true);
+    private final Treatment medication = treatment("약물치료 상담", TreatmentType.MEDICATION, DifficultyLevel.EXPERT, 30, true);
+    private final Treatment inactive = treatment("중단된 운동", TreatmentType.EXERCISE, DifficultyLevel.BEGINNER, 10, false);
+
+    @Test
+    @DisplayName("순위표는 심각도별로 점수 내림차순이며 비활성 치료법은 제외")
+    void rankingMatrix_RanksPerSeverity() {
+        // given
+        List<Treatment> treatments = List.of(cbt, meditation, medication, inactive);
+
+        // when
+        RecommendationEngine.RankingMatrix matrix = RecommendationEngine.rankingMatrix(treatments, 3L);
+
+        // then
+        assertThat(matrix.version).isEqualTo(3L);
+        assertThat(matrix.ranked(DiagnosisSeverity.NORMAL))
+                .extracting(RecommendationEngine.TreatmentRecommendation::getTreatment)
+                .containsExactly(meditation, cbt, medication);
+        assertThat(matrix.ranked(DiagnosisSeverity.VERY_SEVERE))
+                .extracting(RecommendationEngine.TreatmentRecommendation::getTreatment)
+                .containsExactly(medication, cbt, meditation);
+        assertThat(matrix.ranked(DiagnosisSeverity.VERY_SEVERE).get(0).getPriority())
+                .isEqualTo(RecommendationPriority.URGENT);
+    }
+
+    @Test
+    @DisplayName("순위표 점수는 기존 추천 점수와 동일")
+    void rankingMatrix_MatchesRecommendTreatments() {
+        // given
+        List<Treatment> treatments = List.of(cbt, meditation, medication);
+        RecommendationEngine.RankingMatrix matrix = RecommendationEngine.rankingMatrix(treatments, 1L);
+
+        for (DiagnosisSeverity severity : DiagnosisSeverity.values()) {
+            // when
+            List<RecommendationEngine.TreatmentRecommendation> expected =
+                    RecommendationEngine.recommendTreatments(severity, treatments);
+
+            // then
+            assertThat(matrix.ranked(severity))
+                    .extracting(RecommendationEngine.TreatmentRecommendation::getScore)
+                    .containsExactlyElementsOf(expected.stream()
+                            .map(RecommendationEngine.TreatmentRecommendation::getScore)
+                            .toList());
+        }
+    }
+
+    @Test
+    @DisplayName("상위 추천은 불변 목록의 앞부분")
+    void top_SlicesImmutableList() {
+        // given
+        RecommendationEngine.RankingMatrix matrix =
+                RecommendationEngine.rankingMatrix(List.of(cbt, meditation, medication), 1L);
+
+        // when
+        List<RecommendationEngine.TreatmentRecommendation> top = matrix.top(DiagnosisSeverity.MODERATE, 2);
+
+        // then
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).getTreatment()).isEqualTo(cbt);
+        assertThat(matrix.top(DiagnosisSeverity.MODERATE, 10)).hasSize(3);
+        assertThat(matrix.top(DiagnosisSeverity.MODERATE, 0)).isEmpty();
+        assertThatThrownBy(() -> top.add(top.get(0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("함께 완료된 치료법은 협업 필터링 점수만큼 순위가 오름")
+    void blendCollaborative_BoostsCoCompletedTreatments() {
+        // given
+        cbt.setId(1L);
+        meditation.setId(2L);
+        medication.setId(3L);
+        ItemSimilarityMatrix.Builder builder = ItemSimilarityMatrix.builder(new long[]{1L, 2L, 3L}, 10);
+        for (long user = 1; user <= 3; user++) {
+            builder.accept(user, 1L);
+            builder.accept(user, 3L);
+        }
+        ItemSimilarityMatrix similarity = builder.build(10, 1);
+        List<RecommendationEngine.TreatmentRecommendation> ranked =
+                RecommendationEngine.rankingMatrix(List.of(cbt, meditation, medication), 1L).ranked(DiagnosisSeverity.NORMAL);
+
+        // when
+        List<RecommendationEngine.TreatmentRecommendation> blended =
+                RecommendationEngine.blendCollaborative(ranked, similarity, new long[]{1L}, 0.5);
+
+        // then
+        assertThat(blended)
+                .extracting(RecommendationEngine.TreatmentRecommendation::getTreatment)
+                .containsExactly(medication, meditation, cbt);
+        assertThat(blended.get(0).getReason()).contains("비슷한 이력");
+        assertThat(RecommendationEngine.blendCollaborative(ranked, similarity, new long[0], 0.5)).isSameAs(ranked);
+    }
+
+    private Treatment treatment(String name, TreatmentType type, DifficultyLevel difficulty,
+                                int durationMinutes, boolean active) {
+        return Treatment.builder()
+                .name(name)
+                .type(type)
+                .difficultyLevel(difficulty)
+                .durationMinutes(durationMinutes)
+                .isActive(active)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RegionalRankingIndex 테스트")
+class RegionalRankingIndexTest {
+
+    private RegionalRankingIndex rankingIndex;
+
+    @BeforeEach
+    void setUp() {
+        rankingIndex = new RegionalRankingIndex(2);
+        rankingIndex.upsert(1L, RegionalRankingIndex.keysOf("서울특별시", "강남구", "역삼동"), 80.0);
+        rankingIndex.upsert(2L, RegionalRankingIndex.keysOf("서울특별시", "강남구", "삼성동"), 90.0);
+        rankingIndex.upsert(3L, RegionalRankingIndex.keysOf("서울특별시", "종로구", "혜화동"), 70.0);
+        rankingIndex.upsert(4L, RegionalRankingIndex.keysOf("경기도", "수원시 장안구", null), 60.0);
+    }
+
+    @Test
+    @DisplayName("계층별 지역 키 생성")
+    void keysOf() {
+        assertThat(RegionalRankingIndex.keysOf("경기도", "수원시 장안구", "정자동"))
+                .containsExactly("경기도", "경기도|수원시 장안구", "경기도|수원시", "경기도|수원시 장안구|정자동");
+        assertThat(RegionalRankingIndex.keysOf(null, "중구", null)).isEmpty();
+        assertThat(RegionalRankingIndex.keyOf("서울특별시", "강남구", null)).isEqualTo("서울특별시|강남구");
+    }
+
+    @Test
+    @DisplayName("지역별 상위 N개 조회")
+    void top_ByRegion() {
+        // when
+        List<RegionalRankingIndex.Entry> seoul = rankingIndex.top("서울특별시");
+        List<RegionalRankingIndex.Entry> gangnam = rankingIndex.top("서울특별시|강남구");
+
+        // then
+        assertThat(seoul).extracting(entry -> entry.hospitalId).containsExactly(2L, 1L);
+        assertThat(gangnam).extracting(entry -> entry.hospitalId).containsExactly(2L, 1L);
+        assertThat(rankingIndex.top("경기도|수원시")).extracting(entry -> entry.hospitalId).containsExactly(4L);
+        assertThat(rankingIndex.top("부산광역시")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("평점 변경 시 순위 갱신")
+    void upsert_ScoreChanged() {
+        // when
+        rankingIndex.upsert(3L, RegionalRankingIndex.keysOf("서울특별시", "종로구", "혜화동"), 95.0);
+
+        // then
+        assertThat(rankingIndex.top("서울특별시")).extracting(entry -> entry.hospitalId).containsExactly(3L, 2L);
+        assertThat(rankingIndex.top("서울특별시").get(0).score).isEqualTo(95.0);
+    }
+
+    @Test
+    @DisplayName("주소 이동 시 이전 지역에서 제거")
+    void upsert_RegionChanged() {
+        // when
+        rankingIndex.upsert(2L, RegionalRankingIndex.keysOf("부산광역시", "해운대구", null), 90.0);
+
+        // then
+        assertThat(rankingIndex.top("서울특별시|강남구")).extracting(entry -> entry.hospitalId).containsExactly(1L);
+        assertThat(rankingIndex.top("서울특별시|강남구|삼성동")).isEmpty();
+        assertThat(rankingIndex.top("부산광역시")).extracting(entry -> entry.hospitalId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("삭제 시 순위에서 제외")
+    void remove() {
+        // when
+        rankingIndex.remove(2L);
+        rankingIndex.remove(99L);
+
+        // then
+        assertThat(rankingIndex.top("서울특별시")).extracting(entry -> entry.hospitalId).containsExactly(1L, 3L);
+        assertThat(rankingIndex.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,146 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RouteOptimizer 테스트")
+class RouteOptimizerTest {
+
+    private static final double START_LAT = 37.5665;
+    private static final double START_LON = 126.9780;
+
+    @Test
+    @DisplayName("작은 입력은 완전 탐색 결과와 비교")
+    void optimize_ComparedWithBruteForce() {
+        // given
+        Random random = new Random(42);
+        int optimalCount = 0;
+        int trials = 200;
+
+        for (int trial = 0; trial < trials; trial++) {
+            int stops = 3 + random.nextInt(6); // 3 ~ 8
+            double[][] points = randomPoints(random, stops);
+
+            // when
+            RouteOptimizer.Route route = RouteOptimizer.optimize(START_LAT, START_LON, points[0], points[1]);
+            double optimal = bruteForce(points[0], points[1]);
+
+            // then
+            assertThat(route.totalDistance).isGreaterThanOrEqualTo(optimal - 1e-9);
+            assertThat(route.totalDistance).isLessThanOrEqualTo(optimal * 1.05);
+            if (route.totalDistance <= optimal + 1e-9) {
+                optimalCount++;
+            }
+        }
+
+        assertThat(optimalCount).isGreaterThanOrEqualTo(trials * 9 / 10);
+    }
+
+    @Test
+    @DisplayName("모든 방문지를 한 번씩 방문하고 구간 거리 합이 총 거리와 일치")
+    void optimize_VisitsEveryStopOnce() {
+        // given
+        double[][] points = randomPoints(new Random(7), 30);
+
+        // when
+        RouteOptimizer.Route route = RouteOptimizer.optimize(START_LAT, START_LON, points[0], points[1]);
+
+        // then
+        int[] sorted = route.order.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            assertThat(sorted[i]).isEqualTo(i);
+        }
+        assertThat(Arrays.stream(route.legDistances).sum()).isCloseTo(route.totalDistance, within(1e-9));
+        assertThat(route.legDistances[0]).isCloseTo(LocationCalculator.calculateDistance(
+                START_LAT, START_LON, points[0][route.order[0]], points[1][route.order[0]]), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("개선 시간이 0이어도 60개 방문지를 모두 포함한 경로를 반환하고, 개선 단계는 경로를 늘리지 않음")
+    void optimize_RespectsTimeBudget() {
+        // given
+        double[][] points = randomPoints(new Random(1), 60);
+
+        // when
+        RouteOptimizer.Route constructed = RouteOptimizer.optimize(START_LAT, START_LON, points[0], points[1], 0L);
+        RouteOptimizer.Route improved = RouteOptimizer.optimize(START_LAT, START_LON, points[0], points[1]);
+
+        // then
+        int[] sorted = constructed.order.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            assertThat(sorted[i]).isEqualTo(i);
+        }
+        assertThat(improved.order).hasSize(60);
+        assertThat(improved.totalDistance).isLessThanOrEqualTo(constructed.totalDistance + 1e-9);
+    }
+
+    @Test
+    @DisplayName("방문지가 없으면 빈 경로")
+    void optimize_Empty() {
+        // when
+        RouteOptimizer.Route route = RouteOptimizer.optimize(START_LAT, START_LON, new double[0], new double[0]);
+
+        // then
+        assertThat(route.order).isEmpty();
+        assertThat(route.totalDistance).isZero();
+    }
+
+    private static double[][] randomPoints(Random random, int count) {
+        double[] lats = new double[count];
+        double[] lons = new double[count];
+        for (int i = 0; i < count; i++) {
+            lats[i] = START_LAT + (random.nextDouble() - 0.5) * 0.2;
+            lons[i] = START_LON + (random.nextDouble() - 0.5) * 0.2;
+        }
+        return new double[][]{lats, lons};
+    }
+
+    private static double bruteForce(double[] lats, double[] lons) {
+        int[] permutation = new int[lats.length];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = i;
+        }
+        double best = Double.MAX_VALUE;
+        do {
+            double total = LocationCalculator.calculateDistance(START_LAT, START_LON,
+                    lats[permutation[0]], lons[permutation[0]]);
+            for (int i = 1; i < permutation.length; i++) {
+                total += LocationCalculator.calculateDistance(lats[permutation[i - 1]], lons[permutation[i - 1]],
+                        lats[permutation[i]], lons[permutation[i]]);
+            }
+            best = Math.min(best, total);
+        } while (nextPermutation(permutation));
+        return best;
+    }
+
+    private static boolean nextPermutation(int[] array) {
+        int i = array.length - 2;
+        while (i >= 0 && array[i] >= array[i + 1]) {
+            i--;
+        }
+        if (i < 0) {
+            return false;
+        }
+        int j = array.length - 1;
+        while (array[j] <= array[i]) {
+            j--;
+        }
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        for (int left = i + 1, right = array.length - 1; left < right; left++, right--) {
+            temp = array[left];
+            array[left] = array[right];
+            array[right] = temp;
+        }
+        return true;
+    }
+}
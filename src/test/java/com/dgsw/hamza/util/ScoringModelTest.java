@@ -0,0 +1,85 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.enums.DiagnosisSeverity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScoringModel 테스트")
+class ScoringModelTest {
+
+    @Test
+    @DisplayName("기본 PHQ-9 채점표는 기존 심각도 구간과 일치")
+    void defaultPhq9_MatchesSeverityRanges() {
+        // given
+        ScoringModel model = ScoringModel.defaultPhq9();
+
+        // when & then
+        assertThat(model.maxTotalScore).isEqualTo(27);
+        for (int score = 0; score <= 27; score++) {
+            assertThat(model.severity(score)).isEqualTo(DiagnosisSeverity.fromScore(score));
+        }
+        assertThat(model.severity(-1)).isEqualTo(DiagnosisSeverity.NORMAL);
+        assertThat(model.severity(40)).isEqualTo(DiagnosisSeverity.VERY_SEVERE);
+    }
+
+    @Test
+    @DisplayName("마지막 상한 이후 점수는 다음 심각도로 분류")
+    void compile_RestGoesToNextSeverity() {
+        // given
+        Map<DiagnosisSeverity, Integer> bounds = new EnumMap<>(DiagnosisSeverity.class);
+        bounds.put(DiagnosisSeverity.NORMAL, 3);
+        bounds.put(DiagnosisSeverity.MILD, 8);
+        bounds.put(DiagnosisSeverity.MODERATE, 13);
+        bounds.put(DiagnosisSeverity.SEVERE, 18);
+
+        // when
+        ScoringModel model = ScoringModel.compile("PHQ-9", 9, 3, bounds, Map.of(), List.of());
+
+        // then
+        assertThat(model.severity(4)).isEqualTo(DiagnosisSeverity.MILD);
+        assertThat(model.severity(18)).isEqualTo(DiagnosisSeverity.SEVERE);
+        assertThat(model.severity(19)).isEqualTo(DiagnosisSeverity.VERY_SEVERE);
+    }
+
+    @Test
+    @DisplayName("가중치와 역채점 문항을 배점표에 반영")
+    void compile_AppliesWeightsAndReverseScoring() {
+        // given
+        Map<DiagnosisSeverity, Integer> bounds = new EnumMap<>(DiagnosisSeverity.class);
+        bounds.put(DiagnosisSeverity.NORMAL, 4);
+        bounds.put(DiagnosisSeverity.MILD, 20);
+
+        // when
+        ScoringModel model = ScoringModel.compile("TEST", 3, 4, bounds, Map.of(2, 2), List.of(3));
+
+        // then
+        assertThat(model.itemScore(0, 3)).isEqualTo(3);
+        assertThat(model.itemScore(1, 3)).isEqualTo(6);
+        assertThat(model.itemScore(2, 0)).isEqualTo(4);
+        assertThat(model.itemScore(2, 4)).isZero();
+        assertThat(model.maxTotalScore).isEqualTo(16);
+        assertThat(model.severity(16)).isEqualTo(DiagnosisSeverity.MILD);
+        assertThat(model.isValidAnswerScore(4)).isTrue();
+        assertThat(model.isValidAnswerScore(5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("상한이 감소하는 구간 설정은 거부")
+    void compile_RejectsDecreasingBounds() {
+        // given
+        Map<DiagnosisSeverity, Integer> bounds = new EnumMap<>(DiagnosisSeverity.class);
+        bounds.put(DiagnosisSeverity.NORMAL, 9);
+        bounds.put(DiagnosisSeverity.MILD, 4);
+
+        // when & then
+        assertThatThrownBy(() -> ScoringModel.compile("BAD", 9, 3, bounds, Map.of(), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.dgsw.hamza.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TopKSelector 테스트")
+class TopKSelectorTest {
+
+    @Test
+    @DisplayName("전체 정렬 결과의 상위 k개와 일치")
+    void toSortedList_MatchesFullSort() {
+        // given
+        Random random = new Random(42);
+        double[] scores = new double[1000];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = Math.floor(random.nextDouble() * 100); // 동점 포함
+        }
+        TopKSelector<Integer> selector = new TopKSelector<>(10);
+
+        // when
+        for (int i = 0; i < scores.length; i++) {
+            selector.offer(i, scores[i]);
+        }
+        List<Integer> result = selector.toSortedList().stream()
+                .map(TopKSelector.Scored::item)
+                .collect(Collectors.toList());
+
+        // then
+        List<Integer> expected = IntStream.range(0, scores.length).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> -scores[i]).thenComparing(i -> i))
+                .limit(10)
+                .collect(Collectors.toList());
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("후보가 k개보다 적으면 전부 반환")
+    void toSortedList_FewerThanK() {
+        // given
+        TopKSelector<String> selector = new TopKSelector<>(5);
+
+        // when
+        selector.offer("a", 1.0);
+        selector.offer("b", 3.0);
+        selector.offer("c", 2.0);
+
+        // then
+        List<TopKSelector.Scored<String>> result = selector.toSortedList();
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).item()).isEqualTo("b");
+        assertThat(result.get(2).item()).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("하위 점수는 힙에 들어가지 않음")
+    void offer_RejectsLowerScores() {
+        // given
+        TopKSelector<String> selector = new TopKSelector<>(2);
+        selector.offer("a", 5.0);
+        selector.offer("b", 4.0);
+
+        // when & then
+        assertThat(selector.offer("c", 1.0)).isFalse();
+        assertThat(selector.offer("d", 4.0)).isFalse();
+        assertThat(selector.offer("e", 6.0)).isTrue();
+        assertThat(selector.toSortedList().get(1).item()).isEqualTo("a");
+    }
+}
@@ -0,0 +1,109 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.entity.Treatment;
+import com.dgsw.hamza.enums.DifficultyLevel;
+import com.dgsw.hamza.enums.TreatmentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TreatmentCatalog 테스트")
+class TreatmentCatalogTest {
+
+    private final Treatment walking = treatment(1L, "걷기 운동", "가벼운 산책으로 기분 전환", TreatmentType.EXERCISE,
+            DifficultyLevel.BEGINNER, 30, true);
+    private final Treatment breathing = treatment(2L, "호흡 명상", "Mindful breathing 연습", TreatmentType.MEDITATION,
+            DifficultyLevel.BEGINNER, 10, true);
+    private final Treatment cbt = treatment(3L, "인지행동치료", "부정적 사고 패턴 교정", TreatmentType.CBT,
+            DifficultyLevel.INTERMEDIATE, 60, true);
+    private final Treatment bodyScan = treatment(4L, "바디스캔 명상", "몸의 감각에 집중하는 명상", TreatmentType.MEDITATION,
+            DifficultyLevel.INTERMEDIATE, null, true);
+    private final Treatment retired = treatment(5L, "중단된 명상", "더 이상 제공하지 않는 명상", TreatmentType.MEDITATION,
+            DifficultyLevel.BEGINNER, 5, false);
+
+    private final TreatmentCatalog catalog = TreatmentCatalog.of(List.of(walking, breathing, cbt, bodyScan, retired), 7L);
+
+    @Test
+    @DisplayName("활성 치료법만 이름순으로 색인하고 비활성은 ID 조회만 가능")
+    void of_IndexesActiveTreatmentsByName() {
+        // then
+        assertThat(catalog.version).isEqualTo(7L);
+        assertThat(catalog.active()).containsExactly(walking, bodyScan, cbt, breathing);
+        assertThat(catalog.byType(TreatmentType.MEDITATION)).containsExactly(bodyScan, breathing);
+        assertThat(catalog.byType(TreatmentType.MEDICATION)).isEmpty();
+        assertThat(catalog.byDifficulty(DifficultyLevel.BEGINNER)).containsExactly(walking, breathing);
+        assertThat(catalog.find(5L)).isEqualTo(retired);
+        assertThat(catalog.find(99L)).isNull();
+    }
+
+    @Test
+    @DisplayName("소요시간 조회는 시간순이며 소요시간이 없는 치료법은 제외")
+    void withinDuration_SortsByDuration() {
+        // when
+        List<Treatment> treatments = catalog.withinDuration(30);
+
+        // then
+        assertThat(treatments).containsExactly(breathing, walking);
+        assertThat(catalog.withinDuration(120)).containsExactly(breathing, walking, cbt);
+        assertThat(catalog.withinDuration(5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복합 조건은 모든 조건을 만족하는 치료법을 이름순으로 반환")
+    void filter_CombinesConditions() {
+        // then
+        assertThat(catalog.filter(TreatmentType.MEDITATION, DifficultyLevel.BEGINNER, null)).containsExactly(breathing);
+        assertThat(catalog.filter(TreatmentType.MEDITATION, null, 30)).containsExactly(breathing);
+        assertThat(catalog.filter(null, null, 30)).containsExactly(walking, breathing);
+        assertThat(catalog.filter(null, DifficultyLevel.INTERMEDIATE, null)).containsExactly(bodyScan, cbt);
+        assertThat(catalog.filter(null, null, null)).isSameAs(catalog.active());
+    }
+
+    @Test
+    @DisplayName("이름 또는 설명에 키워드가 포함된 치료법을 대소문자 구분 없이 검색")
+    void search_MatchesNameOrDescription() {
+        // then
+        assertThat(catalog.search("명상")).containsExactly(bodyScan, breathing);
+        assertThat(catalog.search("사고 패턴")).containsExactly(cbt);
+        assertThat(catalog.search("BREATH")).containsExactly(breathing);
+        assertThat(catalog.search("몸")).containsExactly(bodyScan);
+        assertThat(catalog.search("수영")).isEmpty();
+        assertThat(catalog.search("")).hasSize(4);
+        assertThat(catalog.search(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("통계는 활성 치료법 기준이며 소요시간이 없는 치료법은 평균에서 제외")
+    void stats_AggregatesInOnePass() {
+        // when
+        TreatmentCatalog.Stats stats = catalog.stats();
+
+        // then
+        assertThat(stats.totalTreatments()).isEqualTo(5);
+        assertThat(stats.activeTreatments()).isEqualTo(4);
+        assertThat(stats.averageDuration()).isCloseTo(100.0 / 3, within(1e-9));
+        assertThat(stats.typeStats()).containsExactly(
+                new TreatmentCatalog.TypeStats(TreatmentType.CBT, 1, 60.0),
+                new TreatmentCatalog.TypeStats(TreatmentType.MEDITATION, 2, 10.0),
+                new TreatmentCatalog.TypeStats(TreatmentType.EXERCISE, 1, 30.0));
+        assertThat(TreatmentCatalog.of(List.of(retired), 1L).stats().averageDuration()).isNull();
+    }
+
+    private Treatment treatment(Long id, String name, String description, TreatmentType type,
+                                DifficultyLevel difficulty, Integer durationMinutes, boolean active) {
+        Treatment treatment = Treatment.builder()
+                .name(name)
+                .description(description)
+                .type(type)
+                .difficultyLevel(difficulty)
+                .durationMinutes(durationMinutes)
+                .isActive(active)
+                .build();
+        treatment.setId(id);
+        return treatment;
+    }
+}
@@ -0,0 +1,102 @@
+package com.dgsw.hamza.util;
+
+import com.dgsw.hamza.entity.Treatment;
+import com.dgsw.hamza.enums.RecommendationPriority;
+import com.dgsw.hamza.enums.TreatmentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TreatmentPlanOptimizer 테스트")
+class TreatmentPlanOptimizerTest {
+
+    private final RecommendationEngine.TreatmentRecommendation longCbt = recommendation("심화 인지행동치료", TreatmentType.CBT, 40, 0.9);
+    private final RecommendationEngine.TreatmentRecommendation shortCbt = recommendation("짧은 인지행동치료", TreatmentType.CBT, 20, 0.5);
+    private final RecommendationEngine.TreatmentRecommendation exercise = recommendation("걷기 운동", TreatmentType.EXERCISE, 30, 0.7);
+    private final RecommendationEngine.TreatmentRecommendation meditation = recommendation("호흡 명상", TreatmentType.MEDITATION, 15, 0.6);
+
+    private final List<RecommendationEngine.TreatmentRecommendation> ranked = List.of(longCbt, exercise, meditation, shortCbt);
+
+    @Test
+    @DisplayName("예산별로 점수 합이 최대인 조합을 선택")
+    void plan_MaximizesScoreWithinBudget() {
+        // given
+        TreatmentPlanOptimizer.PlanTable table = TreatmentPlanOptimizer.build(ranked, 120, 5, 10);
+
+        // when
+        TreatmentPlanOptimizer.Plan fifty = table.plan(50);
+        TreatmentPlanOptimizer.Plan seventyFive = table.plan(75);
+        TreatmentPlanOptimizer.Plan hundred = table.plan(100);
+
+        // then
+        assertThat(fifty.getRecommendations()).containsExactly(exercise, meditation);
+        assertThat(fifty.getTotalMinutes()).isEqualTo(45);
+        assertThat(fifty.getTotalScore()).isCloseTo(1.3, within(1e-9));
+        assertThat(seventyFive.getRecommendations()).containsExactly(exercise, meditation, shortCbt);
+        assertThat(hundred.getRecommendations()).containsExactly(longCbt, exercise, meditation);
+        assertThat(hundred.getTotalMinutes()).isEqualTo(85);
+        assertThat(table.plan(0).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("치료 유형별로 하나만, 하루 세션 수만큼만 선택")
+    void plan_AppliesTypeDiversityAndSessionLimit() {
+        // given
+        TreatmentPlanOptimizer.PlanTable single = TreatmentPlanOptimizer.build(ranked, 120, 1, 10);
+        TreatmentPlanOptimizer.PlanTable all = TreatmentPlanOptimizer.build(ranked, 120, 5, 10);
+
+        // when
+        TreatmentPlanOptimizer.Plan singlePlan = single.plan(120);
+        TreatmentPlanOptimizer.Plan fullPlan = all.plan(120);
+
+        // then
+        assertThat(singlePlan.getRecommendations()).containsExactly(longCbt);
+        assertThat(fullPlan.getRecommendations())
+                .extracting(rec -> rec.getTreatment().getType())
+                .doesNotHaveDuplicates();
+        assertThat(all.plan(119)).isSameAs(fullPlan);
+    }
+
+    @Test
+    @DisplayName("소요시간이 없는 치료법은 세션 길이로 계산")
+    void plan_UsesDefaultMinutesForMissingDuration() {
+        // given
+        RecommendationEngine.TreatmentRecommendation relaxation =
+                recommendation("근육 이완", TreatmentType.RELAXATION, null, 0.4);
+
+        // when
+        TreatmentPlanOptimizer.PlanTable table = TreatmentPlanOptimizer.build(List.of(relaxation), 30, 5, 10);
+
+        // then
+        assertThat(table.plan(9).isEmpty()).isTrue();
+        assertThat(table.plan(10).getRecommendations()).containsExactly(relaxation);
+    }
+
+    @Test
+    @DisplayName("계획표 범위를 벗어난 시간은 거부")
+    void plan_RejectsBudgetOutOfRange() {
+        // given
+        TreatmentPlanOptimizer.PlanTable table = TreatmentPlanOptimizer.build(ranked, 60, 5, 10);
+
+        // when & then
+        assertThatThrownBy(() -> table.plan(61))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.plan(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RecommendationEngine.TreatmentRecommendation recommendation(String name, TreatmentType type,
+                                                                        Integer durationMinutes, double score) {
+        Treatment treatment = Treatment.builder()
+                .name(name)
+                .type(type)
+                .durationMinutes(durationMinutes)
+                .build();
+        return new RecommendationEngine.TreatmentRecommendation(treatment, score, RecommendationPriority.MEDIUM, null);
+    }
+}
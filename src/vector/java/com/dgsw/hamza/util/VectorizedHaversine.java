@@ -0,0 +1,57 @@
+package com.dgsw.hamza.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API 기반 Haversine 구현 (선택 빌드)
+ * -PvectorHaversine 으로 빌드하고 jdk.incubator.vector 모듈을 로드해 실행한 경우에만 HaversineKernel 이 사용합니다.
+ */
+final class VectorizedHaversine implements HaversineKernel.BatchKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // HaversineKernel 이 리플렉션으로 생성 (생성 시 한 번 실행해 모듈 연결 오류를 미리 드러냄)
+    VectorizedHaversine() {
+        double[] values = new double[SPECIES.length() * 2];
+        CoordinateBuffer buffer = new CoordinateBuffer(values, values);
+        distances(0, 0, buffer, new double[values.length]);
+    }
+
+    @Override
+    public void distances(double latitude, double longitude, CoordinateBuffer buffer, double[] distances) {
+        double originLat = Math.toRadians(latitude);
+        double originLon = Math.toRadians(longitude);
+        double originCos = Math.cos(originLat);
+        double[] lats = buffer.latitudeRadians;
+        double[] lons = buffer.longitudeRadians;
+        double[] cosines = buffer.cosLatitudes;
+
+        int length = lats.length;
+        int upperBound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector lat = DoubleVector.fromArray(SPECIES, lats, i);
+            DoubleVector lon = DoubleVector.fromArray(SPECIES, lons, i);
+            DoubleVector cos = DoubleVector.fromArray(SPECIES, cosines, i);
+
+            DoubleVector sinLat = lat.sub(originLat).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector sinLon = lon.sub(originLon).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector a = sinLat.mul(sinLat)
+                    .add(cos.mul(originCos).mul(sinLon).mul(sinLon))
+                    .min(1.0);
+            a.sqrt()
+                    .lanewise(VectorOperators.ASIN)
+                    .mul(2 * HaversineKernel.EARTH_RADIUS_KM)
+                    .intoArray(distances, i);
+        }
+
+        HaversineKernel.scalarDistances(latitude, longitude, buffer, distances, i);
+    }
+
+    @Override
+    public String toString() {
+        return "SIMD 레인 " + SPECIES.length();
+    }
+}